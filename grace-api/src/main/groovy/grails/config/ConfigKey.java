@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package grails.config;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.grails.config.NavigableMapConfig;
+
+/**
+ * A typed handle of a configuration property, for code which reads the same property on every request.
+ *
+ * <p>The value of a key is converted to its type once and kept in the
+ * {@link org.grails.config.ConfigSnapshot snapshot} of the configuration, so reading it again
+ * doesn't need to navigate and convert the configuration. Keys should be kept in constants:</p>
+ *
+ * <pre>
+ * static final ConfigKey&lt;Boolean&gt; DISABLE_MULTIPART = ConfigKey.of('grails.disableMultipart', Boolean, false)
+ *
+ * boolean disabled = DISABLE_MULTIPART.get(grailsApplication.config)
+ * </pre>
+ *
+ * <p>The values are shared by all callers, so values which are collections are read-only.</p>
+ *
+ * @param <T> The type of the property value
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public final class ConfigKey<T> {
+
+    private static final ConcurrentMap<ConfigKey<?>, ConfigKey<?>> KEYS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private final String name;
+
+    private final Class<T> type;
+
+    private final T defaultValue;
+
+    private final int slot;
+
+    private ConfigKey(String name, Class<T> type, T defaultValue, int slot) {
+        this.name = name;
+        this.type = type;
+        this.defaultValue = defaultValue;
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the key of the given property without a default value.
+     *
+     * @param name The name of the property
+     * @param type The type of the property value
+     * @return The key
+     */
+    public static <T> ConfigKey<T> of(String name, Class<T> type) {
+        return of(name, type, null);
+    }
+
+    /**
+     * Returns the key of the given property, equal keys share the same instance.
+     *
+     * @param name The name of the property
+     * @param type The type of the property value
+     * @param defaultValue The value if the property isn't set
+     * @return The key
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConfigKey<T> of(String name, Class<T> type, T defaultValue) {
+        Objects.requireNonNull(name, "Argument [name] cannot be null");
+        Objects.requireNonNull(type, "Argument [type] cannot be null");
+        ConfigKey<T> key = new ConfigKey<>(name, type, defaultValue, -1);
+        return (ConfigKey<T>) KEYS.computeIfAbsent(key, k -> new ConfigKey<>(name, type, defaultValue, NEXT_SLOT.getAndIncrement()));
+    }
+
+    /**
+     * @return The number of keys which have been created
+     */
+    public static int getKeyCount() {
+        return NEXT_SLOT.get();
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    public T getDefaultValue() {
+        return this.defaultValue;
+    }
+
+    /**
+     * @return The index of the value of this key in a configuration snapshot
+     */
+    public int getSlot() {
+        return this.slot;
+    }
+
+    /**
+     * Reads the value of this key from the given configuration.
+     *
+     * @param config The configuration
+     * @return The value, or the default value if the property isn't set
+     */
+    public T get(Config config) {
+        if (config instanceof NavigableMapConfig) {
+            return ((NavigableMapConfig) config).getProperty(this);
+        }
+        return config.getProperty(this.name, this.type, this.defaultValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ConfigKey)) {
+            return false;
+        }
+        ConfigKey<?> other = (ConfigKey<?>) o;
+        return this.name.equals(other.name) && this.type.equals(other.type) &&
+                Objects.equals(this.defaultValue, other.defaultValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.type, this.defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " (" + this.type.getSimpleName() + ")";
+    }
+
+}
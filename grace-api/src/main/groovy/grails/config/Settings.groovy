@@ -55,6 +55,18 @@ interface Settings {
      */
     String PLUGIN_EXCLUDES = 'grails.plugin.excludes'
 
+    /**
+     * Whether to execute the lifecycle phases of independent plugins concurrently
+     */
+    String PLUGIN_PARALLEL_LIFECYCLE = 'grails.plugin.lifecycle.parallel'
+
+    /**
+     * Whether to load artefacts from the index generated at compile time instead of scanning the classpath roots
+     * containing an index, defaults to false. Artefacts which aren't indexed by the root containing them, such as
+     * artefacts compiled by javac, are not found when it's enabled.
+     */
+    String ARTEFACTS_INDEX_ENABLED = 'grails.artefacts.index.enabled'
+
     /**
      * Whether to include the jsessionid in the rendered links
      **/
@@ -82,6 +94,26 @@ interface Settings {
      */
     String GSP_VIEW_ENCODING = 'grails.views.gsp.encoding'
 
+    /**
+     * Whether templates of a collection can be rendered in parallel when requested with the parallel attribute, defaults to true
+     */
+    String GSP_RENDER_PARALLEL_ENABLED = 'grails.gsp.render.parallel.enabled'
+
+    /**
+     * The maximum number of templates which are rendered in parallel, defaults to the number of processors
+     */
+    String GSP_RENDER_PARALLEL_THREADS = 'grails.gsp.render.parallel.threads'
+
+    /**
+     * The time in milliseconds to wait for the templates of a collection rendered in parallel, defaults to 60000
+     */
+    String GSP_RENDER_PARALLEL_TIMEOUT = 'grails.gsp.render.parallel.timeout'
+
+    /**
+     * Whether the page classes of the precompiled GSP archive are loaded in the background at startup, defaults to false
+     */
+    String GSP_ARCHIVE_WARMUP = 'grails.gsp.archive.warmup'
+
     /**
      * Pattern to use for class scanning
      */
@@ -147,6 +179,16 @@ interface Settings {
      */
     String CONTROLLERS_UPLOAD_FILE_SIZE_THRESHOLD = 'grails.controllers.upload.fileSizeThreshold'
 
+    /**
+     * Whether controller actions are executed on virtual threads by default (requires JDK 21+)
+     */
+    String CONTROLLERS_VIRTUAL_THREADS_ENABLED = 'grails.controllers.virtualThreads.enabled'
+
+    /**
+     * The timeout in milliseconds for asynchronously executed controller actions, defaults to the container's timeout
+     */
+    String CONTROLLERS_ASYNC_TIMEOUT = 'grails.controllers.async.timeout'
+
     /**
      * The encoding to use for filters, default to UTF-8
      */
@@ -232,6 +274,12 @@ interface Settings {
      */
     String SETTING_EXCEPTION_RESOLVER_PARAM_EXCLUDES = 'grails.exceptionresolver.params.exclude'
 
+    /**
+     * The minimum interval in milliseconds between two logged stack traces of identical exceptions, for example 60000,
+     * defaults to 0 which logs all of them
+     */
+    String SETTING_EXCEPTION_RESOLVER_LOG_INTERVAL = 'grails.exceptionresolver.logStackTraceInterval'
+
     /**
      * The class to use for stacktrace filtering. Should be an instanceof {@link org.grails.exceptions.reporting.StackTraceFilterer}
      */
@@ -266,4 +314,34 @@ interface Settings {
 
     String I18N_FILE_CACHE_SECONDS = 'grails.i18n.filecache.seconds'
 
+    /**
+     * Whether expired reloadable cache entries (i18n, GSP) are refreshed in the background while the stale value is served
+     */
+    String CACHE_REFRESH_AHEAD = 'grails.cache.refreshAhead.enabled'
+
+    /**
+     * The maximum random delay in milliseconds before an expired cache entry is refreshed in the background
+     */
+    String CACHE_REFRESH_AHEAD_JITTER = 'grails.cache.refreshAhead.jitter'
+
+    /**
+     * Whether reloadable GSP pages and message bundles are watched for changes instead of checking their last modified time
+     */
+    String RELOAD_WATCH_ENABLED = 'grails.reload.watch.enabled'
+
+    /**
+     * Whether the registered warm-up tasks run after startup, before the application accepts traffic, defaults to false
+     */
+    String WARMUP_ENABLED = 'grails.warmup.enabled'
+
+    /**
+     * The locales which are warmed up, such as the message bundles, defaults to the default locale
+     */
+    String WARMUP_LOCALES = 'grails.warmup.locales'
+
+    /**
+     * The URIs which are requested from the embedded server at the end of the warm-up, defaults to none
+     */
+    String WARMUP_REQUESTS = 'grails.warmup.requests'
+
 }
@@ -37,7 +37,7 @@ public class DefaultArtefactInfo implements ArtefactInfo {
 
     private Map<String, Class<?>> classesByName = new LinkedHashMap<>();
 
-    private final Map<String, GrailsClass> logicalPropertyNameToClassMap = new HashMap<>();
+    private Map<String, GrailsClass> logicalPropertyNameToClassMap = new HashMap<>();
 
     private GrailsClass[] grailsClassesArray;
 
@@ -53,6 +53,7 @@ public class DefaultArtefactInfo implements ArtefactInfo {
     private void addGrailsClassInternal(GrailsClass artefactClass, boolean atStart) {
         this.grailsClassesByName = new LinkedHashMap<>(this.grailsClassesByName);
         this.classesByName = new LinkedHashMap<>(this.classesByName);
+        this.logicalPropertyNameToClassMap = new HashMap<>(this.logicalPropertyNameToClassMap);
 
         Class<?> actualClass = artefactClass.getClazz();
         boolean addToGrailsClasses = true;
@@ -82,6 +83,7 @@ public class DefaultArtefactInfo implements ArtefactInfo {
     public synchronized void updateComplete() {
         this.grailsClassesByName = Collections.unmodifiableMap(this.grailsClassesByName);
         this.classesByName = Collections.unmodifiableMap(this.classesByName);
+        this.logicalPropertyNameToClassMap = Collections.unmodifiableMap(this.logicalPropertyNameToClassMap);
 
         this.grailsClassesArray = this.grailsClasses.toArray(new GrailsClass[0]);
         // Make classes array
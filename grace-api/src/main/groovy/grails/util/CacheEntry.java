@@ -1,5 +1,5 @@
 /*
- * Copyright 2011-2022 the original author or authors.
+ * Copyright 2011-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,12 @@ package grails.util;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -33,15 +39,40 @@ import org.slf4j.LoggerFactory;
  *
  * Objects in cache are assumed to not change after publication.
  *
+ * In refresh-ahead mode an expired entry which has a value keeps returning it,
+ * while the entry is updated by a shared background scheduler after a random jitter,
+ * so that request threads don't check and reload files themselves. Entries whose update
+ * depends on the current request return false from {@link #isRefreshAheadSupported()}.
+ * The mode, the jitter and the scheduler are shared by all applications in the JVM,
+ * the scheduler is stopped once every application which retained it has released it.
+ *
  * @author Lari Hotari
+ * @author Michael Yan
  * @since 2.3.4
  */
 public class CacheEntry<V> {
 
     private static final Logger logger = LoggerFactory.getLogger(CacheEntry.class);
 
+    public static final long DEFAULT_REFRESH_JITTER_MILLIS = 1000L;
+
+    private static volatile boolean refreshAhead = Boolean.getBoolean("grails.cache.refreshAhead.enabled");
+
+    private static volatile long refreshJitterMillis = Long.getLong("grails.cache.refreshAhead.jitter", DEFAULT_REFRESH_JITTER_MILLIS);
+
+    private static final long NO_REFRESH_SCHEDULED = -1L;
+
+    private static ScheduledExecutorService refreshScheduler;
+
+    private static volatile long refreshSchedulerGeneration;
+
+    private static int refreshSchedulerUsers;
+
     private final AtomicReference<V> valueRef = new AtomicReference<>(null);
 
+    // the generation of the scheduler running the pending refresh, so that refreshes dropped by a shutdown are rescheduled
+    private final AtomicLong refreshScheduled = new AtomicLong(NO_REFRESH_SCHEDULED);
+
     private long createdMillis;
 
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
@@ -134,61 +165,112 @@ public class CacheEntry<V> {
      */
     public V getValue(long timeout, Callable<V> updater, boolean returnExpiredWhileUpdating, Object cacheRequestObject) {
         if (!isInitialized() || hasExpired(timeout, cacheRequestObject)) {
-            boolean lockAcquired = false;
-            try {
-                long beforeLockingCreatedMillis = this.createdMillis;
-                if (returnExpiredWhileUpdating) {
-                    if (!this.writeLock.tryLock()) {
-                        if (isInitialized()) {
-                            return getValueWhileUpdating(cacheRequestObject);
-                        }
-                        else {
-                            if (logger.isDebugEnabled()) {
-                                logger.debug("Locking cache for update");
-                            }
-                            this.writeLock.lock();
-                        }
-                    }
-                }
-                else {
-                    logger.debug("Locking cache for update");
-                    this.writeLock.lock();
-                }
+            if (returnExpiredWhileUpdating && refreshAhead && isInitialized() && isRefreshAheadSupported()) {
+                scheduleRefresh(timeout, updater, cacheRequestObject);
+                return getValueWhileUpdating(cacheRequestObject);
+            }
+            return lockAndUpdate(updater, returnExpiredWhileUpdating, cacheRequestObject);
+        }
+        else {
+            return getValue();
+        }
+    }
 
-                lockAcquired = true;
-                V value;
-                if (!isInitialized() || shouldUpdate(beforeLockingCreatedMillis, cacheRequestObject)) {
-                    try {
-                        value = updateValue(getValue(), updater, cacheRequestObject);
+    private V lockAndUpdate(Callable<V> updater, boolean returnExpiredWhileUpdating, Object cacheRequestObject) {
+        boolean lockAcquired = false;
+        try {
+            long beforeLockingCreatedMillis = this.createdMillis;
+            if (returnExpiredWhileUpdating) {
+                if (!this.writeLock.tryLock()) {
+                    if (isInitialized()) {
+                        return getValueWhileUpdating(cacheRequestObject);
+                    }
+                    else {
                         if (logger.isDebugEnabled()) {
-                            logger.debug("Updating cache for value [{}]", value);
+                            logger.debug("Locking cache for update");
                         }
-                        setValue(value);
-                    }
-                    catch (Exception e) {
-                        throw new UpdateException(e);
+                        this.writeLock.lock();
                     }
                 }
-                else {
-                    value = getValue();
-                    resetTimestamp(false);
-                }
-                return value;
             }
-            finally {
-                if (lockAcquired) {
+            else {
+                logger.debug("Locking cache for update");
+                this.writeLock.lock();
+            }
+
+            lockAcquired = true;
+            V value;
+            if (!isInitialized() || shouldUpdate(beforeLockingCreatedMillis, cacheRequestObject)) {
+                try {
+                    value = updateValue(getValue(), updater, cacheRequestObject);
                     if (logger.isDebugEnabled()) {
-                        logger.debug("Unlocking cache for update");
+                        logger.debug("Updating cache for value [{}]", value);
                     }
-                    this.writeLock.unlock();
+                    setValue(value);
+                }
+                catch (Exception e) {
+                    throw new UpdateException(e);
                 }
             }
+            else {
+                value = getValue();
+                resetTimestamp(false);
+            }
+            return value;
         }
-        else {
-            return getValue();
+        finally {
+            if (lockAcquired) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Unlocking cache for update");
+                }
+                this.writeLock.unlock();
+            }
         }
     }
 
+    /**
+     * Schedules a background update of this entry, unless one is already pending.
+     * The update is delayed by a random jitter so that entries which expire together aren't reloaded at once.
+     */
+    private void scheduleRefresh(long timeout, Callable<V> updater, Object cacheRequestObject) {
+        long generation = refreshSchedulerGeneration;
+        long scheduled = this.refreshScheduled.get();
+        if (scheduled == generation || !this.refreshScheduled.compareAndSet(scheduled, generation)) {
+            return;
+        }
+        long jitter = refreshJitterMillis;
+        long delay = jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0L;
+        try {
+            getRefreshScheduler().schedule(() -> refresh(timeout, updater, cacheRequestObject), delay, TimeUnit.MILLISECONDS);
+        }
+        catch (RejectedExecutionException e) {
+            this.refreshScheduled.set(NO_REFRESH_SCHEDULED);
+        }
+    }
+
+    private void refresh(long timeout, Callable<V> updater, Object cacheRequestObject) {
+        try {
+            if (hasExpired(timeout, cacheRequestObject)) {
+                lockAndUpdate(updater, false, cacheRequestObject);
+            }
+        }
+        catch (Exception e) {
+            // keep serving the current value, the next expired read schedules another refresh
+            logger.warn("Error refreshing cache entry in the background: {}", e.getMessage(), e);
+        }
+        finally {
+            this.refreshScheduled.set(NO_REFRESH_SCHEDULED);
+        }
+    }
+
+    /**
+     * @return Whether this entry can be updated by the background scheduler in refresh-ahead mode,
+     * entries whose update needs the current request are updated on the calling thread
+     */
+    protected boolean isRefreshAheadSupported() {
+        return true;
+    }
+
     protected V getValueWhileUpdating(Object cacheRequestObject) {
         return this.valueRef.get();
     }
@@ -249,6 +331,78 @@ public class CacheEntry<V> {
         this.initialized = initialized;
     }
 
+    /**
+     * @return Whether expired entries are refreshed in the background instead of on the calling thread
+     */
+    public static boolean isRefreshAhead() {
+        return refreshAhead;
+    }
+
+    /**
+     * Enables or disables refresh-ahead for all entries which are read with returnExpiredWhileUpdating.
+     * An entry without a value is still created on the calling thread.
+     *
+     * @param enabled whether to refresh expired entries in the background
+     */
+    public static void setRefreshAhead(boolean enabled) {
+        refreshAhead = enabled;
+    }
+
+    public static long getRefreshJitterMillis() {
+        return refreshJitterMillis;
+    }
+
+    /**
+     * @param jitterMillis the maximum random delay before an expired entry is refreshed
+     */
+    public static void setRefreshJitterMillis(long jitterMillis) {
+        refreshJitterMillis = jitterMillis;
+    }
+
+    private static synchronized ScheduledExecutorService getRefreshScheduler() {
+        if (refreshScheduler == null) {
+            refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "grails-cache-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return refreshScheduler;
+    }
+
+    /**
+     * Registers an application which uses the background refresh scheduler,
+     * it should call {@link #releaseRefreshScheduler()} when it is shut down.
+     */
+    public static synchronized void retainRefreshScheduler() {
+        refreshSchedulerUsers++;
+    }
+
+    /**
+     * Releases the background refresh scheduler for an application which is shut down,
+     * the scheduler is stopped when no other application has retained it.
+     */
+    public static synchronized void releaseRefreshScheduler() {
+        if (refreshSchedulerUsers > 0) {
+            refreshSchedulerUsers--;
+        }
+        if (refreshSchedulerUsers == 0) {
+            shutdownRefreshScheduler();
+        }
+    }
+
+    /**
+     * Stops the background refresh scheduler, pending refreshes are dropped.
+     * The scheduler is recreated when an entry is refreshed again.
+     */
+    public static synchronized void shutdownRefreshScheduler() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+            refreshScheduler = null;
+            refreshSchedulerGeneration++;
+        }
+    }
+
     public static final class UpdateException extends RuntimeException {
 
         private static final long serialVersionUID = 1L;
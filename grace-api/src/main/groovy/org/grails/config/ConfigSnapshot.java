@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import grails.config.ConfigKey;
+
+/**
+ * The values of {@link ConfigKey configuration keys} at one point in time, indexed by the slot of the key.
+ *
+ * <p>A value is resolved and converted the first time its key is read, after that reading it is an array lookup.
+ * The {@link NavigableMapConfig} replaces its snapshot when it is modified or refreshed, a snapshot itself
+ * never changes a value once it has been resolved.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public final class ConfigSnapshot {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private static final int MINIMUM_SIZE = 32;
+
+    private final NavigableMapConfig config;
+
+    private volatile AtomicReferenceArray<Object> values;
+
+    ConfigSnapshot(NavigableMapConfig config) {
+        this.config = config;
+        this.values = new AtomicReferenceArray<>(Math.max(MINIMUM_SIZE, ConfigKey.getKeyCount()));
+    }
+
+    /**
+     * @param key The configuration key
+     * @return The value of the key, or its default value if the property isn't set
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ConfigKey<T> key) {
+        AtomicReferenceArray<Object> values = this.values;
+        int slot = key.getSlot();
+        if (slot < values.length()) {
+            Object value = values.get(slot);
+            if (value != null) {
+                return value != NULL_VALUE ? (T) value : null;
+            }
+        }
+        return resolve(key);
+    }
+
+    private <T> T resolve(ConfigKey<T> key) {
+        T value = readOnly(this.config.getProperty(key.getName(), key.getType(), key.getDefaultValue()), key.getType());
+        int slot = key.getSlot();
+        synchronized (this) {
+            AtomicReferenceArray<Object> values = this.values;
+            if (slot >= values.length()) {
+                AtomicReferenceArray<Object> grown = new AtomicReferenceArray<>(Math.max(slot + 1, values.length() * 2));
+                for (int i = 0; i < values.length(); i++) {
+                    grown.set(i, values.get(i));
+                }
+                this.values = grown;
+                values = grown;
+            }
+            values.set(slot, value != null ? value : NULL_VALUE);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readOnly(T value, Class<T> type) {
+        // only values which are read through the collection interfaces can be wrapped
+        if (type == Map.class && value instanceof Map) {
+            return (T) Collections.unmodifiableMap((Map<?, ?>) value);
+        }
+        if (type == List.class && value instanceof List) {
+            return (T) Collections.unmodifiableList((List<?>) value);
+        }
+        if (type == Set.class && value instanceof Set) {
+            return (T) Collections.unmodifiableSet((Set<?>) value);
+        }
+        return value;
+    }
+
+}
@@ -35,6 +35,7 @@ import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 
 import grails.config.Config;
+import grails.config.ConfigKey;
 import grails.util.GrailsStringUtils;
 
 import org.grails.core.exceptions.GrailsConfigurationException;
@@ -55,6 +56,8 @@ public abstract class NavigableMapConfig implements Config {
 
     protected ConfigurableConversionService conversionService = new DefaultConversionService();
 
+    private volatile ConfigSnapshot snapshot;
+
     protected NavigableMap configMap = new NavigableMap() {
         @Override
         protected Object mergeMapEntry(NavigableMap targetMap, String sourceKey, Object newValue) {
@@ -91,6 +94,7 @@ public abstract class NavigableMapConfig implements Config {
     @Override
     public void setAt(Object key, Object value) {
         this.configMap.put(key.toString(), value);
+        refreshSnapshot();
     }
 
     @Override
@@ -120,22 +124,28 @@ public abstract class NavigableMapConfig implements Config {
 
     @Override
     public Object put(String key, Object value) {
-        return this.configMap.put(key, value);
+        Object previous = this.configMap.put(key, value);
+        refreshSnapshot();
+        return previous;
     }
 
     @Override
     public Object remove(Object key) {
-        return this.configMap.remove(key);
+        Object previous = this.configMap.remove(key);
+        refreshSnapshot();
+        return previous;
     }
 
     @Override
     public void putAll(Map<? extends String, ?> m) {
         this.configMap.putAll(m);
+        refreshSnapshot();
     }
 
     @Override
     public void clear() {
         this.configMap.clear();
+        refreshSnapshot();
     }
 
     @Override
@@ -175,6 +185,7 @@ public abstract class NavigableMapConfig implements Config {
     @Override
     public Config merge(Map<String, Object> toMerge) {
         this.configMap.merge(toMerge, true);
+        refreshSnapshot();
         return this;
     }
 
@@ -191,6 +202,38 @@ public abstract class NavigableMapConfig implements Config {
         return DefaultGroovyMethods.iterator(this.configMap);
     }
 
+    /**
+     * Returns the value of the given key from the {@link #getSnapshot() snapshot} of this config,
+     * which is converted only the first time it is read.
+     *
+     * @param key The configuration key
+     * @return The value of the key, or its default value if the property isn't set
+     */
+    public <T> T getProperty(ConfigKey<T> key) {
+        return getSnapshot().get(key);
+    }
+
+    /**
+     * @return The current snapshot of the values of {@link ConfigKey configuration keys}
+     */
+    public ConfigSnapshot getSnapshot() {
+        ConfigSnapshot current = this.snapshot;
+        if (current == null) {
+            current = new ConfigSnapshot(this);
+            this.snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Replaces the snapshot of this config, so that the values of keys are read again.
+     * This is done when the config is modified through this class, after modifying a nested map of
+     * the config it has to be called explicitly.
+     */
+    public void refreshSnapshot() {
+        this.snapshot = null;
+    }
+
     @Override
     public boolean containsProperty(String key) {
         return getProperty(key, Object.class) != null;
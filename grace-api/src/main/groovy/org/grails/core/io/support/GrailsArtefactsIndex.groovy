@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.core.io.support
+
+import groovy.transform.CompileStatic
+
+/**
+ * Reads the artefact index generated at compile time by the global class injector transformation.
+ *
+ * <p>The index is a properties file keyed by artefact type, each value being a comma separated list of the
+ * artefact classes of that type in compilation order. It allows the application to find its artefacts
+ * without scanning the classpath.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@CompileStatic
+class GrailsArtefactsIndex {
+
+    /** The location of the index. Can be present in multiple JAR files. */
+    static final String INDEX_RESOURCE_LOCATION = 'META-INF/grails.artefacts'
+
+    /**
+     * Whether an artefact index is present in the given ClassLoader
+     *
+     * @param classLoader The ClassLoader
+     * @return true if at least one index exists
+     */
+    static boolean exists(ClassLoader classLoader = GrailsArtefactsIndex.classLoader) {
+        try {
+            return classLoader.getResources(INDEX_RESOURCE_LOCATION).hasMoreElements()
+        }
+        catch (IOException ignored) {
+            return false
+        }
+    }
+
+    /**
+     * Loads the names of the indexed artefact classes without loading the classes themselves
+     *
+     * @param classLoader The ClassLoader
+     * @return The artefact class names keyed by artefact type, empty if no index exists
+     */
+    static Map<String, Set<String>> loadArtefactClassNames(ClassLoader classLoader = GrailsArtefactsIndex.classLoader) {
+        Map<String, Set<String>> artefactClassNames = new LinkedHashMap<>()
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_RESOURCE_LOCATION)
+            while (urls.hasMoreElements()) {
+                Properties properties = new Properties()
+                urls.nextElement().withInputStream { InputStream input ->
+                    properties.load(input)
+                }
+                for (String type : properties.stringPropertyNames()) {
+                    Set<String> classNames = artefactClassNames.computeIfAbsent(type, (String key) -> new LinkedHashSet<String>())
+                    for (String className : properties.getProperty(type).tokenize(',')) {
+                        classNames.add(className.trim())
+                    }
+                }
+            }
+        }
+        catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to load artefacts index from location [$INDEX_RESOURCE_LOCATION]", ex)
+        }
+        artefactClassNames
+    }
+
+    /**
+     * Loads the names of the indexed artefact classes of each classpath root containing an index. The index of a
+     * root only lists the artefacts compiled into that root, so it doesn't cover the classes of other roots.
+     *
+     * @param classLoader The ClassLoader
+     * @return The artefact class names of all types keyed by the URL of their classpath root, such as
+     * <code>file:/app/build/classes/groovy/main/</code> or <code>jar:file:/lib/plugin.jar!/</code>
+     */
+    static Map<String, Set<String>> loadArtefactClassNamesByRoot(ClassLoader classLoader = GrailsArtefactsIndex.classLoader) {
+        Map<String, Set<String>> artefactClassNames = new LinkedHashMap<>()
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_RESOURCE_LOCATION)
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement()
+                String location = url.toExternalForm()
+                if (!location.endsWith(INDEX_RESOURCE_LOCATION)) {
+                    continue
+                }
+                Properties properties = new Properties()
+                url.withInputStream { InputStream input ->
+                    properties.load(input)
+                }
+                String root = location.substring(0, location.length() - INDEX_RESOURCE_LOCATION.length())
+                Set<String> classNames = artefactClassNames.computeIfAbsent(root, (String key) -> new LinkedHashSet<String>())
+                for (String type : properties.stringPropertyNames()) {
+                    for (String className : properties.getProperty(type).tokenize(',')) {
+                        classNames.add(className.trim())
+                    }
+                }
+            }
+        }
+        catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to load artefacts index from location [$INDEX_RESOURCE_LOCATION]", ex)
+        }
+        artefactClassNames
+    }
+
+}
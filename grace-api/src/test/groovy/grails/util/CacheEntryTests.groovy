@@ -0,0 +1,145 @@
+package grails.util
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * Tests for {@link CacheEntry}.
+ *
+ * @author Michael Yan
+ */
+class CacheEntryTests {
+
+    @BeforeEach
+    void setUp() {
+        CacheEntry.setRefreshAhead(true)
+        CacheEntry.setRefreshJitterMillis(0)
+    }
+
+    @AfterEach
+    void tearDown() {
+        CacheEntry.setRefreshAhead(false)
+        CacheEntry.setRefreshJitterMillis(CacheEntry.DEFAULT_REFRESH_JITTER_MILLIS)
+        CacheEntry.shutdownRefreshScheduler()
+    }
+
+    @Test
+    void testExpiredValueIsRefreshedInTheBackground() {
+        def cache = new ConcurrentHashMap<String, CacheEntry<String>>()
+        assertEquals('first', CacheEntry.getValue(cache, 'key', 0, { 'first' }))
+
+        Thread.sleep(5)
+        def refreshed = new CountDownLatch(1)
+        String refreshThread = null
+        String value = CacheEntry.getValue(cache, 'key', 0, {
+            refreshThread = Thread.currentThread().name
+            refreshed.countDown()
+            'second'
+        })
+
+        assertEquals('first', value)
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS))
+        assertEquals('grails-cache-refresh', refreshThread)
+        for (int i = 0; i < 100 && cache.get('key').getValue() != 'second'; i++) {
+            Thread.sleep(10)
+        }
+        assertEquals('second', cache.get('key').getValue())
+    }
+
+    @Test
+    void testMissingValueIsCreatedOnTheCallingThread() {
+        def cache = new ConcurrentHashMap<String, CacheEntry<String>>()
+        String createThread = null
+        String value = CacheEntry.getValue(cache, 'key', 0, {
+            createThread = Thread.currentThread().name
+            'first'
+        })
+
+        assertEquals('first', value)
+        assertEquals(Thread.currentThread().name, createThread)
+    }
+
+    @Test
+    void testFailedRefreshKeepsTheStaleValue() {
+        def cache = new ConcurrentHashMap<String, CacheEntry<String>>()
+        CacheEntry.getValue(cache, 'key', 0, { 'first' })
+
+        Thread.sleep(5)
+        def failed = new CountDownLatch(1)
+        CacheEntry.getValue(cache, 'key', 0, {
+            failed.countDown()
+            throw new IllegalStateException('Unreadable')
+        })
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS))
+        Thread.sleep(50)
+        // delay the next refresh, so that it can't replace the value before it is read
+        CacheEntry.setRefreshJitterMillis(60000)
+        assertEquals('first', CacheEntry.getValue(cache, 'key', 0, { 'second' }, true))
+    }
+
+    @Test
+    void testEntryWithoutRefreshAheadIsUpdatedOnTheCallingThread() {
+        def entry = new CacheEntry<String>() {
+            @Override
+            protected boolean isRefreshAheadSupported() {
+                false
+            }
+        }
+        assertEquals('first', entry.getValue(0, { 'first' }))
+
+        Thread.sleep(5)
+        String updateThread = null
+        String value = entry.getValue(0, {
+            updateThread = Thread.currentThread().name
+            'second'
+        })
+
+        assertEquals('second', value)
+        assertEquals(Thread.currentThread().name, updateThread)
+    }
+
+    @Test
+    void testRefreshDroppedByShutdownIsScheduledAgain() {
+        CacheEntry.setRefreshJitterMillis(60000)
+        def entry = new CacheEntry<String>('first')
+        Thread.sleep(5)
+        entry.getValue(0, { 'second' })
+
+        CacheEntry.shutdownRefreshScheduler()
+        CacheEntry.setRefreshJitterMillis(0)
+        def refreshed = new CountDownLatch(1)
+        assertEquals('first', entry.getValue(0, {
+            refreshed.countDown()
+            'third'
+        }))
+
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS))
+    }
+
+    @Test
+    void testSchedulerIsKeptUntilEveryApplicationHasReleasedIt() {
+        CacheEntry.setRefreshJitterMillis(100)
+        CacheEntry.retainRefreshScheduler()
+        CacheEntry.retainRefreshScheduler()
+        def entry = new CacheEntry<String>('first')
+        Thread.sleep(5)
+        entry.getValue(0, { 'second' })
+
+        CacheEntry.releaseRefreshScheduler()
+        for (int i = 0; i < 200 && entry.getValue() != 'second'; i++) {
+            Thread.sleep(10)
+        }
+        assertEquals('second', entry.getValue())
+        CacheEntry.releaseRefreshScheduler()
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 the original author or authors.
+ * Copyright 2022-2023 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,17 +15,22 @@
  */
 package grails.boot.config;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
@@ -33,6 +38,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import grails.config.Settings;
+
+import org.grails.core.io.support.GrailsArtefactsIndex;
+
 /**
  * A Grails classes scanner that searches the classpath from an {@link GrailsComponentScanner @GrailsComponentScanner}
  * specified packages.
@@ -61,7 +70,9 @@ public class GrailsComponentScanner {
     }
 
     /**
-     * Scan for entities with the specified annotations.
+     * Scan for entities with the specified annotations. When the artefact index is enabled, the classes of the
+     * classpath roots containing an index generated at compile time are read from their index, the other classpath
+     * roots are scanned.
      * @param annotationTypes the annotation types used on the artefacts
      * @return a set of artefact classes
      * @throws ClassNotFoundException if an artefact class cannot be loaded
@@ -74,12 +85,24 @@ public class GrailsComponentScanner {
             artefactScan.tag("packages", "[]").end();
             return Collections.emptySet();
         }
+        Set<Class<?>> entitySet = new LinkedHashSet<>();
+        Map<String, Set<String>> indexedRoots = Collections.emptyMap();
+        if (isIndexEnabled()) {
+            ClassLoader classLoader = this.context.getClassLoader();
+            indexedRoots = GrailsArtefactsIndex.loadArtefactClassNamesByRoot(
+                    classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader());
+            for (String basePackage : packages) {
+                entitySet.addAll(loadFromIndex(indexedRoots, basePackage, annotationTypes));
+            }
+        }
         ClassPathScanningCandidateComponentProvider scanner = createClassPathScanningCandidateComponentProvider(
                 this.context);
+        if (!indexedRoots.isEmpty()) {
+            scanner.setResourceLoader(new IndexedRootsExcludingResourcePatternResolver(this.context, indexedRoots.keySet()));
+        }
         for (Class<? extends Annotation> annotationType : annotationTypes) {
             scanner.addIncludeFilter(new AnnotationTypeFilter(annotationType));
         }
-        Set<Class<?>> entitySet = new HashSet<>();
         for (String basePackage : packages) {
             if (StringUtils.hasText(basePackage)) {
                 for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
@@ -87,10 +110,55 @@ public class GrailsComponentScanner {
                 }
             }
         }
-        artefactScan.tag("packages", Arrays.toString(packages.toArray())).end();
+        artefactScan.tag("packages", Arrays.toString(packages.toArray()))
+                .tag("indexed-roots", Arrays.toString(indexedRoots.keySet().toArray())).end();
+        return entitySet;
+    }
+
+    /**
+     * Load the classes of the specified package from the artefact index. The index of a classpath root only covers
+     * the classes of that root, the classes of the other roots are found by scanning the classpath.
+     * @param indexedRoots the indexed artefact class names keyed by the classpath root containing the index
+     * @param basePackage the package of the artefact classes
+     * @param annotationTypes the annotation types used on the artefacts
+     * @return a set of artefact classes
+     */
+    protected Set<Class<?>> loadFromIndex(Map<String, Set<String>> indexedRoots, String basePackage,
+            Class<? extends Annotation>[] annotationTypes) {
+        if (!StringUtils.hasText(basePackage)) {
+            return Collections.emptySet();
+        }
+        ClassLoader classLoader = this.context.getClassLoader();
+        String packagePrefix = basePackage + ".";
+        Set<Class<?>> entitySet = new LinkedHashSet<>();
+        for (Set<String> classNames : indexedRoots.values()) {
+            for (String className : classNames) {
+                if (!className.startsWith(packagePrefix)) {
+                    continue;
+                }
+                Class<?> candidate;
+                try {
+                    candidate = ClassUtils.forName(className, classLoader);
+                }
+                catch (ClassNotFoundException | LinkageError ignored) {
+                    // stale entry of a class which was removed since the index was written
+                    continue;
+                }
+                for (Class<? extends Annotation> annotationType : annotationTypes) {
+                    if (candidate.isAnnotationPresent(annotationType)) {
+                        entitySet.add(candidate);
+                        break;
+                    }
+                }
+            }
+        }
         return entitySet;
     }
 
+    protected boolean isIndexEnabled() {
+        return this.context.getEnvironment().getProperty(Settings.ARTEFACTS_INDEX_ENABLED, Boolean.class, false);
+    }
+
     /**
      * Create a {@link ClassPathScanningCandidateComponentProvider} to scan entities based
      * on the specified {@link ApplicationContext}.
@@ -115,4 +183,52 @@ public class GrailsComponentScanner {
         return packages;
     }
 
+    /**
+     * Skips the resources of the classpath roots whose classes are read from their artefact index
+     */
+    private static final class IndexedRootsExcludingResourcePatternResolver implements ResourcePatternResolver {
+
+        private final ResourcePatternResolver resolver;
+
+        private final Set<String> indexedRoots;
+
+        IndexedRootsExcludingResourcePatternResolver(ResourcePatternResolver resolver, Set<String> indexedRoots) {
+            this.resolver = resolver;
+            this.indexedRoots = indexedRoots;
+        }
+
+        @Override
+        public Resource[] getResources(String locationPattern) throws IOException {
+            Resource[] resources = this.resolver.getResources(locationPattern);
+            List<Resource> scannedResources = new ArrayList<>(resources.length);
+            for (Resource resource : resources) {
+                if (!isIndexed(resource)) {
+                    scannedResources.add(resource);
+                }
+            }
+            return scannedResources.toArray(new Resource[0]);
+        }
+
+        private boolean isIndexed(Resource resource) throws IOException {
+            String location = resource.getURL().toExternalForm();
+            for (String indexedRoot : this.indexedRoots) {
+                if (location.startsWith(indexedRoot)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Resource getResource(String location) {
+            return this.resolver.getResource(location);
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return this.resolver.getClassLoader();
+        }
+
+    }
+
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.context;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import grails.config.Config;
+import grails.config.Settings;
+import grails.core.GrailsApplication;
+import grails.core.warmup.WarmUpContext;
+import grails.core.warmup.WarmUpTask;
+
+/**
+ * {@link ApplicationContextInitializer} to run the {@link WarmUpTask warm-up tasks} once the application has started.
+ *
+ * <p>The tasks run before Spring Boot marks the application as ready, so the readiness probe refuses traffic
+ * until the caches are warm, while the liveness probe reports the application as alive. The time taken by every
+ * phase is logged, at the end the URIs of {@link Settings#WARMUP_REQUESTS} are requested from the embedded server
+ * to exercise the whole request processing.</p>
+ *
+ * @author Michael Yan
+ * @see WarmUpTask
+ * @since 2023.1.0
+ */
+public class GrailsWarmUpApplicationContextInitializer implements
+        ApplicationContextInitializer<ConfigurableApplicationContext>, ApplicationListener<ApplicationStartedEvent>, Ordered {
+
+    private static final Log logger = LogFactory.getLog(GrailsWarmUpApplicationContextInitializer.class);
+
+    private static final String REQUESTS_PHASE = "requests";
+
+    private static final int REQUEST_TIMEOUT = 30000;
+
+    private int order = Ordered.LOWEST_PRECEDENCE - 20;
+
+    private final Map<String, Long> phaseTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    public void setOrder(int order) {
+        this.order = order;
+    }
+
+    @Override
+    public int getOrder() {
+        return this.order;
+    }
+
+    /**
+     * @return The time in milliseconds taken by the phases of the last warm-up, by their name
+     */
+    public Map<String, Long> getPhaseTimings() {
+        synchronized (this.phaseTimings) {
+            return new LinkedHashMap<>(this.phaseTimings);
+        }
+    }
+
+    @Override
+    public void initialize(ConfigurableApplicationContext applicationContext) {
+        applicationContext.addApplicationListener(this);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        ConfigurableApplicationContext applicationContext = event.getApplicationContext();
+        if (!applicationContext.containsBean(GrailsApplication.APPLICATION_ID)) {
+            return;
+        }
+        GrailsApplication grailsApplication = applicationContext.getBean(GrailsApplication.APPLICATION_ID, GrailsApplication.class);
+        Config config = grailsApplication.getConfig();
+        if (!config.getProperty(Settings.WARMUP_ENABLED, Boolean.class, false)) {
+            return;
+        }
+
+        // alive, but not ready until the caches are warm
+        AvailabilityChangeEvent.publish(applicationContext, LivenessState.CORRECT);
+        AvailabilityChangeEvent.publish(applicationContext, ReadinessState.REFUSING_TRAFFIC);
+
+        List<Locale> locales = toList(config.getProperty(Settings.WARMUP_LOCALES, Object.class)).stream()
+                .map(StringUtils::parseLocale)
+                .collect(Collectors.toList());
+        if (locales.isEmpty()) {
+            locales = Collections.singletonList(Locale.getDefault());
+        }
+        warmUp(applicationContext, new WarmUpContext(applicationContext, grailsApplication, locales),
+                toList(config.getProperty(Settings.WARMUP_REQUESTS, Object.class)));
+    }
+
+    protected void warmUp(ConfigurableApplicationContext applicationContext, WarmUpContext context, List<String> requests) {
+        this.phaseTimings.clear();
+        long start = System.currentTimeMillis();
+        List<WarmUpTask> tasks = applicationContext.getBeanProvider(WarmUpTask.class).orderedStream().collect(Collectors.toList());
+        for (WarmUpTask task : tasks) {
+            long phaseStart = System.currentTimeMillis();
+            try {
+                int count = task.warmUp(context);
+                reportPhase(task.getName(), count, phaseStart);
+            }
+            catch (Exception e) {
+                logger.warn("Warm-up phase [" + task.getName() + "] failed", e);
+            }
+        }
+        if (!requests.isEmpty() && applicationContext instanceof WebServerApplicationContext) {
+            long phaseStart = System.currentTimeMillis();
+            int count = sendRequests((WebServerApplicationContext) applicationContext, context, requests);
+            reportPhase(REQUESTS_PHASE, count, phaseStart);
+        }
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Warm-up completed in %dms", System.currentTimeMillis() - start));
+        }
+    }
+
+    private void reportPhase(String name, int count, long phaseStart) {
+        long time = System.currentTimeMillis() - phaseStart;
+        this.phaseTimings.put(name, time);
+        if (logger.isInfoEnabled()) {
+            logger.info(String.format("Warm-up phase [%s] resolved %d items in %dms", name, count, time));
+        }
+    }
+
+    private int sendRequests(WebServerApplicationContext applicationContext, WarmUpContext context, List<String> requests) {
+        if (applicationContext.getWebServer() == null) {
+            return 0;
+        }
+        int port = applicationContext.getWebServer().getPort();
+        if (port < 0) {
+            return 0;
+        }
+        String contextPath = context.getGrailsApplication().getConfig().getProperty("server.servlet.context-path", "");
+        int count = 0;
+        for (String uri : requests) {
+            HttpURLConnection connection = null;
+            try {
+                URL url = new URL("http", "localhost", port, contextPath + (uri.startsWith("/") ? uri : "/" + uri));
+                connection = (HttpURLConnection) url.openConnection();
+                connection.setConnectTimeout(REQUEST_TIMEOUT);
+                connection.setReadTimeout(REQUEST_TIMEOUT);
+                int status = connection.getResponseCode();
+                InputStream body = status < HttpURLConnection.HTTP_BAD_REQUEST ? connection.getInputStream() : connection.getErrorStream();
+                if (body != null) {
+                    try (body) {
+                        body.transferTo(OutputStream.nullOutputStream());
+                    }
+                }
+                if (status < HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                    count++;
+                }
+                else if (logger.isDebugEnabled()) {
+                    logger.debug("Warm-up request [" + uri + "] responded with status " + status);
+                }
+            }
+            catch (IOException e) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Warm-up request [" + uri + "] failed", e);
+                }
+            }
+            finally {
+                if (connection != null) {
+                    connection.disconnect();
+                }
+            }
+        }
+        return count;
+    }
+
+    private static List<String> toList(Object value) {
+        List<String> values = new ArrayList<>();
+        if (value instanceof Collection) {
+            for (Object element : (Collection<?>) value) {
+                if (element != null && StringUtils.hasText(element.toString())) {
+                    values.add(element.toString().trim());
+                }
+            }
+        }
+        else if (value != null) {
+            for (String element : StringUtils.commaDelimitedListToStringArray(value.toString())) {
+                if (StringUtils.hasText(element)) {
+                    values.add(element.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,87 @@
+package grails.boot.config
+
+import org.springframework.context.support.GenericApplicationContext
+import org.springframework.core.env.MapPropertySource
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import grails.boot.config.scan.ScannedArtefact
+import grails.boot.config.scan.indexed.IndexedArtefact
+import grails.boot.config.scan.indexed.UnindexedArtefact
+import grails.boot.config.scan.other.OtherArtefact
+
+import org.grails.core.io.support.GrailsArtefactsIndex
+
+class GrailsComponentScannerSpec extends Specification {
+
+    @TempDir
+    File indexRoot
+
+    GenericApplicationContext context = new GenericApplicationContext()
+
+    void setup() {
+        File index = new File(indexRoot, GrailsArtefactsIndex.INDEX_RESOURCE_LOCATION)
+        index.parentFile.mkdirs()
+        index.text = "Controller=${IndexedArtefact.name}\n"
+        context.classLoader = new URLClassLoader([indexRoot.toURI().toURL()] as URL[], getClass().classLoader)
+    }
+
+    void cleanup() {
+        ((URLClassLoader) context.classLoader).close()
+    }
+
+    void "the index is disabled by default"() {
+        given:
+        GrailsComponentScanner scanner = createScanner('grails.boot.config.scan.indexed', 'grails.boot.config.scan.other')
+
+        expect:
+        !scanner.indexEnabled
+
+        when:
+        Set<Class<?>> classes = scanner.scan(ScannedArtefact)
+
+        then:
+        classes == [IndexedArtefact, UnindexedArtefact, OtherArtefact] as Set
+    }
+
+    void "indexed classes are read from the index and the classpath roots without an index are scanned"() {
+        given:
+        enableIndex()
+        GrailsComponentScanner scanner = createScanner('grails.boot.config.scan.indexed', 'grails.boot.config.scan.other')
+
+        when:
+        Set<Class<?>> classes = scanner.scan(ScannedArtefact)
+
+        then: "the unindexed classes of the indexed package are still found"
+        classes == [IndexedArtefact, UnindexedArtefact, OtherArtefact] as Set
+    }
+
+    void "the classpath roots with an index are not scanned"() {
+        given: "a class file which can't be read by the scanner in the indexed root"
+        File classFile = new File(indexRoot, 'grails/boot/config/scan/indexed/BrokenArtefact.class')
+        classFile.parentFile.mkdirs()
+        classFile.bytes = [0, 1, 2, 3] as byte[]
+        enableIndex()
+        GrailsComponentScanner scanner = createScanner('grails.boot.config.scan.indexed')
+
+        when:
+        Set<Class<?>> classes = scanner.scan(ScannedArtefact)
+
+        then:
+        classes == [IndexedArtefact, UnindexedArtefact] as Set
+    }
+
+    private void enableIndex() {
+        context.environment.propertySources.addFirst(new MapPropertySource('test', ['grails.artefacts.index.enabled': 'true']))
+    }
+
+    private GrailsComponentScanner createScanner(String... packages) {
+        new GrailsComponentScanner(context) {
+            @Override
+            List<String> getPackages() {
+                packages as List<String>
+            }
+        }
+    }
+
+}
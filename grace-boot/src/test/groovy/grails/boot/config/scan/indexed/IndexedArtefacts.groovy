@@ -0,0 +1,11 @@
+package grails.boot.config.scan.indexed
+
+import grails.boot.config.scan.ScannedArtefact
+
+@ScannedArtefact
+class IndexedArtefact {
+}
+
+@ScannedArtefact
+class UnindexedArtefact {
+}
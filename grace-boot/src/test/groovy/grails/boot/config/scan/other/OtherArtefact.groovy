@@ -0,0 +1,7 @@
+package grails.boot.config.scan.other
+
+import grails.boot.config.scan.ScannedArtefact
+
+@ScannedArtefact
+class OtherArtefact {
+}
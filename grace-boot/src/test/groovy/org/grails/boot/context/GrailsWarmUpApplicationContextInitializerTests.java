@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import grails.core.warmup.WarmUpContext;
+import grails.core.warmup.WarmUpTask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GrailsWarmUpApplicationContextInitializer}.
+ *
+ * @author Michael Yan
+ */
+public class GrailsWarmUpApplicationContextInitializerTests {
+
+    @Test
+    void warmUpTasksRunInOrderAndFailuresDoNotStopTheWarmUp() {
+        List<String> phases = new ArrayList<>();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean("views", WarmUpTask.class, () -> new TestWarmUpTask("views", 10, phases, false));
+            context.registerBean("failing", WarmUpTask.class, () -> new TestWarmUpTask("failing", 5, phases, true));
+            context.registerBean("urlMappings", WarmUpTask.class, () -> new TestWarmUpTask("urlMappings", 0, phases, false));
+            context.refresh();
+
+            GrailsWarmUpApplicationContextInitializer initializer = new GrailsWarmUpApplicationContextInitializer();
+            initializer.warmUp(context, new WarmUpContext(context, null, List.of(Locale.ENGLISH)), Collections.emptyList());
+
+            assertThat(phases).containsExactly("urlMappings", "failing", "views");
+            assertThat(initializer.getPhaseTimings()).containsOnlyKeys("urlMappings", "views");
+        }
+    }
+
+    static class TestWarmUpTask implements WarmUpTask {
+
+        private final String name;
+
+        private final int order;
+
+        private final List<String> phases;
+
+        private final boolean failing;
+
+        TestWarmUpTask(String name, int order, List<String> phases, boolean failing) {
+            this.name = name;
+            this.order = order;
+            this.phases = phases;
+            this.failing = failing;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public int getOrder() {
+            return this.order;
+        }
+
+        @Override
+        public int warmUp(WarmUpContext context) {
+            this.phases.add(this.name);
+            if (this.failing) {
+                throw new IllegalStateException("Warm-up failed");
+            }
+            return 1;
+        }
+
+    }
+
+}
@@ -17,7 +17,10 @@ package org.grails.exceptions.reporting;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -25,6 +28,10 @@ import org.apache.commons.logging.LogFactory;
 /**
  * Default implementation of StackTraceFilterer.
  *
+ * <p>Internal packages are matched with a {@link PackagePrefixTrie} and the most recently filtered traces are cached per
+ * exception type and original trace, so that repeatedly thrown exceptions are filtered once. The full stack trace that is
+ * logged before filtering is rate limited per fingerprint when an {@link ExceptionOccurrenceTracker} is set.</p>
+ *
  * @since 2.0
  * @author Graeme Rocher
  */
@@ -54,8 +61,24 @@ public class DefaultStackTraceFilterer implements StackTraceFilterer {
             "jakarta.servlet."
     };
 
+    private static final int MAX_CACHED_TRACES = 500;
+
+    private static final StackTraceElement[] UNFILTERED = new StackTraceElement[0];
+
     private final List<String> packagesToFilter = new ArrayList<>();
 
+    private volatile PackagePrefixTrie packagesToFilterTrie;
+
+    private final Map<TraceKey, StackTraceElement[]> filteredTraceCache = Collections.synchronizedMap(
+            new LinkedHashMap<TraceKey, StackTraceElement[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<TraceKey, StackTraceElement[]> eldest) {
+                    return this.size() > MAX_CACHED_TRACES;
+                }
+            });
+
+    private ExceptionOccurrenceTracker occurrenceTracker;
+
     private boolean shouldFilter;
 
     private String cutOffPackage = null;
@@ -74,10 +97,25 @@ public class DefaultStackTraceFilterer implements StackTraceFilterer {
             throw new IllegalArgumentException("Package name cannot be null");
         }
         this.packagesToFilter.add(name);
+        this.packagesToFilterTrie = null;
+        this.filteredTraceCache.clear();
     }
 
     public void setCutOffPackage(String cutOffPackage) {
         this.cutOffPackage = cutOffPackage;
+        this.filteredTraceCache.clear();
+    }
+
+    /**
+     * @param occurrenceTracker The tracker deciding whether the full stack trace of an exception is logged,
+     * or null to log all of them
+     */
+    public void setOccurrenceTracker(ExceptionOccurrenceTracker occurrenceTracker) {
+        this.occurrenceTracker = occurrenceTracker;
+    }
+
+    public ExceptionOccurrenceTracker getOccurrenceTracker() {
+        return this.occurrenceTracker;
     }
 
     public Throwable filter(Throwable source, boolean recursive) {
@@ -94,6 +132,32 @@ public class DefaultStackTraceFilterer implements StackTraceFilterer {
     public Throwable filter(Throwable source) {
         if (this.shouldFilter) {
             StackTraceElement[] trace = source.getStackTrace();
+            StackTraceElement[] clean = filterTrace(source, trace);
+
+            // Only trim the trace if there was some application trace on the stack
+            // if not we will just skip sanitizing and leave it as is
+            if (clean != UNFILTERED) {
+                // We don't want to lose anything, so log it
+                if (logger.isErrorEnabled()) {
+                    ExceptionOccurrenceTracker tracker = this.occurrenceTracker;
+                    long suppressed = tracker != null ? tracker.record(source, clean) : 0;
+                    if (suppressed == 0) {
+                        logger.error(FULL_STACK_TRACE_MESSAGE, source);
+                    }
+                    else if (suppressed > 0) {
+                        logger.error(FULL_STACK_TRACE_MESSAGE + " (" + suppressed + " similar stack traces were suppressed)", source);
+                    }
+                }
+                source.setStackTrace(clean);
+            }
+        }
+        return source;
+    }
+
+    private StackTraceElement[] filterTrace(Throwable source, StackTraceElement[] trace) {
+        TraceKey key = new TraceKey(source.getClass(), trace);
+        StackTraceElement[] clean = this.filteredTraceCache.get(key);
+        if (clean == null) {
             List<StackTraceElement> newTrace = filterTraceWithCutOff(trace, this.cutOffPackage);
 
             if (newTrace.isEmpty()) {
@@ -101,17 +165,16 @@ public class DefaultStackTraceFilterer implements StackTraceFilterer {
                 newTrace = filterTraceWithCutOff(trace, null);
             }
 
-            // Only trim the trace if there was some application trace on the stack
-            // if not we will just skip sanitizing and leave it as is
-            if (!newTrace.isEmpty()) {
-                // We don't want to lose anything, so log it
-                logger.error(FULL_STACK_TRACE_MESSAGE, source);
-                StackTraceElement[] clean = new StackTraceElement[newTrace.size()];
+            if (newTrace.isEmpty()) {
+                clean = UNFILTERED;
+            }
+            else {
+                clean = new StackTraceElement[newTrace.size()];
                 newTrace.toArray(clean);
-                source.setStackTrace(clean);
             }
+            this.filteredTraceCache.put(key, clean);
         }
-        return source;
+        return clean;
     }
 
     private List<StackTraceElement> filterTraceWithCutOff(StackTraceElement[] trace, String endPackage) {
@@ -141,16 +204,64 @@ public class DefaultStackTraceFilterer implements StackTraceFilterer {
      * @return true if is internal
      */
     protected boolean isApplicationClass(String className) {
-        for (String packageName : this.packagesToFilter) {
-            if (className.startsWith(packageName)) {
-                return false;
-            }
+        PackagePrefixTrie trie = this.packagesToFilterTrie;
+        if (trie == null) {
+            trie = new PackagePrefixTrie(new ArrayList<>(this.packagesToFilter));
+            this.packagesToFilterTrie = trie;
         }
-        return true;
+        return !trie.matches(className);
     }
 
     public void setShouldFilter(boolean shouldFilter) {
         this.shouldFilter = shouldFilter;
     }
 
+    /**
+     * Cache key of a filtered stack trace. The hash is computed once from the type, the length and the top frames of the
+     * original trace, so that a lookup doesn't hash every frame, the trace is compared element by element to rule out collisions
+     */
+    private static final class TraceKey {
+
+        private static final int HASHED_FRAMES = 8;
+
+        private final Class<?> type;
+
+        private final StackTraceElement[] trace;
+
+        private final int hash;
+
+        TraceKey(Class<?> type, StackTraceElement[] trace) {
+            this.type = type;
+            this.trace = trace;
+            this.hash = hash(type, trace);
+        }
+
+        private static int hash(Class<?> type, StackTraceElement[] trace) {
+            int hash = 31 * type.hashCode() + trace.length;
+            int frames = Math.min(HASHED_FRAMES, trace.length);
+            for (int i = 0; i < frames; i++) {
+                hash = 31 * hash + trace[i].hashCode();
+            }
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TraceKey)) {
+                return false;
+            }
+            TraceKey other = (TraceKey) o;
+            return this.hash == other.hash && this.type == other.type && Arrays.equals(this.trace, other.trace);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.exceptions.reporting;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks occurrences of exceptions by fingerprint, which is made of the exception type and the top frames of its stack trace,
+ * and decides whether the full stack trace of an occurrence should be logged. The full stack trace of a fingerprint is
+ * logged at most once per log interval, so that a failing dependency does not flood the logs with identical stack traces.
+ * The log interval is disabled by default, every occurrence is logged until it is set.
+ *
+ * <p>A single tracker is shared by the {@link DefaultStackTraceFilterer} and the exception resolver, recording the same
+ * exception again returns the decision of its first record without counting another occurrence.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class ExceptionOccurrenceTracker {
+
+    public static final long DEFAULT_LOG_INTERVAL = 0L;
+
+    public static final int DEFAULT_FRAME_COUNT = 5;
+
+    public static final int DEFAULT_MAX_FINGERPRINTS = 1000;
+
+    /**
+     * Returned by {@link #record(Throwable)} when the full stack trace should not be logged
+     */
+    public static final long SUPPRESSED = -1L;
+
+    private final ConcurrentMap<String, Occurrence> occurrences = new ConcurrentHashMap<>();
+
+    private long logInterval = DEFAULT_LOG_INTERVAL;
+
+    private int frameCount = DEFAULT_FRAME_COUNT;
+
+    private int maxFingerprints = DEFAULT_MAX_FINGERPRINTS;
+
+    /**
+     * @param logInterval The minimum interval in milliseconds between two full stack traces of the same fingerprint,
+     * zero or less to log every occurrence
+     */
+    public void setLogInterval(long logInterval) {
+        this.logInterval = logInterval;
+    }
+
+    public long getLogInterval() {
+        return this.logInterval;
+    }
+
+    /**
+     * @param frameCount The number of top stack trace frames that are part of the fingerprint
+     */
+    public void setFrameCount(int frameCount) {
+        this.frameCount = frameCount;
+    }
+
+    /**
+     * @param maxFingerprints The maximum number of fingerprints to track, the counters are reset when exceeded
+     */
+    public void setMaxFingerprints(int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    /**
+     * Records an occurrence of the given exception using its current stack trace
+     *
+     * @param exception The exception
+     * @return The number of occurrences suppressed since the full stack trace was last logged,
+     * or {@link #SUPPRESSED} if the full stack trace of this occurrence should not be logged
+     */
+    public long record(Throwable exception) {
+        return record(exception, exception.getStackTrace());
+    }
+
+    /**
+     * Records an occurrence of the given exception with the given stack trace, if the same exception was the last one
+     * recorded for its fingerprint the previous result is returned and no occurrence is counted
+     *
+     * @param exception The exception
+     * @param stackTrace The frames to compute the fingerprint from
+     * @return The number of occurrences suppressed since the full stack trace was last logged,
+     * or {@link #SUPPRESSED} if the full stack trace of this occurrence should not be logged
+     */
+    public long record(Throwable exception, StackTraceElement[] stackTrace) {
+        String fingerprint = fingerprint(exception, stackTrace);
+        Occurrence occurrence = this.occurrences.get(fingerprint);
+        if (occurrence == null) {
+            if (this.occurrences.size() >= this.maxFingerprints) {
+                this.occurrences.clear();
+            }
+            occurrence = this.occurrences.computeIfAbsent(fingerprint, key -> new Occurrence());
+        }
+        return occurrence.record(exception, this.logInterval);
+    }
+
+    /**
+     * Computes the fingerprint of the given exception, made of its type and the top frames of the stack trace
+     *
+     * @param exception The exception
+     * @param stackTrace The frames to compute the fingerprint from
+     * @return The fingerprint
+     */
+    public String fingerprint(Throwable exception, StackTraceElement[] stackTrace) {
+        StringBuilder fingerprint = new StringBuilder(exception.getClass().getName());
+        int frames = Math.min(this.frameCount, stackTrace.length);
+        for (int i = 0; i < frames; i++) {
+            StackTraceElement element = stackTrace[i];
+            fingerprint.append('|')
+                    .append(element.getClassName())
+                    .append('.')
+                    .append(element.getMethodName())
+                    .append(':')
+                    .append(element.getLineNumber());
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * @return The number of occurrences per fingerprint
+     */
+    public Map<String, Long> getOccurrenceCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Occurrence> entry : this.occurrences.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().count.get());
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public void reset() {
+        this.occurrences.clear();
+    }
+
+    private static final class Occurrence {
+
+        private final AtomicLong count = new AtomicLong();
+
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private final AtomicLong lastLogged = new AtomicLong(Long.MIN_VALUE);
+
+        private volatile RecordedException lastRecorded;
+
+        long record(Throwable exception, long logInterval) {
+            RecordedException recorded = this.lastRecorded;
+            if (recorded != null && recorded.get() == exception) {
+                return recorded.result;
+            }
+            long result = record(logInterval);
+            this.lastRecorded = new RecordedException(exception, result);
+            return result;
+        }
+
+        private long record(long logInterval) {
+            this.count.incrementAndGet();
+            if (logInterval <= 0) {
+                return 0;
+            }
+            long now = System.currentTimeMillis();
+            long last = this.lastLogged.get();
+            if ((last == Long.MIN_VALUE || now - last >= logInterval) && this.lastLogged.compareAndSet(last, now)) {
+                return this.suppressed.getAndSet(0);
+            }
+            this.suppressed.incrementAndGet();
+            return SUPPRESSED;
+        }
+
+    }
+
+    private static final class RecordedException extends WeakReference<Throwable> {
+
+        private final long result;
+
+        RecordedException(Throwable exception, long result) {
+            super(exception);
+            this.result = result;
+        }
+
+    }
+
+}
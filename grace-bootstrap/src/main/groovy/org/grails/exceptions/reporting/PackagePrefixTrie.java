@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.exceptions.reporting;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable trie of package prefixes, which matches a class name against all prefixes
+ * in a single pass over the characters of the class name.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public final class PackagePrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root;
+
+    public PackagePrefixTrie(Collection<String> prefixes) {
+        this.root = new Node();
+        for (String prefix : prefixes) {
+            add(prefix);
+        }
+    }
+
+    private void add(String prefix) {
+        Node node = this.root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.getOrCreateChild(prefix.charAt(i));
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * Whether the given class name starts with one of the prefixes
+     *
+     * @param className The class name
+     * @return true if a prefix matches
+     */
+    public boolean matches(String className) {
+        Node node = this.root;
+        if (node.terminal) {
+            return true;
+        }
+        for (int i = 0; i < className.length(); i++) {
+            node = node.getChild(className.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Node {
+
+        private char[] keys = NO_KEYS;
+
+        private Node[] children = NO_CHILDREN;
+
+        private boolean terminal;
+
+        Node getChild(char c) {
+            int index = Arrays.binarySearch(this.keys, c);
+            return index >= 0 ? this.children[index] : null;
+        }
+
+        Node getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(this.keys, c);
+            if (index >= 0) {
+                return this.children[index];
+            }
+            int insertAt = -(index + 1);
+            char[] newKeys = new char[this.keys.length + 1];
+            Node[] newChildren = new Node[this.children.length + 1];
+            System.arraycopy(this.keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(this.children, 0, newChildren, 0, insertAt);
+            System.arraycopy(this.keys, insertAt, newKeys, insertAt + 1, this.keys.length - insertAt);
+            System.arraycopy(this.children, insertAt, newChildren, insertAt + 1, this.children.length - insertAt);
+            Node child = new Node();
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            this.keys = newKeys;
+            this.children = newChildren;
+            return child;
+        }
+
+    }
+
+}
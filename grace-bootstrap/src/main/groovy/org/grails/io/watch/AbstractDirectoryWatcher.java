@@ -16,9 +16,9 @@
 package org.grails.io.watch;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Backend for {@link DirectoryWatcher}
@@ -30,7 +30,7 @@ import java.util.List;
  */
 abstract class AbstractDirectoryWatcher implements Runnable {
 
-    private final List<DirectoryWatcher.FileChangeListener> listeners = new ArrayList<>();
+    private final List<DirectoryWatcher.FileChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     protected volatile boolean active = true; //must be volatile as it's read by multiple threads and the value should be reflected in all of them
 
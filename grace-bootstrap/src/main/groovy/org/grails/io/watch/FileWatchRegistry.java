@@ -0,0 +1,205 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.io.watch;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared {@link DirectoryWatcher} for the reloadable resources of a running application, such as GSP pages
+ * and message bundles.
+ *
+ * <p>Instead of checking the last modified time of a resource on every request, a cache registers the file
+ * with {@link #watch(File)} and keeps the {@link WatchedFile#getVersion() version} it has read. The version is
+ * increased by the watcher thread when the file changes, so checking for a change is a memory read.
+ * When file watching is disabled or not available, {@link #watch(File)} returns null and the caller
+ * falls back to checking the last modified time.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public final class FileWatchRegistry {
+
+    /**
+     * The system property to disable file watching, it is enabled by default
+     */
+    public static final String ENABLED_PROPERTY = "grails.reload.watch.enabled";
+
+    private static final Logger logger = LoggerFactory.getLogger(FileWatchRegistry.class);
+
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+
+    private static volatile FileWatchRegistry instance;
+
+    private final DirectoryWatcher directoryWatcher;
+
+    private final Map<Path, WatchedFile> watchedFiles = new ConcurrentHashMap<>();
+
+    private FileWatchRegistry(DirectoryWatcher directoryWatcher) {
+        this.directoryWatcher = directoryWatcher;
+        this.directoryWatcher.addListener(new DirectoryWatcher.FileChangeListener() {
+            @Override
+            public void onChange(File file) {
+                changed(file);
+            }
+
+            @Override
+            public void onNew(File file) {
+                changed(file);
+            }
+        });
+    }
+
+    /**
+     * Watches the given file for changes.
+     *
+     * @param file The file to watch
+     * @return The handle of the watched file, or null if the file cannot be watched
+     */
+    public static WatchedFile watch(File file) {
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+        FileWatchRegistry registry = getInstance();
+        return registry != null ? registry.watchFile(file) : null;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether files are watched. Files which are watched already are still watched until {@link #shutdown()}.
+     *
+     * @param enabled False to check the last modified time of files instead
+     */
+    public static void setEnabled(boolean enabled) {
+        FileWatchRegistry.enabled = enabled;
+    }
+
+    /**
+     * Stops the watcher thread, the versions of files which are watched are not increased after that.
+     */
+    public static synchronized void shutdown() {
+        FileWatchRegistry registry = instance;
+        instance = null;
+        if (registry != null) {
+            registry.directoryWatcher.setActive(false);
+            // let the handles of the stopped watcher report a change, so that the files are read again
+            for (WatchedFile watchedFile : registry.watchedFiles.values()) {
+                watchedFile.changed();
+            }
+        }
+    }
+
+    private static FileWatchRegistry getInstance() {
+        FileWatchRegistry registry = instance;
+        if (registry == null && enabled) {
+            synchronized (FileWatchRegistry.class) {
+                registry = instance;
+                if (registry == null && enabled) {
+                    try {
+                        DirectoryWatcher directoryWatcher = new DirectoryWatcher();
+                        directoryWatcher.setName("grails-file-watch");
+                        registry = new FileWatchRegistry(directoryWatcher);
+                        directoryWatcher.start();
+                        instance = registry;
+                    }
+                    catch (Throwable e) {
+                        logger.warn("File watching is not available, falling back to checking the last modified time", e);
+                        enabled = false;
+                        registry = null;
+                    }
+                }
+            }
+        }
+        return registry;
+    }
+
+    private WatchedFile watchFile(File file) {
+        Path path = file.toPath().toAbsolutePath().normalize();
+        WatchedFile watchedFile = this.watchedFiles.get(path);
+        if (watchedFile != null) {
+            return watchedFile;
+        }
+        watchedFile = new WatchedFile(path.toFile());
+        WatchedFile existing = this.watchedFiles.putIfAbsent(path, watchedFile);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            this.directoryWatcher.addWatchFile(watchedFile.getFile());
+        }
+        catch (RuntimeException e) {
+            logger.debug("Unable to watch file [{}], falling back to checking the last modified time", file, e);
+            this.watchedFiles.remove(path);
+            return null;
+        }
+        return watchedFile;
+    }
+
+    private void changed(File file) {
+        WatchedFile watchedFile = this.watchedFiles.get(file.toPath().toAbsolutePath().normalize());
+        if (watchedFile != null) {
+            watchedFile.changed();
+        }
+    }
+
+    /**
+     * A file which is watched for changes.
+     */
+    public static final class WatchedFile {
+
+        private final File file;
+
+        private final AtomicLong version = new AtomicLong();
+
+        WatchedFile(File file) {
+            this.file = file;
+        }
+
+        public File getFile() {
+            return this.file;
+        }
+
+        /**
+         * @return The version of the file, which is increased every time the file changes
+         */
+        public long getVersion() {
+            return this.version.get();
+        }
+
+        /**
+         * @param version A version returned by {@link #getVersion()} before the file was read
+         * @return Whether the file changed since then
+         */
+        public boolean hasChangedSince(long version) {
+            return this.version.get() != version;
+        }
+
+        void changed() {
+            this.version.incrementAndGet();
+        }
+
+    }
+
+}
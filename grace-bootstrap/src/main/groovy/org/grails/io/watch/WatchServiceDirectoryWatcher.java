@@ -53,7 +53,7 @@ public class WatchServiceDirectoryWatcher extends AbstractDirectoryWatcher {
 
     private Map<WatchKey, List<String>> watchKeyToExtensionsMap = new ConcurrentHashMap<>();
 
-    private Set<Path> individualWatchedFiles = new HashSet<>();
+    private final Set<Path> individualWatchedFiles = ConcurrentHashMap.newKeySet();
 
     private final WatchService watchService;
 
@@ -81,8 +81,11 @@ public class WatchServiceDirectoryWatcher extends AbstractDirectoryWatcher {
                     for (WatchEvent<?> watchEvent : watchEvents) {
                         WatchEvent.Kind<?> kind = watchEvent.kind();
                         if (kind == StandardWatchEventKinds.OVERFLOW) {
-                            // TODO how is this supposed to be handled? I think the best thing to do is ignore it, but I'm not positive
+                            // events were lost, so report the individually watched files as changed to have them checked again
                             logger.warn("WatchService Overflow occurred");
+                            for (Path watchedFile : this.individualWatchedFiles) {
+                                fireOnChange(watchedFile.toFile());
+                            }
                             continue;
                         }
                         WatchEvent<Path> pathWatchEvent = cast(watchEvent);
@@ -0,0 +1,66 @@
+package org.grails.io.watch
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class FileWatchRegistrySpec extends Specification {
+
+    @TempDir
+    File tempDir
+
+    void cleanup() {
+        FileWatchRegistry.shutdown()
+        FileWatchRegistry.setEnabled(true)
+    }
+
+    void "Test the version of a watched file is increased when it changes"() {
+        given:
+        File file = new File(tempDir, 'index.gsp')
+        file.text = 'Hello'
+        FileWatchRegistry.WatchedFile watchedFile = FileWatchRegistry.watch(file)
+        long version = watchedFile.version
+
+        expect:
+        !watchedFile.hasChangedSince(version)
+        FileWatchRegistry.watch(file).is(watchedFile)
+
+        when:
+        file.text = 'Hello world'
+        for (int i = 0; i < 100 && !watchedFile.hasChangedSince(version); i++) {
+            Thread.sleep(50)
+        }
+
+        then:
+        watchedFile.hasChangedSince(version)
+    }
+
+    void "Test files are not watched when watching is disabled or the file does not exist"() {
+        given:
+        File file = new File(tempDir, 'messages.properties')
+        file.text = 'hello=Hello'
+
+        expect:
+        FileWatchRegistry.watch(new File(tempDir, 'missing.properties')) == null
+
+        when:
+        FileWatchRegistry.setEnabled(false)
+
+        then:
+        FileWatchRegistry.watch(file) == null
+    }
+
+    void "Test watched files report a change after the registry is shut down"() {
+        given:
+        File file = new File(tempDir, 'index.gsp')
+        file.text = 'Hello'
+        FileWatchRegistry.WatchedFile watchedFile = FileWatchRegistry.watch(file)
+        long version = watchedFile.version
+
+        when:
+        FileWatchRegistry.shutdown()
+
+        then:
+        watchedFile.hasChangedSince(version)
+    }
+
+}
@@ -22,6 +22,7 @@ import java.lang.reflect.Proxy;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -29,6 +30,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -96,6 +99,10 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
 
     protected static final Pattern GETCLASS_PATTERN = Pattern.compile("(get)(\\w+)Class");
 
+    private final ConcurrentMap<String, DynamicArtefactMethod> dynamicArtefactMethods = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, DynamicArtefactMethod> dynamicArtefactProperties = new ConcurrentHashMap<>();
+
     protected Class<?>[] allClasses = new Class[0];
 
     protected static final Log logger = LogFactory.getLog(DefaultGrailsApplication.class);
@@ -112,6 +119,12 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
 
     protected Class<?>[] allArtefactClassesArray;
 
+    /**
+     * The classes identified as artefacts by {@link #configureLoadedClasses(Class[])} and their handlers by class name,
+     * replaced as a whole so that it can be read without locking.
+     */
+    private volatile Map<String, ArtefactClassEntry> artefactClassesByName = Collections.emptyMap();
+
     protected Resource[] resources;
 
     protected boolean initialised = false;
@@ -270,7 +283,9 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
         this.artefactInfo.clear();
         this.allArtefactClasses.clear();
         this.allArtefactClassesArray = null;
+        this.artefactClassesByName = Collections.emptyMap();
         this.allClasses = classes;
+        Map<String, ArtefactClassEntry> artefactClassesByName = new HashMap<>();
 
         // first load the domain classes
         logger.debug("Going to inspect artefact classes.");
@@ -280,7 +295,8 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
             logger.debug("Inspecting [" + theClass.getName() + "]");
             // start fresh
             metaClassRegistry.removeMetaClass(theClass);
-            if (this.allArtefactClasses.contains(theClass)) {
+            ArtefactClassEntry configured = artefactClassesByName.get(theClass.getName());
+            if (configured != null && configured.artefactClass == theClass) {
                 continue;
             }
 
@@ -291,6 +307,7 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
                     GrailsClass gclass = addArtefact(artefactHandler.getType(), theClass);
                     // Also maintain set of all artefacts (!= all classes loaded)
                     this.allArtefactClasses.add(theClass);
+                    artefactClassesByName.putIfAbsent(theClass.getName(), new ArtefactClassEntry(theClass, artefactHandler.getType()));
 
                     // Update per-artefact cache
                     DefaultArtefactInfo info = getArtefactInfo(artefactHandler.getType(), true);
@@ -303,6 +320,7 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
         refreshArtefactGrailsClassCaches();
 
         this.allArtefactClassesArray = this.allArtefactClasses.toArray(new Class[0]);
+        this.artefactClassesByName = Collections.unmodifiableMap(artefactClassesByName);
 
         // Tell all artefact handlers to init now we've worked out which classes are which artefacts
         for (ArtefactHandler artefactHandler : this.artefactHandlers) {
@@ -425,13 +443,7 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
      * @return true if it is an artefact
      */
     public boolean isArtefact(Class<?> theClazz) {
-        String className = theClazz.getName();
-        for (Class<?> artefactClass : this.allArtefactClasses) {
-            if (className.equals(artefactClass.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return this.artefactClassesByName.containsKey(theClazz.getName());
     }
 
     /**
@@ -477,6 +489,14 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
     }
 
     public ArtefactHandler getArtefactType(Class<?> theClass) {
+        ArtefactClassEntry entry = this.artefactClassesByName.get(theClass.getName());
+        if (entry != null && entry.artefactClass == theClass) {
+            ArtefactHandler handler = this.artefactHandlersByName.get(entry.artefactType);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        // a reloaded class may have become an artefact of another type
         for (ArtefactHandler artefactHandler : this.artefactHandlers) {
             if (artefactHandler.isArtefact(theClass)) {
                 return artefactHandler;
@@ -589,6 +609,7 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
         this.artefactHandlersByName.clear();
         updateArtefactHandlers();
         this.artefactInfo.clear();
+        this.artefactClassesByName = Collections.emptyMap();
         initialise();
     }
 
@@ -649,53 +670,42 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
     public Object invokeMethod(String methodName, Object args) {
         Object[] argsv = (Object[]) args;
 
-        Matcher match = GETCLASS_PATTERN.matcher(methodName);
-        // look for getXXXXClass(y)
-        match.find();
-        if (match.matches()) {
-            if (argsv.length > 0) {
-                if (argsv[0] instanceof CharSequence) {
-                    argsv[0] = argsv[0].toString();
+        DynamicArtefactMethod method = this.dynamicArtefactMethods.computeIfAbsent(methodName, DynamicArtefactMethod::forMethod);
+        switch (method.kind) {
+            case GET_CLASS:
+                // look for getXXXXClass(y)
+                if (argsv.length > 0) {
+                    if (argsv[0] instanceof CharSequence) {
+                        argsv[0] = argsv[0].toString();
+                    }
+                    if ((argsv.length != 1) || !(argsv[0] instanceof String)) {
+                        throw new IllegalArgumentException(
+                                "Dynamic method get<Artefact>Class(artefactName) requires a single String parameter");
+                    }
+                    return getArtefact(method.artefactName, argsv[0].toString());
                 }
-                if ((argsv.length != 1) || !(argsv[0] instanceof String)) {
+
+                // It's a no-param getter
+                return super.invokeMethod(methodName, args);
+            case IS_CLASS:
+                // look for isXXXXClass(y)
+                if ((argsv.length != 1) || !(argsv[0] instanceof Class<?>)) {
                     throw new IllegalArgumentException(
-                            "Dynamic method get<Artefact>Class(artefactName) requires a single String parameter");
+                            "Dynamic method is<Artefact>Class(artefactClass) requires a single Class parameter");
                 }
-                return getArtefact(match.group(2), argsv[0].toString());
-            }
 
-            // It's a no-param getter
-            return super.invokeMethod(methodName, args);
-        }
-
-        // look for isXXXXClass(y)
-        match = ISCLASS_PATTERN.matcher(methodName);
-        // find match
-        match.find();
-        if (match.matches()) {
-            if ((argsv.length != 1) || !(argsv[0] instanceof Class<?>)) {
-                throw new IllegalArgumentException(
-                        "Dynamic method is<Artefact>Class(artefactClass) requires a single Class parameter");
-            }
-
-            return isArtefactOfType(match.group(2), (Class<?>) argsv[0]);
-        }
-
-        // look for getXXXXClasses
-        match = GETCLASSESMETH_PATTERN.matcher(methodName);
-        // find match
-        match.find();
-        if (match.matches()) {
-            String artefactName = GrailsNameUtils.getClassNameRepresentation(match.group(2));
-            if (this.artefactHandlersByName.containsKey(artefactName)) {
-                return getArtefacts(match.group(2));
-            }
+                return isArtefactOfType(method.artefactName, (Class<?>) argsv[0]);
+            case GET_CLASSES:
+                // look for getXXXXClasses
+                if (this.artefactHandlersByName.containsKey(method.artefactType)) {
+                    return getArtefacts(method.artefactName);
+                }
 
-            throw new IllegalArgumentException("Dynamic method get<Artefact>Classes() called for " +
-                    "unrecognized artefact: " + match.group(2));
+                throw new IllegalArgumentException("Dynamic method get<Artefact>Classes() called for " +
+                        "unrecognized artefact: " + method.artefactName);
+            default:
+                return super.invokeMethod(methodName, args);
         }
-
-        return super.invokeMethod(methodName, args);
     }
 
     /**
@@ -707,14 +717,9 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
     @Override
     public Object getProperty(String propertyName) {
         // look for getXXXXClasses
-        Matcher match = GETCLASSESPROP_PATTERN.matcher(propertyName);
-        // find match
-        match.find();
-        if (match.matches()) {
-            String artefactName = GrailsNameUtils.getClassNameRepresentation(match.group(1));
-            if (this.artefactHandlersByName.containsKey(artefactName)) {
-                return getArtefacts(artefactName);
-            }
+        DynamicArtefactMethod property = this.dynamicArtefactProperties.computeIfAbsent(propertyName, DynamicArtefactMethod::forProperty);
+        if (property.kind == DynamicArtefactKind.GET_CLASSES && this.artefactHandlersByName.containsKey(property.artefactType)) {
+            return getArtefacts(property.artefactType);
         }
         return super.getProperty(propertyName);
     }
@@ -871,5 +876,78 @@ public class DefaultGrailsApplication extends AbstractGrailsApplication implemen
         this.mappingContext = mappingContext;
     }
 
-}
+    /**
+     * An artefact class and the type of artefact it has been identified as.
+     */
+    private static final class ArtefactClassEntry {
+
+        private final Class<?> artefactClass;
+
+        private final String artefactType;
 
+        private ArtefactClassEntry(Class<?> artefactClass, String artefactType) {
+            this.artefactClass = artefactClass;
+            this.artefactType = artefactType;
+        }
+
+    }
+
+    private enum DynamicArtefactKind {
+        GET_CLASS, IS_CLASS, GET_CLASSES, NONE
+    }
+
+    /**
+     * A dynamic artefact method or property, resolved from its name once per application,
+     * the artefact handler it refers to is looked up when it is invoked.
+     */
+    private static final class DynamicArtefactMethod {
+
+        private static final DynamicArtefactMethod NONE = new DynamicArtefactMethod(DynamicArtefactKind.NONE, null, null);
+
+        private final DynamicArtefactKind kind;
+
+        /**
+         * The artefact name as it appears in the method or property name.
+         */
+        private final String artefactName;
+
+        /**
+         * The artefact name in its class name representation.
+         */
+        private final String artefactType;
+
+        private DynamicArtefactMethod(DynamicArtefactKind kind, String artefactName, String artefactType) {
+            this.kind = kind;
+            this.artefactName = artefactName;
+            this.artefactType = artefactType;
+        }
+
+        private static DynamicArtefactMethod forMethod(String methodName) {
+            Matcher match = GETCLASS_PATTERN.matcher(methodName);
+            if (match.matches()) {
+                return new DynamicArtefactMethod(DynamicArtefactKind.GET_CLASS, match.group(2), null);
+            }
+            match = ISCLASS_PATTERN.matcher(methodName);
+            if (match.matches()) {
+                return new DynamicArtefactMethod(DynamicArtefactKind.IS_CLASS, match.group(2), null);
+            }
+            match = GETCLASSESMETH_PATTERN.matcher(methodName);
+            if (match.matches()) {
+                return new DynamicArtefactMethod(DynamicArtefactKind.GET_CLASSES, match.group(2),
+                        GrailsNameUtils.getClassNameRepresentation(match.group(2)));
+            }
+            return NONE;
+        }
+
+        private static DynamicArtefactMethod forProperty(String propertyName) {
+            Matcher match = GETCLASSESPROP_PATTERN.matcher(propertyName);
+            if (match.matches()) {
+                String artefactType = GrailsNameUtils.getClassNameRepresentation(match.group(1));
+                return new DynamicArtefactMethod(DynamicArtefactKind.GET_CLASSES, match.group(1), artefactType);
+            }
+            return NONE;
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package grails.core.warmup;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.context.ApplicationContext;
+
+import grails.core.GrailsApplication;
+
+/**
+ * The context of the {@link WarmUpTask warm-up tasks}.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class WarmUpContext {
+
+    private final ApplicationContext applicationContext;
+
+    private final GrailsApplication grailsApplication;
+
+    private final List<Locale> locales;
+
+    public WarmUpContext(ApplicationContext applicationContext, GrailsApplication grailsApplication, List<Locale> locales) {
+        this.applicationContext = applicationContext;
+        this.grailsApplication = grailsApplication;
+        this.locales = List.copyOf(locales);
+    }
+
+    public ApplicationContext getApplicationContext() {
+        return this.applicationContext;
+    }
+
+    public GrailsApplication getGrailsApplication() {
+        return this.grailsApplication;
+    }
+
+    /**
+     * @return The locales to warm up, such as the locales of the message bundles
+     */
+    public List<Locale> getLocales() {
+        return this.locales;
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package grails.core.warmup;
+
+import org.springframework.core.Ordered;
+
+/**
+ * A phase of the application warm-up, which runs once the application context has been refreshed and
+ * before the application accepts traffic. Tasks populate the caches which are otherwise populated by the
+ * first requests, such as resolved views or reverse URL mappings.
+ *
+ * <p>Tasks are registered as beans and run in their {@link Ordered order} when
+ * {@link grails.config.Settings#WARMUP_ENABLED} is set.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public interface WarmUpTask extends Ordered {
+
+    /**
+     * @return The name of the phase in the warm-up report
+     */
+    String getName();
+
+    /**
+     * Warms up the caches of this phase.
+     *
+     * @param context The warm-up context
+     * @return The number of resolved items, reported with the time taken by this phase
+     * @throws Exception If the phase fails, the remaining phases run anyway
+     */
+    int warmUp(WarmUpContext context) throws Exception;
+
+    @Override
+    default int getOrder() {
+        return 0;
+    }
+
+}
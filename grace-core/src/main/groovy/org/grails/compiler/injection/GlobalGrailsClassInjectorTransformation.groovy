@@ -25,6 +25,7 @@ import org.codehaus.groovy.ast.ClassHelper
 import org.codehaus.groovy.ast.ClassNode
 import org.codehaus.groovy.ast.ModuleNode
 import org.codehaus.groovy.ast.expr.ConstantExpression
+import org.codehaus.groovy.ast.expr.Expression
 import org.codehaus.groovy.control.CompilationUnit
 import org.codehaus.groovy.control.CompilePhase
 import org.codehaus.groovy.control.SourceUnit
@@ -32,9 +33,11 @@ import org.codehaus.groovy.transform.ASTTransformation
 import org.codehaus.groovy.transform.GroovyASTTransformation
 
 import grails.artefact.Artefact
+import grails.compiler.ast.AstTransformer
 import grails.compiler.ast.ClassInjector
 import grails.core.ArtefactHandler
 
+import org.grails.core.io.support.GrailsArtefactsIndex
 import org.grails.core.io.support.GrailsFactoriesLoader
 import org.grails.io.support.GrailsResourceUtils
 import org.grails.io.support.UrlResource
@@ -54,6 +57,8 @@ class GlobalGrailsClassInjectorTransformation implements ASTTransformation, Comp
     static final ClassNode ARTEFACT_CLASS_NODE = ClassHelper.make(Artefact)
     static final ClassNode TRAIT_INJECTOR_CLASS = ClassHelper.make('grails.compiler.traits.TraitInjector')
     static final ClassNode APPLICATION_CONTEXT_COMMAND_CLASS = ClassHelper.make('grails.dev.commands.ApplicationCommand')
+    static final ClassNode CLASS_INJECTOR_CLASS = ClassHelper.make(ClassInjector)
+    static final ClassNode AST_TRANSFORMER_CLASS_NODE = ClassHelper.make(AstTransformer)
 
     CompilationUnit compilationUnit
 
@@ -67,7 +72,7 @@ class GlobalGrailsClassInjectorTransformation implements ASTTransformation, Comp
             return
         }
 
-        List<ArtefactHandler> artefactHandlers = GrailsFactoriesLoader.loadFactories(ArtefactHandler)
+        List<ArtefactHandler> artefactHandlers = getArtefactHandlers()
         ClassInjector[] classInjectors = GrailsAwareInjectionOperation.getClassInjectors()
 
         Map<String, List<ClassInjector>> injectorsCache = new HashMap<String, List<ClassInjector>>().withDefault { String key ->
@@ -77,6 +82,7 @@ class GlobalGrailsClassInjectorTransformation implements ASTTransformation, Comp
         File compilationTargetDirectory = resolveCompilationTargetDirectory(source)
 
         Set<String> transformedClasses = []
+        Map<String, List<String>> artefactClasses = [:]
         List<ClassNode> classes = new ArrayList<>(ast.getClasses())
         for (ClassNode classNode : classes) {
             String classNodeName = classNode.name
@@ -90,8 +96,13 @@ class GlobalGrailsClassInjectorTransformation implements ASTTransformation, Comp
             if (updateGrailsFactoriesWithType(classNode, TRAIT_INJECTOR_CLASS, compilationTargetDirectory)) {
                 continue
             }
+            if (classNode.getAnnotations(AST_TRANSFORMER_CLASS_NODE) &&
+                    updateGrailsFactoriesWithType(classNode, CLASS_INJECTOR_CLASS, compilationTargetDirectory)) {
+                continue
+            }
 
             if (!GrailsResourceUtils.isGrailsResource(new UrlResource(url))) {
+                collectArtefactClass(classNode, artefactClasses)
                 continue
             }
 
@@ -117,6 +128,7 @@ class GlobalGrailsClassInjectorTransformation implements ASTTransformation, Comp
                     }
                 }
             }
+            collectArtefactClass(classNode, artefactClasses)
 
             if (!transformedClasses.contains(classNodeName)) {
                 ClassInjector[] globalClassInjectors = GrailsAwareInjectionOperation.globalClassInjectors
@@ -126,6 +138,58 @@ class GlobalGrailsClassInjectorTransformation implements ASTTransformation, Comp
                 }
             }
         }
+
+        if (artefactClasses) {
+            updateArtefactsIndex(artefactClasses, compilationTargetDirectory)
+        }
+    }
+
+    private static void collectArtefactClass(ClassNode classNode, Map<String, List<String>> artefactClasses) {
+        if (Modifier.isAbstract(classNode.getModifiers())) {
+            return
+        }
+        List<AnnotationNode> annotations = classNode.getAnnotations(ARTEFACT_CLASS_NODE)
+        if (annotations) {
+            Expression type = annotations.get(0).getMember('value')
+            if (type instanceof ConstantExpression) {
+                String artefactType = ((ConstantExpression) type).value.toString()
+                artefactClasses.computeIfAbsent(artefactType, (String key) -> new ArrayList<String>()).add(classNode.name)
+            }
+        }
+    }
+
+    /**
+     * Adds the given artefact classes to the artefacts index, see {@link GrailsArtefactsIndex}
+     *
+     * @param artefactClasses The artefact class names keyed by artefact type
+     * @param compilationTargetDirectory The compilation target directory
+     */
+    static void updateArtefactsIndex(Map<String, List<String>> artefactClasses, File compilationTargetDirectory) {
+        Properties props = new Properties()
+
+        File indexFile = new File(compilationTargetDirectory, GrailsArtefactsIndex.INDEX_RESOURCE_LOCATION)
+        if (!indexFile.parentFile.exists()) {
+            indexFile.parentFile.mkdirs()
+        }
+        if (indexFile.exists()) {
+            indexFile.withInputStream { InputStream input ->
+                props.load(input)
+            }
+        }
+
+        artefactClasses.each { String artefactType, List<String> classNames ->
+            Set<String> indexed = new LinkedHashSet<>(props.getProperty(artefactType, '').tokenize(','))
+            indexed.addAll(classNames)
+            props.setProperty(artefactType, indexed.join(','))
+        }
+
+        indexFile.withWriter { Writer writer ->
+            props.store(writer, 'Grails Artefacts Index')
+        }
+    }
+
+    static List<ArtefactHandler> getArtefactHandlers() {
+        ArtefactHandlersHolder.ARTEFACT_HANDLERS
     }
 
     static File resolveCompilationTargetDirectory(SourceUnit source) {
@@ -205,4 +269,13 @@ class GlobalGrailsClassInjectorTransformation implements ASTTransformation, Comp
         sourceDirectory.parentFile
     }
 
+    /**
+     * Loads the artefact handlers once, when they are first used by a compilation
+     */
+    private static class ArtefactHandlersHolder {
+
+        static final List<ArtefactHandler> ARTEFACT_HANDLERS = GrailsFactoriesLoader.loadFactories(ArtefactHandler)
+
+    }
+
 }
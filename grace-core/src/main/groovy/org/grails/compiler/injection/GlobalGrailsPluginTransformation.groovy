@@ -41,7 +41,6 @@ import grails.plugins.GrailsPluginInfo
 import grails.plugins.metadata.GrailsPlugin
 import grails.util.GrailsNameUtils
 
-import org.grails.core.io.support.GrailsFactoriesLoader
 import org.grails.io.support.AntPathMatcher
 import org.grails.io.support.GrailsResourceUtils
 import org.grails.io.support.SpringIOUtils
@@ -72,7 +71,7 @@ class GlobalGrailsPluginTransformation implements ASTTransformation, Compilation
             return
         }
 
-        List<ArtefactHandler> artefactHandlers = GrailsFactoriesLoader.loadFactories(ArtefactHandler)
+        List<ArtefactHandler> artefactHandlers = GlobalGrailsClassInjectorTransformation.getArtefactHandlers()
 
         Set<String> transformedClasses = []
         boolean isPlugin = false
@@ -20,10 +20,10 @@ import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Properties;
 import java.util.Set;
 
 import org.codehaus.groovy.ast.ClassNode;
@@ -35,14 +35,15 @@ import org.springframework.asm.AnnotationVisitor;
 import org.springframework.asm.ClassReader;
 import org.springframework.asm.ClassVisitor;
 import org.springframework.asm.Opcodes;
-import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 import grails.compiler.ast.AstTransformer;
 import grails.compiler.ast.ClassInjector;
 import grails.compiler.ast.GlobalClassInjector;
 
+import org.grails.io.support.FactoriesLoaderSupport;
 import org.grails.io.support.FileSystemResource;
 import org.grails.io.support.PathMatchingResourcePatternResolver;
 import org.grails.io.support.Resource;
@@ -60,9 +61,15 @@ public class GrailsAwareInjectionOperation implements CompilationUnit.IPrimaryCl
 
     private static final String INJECTOR_CODEHAUS_SCAN_PACKAGE = "org.codehaus.groovy.grails.compiler";
 
-    private static ClassInjector[] classInjectors;
+    /**
+     * System property to scan all the classpath roots for injectors, including those registering their injectors
+     * in META-INF/grails.factories, which are otherwise loaded without scanning
+     */
+    public static final String INJECTOR_SCAN_PROPERTY = "grails.compiler.injectors.scan";
 
-    private static ClassInjector[] globalClassInjectors;
+    private static volatile ClassInjector[] classInjectors;
+
+    private static volatile ClassInjector[] globalClassInjectors;
 
     private ClassInjector[] localClassInjectors;
 
@@ -96,91 +103,151 @@ public class GrailsAwareInjectionOperation implements CompilationUnit.IPrimaryCl
         return this.localClassInjectors;
     }
 
-    @SuppressWarnings("unchecked")
-    private static void initializeState() {
+    private static synchronized void initializeState() {
         if (classInjectors != null) {
             return;
         }
+        Injectors injectors = loadInjectors(GrailsAwareInjectionOperation.class.getClassLoader(),
+                Thread.currentThread().getContextClassLoader(), Boolean.getBoolean(INJECTOR_SCAN_PROPERTY));
+        injectors.sort();
+        globalClassInjectors = injectors.globalInjectors.toArray(new ClassInjector[0]);
+        classInjectors = injectors.injectors.toArray(new ClassInjector[0]);
+    }
 
-        String pattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
-                ClassUtils.convertClassNameToResourcePath(INJECTOR_CODEHAUS_SCAN_PACKAGE) + "/**/*.class";
-
-        String pattern2 = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
-                ClassUtils.convertClassNameToResourcePath(INJECTOR_SCAN_PACKAGE) + "/**/*.class";
+    /**
+     * Loads the injectors registered in META-INF/grails.factories and scans the classpath roots which don't
+     * register their injectors there, so that injectors of libraries built without a grails.factories entry are
+     * found as well.
+     *
+     * @param classLoader The ClassLoader to load the injectors with
+     * @param fallbackClassLoader The ClassLoader used when the first one doesn't find any injector
+     * @param scanAll Whether to scan all the classpath roots, including those registering their injectors
+     * @return The injectors
+     */
+    static Injectors loadInjectors(ClassLoader classLoader, ClassLoader fallbackClassLoader, boolean scanAll) {
+        Injectors injectors = new Injectors();
+        Set<String> indexedRoots = new HashSet<>();
+        if (!scanAll) {
+            loadFromFactories(classLoader, indexedRoots, injectors);
+            if (indexedRoots.isEmpty() && fallbackClassLoader != null && fallbackClassLoader != classLoader) {
+                classLoader = fallbackClassLoader;
+                loadFromFactories(classLoader, indexedRoots, injectors);
+            }
+        }
+        try {
+            int scanned = scanForInjectors(classLoader, indexedRoots, injectors);
+            if (scanned == 0 && indexedRoots.isEmpty() && fallbackClassLoader != null && fallbackClassLoader != classLoader) {
+                scanForInjectors(fallbackClassLoader, indexedRoots, injectors);
+            }
+        }
+        catch (IOException ignored) {
+        }
+        return injectors;
+    }
 
-        ClassLoader classLoader = GrailsAwareInjectionOperation.class.getClassLoader();
-        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
-        Resource[] resources;
+    /**
+     * Loads the injectors registered in META-INF/grails.factories, which avoids scanning the classpath roots
+     * containing them.
+     *
+     * @param classLoader The ClassLoader
+     * @param indexedRoots The classpath roots registering injectors, the roots of the loaded factories are added
+     * @param injectors The injectors to add to
+     */
+    private static void loadFromFactories(ClassLoader classLoader, Set<String> indexedRoots, Injectors injectors) {
+        if (classLoader == null) {
+            return;
+        }
+        String factoryClassName = ClassInjector.class.getName();
+        Enumeration<URL> urls;
         try {
-            resources = scanForPatterns(resolver, pattern2, pattern);
-            if (resources.length == 0) {
-                classLoader = Thread.currentThread().getContextClassLoader();
-                resolver = new PathMatchingResourcePatternResolver(classLoader);
-                resources = scanForPatterns(resolver, pattern2, pattern);
+            urls = classLoader.getResources(FactoriesLoaderSupport.FACTORIES_RESOURCE_LOCATION);
+        }
+        catch (IOException ignored) {
+            return;
+        }
+        while (urls.hasMoreElements()) {
+            URL url = urls.nextElement();
+            Properties properties = new Properties();
+            try (InputStream input = url.openStream()) {
+                properties.load(input);
             }
-            List<ClassInjector> injectors = new ArrayList<>();
-            List<ClassInjector> globalInjectors = new ArrayList<>();
-            Set<Class> injectorClasses = new HashSet<>();
-            for (Resource resource : resources) {
-                // ignore not readable classes and closures
-                if (!resource.isReadable() || resource.getFilename().contains("$_")) {
-                    continue;
+            catch (IOException ignored) {
+                continue;
+            }
+            String injectorClassNames = properties.getProperty(factoryClassName);
+            if (injectorClassNames == null) {
+                continue;
+            }
+            indexedRoots.add(getClasspathRoot(url, FactoriesLoaderSupport.FACTORIES_RESOURCE_LOCATION));
+            for (String injectorClassName : StringUtils.commaDelimitedListToStringArray(injectorClassNames)) {
+                try {
+                    Class<?> injectorClass = ClassUtils.forName(injectorClassName.trim(), classLoader);
+                    if (injectorClass.isAnnotationPresent(AstTransformer.class)) {
+                        injectors.add(injectorClass);
+                    }
                 }
-
-                try (InputStream inputStream = resource.getInputStream()) {
-                    ClassReader classReader = new ClassReader(inputStream);
-                    String astTransformerClassName = AstTransformer.class.getSimpleName();
-                    ClassLoader finalClassLoader = classLoader;
-
-                    classReader.accept(new ClassVisitor(Opcodes.ASM9) {
-                        @Override
-                        public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
-                            try {
-                                if (visible && desc.contains(astTransformerClassName)) {
-                                    Class<?> injectorClass = finalClassLoader.loadClass(classReader.getClassName().replace('/', '.'));
-                                    if (injectorClasses.contains(injectorClass)) {
-                                        return super.visitAnnotation(desc, true);
-                                    }
-                                    if (ClassInjector.class.isAssignableFrom(injectorClass)) {
-
-                                        injectorClasses.add(injectorClass);
-                                        ClassInjector classInjector = (ClassInjector) ReflectionUtils.accessibleConstructor(injectorClass)
-                                                .newInstance();
-                                        injectors.add(classInjector);
-                                        if (GlobalClassInjector.class.isAssignableFrom(injectorClass)) {
-                                            globalInjectors.add(classInjector);
-                                        }
-                                    }
-                                }
-                            }
-                            catch (ClassNotFoundException | InstantiationException | IllegalAccessException
-                                   | InvocationTargetException | NoSuchMethodException ignored) {
-                            }
-                            return super.visitAnnotation(desc, visible);
-                        }
-                    }, ClassReader.SKIP_CODE);
+                catch (ClassNotFoundException | LinkageError | InstantiationException | IllegalAccessException
+                       | InvocationTargetException | NoSuchMethodException ignored) {
+                    // not creatable in current context, ignore
                 }
             }
+        }
+    }
 
-            Collections.sort(injectors, (classInjectorA, classInjectorB) -> {
-                if (classInjectorA instanceof Comparable) {
-                    return ((Comparable) classInjectorA).compareTo(classInjectorB);
+    /**
+     * Scans the injector packages of the classpath roots which don't register their injectors in grails.factories.
+     *
+     * @return The number of scanned package directories
+     */
+    private static int scanForInjectors(ClassLoader classLoader, Set<String> indexedRoots, Injectors injectors) throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        int scanned = 0;
+        for (String scanPackage : new String[] { INJECTOR_SCAN_PACKAGE, INJECTOR_CODEHAUS_SCAN_PACKAGE }) {
+            String packagePath = ClassUtils.convertClassNameToResourcePath(scanPackage) + "/";
+            Enumeration<URL> packageDirectories = classLoader.getResources(packagePath);
+            while (packageDirectories.hasMoreElements()) {
+                URL packageDirectory = packageDirectories.nextElement();
+                scanned++;
+                if (indexedRoots.contains(getClasspathRoot(packageDirectory, packagePath))) {
+                    continue;
                 }
-                return 0;
-            });
-            classInjectors = injectors.toArray(new ClassInjector[0]);
-            globalClassInjectors = globalInjectors.toArray(new ClassInjector[0]);
-        }
-        catch (IOException ignored) {
+                for (Resource resource : resolver.getResources(packageDirectory + "**/*.class")) {
+                    // ignore not readable classes and closures
+                    if (!resource.isReadable() || resource.getFilename().contains("$_")) {
+                        continue;
+                    }
+                    scanResource(resource, classLoader, injectors);
+                }
+            }
         }
+        return scanned;
     }
 
-    private static Resource[] scanForPatterns(PathMatchingResourcePatternResolver resolver, String... patterns) throws IOException {
-        List<Resource> results = new ArrayList<>();
-        for (String pattern : patterns) {
-            results.addAll(Arrays.asList(resolver.getResources(pattern)));
+    private static void scanResource(Resource resource, ClassLoader classLoader, Injectors injectors) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            ClassReader classReader = new ClassReader(inputStream);
+            String astTransformerClassName = AstTransformer.class.getSimpleName();
+
+            classReader.accept(new ClassVisitor(Opcodes.ASM9) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                    try {
+                        if (visible && desc.contains(astTransformerClassName)) {
+                            injectors.add(classLoader.loadClass(classReader.getClassName().replace('/', '.')));
+                        }
+                    }
+                    catch (ClassNotFoundException | LinkageError | InstantiationException | IllegalAccessException
+                           | InvocationTargetException | NoSuchMethodException ignored) {
+                    }
+                    return super.visitAnnotation(desc, visible);
+                }
+            }, ClassReader.SKIP_CODE);
         }
-        return results.toArray(new Resource[0]);
+    }
+
+    private static String getClasspathRoot(URL resource, String location) {
+        String url = resource.toString();
+        return url.endsWith(location) ? url.substring(0, url.length() - location.length()) : url;
     }
 
     @Override
@@ -208,4 +275,39 @@ public class GrailsAwareInjectionOperation implements CompilationUnit.IPrimaryCl
         }
     }
 
+    /**
+     * The injectors found on the classpath, each injector class is only instantiated once
+     */
+    static final class Injectors {
+
+        final List<ClassInjector> injectors = new ArrayList<>();
+
+        final List<ClassInjector> globalInjectors = new ArrayList<>();
+
+        private final Set<Class<?>> injectorClasses = new HashSet<>();
+
+        void add(Class<?> injectorClass)
+                throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+            if (ClassInjector.class.isAssignableFrom(injectorClass) && this.injectorClasses.add(injectorClass)) {
+                ClassInjector classInjector = (ClassInjector) ReflectionUtils.accessibleConstructor(injectorClass)
+                        .newInstance();
+                this.injectors.add(classInjector);
+                if (GlobalClassInjector.class.isAssignableFrom(injectorClass)) {
+                    this.globalInjectors.add(classInjector);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void sort() {
+            this.injectors.sort((classInjectorA, classInjectorB) -> {
+                if (classInjectorA instanceof Comparable) {
+                    return ((Comparable) classInjectorA).compareTo(classInjectorB);
+                }
+                return 0;
+            });
+        }
+
+    }
+
 }
@@ -36,6 +36,7 @@ import grails.util.Environment;
 import grails.util.Holders;
 import grails.util.Metadata;
 
+import org.grails.config.NavigableMapConfig;
 import org.grails.config.PropertySourcesConfig;
 
 public abstract class AbstractGrailsApplication extends GroovyObjectSupport
@@ -86,6 +87,9 @@ public abstract class AbstractGrailsApplication extends GroovyObjectSupport
 
     @Override
     public void configChanged() {
+        if (this.config instanceof NavigableMapConfig) {
+            ((NavigableMapConfig) this.config).refreshSnapshot();
+        }
         ArtefactHandler[] handlers = getArtefactHandlers();
         if (handlers != null) {
             for (ArtefactHandler handler : handlers) {
@@ -0,0 +1,55 @@
+package grails.core
+
+import spock.lang.Specification
+
+import org.grails.core.artefact.ServiceArtefactHandler
+
+class DefaultGrailsApplicationSpec extends Specification {
+
+    void "artefacts are looked up by class"() {
+        given:
+        DefaultGrailsApplication application = new DefaultGrailsApplication(BookService, Author)
+
+        when:
+        application.initialise()
+
+        then:
+        application.isArtefact(BookService)
+        !application.isArtefact(Author)
+        application.getArtefactType(BookService) instanceof ServiceArtefactHandler
+        application.getArtefactType(Author) == null
+        application.getArtefactByLogicalPropertyName(ServiceArtefactHandler.TYPE, 'book').clazz == BookService
+    }
+
+    void "dynamic artefact methods and properties are resolved"() {
+        given:
+        DefaultGrailsApplication application = new DefaultGrailsApplication(BookService)
+        application.initialise()
+
+        expect:
+        application.getServiceClass(BookService.name).clazz == BookService
+        application.isServiceClass(BookService)
+        !application.isServiceClass(Author)
+        application.getServiceClasses()*.clazz == [BookService]
+        application.serviceClasses*.clazz == [BookService]
+    }
+
+    void "dynamic methods of unknown artefacts are rejected"() {
+        given:
+        DefaultGrailsApplication application = new DefaultGrailsApplication(BookService)
+        application.initialise()
+
+        when:
+        application.getWidgetClasses()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+}
+
+class BookService {
+}
+
+class Author {
+}
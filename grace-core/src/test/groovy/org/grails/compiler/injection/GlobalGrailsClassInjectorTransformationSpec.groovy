@@ -0,0 +1,44 @@
+package org.grails.compiler.injection
+
+import java.nio.file.Files
+
+import spock.lang.Specification
+
+import org.grails.core.io.support.GrailsArtefactsIndex
+
+class GlobalGrailsClassInjectorTransformationSpec extends Specification {
+
+    void "Test that the artefacts index is generated and merged with an existing index"() {
+        given:"A compilation target directory"
+        File targetDirectory = Files.createTempDirectory('artefacts-index').toFile()
+        targetDirectory.deleteOnExit()
+
+        when:"the index is written for two compilation units"
+        GlobalGrailsClassInjectorTransformation.updateArtefactsIndex(
+                [Controller: ['foo.BookController', 'foo.AuthorController']], targetDirectory)
+        GlobalGrailsClassInjectorTransformation.updateArtefactsIndex(
+                [Controller: ['foo.Book', 'foo.BookController'], Service: ['foo.BookService']], targetDirectory)
+
+        then:"the index exists"
+        new File(targetDirectory, GrailsArtefactsIndex.INDEX_RESOURCE_LOCATION).exists()
+
+        when:"the index is read"
+        URLClassLoader classLoader = new URLClassLoader([targetDirectory.toURI().toURL()] as URL[], (ClassLoader) null)
+        Map<String, Set<String>> artefacts = GrailsArtefactsIndex.loadArtefactClassNames(classLoader)
+
+        then:"all artefact classes are listed once in compilation order"
+        GrailsArtefactsIndex.exists(classLoader)
+        artefacts.Controller as List == ['foo.BookController', 'foo.AuthorController', 'foo.Book']
+        artefacts.Service as List == ['foo.BookService']
+    }
+
+    void "Test that no artefacts are returned when there is no index"() {
+        given:
+        ClassLoader classLoader = new URLClassLoader([] as URL[], (ClassLoader) null)
+
+        expect:
+        !GrailsArtefactsIndex.exists(classLoader)
+        GrailsArtefactsIndex.loadArtefactClassNames(classLoader).isEmpty()
+    }
+
+}
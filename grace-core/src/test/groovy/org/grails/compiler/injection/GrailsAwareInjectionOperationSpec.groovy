@@ -0,0 +1,68 @@
+package org.grails.compiler.injection
+
+import org.codehaus.groovy.control.CompilationUnit
+import org.codehaus.groovy.control.CompilerConfiguration
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import grails.compiler.ast.ClassInjector
+
+import org.grails.io.support.FactoriesLoaderSupport
+
+class GrailsAwareInjectionOperationSpec extends Specification {
+
+    @TempDir
+    File classesDir
+
+    void "Test that the injectors registered in grails.factories are loaded"() {
+        when:
+        ClassInjector[] injectors = GrailsAwareInjectionOperation.classInjectors
+        String[] registered = FactoriesLoaderSupport.loadFactoryNames(ClassInjector, GrailsAwareInjectionOperation.classLoader)
+
+        then:
+        registered.contains(ApplicationClassInjector.name)
+        registered.contains(DefaultGrailsDomainClassInjector.name)
+        injectors.find { it instanceof ApplicationClassInjector }
+        injectors.find { it instanceof DefaultGrailsDomainClassInjector }
+        GrailsAwareInjectionOperation.globalClassInjectors.every { it in injectors }
+    }
+
+    void "Test that the injectors of classpath roots without grails.factories are scanned"() {
+        given: "an injector in a classpath root, which doesn't register it in grails.factories"
+        CompilerConfiguration configuration = new CompilerConfiguration(targetDirectory: classesDir)
+        CompilationUnit compilationUnit = new CompilationUnit(configuration)
+        compilationUnit.addSource('ScannedInjector.groovy', '''
+package org.grails.compiler.scanned
+
+import org.codehaus.groovy.ast.ClassNode
+import org.codehaus.groovy.classgen.GeneratorContext
+import org.codehaus.groovy.control.SourceUnit
+
+import grails.compiler.ast.AstTransformer
+import grails.compiler.ast.ClassInjector
+
+@AstTransformer
+class ScannedInjector implements ClassInjector {
+    void performInjection(SourceUnit source, GeneratorContext context, ClassNode classNode) {}
+    void performInjection(SourceUnit source, ClassNode classNode) {}
+    void performInjectionOnAnnotatedClass(SourceUnit source, ClassNode classNode) {}
+    boolean shouldInject(URL url) { false }
+}
+''')
+        compilationUnit.compile()
+        URLClassLoader classLoader = new URLClassLoader([classesDir.toURI().toURL()] as URL[], GrailsAwareInjectionOperation.classLoader)
+
+        when:
+        List<ClassInjector> injectors = GrailsAwareInjectionOperation.loadInjectors(classLoader, null, false).injectors
+
+        then: "the scanned injector is merged with the registered ones"
+        injectors.find { it.class.name == 'org.grails.compiler.scanned.ScannedInjector' }
+        injectors.find { it instanceof ApplicationClassInjector }
+        injectors.find { it instanceof DefaultGrailsDomainClassInjector }
+        injectors*.class.unique().size() == injectors.size()
+
+        cleanup:
+        classLoader?.close()
+    }
+
+}
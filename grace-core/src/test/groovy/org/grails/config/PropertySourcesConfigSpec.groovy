@@ -7,6 +7,8 @@ import spock.lang.Ignore
 import spock.lang.Issue
 import spock.lang.Specification
 
+import grails.config.ConfigKey
+
 import jakarta.persistence.FlushModeType
 
 /*
@@ -92,6 +94,34 @@ class PropertySourcesConfigSpec extends Specification {
         !(securityConfig.filterChain.chainMap instanceof NavigableMap)
     }
 
+    void "Test config keys are read from the snapshot until the config changes"() {
+        given:
+        def config = new PropertySourcesConfig([grails: [mime: [file: [extensions: false]], views: [codecs: [gsp: 'html']]]])
+        ConfigKey<Boolean> extensions = ConfigKey.of('grails.mime.file.extensions', Boolean, true)
+        ConfigKey<Map> codecs = ConfigKey.of('grails.views.codecs', Map)
+
+        expect:
+        ConfigKey.of('grails.mime.file.extensions', Boolean, true).is(extensions)
+        extensions.get(config) == false
+        config.getSnapshot().is(config.getSnapshot())
+        codecs.get(config) == [gsp: 'html']
+        codecs.get(config).is(codecs.get(config))
+
+        when:
+        codecs.get(config).put('json', 'none')
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        config.merge([grails: [mime: [file: [extensions: 'true']]]])
+
+        then:
+        extensions.get(config) == true
+        ConfigKey.of('grails.missing', String, 'default').get(config) == 'default'
+        ConfigKey.of('grails.missing', String).get(config) == null
+    }
+
     /*
 
       We need to settle on whether the following is a bug or not.
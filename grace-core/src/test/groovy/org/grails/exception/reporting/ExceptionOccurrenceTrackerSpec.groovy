@@ -0,0 +1,82 @@
+package org.grails.exception.reporting
+
+import org.grails.exceptions.reporting.ExceptionOccurrenceTracker
+import spock.lang.Specification
+
+class ExceptionOccurrenceTrackerSpec extends Specification {
+
+    void "Test that the full stack trace of identical exceptions is logged once per interval"() {
+        given: "A tracker with a long log interval"
+            def tracker = new ExceptionOccurrenceTracker(logInterval: 60000)
+            def exception = new IllegalStateException("bad things happened")
+
+        expect: "The first occurrence is logged and the following ones are suppressed"
+            tracker.record(exception) == 0
+            tracker.record(exception) == ExceptionOccurrenceTracker.SUPPRESSED
+            tracker.record(exception) == ExceptionOccurrenceTracker.SUPPRESSED
+
+        and: "All occurrences are counted"
+            tracker.occurrenceCounts.size() == 1
+            tracker.occurrenceCounts.values().first() == 3
+    }
+
+    void "Test that different exceptions have different fingerprints"() {
+        given:
+            def tracker = new ExceptionOccurrenceTracker(logInterval: 60000)
+
+        expect:
+            tracker.record(new IllegalStateException()) == 0
+            tracker.record(new IllegalArgumentException()) == 0
+            tracker.occurrenceCounts.size() == 2
+    }
+
+    void "Test that the number of suppressed occurrences is reported when the interval has elapsed"() {
+        given:
+            def tracker = new ExceptionOccurrenceTracker(logInterval: 50)
+            def exception = new IllegalStateException()
+
+        when:
+            tracker.record(exception)
+            tracker.record(exception)
+            tracker.record(exception)
+            sleep(100)
+
+        then:
+            tracker.record(exception) == 2
+    }
+
+    void "Test that every occurrence is logged when the interval is disabled"() {
+        given:
+            def tracker = new ExceptionOccurrenceTracker(logInterval: 0)
+            def exception = new IllegalStateException()
+
+        expect:
+            tracker.record(exception) == 0
+            tracker.record(exception) == 0
+    }
+
+    void "Test that recording the same exception again doesn't count another occurrence"() {
+        given:
+            def tracker = new ExceptionOccurrenceTracker(logInterval: 60000)
+            def first = new IllegalStateException()
+            def second = new IllegalStateException()
+            second.stackTrace = first.stackTrace
+
+        expect:
+            tracker.record(first) == 0
+            tracker.record(first) == 0
+            tracker.record(second) == ExceptionOccurrenceTracker.SUPPRESSED
+            tracker.record(second) == ExceptionOccurrenceTracker.SUPPRESSED
+            tracker.occurrenceCounts.values().first() == 2
+    }
+
+    void "Test that every occurrence is logged by default"() {
+        given:
+            def tracker = new ExceptionOccurrenceTracker()
+            def exception = new IllegalStateException()
+
+        expect:
+            tracker.record(exception) == 0
+            tracker.record(exception) == 0
+    }
+}
@@ -1,6 +1,8 @@
 package org.grails.exception.reporting
 
 import org.grails.exceptions.reporting.DefaultStackTraceFilterer
+import org.grails.exceptions.reporting.ExceptionOccurrenceTracker
+import org.grails.exceptions.reporting.PackagePrefixTrie
 import spock.lang.Specification
 
 class StackTraceFiltererSpec extends Specification {
@@ -95,6 +97,36 @@ class FooService {
         stackTraces.find { it.className.startsWith('test.FooController') && it.lineNumber == 7 }
     }
 
+    void "Test that internal packages are matched by prefix"() {
+        given:
+            def trie = new PackagePrefixTrie(['org.codehaus.groovy.runtime.', 'sun.', 'java.lang.reflect.'])
+
+        expect:
+            trie.matches('org.codehaus.groovy.runtime.InvokerHelper')
+            trie.matches('sun.reflect.NativeMethodAccessorImpl')
+            !trie.matches('org.codehaus.groovy.control.CompilationUnit')
+            !trie.matches('java.lang.String')
+            !trie.matches('sun')
+            !trie.matches('test.FooController')
+    }
+
+    void "Test that identical exceptions are filtered the same way"() {
+        given: "Two exceptions with the same stack trace"
+            def first = new RuntimeException("first")
+            def second = new RuntimeException("second")
+            second.stackTrace = first.stackTrace
+            filterer.setCutOffPackage("org.spockframework.util")
+            filterer.occurrenceTracker = new ExceptionOccurrenceTracker()
+
+        when: "The stack traces are filtered"
+            filterer.filter(first)
+            filterer.filter(second)
+
+        then: "The filtered stack traces are equal"
+            first.stackTrace == second.stackTrace
+            filterer.occurrenceTracker.occurrenceCounts.values().sum() == 2
+    }
+
     private String getExceptionContents(Throwable e) {
         final sw = new StringWriter()
         def pw = new PrintWriter(sw)
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.buffer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.grails.encoder.DefaultEncodingStateRegistry;
+import org.grails.encoder.Encoder;
+import org.grails.encoder.EncodingStateRegistry;
+import org.grails.encoder.impl.HTMLEncoder;
+
+/**
+ * Renders a data grid page, a table of numbers, booleans, enums and strings, the way a GSP page writes
+ * its expressions to an HTML encoding {@link GrailsPrintWriter}.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataGridBenchmark {
+
+    private static final Encoder HTML_ENCODER = new HTMLEncoder();
+
+    @Param({ "100", "1000" })
+    private int rows;
+
+    private Object[][] cells;
+
+    @Setup
+    public void setUp() {
+        Status[] statuses = Status.values();
+        this.cells = new Object[this.rows][];
+        for (int i = 0; i < this.rows; i++) {
+            this.cells[i] = new Object[] {
+                    i,
+                    (long) i * 1000L,
+                    i * 1.25d,
+                    i % 2 == 0,
+                    statuses[i % statuses.length],
+                    "Item <" + i + ">"
+            };
+        }
+    }
+
+    @Benchmark
+    public StreamCharBuffer renderDataGrid() {
+        StreamCharBuffer buffer = new StreamCharBuffer();
+        EncodingStateRegistry registry = new DefaultEncodingStateRegistry();
+        GrailsPrintWriter staticOut = new GrailsPrintWriter(buffer.getWriter());
+        GrailsPrintWriter out = new GrailsPrintWriter(buffer.getWriterForEncoder(HTML_ENCODER, registry));
+
+        staticOut.print("<table class=\"grid\">\n<tbody>\n");
+        for (Object[] row : this.cells) {
+            staticOut.print("<tr>");
+            for (Object cell : row) {
+                staticOut.print("<td>");
+                out.print(cell);
+                staticOut.print("</td>");
+            }
+            staticOut.print("</tr>\n");
+        }
+        staticOut.print("</tbody>\n</table>\n");
+        out.flush();
+        return buffer;
+    }
+
+    enum Status {
+        ACTIVE, SUSPENDED, CLOSED
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.buffer;
+
+/**
+ * Looks up the {@link BufferChunkPool.Lease} of the current request.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public interface BufferChunkLeaseLookup {
+
+    /**
+     * Lookup the lease.
+     *
+     * @return the lease of the current request, or null if there is no current request
+     */
+    BufferChunkPool.Lease lookup();
+
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of the {@code char[]} and {@code byte[]} chunks used by {@link StreamCharBuffer} and
+ * {@link StreamByteBuffer}.
+ *
+ * <p>Chunks are pooled in power of two size classes from 256 to 1M elements, in free lists which are striped by
+ * thread to avoid contention. Buffers don't acquire chunks from the pool directly, but from the {@link Lease}
+ * of the current request, which is looked up with the registered {@link BufferChunkLeaseLookup}. When the
+ * request is completed, the lease marks all the buffers that have acquired chunks as released and returns
+ * the chunks to the pool. A released buffer throws an {@link IllegalStateException} when it is read or written,
+ * so content that has to outlive the request, for example in the session or in a cache, must be converted
+ * to a String.</p>
+ *
+ * <p>The pool is disabled by default, it is enabled with the system property {@code grails.buffer.pool.enabled}.
+ * The number of bytes kept in the pool is limited by {@code grails.buffer.pool.maxBytes}, defaults to 32MB, and
+ * the number of bytes a single request can lease is limited by {@code grails.buffer.pool.maxLeasedBytes},
+ * defaults to 4MB. Buffers allocate the chunks beyond these limits from the heap.</p>
+ *
+ * <p>The hits, misses and leased bytes of the shared pool are published as {@code grails.buffer.pool.*} meters
+ * when Micrometer is configured by the Spring Boot actuator.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class BufferChunkPool {
+
+    public static final String ENABLED_PROPERTY = "grails.buffer.pool.enabled";
+
+    public static final String MAX_POOLED_BYTES_PROPERTY = "grails.buffer.pool.maxBytes";
+
+    public static final String MAX_LEASED_BYTES_PROPERTY = "grails.buffer.pool.maxLeasedBytes";
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 8;
+
+    private static final int MAX_SIZE_CLASS_SHIFT = 20;
+
+    private static final int SIZE_CLASS_COUNT = MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1;
+
+    private static volatile BufferChunkPool sharedInstance = Boolean.getBoolean(ENABLED_PROPERTY) ?
+            new BufferChunkPool(Long.getLong(MAX_POOLED_BYTES_PROPERTY, 32L * 1024 * 1024),
+                    Long.getLong(MAX_LEASED_BYTES_PROPERTY, 4L * 1024 * 1024)) : null;
+
+    private static volatile BufferChunkLeaseLookup leaseLookup;
+
+    private final long maxPooledBytes;
+
+    private final long maxLeasedBytes;
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    private final AtomicLong pooledBytes = new AtomicLong();
+
+    private final LongAdder leasedBytes = new LongAdder();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder discarded = new LongAdder();
+
+    /**
+     * Creates a new pool.
+     * @param maxPooledBytes the maximum number of bytes kept in the pool
+     * @param maxLeasedBytes the maximum number of bytes a single lease can acquire from the pool
+     */
+    public BufferChunkPool(long maxPooledBytes, long maxLeasedBytes) {
+        this.maxPooledBytes = maxPooledBytes;
+        this.maxLeasedBytes = maxLeasedBytes;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * @return the pool used by the buffers, or null if pooling is disabled
+     */
+    public static BufferChunkPool getSharedInstance() {
+        return sharedInstance;
+    }
+
+    public static void setSharedInstance(BufferChunkPool pool) {
+        sharedInstance = pool;
+    }
+
+    public static void setLeaseLookup(BufferChunkLeaseLookup lookup) {
+        leaseLookup = lookup;
+    }
+
+    /**
+     * @return the lease of the current request, or null if pooling is disabled or there is no current request
+     */
+    public static Lease currentLease() {
+        BufferChunkLeaseLookup lookup = leaseLookup;
+        if (sharedInstance == null || lookup == null) {
+            return null;
+        }
+        return lookup.lookup();
+    }
+
+    /**
+     * @return a new lease which returns its chunks to this pool when released
+     */
+    public Lease createLease() {
+        return new Lease(this);
+    }
+
+    /**
+     * @return the number of chunk acquisitions which were served from the pool
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return the number of chunk acquisitions which had to allocate a new chunk
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return the ratio of chunk acquisitions served from the pool, 0 if no chunk has been acquired yet
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * @return the number of released chunks which were not pooled because the pool was full
+     */
+    public long getDiscardCount() {
+        return this.discarded.sum();
+    }
+
+    /**
+     * @return the number of bytes held by the chunks in the pool
+     */
+    public long getPooledBytes() {
+        return this.pooledBytes.get();
+    }
+
+    /**
+     * @return the number of bytes held by the chunks leased to requests which are in progress
+     */
+    public long getLeasedBytes() {
+        return this.leasedBytes.sum();
+    }
+
+    public long getMaxPooledBytes() {
+        return this.maxPooledBytes;
+    }
+
+    public long getMaxLeasedBytes() {
+        return this.maxLeasedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferChunkPool[hitRate=" + getHitRate() + ", pooledBytes=" + getPooledBytes() +
+                ", leasedBytes=" + getLeasedBytes() + ", discarded=" + getDiscardCount() + "]";
+    }
+
+    static int sizeClass(int length) {
+        if (length > (1 << MAX_SIZE_CLASS_SHIFT)) {
+            return -1;
+        }
+        int shift = 32 - Integer.numberOfLeadingZeros(Math.max(length, 1) - 1);
+        return Math.max(shift, MIN_SIZE_CLASS_SHIFT) - MIN_SIZE_CLASS_SHIFT;
+    }
+
+    private Stripe currentStripe() {
+        return this.stripes[(int) Thread.currentThread().getId() & this.stripeMask];
+    }
+
+    char[] acquireChars(int sizeClass) {
+        Stripe stripe = currentStripe();
+        char[] chars = pollChars(stripe, sizeClass);
+        for (int i = 0; chars == null && i < this.stripes.length; i++) {
+            if (this.stripes[i] != stripe) {
+                chars = pollChars(this.stripes[i], sizeClass);
+            }
+        }
+        if (chars != null) {
+            this.pooledBytes.addAndGet(-2L * chars.length);
+            this.hits.increment();
+        }
+        else {
+            chars = new char[1 << (sizeClass + MIN_SIZE_CLASS_SHIFT)];
+            this.misses.increment();
+        }
+        this.leasedBytes.add(2L * chars.length);
+        return chars;
+    }
+
+    byte[] acquireBytes(int sizeClass) {
+        Stripe stripe = currentStripe();
+        byte[] bytes = pollBytes(stripe, sizeClass);
+        for (int i = 0; bytes == null && i < this.stripes.length; i++) {
+            if (this.stripes[i] != stripe) {
+                bytes = pollBytes(this.stripes[i], sizeClass);
+            }
+        }
+        if (bytes != null) {
+            this.pooledBytes.addAndGet(-bytes.length);
+            this.hits.increment();
+        }
+        else {
+            bytes = new byte[1 << (sizeClass + MIN_SIZE_CLASS_SHIFT)];
+            this.misses.increment();
+        }
+        this.leasedBytes.add(bytes.length);
+        return bytes;
+    }
+
+    private static char[] pollChars(Stripe stripe, int sizeClass) {
+        return stripe.chars[sizeClass].poll();
+    }
+
+    private static byte[] pollBytes(Stripe stripe, int sizeClass) {
+        return stripe.bytes[sizeClass].poll();
+    }
+
+    void releaseChars(char[] chars) {
+        long size = 2L * chars.length;
+        this.leasedBytes.add(-size);
+        if (reservePooledBytes(size)) {
+            currentStripe().chars[sizeClass(chars.length)].offer(chars);
+        }
+    }
+
+    void releaseBytes(byte[] bytes) {
+        long size = bytes.length;
+        this.leasedBytes.add(-size);
+        if (reservePooledBytes(size)) {
+            currentStripe().bytes[sizeClass(bytes.length)].offer(bytes);
+        }
+    }
+
+    private boolean reservePooledBytes(long size) {
+        while (true) {
+            long current = this.pooledBytes.get();
+            if (current + size > this.maxPooledBytes) {
+                this.discarded.increment();
+                return false;
+            }
+            if (this.pooledBytes.compareAndSet(current, current + size)) {
+                return true;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class Stripe {
+
+        private final Queue<char[]>[] chars = new Queue[SIZE_CLASS_COUNT];
+
+        private final Queue<byte[]>[] bytes = new Queue[SIZE_CLASS_COUNT];
+
+        Stripe() {
+            for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+                this.chars[i] = new ConcurrentLinkedQueue<>();
+                this.bytes[i] = new ConcurrentLinkedQueue<>();
+            }
+        }
+
+    }
+
+    /**
+     * The chunks acquired by the buffers of a request. A lease is normally used by a single thread at a time,
+     * but it is handed over between threads when the request is processed asynchronously.
+     */
+    public static final class Lease {
+
+        private final BufferChunkPool pool;
+
+        private final List<char[]> chars = new ArrayList<>();
+
+        private final List<byte[]> bytes = new ArrayList<>();
+
+        private final List<Runnable> releaseCallbacks = new ArrayList<>();
+
+        private long bytesLeased;
+
+        Lease(BufferChunkPool pool) {
+            this.pool = pool;
+        }
+
+        /**
+         * Acquires a char[] chunk, which may be larger than requested.
+         *
+         * @param length the minimum length of the chunk
+         * @return the chunk, or null if the chunk can't be acquired from the pool and has to be allocated by the caller
+         */
+        synchronized char[] acquireChars(int length) {
+            int sizeClass = sizeClass(length);
+            if (sizeClass < 0 || this.bytesLeased + 2L * length > this.pool.maxLeasedBytes) {
+                return null;
+            }
+            char[] chunk = this.pool.acquireChars(sizeClass);
+            this.bytesLeased += 2L * chunk.length;
+            this.chars.add(chunk);
+            return chunk;
+        }
+
+        /**
+         * Acquires a byte[] chunk, which may be larger than requested.
+         *
+         * @param length the minimum length of the chunk
+         * @return the chunk, or null if the chunk can't be acquired from the pool and has to be allocated by the caller
+         */
+        synchronized byte[] acquireBytes(int length) {
+            int sizeClass = sizeClass(length);
+            if (sizeClass < 0 || this.bytesLeased + length > this.pool.maxLeasedBytes) {
+                return null;
+            }
+            byte[] chunk = this.pool.acquireBytes(sizeClass);
+            this.bytesLeased += chunk.length;
+            this.bytes.add(chunk);
+            return chunk;
+        }
+
+        /**
+         * Registers a callback which is invoked before the chunks are returned to the pool, buffers use it
+         * to drop their references to the chunks.
+         *
+         * @param callback the callback
+         */
+        synchronized void onRelease(Runnable callback) {
+            this.releaseCallbacks.add(callback);
+        }
+
+        /**
+         * @return the number of bytes held by the chunks of this lease
+         */
+        public synchronized long getLeasedBytes() {
+            return this.bytesLeased;
+        }
+
+        /**
+         * Releases the buffers which have acquired chunks from this lease and returns the chunks to the pool.
+         * The lease can be used again afterwards.
+         */
+        public synchronized void release() {
+            for (Runnable callback : this.releaseCallbacks) {
+                callback.run();
+            }
+            this.releaseCallbacks.clear();
+            for (char[] chunk : this.chars) {
+                this.pool.releaseChars(chunk);
+            }
+            this.chars.clear();
+            for (byte[] chunk : this.bytes) {
+                this.pool.releaseBytes(chunk);
+            }
+            this.bytes.clear();
+            this.bytesLeased = 0;
+        }
+
+    }
+
+}
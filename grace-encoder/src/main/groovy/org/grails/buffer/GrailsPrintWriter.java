@@ -18,6 +18,8 @@ package org.grails.buffer;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import groovy.lang.GroovyObject;
 import groovy.lang.MetaClass;
@@ -62,6 +64,8 @@ public class GrailsPrintWriter extends Writer implements GrailsWrappedWriter, En
 
     protected Writer previousOut = null;
 
+    private char[] valueBuffer;
+
     public GrailsPrintWriter(Writer out) {
         this.metaClass = InvokerHelper.getMetaClass(this.getClass());
         setOut(out);
@@ -136,6 +140,9 @@ public class GrailsPrintWriter extends Writer implements GrailsWrappedWriter, En
                 handleIOException(e);
             }
         }
+        else if (isEncodingStateFree(clazz, obj)) {
+            writeEncodingStateFree(obj.toString());
+        }
         else {
             InvokerHelper.write(this, obj);
         }
@@ -238,11 +245,57 @@ public class GrailsPrintWriter extends Writer implements GrailsWrappedWriter, En
                 handleIOException(e);
             }
         }
+        else if (isEncodingStateFree(clazz, obj)) {
+            writeEncodingStateFree(obj.toString());
+        }
         else {
             write(String.valueOf(obj));
         }
     }
 
+    /**
+     * Checks whether the string value of the object is created on every call, so that it cannot have
+     * been encoded before and looking up its encoding state can be skipped.
+     *
+     * @param clazz The class of the object
+     * @param obj The object
+     * @return true for numbers, booleans and enum constants which print their name
+     */
+    protected boolean isEncodingStateFree(Class<?> clazz, Object obj) {
+        if (clazz == Integer.class || clazz == Long.class || clazz == Boolean.class || clazz == Double.class ||
+                clazz == Float.class || clazz == Short.class || clazz == Byte.class ||
+                clazz == BigDecimal.class || clazz == BigInteger.class) {
+            return true;
+        }
+        if (obj instanceof Enum) {
+            // an enum which overrides toString might return an encoded string
+            Enum<?> constant = (Enum<?>) obj;
+            return constant.toString() == constant.name();
+        }
+        return false;
+    }
+
+    /**
+     * Writes a string which has never been encoded. The characters are written as an array, which
+     * encoding writers apply their encoder to without looking up the encoding state of the string.
+     *
+     * @param s The string to be written
+     */
+    protected void writeEncodingStateFree(String s) {
+        int len = s.length();
+        if (len == 0) {
+            this.usageFlag = true;
+            return;
+        }
+        char[] buf = this.valueBuffer;
+        if (buf == null || buf.length < len) {
+            buf = new char[Math.max(len, 32)];
+            this.valueBuffer = buf;
+        }
+        s.getChars(0, len, buf, 0);
+        write(buf, 0, len);
+    }
+
     /**
      * Print a string. If the argument is <code>null</code> then the string
      * <code>""</code> is printed. Otherwise, the string's characters are
@@ -353,10 +406,10 @@ public class GrailsPrintWriter extends Writer implements GrailsWrappedWriter, En
 
     public void print(final boolean b) {
         if (b) {
-            write("true");
+            writeEncodingStateFree("true");
         }
         else {
-            write("false");
+            writeEncodingStateFree("false");
         }
     }
 
@@ -365,19 +418,19 @@ public class GrailsPrintWriter extends Writer implements GrailsWrappedWriter, En
     }
 
     public void print(final int i) {
-        write(String.valueOf(i));
+        writeEncodingStateFree(String.valueOf(i));
     }
 
     public void print(final long l) {
-        write(String.valueOf(l));
+        writeEncodingStateFree(String.valueOf(l));
     }
 
     public void print(final float f) {
-        write(String.valueOf(f));
+        writeEncodingStateFree(String.valueOf(f));
     }
 
     public void print(final double d) {
-        write(String.valueOf(d));
+        writeEncodingStateFree(String.valueOf(d));
     }
 
     public void print(final char[] s) {
@@ -25,8 +25,11 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 
 import grails.util.GrailsArrayUtils;
 
@@ -63,6 +66,12 @@ public class StreamByteBuffer {
 
     private Iterator<StreamByteBufferChunk> readIterator;
 
+    private BufferChunkPool.Lease chunkLease;
+
+    private boolean chunkLeaseResolved = false;
+
+    private boolean released = false;
+
     public enum ReadMode {
         REMOVE_AFTER_READING,
         RETAIN_AFTER_READING
@@ -79,7 +88,7 @@ public class StreamByteBuffer {
     public StreamByteBuffer(int chunkSize, ReadMode readMode) {
         this.chunkSize = chunkSize;
         this.readMode = readMode;
-        this.currentWriteChunk = new StreamByteBufferChunk(chunkSize);
+        this.currentWriteChunk = createChunk();
         this.output = new StreamByteBufferOutputStream();
         this.input = new StreamByteBufferInputStream();
     }
@@ -110,49 +119,127 @@ public class StreamByteBuffer {
     }
 
     public String readAsString(Charset charset) throws CharacterCodingException {
+        CharBuffer charbuffer = decode(charset);
+        if (charbuffer == null) {
+            return null;
+        }
+        String str;
+        if (charbuffer.hasArray()) {
+            int len = charbuffer.remaining();
+            char[] ch = charbuffer.array();
+            if (len != ch.length) {
+                ch = (char[]) GrailsArrayUtils.subarray(ch, 0, len);
+            }
+            str = StringCharArrayAccessor.createString(ch);
+        }
+        else {
+            str = charbuffer.toString();
+        }
+        return str;
+    }
+
+    /**
+     * Decodes the unread bytes chunk by chunk into a single char array, without reading them into
+     * an intermediate byte array first.
+     *
+     * @param charset The charset of the bytes
+     * @return The decoded chars, an empty array if there are no unread bytes
+     * @throws CharacterCodingException If the bytes cannot be decoded
+     * @since 2023.1.0
+     */
+    public char[] readAsCharArray(Charset charset) throws CharacterCodingException {
+        CharBuffer charbuffer = decode(charset);
+        if (charbuffer == null) {
+            return new char[0];
+        }
+        char[] ch = charbuffer.array();
+        int len = charbuffer.remaining();
+        return len == ch.length ? ch : (char[]) GrailsArrayUtils.subarray(ch, 0, len);
+    }
+
+    private CharBuffer decode(Charset charset) throws CharacterCodingException {
         int unreadSize = totalBytesUnread();
-        if (unreadSize > 0) {
-            CharsetDecoder decoder = charset.newDecoder().onMalformedInput(
-                    CodingErrorAction.REPLACE).onUnmappableCharacter(
-                    CodingErrorAction.REPLACE);
-            CharBuffer charbuffer = CharBuffer.allocate(unreadSize);
-            ByteBuffer buf = null;
-            while (prepareRead() != -1) {
-                buf = this.currentReadChunk.readToNioBuffer();
-                boolean endOfInput = (prepareRead() == -1);
-                CoderResult result = decoder.decode(buf, charbuffer, endOfInput);
-                if (endOfInput) {
-                    if (!result.isUnderflow()) {
-                        result.throwException();
-                    }
-                }
+        if (unreadSize <= 0) {
+            return null;
+        }
+        CharsetDecoder decoder = charset.newDecoder().onMalformedInput(
+                CodingErrorAction.REPLACE).onUnmappableCharacter(
+                CodingErrorAction.REPLACE);
+        List<ByteBuffer> unreadChunks = new ArrayList<>();
+        while (prepareRead() != -1) {
+            ByteBuffer chunk = this.currentReadChunk.readToNioBuffer();
+            if (chunk != null) {
+                unreadChunks.add(chunk);
+            }
+        }
+        // UTF-8 content can be sized exactly, so the decoded chars don't have to be copied to a smaller array
+        int capacity = StandardCharsets.UTF_8.equals(charset) ? countUtf8Chars(unreadChunks)
+                : (int) Math.ceil(unreadSize * (double) decoder.maxCharsPerByte());
+        CharBuffer charbuffer = CharBuffer.allocate(capacity);
+        ByteBuffer buf = null;
+        for (int i = 0; i < unreadChunks.size(); i++) {
+            ByteBuffer chunk = unreadChunks.get(i);
+            if (buf != null && buf.hasRemaining()) {
+                // a character was split between the chunks
+                ByteBuffer joined = ByteBuffer.allocate(buf.remaining() + chunk.remaining());
+                joined.put(buf).put(chunk).flip();
+                chunk = joined;
             }
-            CoderResult result = decoder.flush(charbuffer);
-            if (buf.hasRemaining()) {
-                throw new IllegalStateException("There's a bug here, buffer wasn't read fully.");
+            buf = chunk;
+            boolean endOfInput = (i == unreadChunks.size() - 1);
+            CoderResult result = decoder.decode(buf, charbuffer, endOfInput);
+            while (result.isOverflow()) {
+                // malformed input is replaced by more chars than counted
+                charbuffer = grow(charbuffer, buf.remaining() + 1);
+                result = decoder.decode(buf, charbuffer, endOfInput);
             }
             if (!result.isUnderflow()) {
                 result.throwException();
             }
-            charbuffer.flip();
-            String str;
-            if (charbuffer.hasArray()) {
-                int len = charbuffer.remaining();
-                char[] ch = charbuffer.array();
-                if (len != ch.length) {
-                    ch = (char[]) GrailsArrayUtils.subarray(ch, 0, len);
+        }
+        CoderResult result = decoder.flush(charbuffer);
+        while (result.isOverflow()) {
+            charbuffer = grow(charbuffer, 1);
+            result = decoder.flush(charbuffer);
+        }
+        if (buf != null && buf.hasRemaining()) {
+            throw new IllegalStateException("There's a bug here, buffer wasn't read fully.");
+        }
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        charbuffer.flip();
+        return charbuffer;
+    }
+
+    private static CharBuffer grow(CharBuffer charbuffer, int minGrowth) {
+        CharBuffer grown = CharBuffer.allocate(charbuffer.capacity() + Math.max(minGrowth, 16));
+        charbuffer.flip();
+        grown.put(charbuffer);
+        return grown;
+    }
+
+    /**
+     * Counts the UTF-16 chars of well-formed UTF-8 bytes, each byte which isn't a continuation byte starts
+     * a char, and four byte sequences are decoded to surrogate pairs.
+     */
+    private static int countUtf8Chars(List<ByteBuffer> chunks) {
+        int count = 0;
+        for (ByteBuffer chunk : chunks) {
+            byte[] bytes = chunk.array();
+            int end = chunk.arrayOffset() + chunk.limit();
+            for (int i = chunk.arrayOffset() + chunk.position(); i < end; i++) {
+                int b = bytes[i] & 0xFF;
+                if ((b & 0xC0) != 0x80) {
+                    count += (b >= 0xF0) ? 2 : 1;
                 }
-                str = StringCharArrayAccessor.createString(ch);
-            }
-            else {
-                str = charbuffer.toString();
             }
-            return str;
         }
-        return null;
+        return count;
     }
 
     public int totalBytesUnread() {
+        checkNotReleased();
         int total = 0;
         if (this.readMode == ReadMode.REMOVE_AFTER_READING) {
             total = this.totalBytesUnreadInList;
@@ -176,17 +263,19 @@ public class StreamByteBuffer {
     }
 
     protected int allocateSpace() {
+        checkNotReleased();
         int spaceLeft = this.currentWriteChunk.spaceLeft();
         if (spaceLeft == 0) {
             this.chunks.add(this.currentWriteChunk);
             this.totalBytesUnreadInList += this.currentWriteChunk.bytesUnread();
-            this.currentWriteChunk = new StreamByteBufferChunk(this.chunkSize);
+            this.currentWriteChunk = createChunk();
             spaceLeft = this.currentWriteChunk.spaceLeft();
         }
         return spaceLeft;
     }
 
     protected int prepareRead() {
+        checkNotReleased();
         prepareRetainAfterReading();
         int bytesUnread = (this.currentReadChunk != null) ? this.currentReadChunk.bytesUnread() : 0;
         if (bytesUnread == 0) {
@@ -247,8 +336,56 @@ public class StreamByteBuffer {
         this.currentReadChunk = null;
         this.totalBytesUnreadInList = 0;
         this.totalBytesUnreadInIterator = 0;
-        this.currentWriteChunk = new StreamByteBufferChunk(this.chunkSize);
+        this.currentWriteChunk = createChunk();
+        this.readIterator = null;
+        this.released = false;
+    }
+
+    public boolean isReleased() {
+        return this.released;
+    }
+
+    /**
+     * Creates a chunk, from the {@link BufferChunkPool.Lease} of the current request if chunks are pooled.
+     *
+     * @return the chunk
+     */
+    private StreamByteBufferChunk createChunk() {
+        if (!this.chunkLeaseResolved) {
+            this.chunkLeaseResolved = true;
+            this.chunkLease = BufferChunkPool.currentLease();
+            if (this.chunkLease != null) {
+                this.chunkLease.onRelease(this::releaseChunks);
+            }
+        }
+        if (this.chunkLease != null) {
+            byte[] buffer = this.chunkLease.acquireBytes(this.chunkSize);
+            if (buffer != null) {
+                return new StreamByteBufferChunk(buffer);
+            }
+        }
+        return new StreamByteBufferChunk(this.chunkSize);
+    }
+
+    /**
+     * Drops the references to the pooled chunks before they are returned to the pool,
+     * the content of the buffer is discarded and the buffer is marked as released.
+     */
+    private void releaseChunks() {
+        this.chunkLease = null;
+        this.chunks.clear();
+        this.currentReadChunk = null;
+        this.totalBytesUnreadInList = 0;
+        this.totalBytesUnreadInIterator = 0;
+        this.currentWriteChunk = new StreamByteBufferChunk(0);
         this.readIterator = null;
+        this.released = true;
+    }
+
+    private void checkNotReleased() {
+        if (this.released) {
+            throw new IllegalStateException("The StreamByteBuffer has been released at the end of the request it was created in.");
+        }
     }
 
     protected static class StreamByteBufferChunk {
@@ -262,8 +399,12 @@ public class StreamByteBuffer {
         private int used = 0;
 
         public StreamByteBufferChunk(int size) {
-            this.size = size;
-            this.buffer = new byte[size];
+            this(new byte[size]);
+        }
+
+        StreamByteBufferChunk(byte[] buffer) {
+            this.size = buffer.length;
+            this.buffer = buffer;
         }
 
         public ByteBuffer readToNioBuffer() {
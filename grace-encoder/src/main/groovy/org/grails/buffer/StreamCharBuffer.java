@@ -326,6 +326,14 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
 
     boolean subBuffersEnabled = true;
 
+    private BufferChunkPool.Lease chunkLease;
+
+    private boolean chunkLeaseResolved = false;
+
+    private boolean pooledChunks = false;
+
+    private boolean released = false;
+
     public StreamCharBuffer() {
         this(DEFAULT_CHUNK_SIZE, DEFAULT_CHUNK_SIZE_GROW_PROCENT, DEFAULT_MAX_CHUNK_SIZE);
     }
@@ -376,6 +384,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
      */
     public final void reset(boolean resetChunkSize) {
         markBufferChanged();
+        this.released = false;
         this.firstChunk = null;
         this.lastChunk = null;
         this.totalCharsInList = 0;
@@ -596,6 +605,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
      * @return the Reader
      */
     public Reader getReader(boolean removeAfterReading) {
+        checkNotReleased();
         this.readerCount++;
         this.hasReaders = true;
         return new StreamCharBufferReader(removeAfterReading);
@@ -621,6 +631,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
      * @throws IOException
      */
     public void writeTo(Writer target, boolean flushTarget, boolean emptyAfter) throws IOException {
+        checkNotReleased();
         if (target instanceof GrailsWrappedWriter) {
             GrailsWrappedWriter wrappedWriter = ((GrailsWrappedWriter) target);
             if (wrappedWriter.isAllowUnwrappingOut()) {
@@ -811,9 +822,9 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
      * @return the chars
      */
     public char[] toCharArray() {
-        // check if there is a cached single charbuffer
-        if (this.firstChunk == this.lastChunk && this.firstChunk instanceof CharBufferChunk && this.allocBuffer.charsUsed() == 0 &&
-                ((CharBufferChunk) this.firstChunk).isSingleBuffer()) {
+        // check if there is a cached single charbuffer, pooled chunks must not escape from the buffer
+        if (!this.pooledChunks && this.firstChunk == this.lastChunk && this.firstChunk instanceof CharBufferChunk &&
+                this.allocBuffer.charsUsed() == 0 && ((CharBufferChunk) this.firstChunk).isSingleBuffer()) {
             return ((CharBufferChunk) this.firstChunk).buffer;
         }
 
@@ -851,6 +862,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
     }
 
     private MultipartCharBufferChunk readToSingleChunk() {
+        checkNotReleased();
         int currentSize = size();
         if (currentSize == 0) {
             return null;
@@ -1055,6 +1067,73 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
         }
     }
 
+    /**
+     * Allocates a chunk, from the {@link BufferChunkPool.Lease} of the current request if chunks are pooled.
+     *
+     * @param size the minimum size of the chunk
+     * @return the chunk
+     */
+    private char[] allocateChunk(int size) {
+        if (!this.chunkLeaseResolved) {
+            this.chunkLeaseResolved = true;
+            this.chunkLease = BufferChunkPool.currentLease();
+            if (this.chunkLease != null) {
+                this.chunkLease.onRelease(this::releaseChunks);
+            }
+        }
+        if (this.chunkLease != null) {
+            char[] chunk = this.chunkLease.acquireChars(size);
+            if (chunk != null) {
+                this.pooledChunks = true;
+                return chunk;
+            }
+        }
+        return new char[size];
+    }
+
+    /**
+     * Drops the references to the pooled chunks before they are returned to the pool.
+     * Content which is still held in chars chunks is discarded and the buffer is marked as released,
+     * content which has already been read to a String remains available.
+     */
+    private void releaseChunks() {
+        this.chunkLease = null;
+        if (this.pooledChunks && (this.allocBuffer.charsUsed() > 0 || hasCharBufferChunks())) {
+            markBufferChanged();
+            this.firstChunk = null;
+            this.lastChunk = null;
+            this.totalCharsInList = 0;
+            this.totalCharsInDynamicChunks = -1;
+            this.sizeAtLeast = -1;
+            this.dynamicChunkMap.clear();
+            this.released = true;
+        }
+        this.pooledChunks = false;
+        this.allocBuffer = new AllocatedBuffer(0);
+    }
+
+    private boolean hasCharBufferChunks() {
+        AbstractChunk current = this.firstChunk;
+        while (current != null) {
+            if (current instanceof CharBufferChunk) {
+                return true;
+            }
+            current = current.next;
+        }
+        return false;
+    }
+
+    private void checkNotReleased() {
+        if (this.released) {
+            throw new IllegalStateException("The StreamCharBuffer has been released at the end of the request it was created in, " +
+                    "convert it to a String to keep the content beyond the request.");
+        }
+    }
+
+    public boolean isReleased() {
+        return this.released;
+    }
+
     protected static final void arrayCopy(char[] src, int srcPos, char[] dest, int destPos, int length) {
         if (length == 1) {
             dest[destPos] = src[srcPos];
@@ -1277,6 +1356,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
     }
 
     public void encodeTo(EncodedAppender appender, Encoder encoder) throws IOException {
+        checkNotReleased();
         if (isPreferSubChunkWhenWritingToOtherBuffer() && appender instanceof StreamCharBufferEncodedAppender) {
             StreamCharBufferWriter writer = ((StreamCharBufferEncodedAppender) appender).getWriter();
             if (writer.appendSubBuffer(this, encoder != null ? Collections.singletonList(encoder) : null)) {
@@ -1348,6 +1428,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
 
     @Override
     public void encodeTo(Writer writer, EncodesToWriter encoder) throws IOException {
+        checkNotReleased();
         AbstractChunk current = this.firstChunk;
         while (current != null) {
             current.encodeTo(writer, encoder);
@@ -1624,6 +1705,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
         }
 
         public void markUsed() {
+            checkNotReleased();
             if (this.increaseCounter) {
                 this.writerUsedCounter++;
                 if (!StreamCharBuffer.this.hasReaders) {
@@ -1966,8 +2048,8 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
         private EncodingState nextEncoders;
 
         AllocatedBuffer(int size) {
-            this.size = size;
-            this.buffer = new char[size];
+            this.buffer = allocateChunk(size);
+            this.size = this.buffer.length;
         }
 
         public void clear() {
@@ -1999,7 +2081,7 @@ public class StreamCharBuffer extends GroovyObjectSupport implements Writable, C
             if (encodingState == null) {
                 encodingState = EncodingStateImpl.UNDEFINED_ENCODING_STATE;
             }
-            if (this.encodingState != null && (encodingState == null || !this.encodingState.equals(encodingState)) &&
+            if (this.encodingState != null && this.encodingState != encodingState && !this.encodingState.equals(encodingState) &&
                     hasChunk() && !isNotConnectedToEncoderAwareWriters()) {
                 addChunk(StreamCharBuffer.this.allocBuffer.createChunk());
                 this.encodingState = null;
@@ -110,7 +110,7 @@ public abstract class AbstractEncodedAppender implements EncodedAppender {
 
     protected EncodingState createNewEncodingState(Encoder encoder, EncodingState encodingState) {
         if (encodingState == null) {
-            return new EncodingStateImpl(encoder, null);
+            return EncodingStateImpl.forEncoder(encoder);
         }
         return encodingState.appendEncoder(encoder);
     }
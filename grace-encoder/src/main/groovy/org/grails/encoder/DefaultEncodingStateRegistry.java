@@ -40,8 +40,25 @@ public final class DefaultEncodingStateRegistry implements EncodingStateRegistry
 
     private final Map<Encoder, Map<Long, WeakReference<CharSequence>>> encodedCharSequencesForEncoder = new HashMap<>();
 
+    private final EncodingStateRegistry parent;
+
     public static final StreamingEncoder NONE_ENCODER = BasicCodecLookup.NONE_ENCODER;
 
+    public DefaultEncodingStateRegistry() {
+        this(null);
+    }
+
+    /**
+     * Creates a registry which also looks up the values encoded in the parent registry, but registers
+     * new values only in itself. The parent must not be modified while this registry is in use,
+     * so a single parent can be shared by registries used on different threads.
+     *
+     * @param parent the parent registry, can be null
+     */
+    public DefaultEncodingStateRegistry(EncodingStateRegistry parent) {
+        this.parent = parent;
+    }
+
     private long calculateKey(CharSequence charSequence) {
         int contentHashCode = charSequence.hashCode();
         int identityHashCode = System.identityHashCode(charSequence);
@@ -56,6 +73,10 @@ public final class DefaultEncodingStateRegistry implements EncodingStateRegistry
     }
 
     public EncodingState getEncodingStateFor(CharSequence string) {
+        if (this.encodedCharSequencesForEncoder.isEmpty()) {
+            // nothing has been encoded in this request, so there is no need to calculate the key
+            return getParentEncodingStateFor(string);
+        }
         Long key = calculateKey(string);
         Set<Encoder> result = null;
         for (Map.Entry<Encoder, Map<Long, WeakReference<CharSequence>>> entry : this.encodedCharSequencesForEncoder.entrySet()) {
@@ -72,11 +93,16 @@ public final class DefaultEncodingStateRegistry implements EncodingStateRegistry
                 }
             }
         }
-        return result != null ? new EncodingStateImpl(result, null) : EncodingStateImpl.UNDEFINED_ENCODING_STATE;
+        return result != null ? new EncodingStateImpl(result, null) : getParentEncodingStateFor(string);
+    }
+
+    private EncodingState getParentEncodingStateFor(CharSequence string) {
+        return this.parent != null ? this.parent.getEncodingStateFor(string) : EncodingStateImpl.UNDEFINED_ENCODING_STATE;
     }
 
     public boolean isEncodedWith(Encoder encoder, CharSequence string) {
-        return getEncodedCharSequencesForEncoder(encoder).containsKey(calculateKey(string));
+        return getEncodedCharSequencesForEncoder(encoder).containsKey(calculateKey(string)) ||
+                (this.parent != null && this.parent.isEncodedWith(encoder, string));
     }
 
     /* (non-Javadoc)
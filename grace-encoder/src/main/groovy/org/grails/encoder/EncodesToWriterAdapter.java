@@ -61,7 +61,7 @@ public class EncodesToWriterAdapter implements EncodesToWriter {
 
     protected EncodingState createNewEncodingState(Encoder encoder, EncodingState encodingState) {
         if (encodingState == null) {
-            return new EncodingStateImpl(encoder, null);
+            return EncodingStateImpl.forEncoder(encoder);
         }
         return encodingState.appendEncoder(encoder);
     }
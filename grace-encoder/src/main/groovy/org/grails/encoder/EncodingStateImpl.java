@@ -17,22 +17,41 @@ package org.grails.encoder;
 
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default implementation of {@link EncodingState}
  *
+ * The encoders of a state are also kept as a bitset, with a bit for each of the first
+ * {@link #MAX_INDEXED_ENCODERS} codecs in use, so that the states of buffer chunks
+ * can be compared without comparing sets. The bits are assigned by encoder class and codec name
+ * instead of by encoder instance, so that encoders of different codec lookups share them
+ * and are not held by the index.
+ *
  * @author Lari Hotari
+ * @author Michael Yan
  * @since 2.3
  */
 public class EncodingStateImpl implements EncodingState {
 
+    static final int MAX_INDEXED_ENCODERS = 63;
+
+    private static final long NOT_INDEXED = -1L;
+
+    private static final Map<String, Integer> ENCODER_INDEXES = new ConcurrentHashMap<>();
+
+    private static final Map<String, EncodingStateImpl> SINGLE_ENCODER_STATES = new ConcurrentHashMap<>();
+
     public static final EncodingState UNDEFINED_ENCODING_STATE = new EncodingStateImpl((Set<Encoder>) null, null);
 
     private final Set<Encoder> encoders;
 
     private final EncodingState previousEncodingState;
 
+    private final long encoderBits;
+
     /**
      * Default constructor
      *
@@ -42,12 +61,78 @@ public class EncodingStateImpl implements EncodingState {
     public EncodingStateImpl(Set<Encoder> encoders, EncodingState previousEncodingState) {
         this.encoders = encoders;
         this.previousEncodingState = previousEncodingState;
+        this.encoderBits = calculateEncoderBits(encoders);
     }
 
     public EncodingStateImpl(Encoder encoder, EncodingState previousEncodingState) {
         this(Collections.singleton(encoder), previousEncodingState);
     }
 
+    /**
+     * Returns the shared state of content which has been encoded with the given encoder only
+     *
+     * @param encoder
+     *            the encoder
+     * @return the encoding state
+     */
+    public static EncodingState forEncoder(Encoder encoder) {
+        String encoderKey = encoderKey(encoder);
+        EncodingStateImpl encodingState = encoderKey != null ? SINGLE_ENCODER_STATES.get(encoderKey) : null;
+        if (encodingState != null && encodingState.encoders.contains(encoder)) {
+            return encodingState;
+        }
+        EncodingStateImpl newEncodingState = new EncodingStateImpl(encoder, null);
+        // one state is shared per codec, the one of the encoder used last, so that the cache stays bounded
+        if (newEncodingState.encoderBits != NOT_INDEXED) {
+            SINGLE_ENCODER_STATES.put(encoderKey, newEncodingState);
+        }
+        return newEncodingState;
+    }
+
+    private static long calculateEncoderBits(Set<Encoder> encoders) {
+        if (encoders == null) {
+            return 0L;
+        }
+        long bits = 0L;
+        for (Encoder encoder : encoders) {
+            int index = indexOf(encoder);
+            if (index < 0) {
+                return NOT_INDEXED;
+            }
+            bits |= 1L << index;
+        }
+        return bits;
+    }
+
+    private static int indexOf(Encoder encoder) {
+        String encoderKey = encoderKey(encoder);
+        if (encoderKey == null) {
+            return -1;
+        }
+        Integer index = ENCODER_INDEXES.get(encoderKey);
+        if (index == null) {
+            synchronized (ENCODER_INDEXES) {
+                index = ENCODER_INDEXES.get(encoderKey);
+                if (index == null) {
+                    if (ENCODER_INDEXES.size() >= MAX_INDEXED_ENCODERS) {
+                        return -1;
+                    }
+                    index = ENCODER_INDEXES.size();
+                    ENCODER_INDEXES.put(encoderKey, index);
+                }
+            }
+        }
+        return index;
+    }
+
+    private static String encoderKey(Encoder encoder) {
+        CodecIdentifier codecIdentifier = encoder != null ? encoder.getCodecIdentifier() : null;
+        if (codecIdentifier == null || codecIdentifier.getCodecName() == null) {
+            return null;
+        }
+        return encoder.getClass().getName() + ':' + codecIdentifier.getCodecName();
+    }
+
     /*
      * (non-Javadoc)
      * @see
@@ -63,6 +148,10 @@ public class EncodingStateImpl implements EncodingState {
      */
     @Override
     public int hashCode() {
+        if (this.encoderBits != NOT_INDEXED) {
+            // states with the same bits are equal, see equals()
+            return Long.hashCode(this.encoderBits);
+        }
         int result = 1;
         result = 31 * result + ((this.encoders == null) ? 0 : this.encoders.hashCode());
         return result;
@@ -84,6 +173,9 @@ public class EncodingStateImpl implements EncodingState {
             return false;
         }
         EncodingStateImpl other = (EncodingStateImpl) obj;
+        if (this.encoderBits != NOT_INDEXED && other.encoderBits != NOT_INDEXED) {
+            return this.encoderBits == other.encoderBits;
+        }
         if (this.encoders == null) {
             if (other.encoders != null && other.encoders.size() > 0) {
                 return false;
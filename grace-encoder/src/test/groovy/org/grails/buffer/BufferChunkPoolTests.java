@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.buffer;
+
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BufferChunkPool}.
+ *
+ * @author Michael Yan
+ */
+public class BufferChunkPoolTests {
+
+    private BufferChunkPool pool;
+
+    private BufferChunkPool.Lease lease;
+
+    @BeforeEach
+    protected void setUp() {
+        this.pool = new BufferChunkPool(1024 * 1024, 1024 * 1024);
+        this.lease = this.pool.createLease();
+        BufferChunkPool.setSharedInstance(this.pool);
+        BufferChunkPool.setLeaseLookup(() -> this.lease);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        BufferChunkPool.setSharedInstance(null);
+        BufferChunkPool.setLeaseLookup(null);
+    }
+
+    @Test
+    public void testCharChunksAreReturnedToThePool() throws Exception {
+        StreamCharBuffer buffer = new StreamCharBuffer();
+        Writer writer = buffer.getWriter();
+        writer.write("Hello world");
+        assertEquals("Hello world", buffer.toString());
+        assertEquals(0, this.pool.getHitCount());
+        assertEquals(1, this.pool.getMissCount());
+        assertTrue(this.pool.getLeasedBytes() > 0);
+
+        this.lease.release();
+        assertEquals(0, this.pool.getLeasedBytes());
+        assertEquals(1024, this.pool.getPooledBytes());
+        // the content was read to a String before the release
+        assertFalse(buffer.isReleased());
+        assertEquals("Hello world", buffer.toString());
+
+        StreamCharBuffer other = new StreamCharBuffer();
+        other.getWriter().write("Hello again");
+        assertEquals(1, this.pool.getHitCount());
+        assertEquals(0.5d, this.pool.getHitRate());
+        assertEquals(0, this.pool.getPooledBytes());
+        assertEquals("Hello again", other.toString());
+    }
+
+    @Test
+    public void testReleasedCharBufferCannotBeUsed() throws Exception {
+        StreamCharBuffer buffer = new StreamCharBuffer();
+        Writer writer = buffer.getWriter();
+        writer.write("Hello world");
+
+        this.lease.release();
+        assertTrue(buffer.isReleased());
+        assertThrows(IllegalStateException.class, () -> buffer.writeTo(new StringWriter()));
+        assertThrows(IllegalStateException.class, () -> writer.write("more"));
+
+        buffer.reset();
+        writer.write("Reset");
+        assertEquals("Reset", buffer.toString());
+    }
+
+    @Test
+    public void testPooledCharChunkDoesNotEscape() throws Exception {
+        StreamCharBuffer buffer = new StreamCharBuffer(256);
+        char[] chars = new char[256];
+        Arrays.fill(chars, 'a');
+        buffer.getWriter().write(chars);
+
+        char[] result = buffer.toCharArray();
+        this.lease.release();
+        assertEquals(256, result.length);
+        assertEquals('a', result[255]);
+
+        StreamCharBuffer other = new StreamCharBuffer(256);
+        Arrays.fill(chars, 'b');
+        other.getWriter().write(chars);
+        assertEquals('a', result[255]);
+    }
+
+    @Test
+    public void testByteChunksAreReturnedToThePool() throws Exception {
+        StreamByteBuffer buffer = new StreamByteBuffer(1000);
+        OutputStream output = buffer.getOutputStream();
+        output.write("Hello world".getBytes());
+        assertEquals("Hello world", buffer.readAsString("UTF-8"));
+
+        this.lease.release();
+        assertTrue(buffer.isReleased());
+        assertEquals(1024, this.pool.getPooledBytes());
+        assertThrows(IllegalStateException.class, () -> output.write(1));
+        assertThrows(IllegalStateException.class, buffer::readAsByteArray);
+
+        StreamByteBuffer other = new StreamByteBuffer(1000);
+        other.getOutputStream().write("Hello again".getBytes());
+        assertEquals(1, this.pool.getHitCount());
+        assertEquals("Hello again", other.readAsString("UTF-8"));
+    }
+
+    @Test
+    public void testLeaseIsLimited() throws Exception {
+        BufferChunkPool limitedPool = new BufferChunkPool(1024, 1024);
+        this.lease = limitedPool.createLease();
+
+        StreamByteBuffer buffer = new StreamByteBuffer(1024);
+        OutputStream output = buffer.getOutputStream();
+        output.write(new byte[3000]);
+        assertEquals(1, limitedPool.getMissCount());
+        assertEquals(1024, this.lease.getLeasedBytes());
+        assertEquals(3000, buffer.readAsByteArray().length);
+
+        this.lease.release();
+        assertEquals(1024, limitedPool.getPooledBytes());
+        assertEquals(0, limitedPool.getDiscardCount());
+    }
+
+    @Test
+    public void testBuffersOutsideOfRequestsAreNotPooled() throws Exception {
+        BufferChunkPool.setLeaseLookup(() -> null);
+        StreamCharBuffer buffer = new StreamCharBuffer();
+        buffer.getWriter().write("Hello world");
+        this.lease.release();
+        assertFalse(buffer.isReleased());
+        assertEquals("Hello world", buffer.toString());
+        assertEquals(0, this.pool.getMissCount());
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.grails.encoder
 
 import org.grails.encoder.impl.HTMLEncoder
+import org.grails.encoder.impl.JavaScriptEncoder
 import org.grails.encoder.impl.NoneEncoder
 import spock.lang.Issue
 import spock.lang.Specification
@@ -39,4 +40,37 @@ class DefaultEncodingStateRegistrySpec extends Specification {
         encodingStateRegistry.getEncodingStateFor(string1).getEncoders() == [htmlEncoder] as Set
         encodingStateRegistry.getEncodingStateFor(string2).getEncoders() == [noneEncoder] as Set
     }
+
+    void "encoding states of a single encoder are shared and equal to new states"() {
+        given:
+        HTMLEncoder htmlEncoder = new HTMLEncoder()
+        NoneEncoder noneEncoder = new NoneEncoder()
+
+        expect:
+        EncodingStateImpl.forEncoder(htmlEncoder).is(EncodingStateImpl.forEncoder(htmlEncoder))
+        EncodingStateImpl.forEncoder(htmlEncoder) == new EncodingStateImpl(htmlEncoder, null)
+        EncodingStateImpl.forEncoder(htmlEncoder).hashCode() == new EncodingStateImpl(htmlEncoder, null).hashCode()
+        EncodingStateImpl.forEncoder(htmlEncoder) != EncodingStateImpl.forEncoder(noneEncoder)
+        EncodingStateImpl.forEncoder(htmlEncoder) != EncodingStateImpl.UNDEFINED_ENCODING_STATE
+        new EncodingStateImpl([] as Set, null) == EncodingStateImpl.UNDEFINED_ENCODING_STATE
+    }
+
+    void "encoding states stay indexed when more encoders are created than there are bits"() {
+        given:
+        List<HTMLEncoder> htmlEncoders = (1..EncodingStateImpl.MAX_INDEXED_ENCODERS + 10).collect { new HTMLEncoder() }
+        JavaScriptEncoder javaScriptEncoder = new JavaScriptEncoder()
+
+        when:
+        List<EncodingState> states = htmlEncoders.collect { EncodingStateImpl.forEncoder(it) }
+
+        then: "encoders of the same codec share a bit, and the state of each encoder contains that encoder"
+        states.every { ((EncodingStateImpl) it).encoderBits == ((EncodingStateImpl) states[0]).encoderBits }
+        states.every { it == states[0] && it.hashCode() == states[0].hashCode() }
+        [states, htmlEncoders].transpose().every { EncodingState state, HTMLEncoder encoder -> state.encoders == [encoder] as Set }
+
+        and: "other codecs are still indexed"
+        ((EncodingStateImpl) EncodingStateImpl.forEncoder(javaScriptEncoder)).encoderBits > 0
+        EncodingStateImpl.forEncoder(javaScriptEncoder) != states[0]
+        EncodingStateImpl.ENCODER_INDEXES.size() < EncodingStateImpl.MAX_INDEXED_ENCODERS
+    }
 }
@@ -73,6 +73,13 @@ class GroovyPageForkCompileTask extends AbstractCompile {
     @Optional
     String serverpath
 
+    /**
+     * Whether to package the compiled GSPs into a single indexed archive, <code>gsp/views.gspa</code>,
+     * which is loaded at runtime instead of the individual page classes
+     */
+    @Input
+    boolean archive
+
     @Nested
     GspCompileOptions compileOptions = getObjectFactory().newInstance(GspCompileOptions.class)
 
@@ -145,7 +152,8 @@ class GroovyPageForkCompileTask extends AbstractCompile {
                                 packageName,
                                 serverpath,
                                 configFiles,
-                                compileOptions.encoding
+                                compileOptions.encoding,
+                                String.valueOf(archive)
                         ]
 
                         prepareArguments(arguments)
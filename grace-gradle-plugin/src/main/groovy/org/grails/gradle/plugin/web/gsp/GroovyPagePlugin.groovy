@@ -22,6 +22,8 @@ import org.gradle.api.Plugin
 import org.gradle.api.Project
 import org.gradle.api.artifacts.Configuration
 import org.gradle.api.file.FileCollection
+import org.gradle.api.file.FileTreeElement
+import org.gradle.api.specs.Spec
 import org.gradle.api.tasks.SourceSet
 import org.gradle.api.tasks.SourceSetOutput
 import org.gradle.api.tasks.bundling.Jar
@@ -100,6 +102,11 @@ class GroovyPagePlugin implements Plugin<Project> {
         compileGroovyPages.dependsOn(allTasks.findByName('classes'))
         compileGroovyPages.dependsOn(compileWebappGroovyPages)
 
+        // the archive contains the class and data files of the compiled GSPs, so they aren't packaged twice
+        Spec<FileTreeElement> archivedGspFiles = { FileTreeElement element ->
+            compileGroovyPages.archive && !element.directory && isArchivedGspFile(element.file, destDir)
+        } as Spec<FileTreeElement>
+
         allTasks.withType(War) { War war ->
             war.dependsOn compileGroovyPages
             if (war.classpath) {
@@ -108,6 +115,7 @@ class GroovyPagePlugin implements Plugin<Project> {
             else {
                 war.classpath = project.files(destDir)
             }
+            war.exclude(archivedGspFiles)
         }
         allTasks.withType(Jar) { Jar jar ->
             if (!(jar instanceof War)) {
@@ -115,16 +123,24 @@ class GroovyPagePlugin implements Plugin<Project> {
                     jar.dependsOn compileGroovyPages
                     jar.from(destDir) {
                         into('BOOT-INF/classes')
+                        exclude(archivedGspFiles)
                     }
                 }
                 else if (jar.name == 'jar') {
                     jar.dependsOn compileGroovyPages
-                    jar.from destDir
+                    jar.from(destDir) {
+                        exclude(archivedGspFiles)
+                    }
                 }
             }
         }
     }
 
+    protected static boolean isArchivedGspFile(File file, File destDir) {
+        String name = file.name
+        (name.endsWith('.class') || name.endsWith('.data')) && file.absolutePath.startsWith(destDir.absolutePath + File.separator)
+    }
+
     protected FileCollection resolveClassesDirs(SourceSetOutput output, Project project) {
         output?.classesDirs ?: project.files(new File(project.buildDir, 'classes/main'))
     }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gsp.compiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Precompiles a fixture of 2,000 views, spread over 40 controllers, with a fresh target directory for every
+ * compilation. A batch size of 1 compiles every page with its own {@link org.codehaus.groovy.control.CompilationUnit}.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GroovyPageCompilerBenchmark {
+
+    private static final int CONTROLLERS = 40;
+
+    private static final int VIEWS_PER_CONTROLLER = 50;
+
+    private static final String VIEW = String.join("\n",
+            "<html>",
+            "<head><title>${title}</title></head>",
+            "<body>",
+            "<h1>${message(code: 'page.heading', args: [index])}</h1>",
+            "<g:if test=\"${items}\">",
+            "  <ul>",
+            "  <g:each in=\"${items}\" var=\"item\" status=\"i\">",
+            "    <li class=\"${i % 2 == 0 ? 'even' : 'odd'}\"><g:link action=\"show\" id=\"${item.id}\">${item.name}</g:link></li>",
+            "  </g:each>",
+            "  </ul>",
+            "</g:if>",
+            "<g:else><p>No items</p></g:else>",
+            "<% def total = items?.sum { it.price } ?: 0 %>",
+            "<p>Total: ${total}</p>",
+            "</body>",
+            "</html>");
+
+    @Param({ "1", "50" })
+    private int compileBatchSize;
+
+    private Path viewsDir;
+
+    private Path targetDir;
+
+    private List<File> srcFiles;
+
+    @Setup(Level.Trial)
+    public void createViews() throws IOException {
+        this.viewsDir = Files.createTempDirectory("gsp-views");
+        this.srcFiles = new ArrayList<>(CONTROLLERS * VIEWS_PER_CONTROLLER);
+        for (int controller = 0; controller < CONTROLLERS; controller++) {
+            Path controllerDir = Files.createDirectories(this.viewsDir.resolve("controller" + controller));
+            for (int view = 0; view < VIEWS_PER_CONTROLLER; view++) {
+                Path gsp = controllerDir.resolve("view" + view + ".gsp");
+                Files.write(gsp, VIEW.getBytes(StandardCharsets.UTF_8));
+                this.srcFiles.add(gsp.toFile());
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createTargetDir() throws IOException {
+        this.targetDir = Files.createTempDirectory("gsp-classes");
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTargetDir() throws IOException {
+        delete(this.targetDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteViews() throws IOException {
+        delete(this.viewsDir);
+    }
+
+    @Benchmark
+    public Map<?, ?> compileViews() {
+        GroovyPageCompiler compiler = new GroovyPageCompiler();
+        compiler.setViewsDir(this.viewsDir.toFile());
+        compiler.setTargetDir(this.targetDir.toFile());
+        compiler.setGeneratedGroovyPagesDirectory(this.targetDir.resolve("generated").toFile());
+        compiler.setSrcFiles(this.srcFiles);
+        compiler.setCompileBatchSize(this.compileBatchSize);
+        return compiler.compile();
+    }
+
+    private static void delete(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+}
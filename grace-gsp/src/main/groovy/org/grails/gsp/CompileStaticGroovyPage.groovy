@@ -31,15 +31,27 @@ abstract class CompileStaticGroovyPage extends GroovyPage {
 
     TagLibNamespaceMethodDispatcher defaultTagDispatcher
 
+    /**
+     * The namespace dispatchers of this page, created once per namespace since the output context doesn't change
+     * while the page is rendered.
+     */
+    private final Map<String, TagLibNamespaceMethodDispatcher> tagDispatchers = new HashMap<>()
+
     @Override
     void initRun(Writer target, OutputContext outputContext, GroovyPageMetaInfo metaInfo) {
+        tagDispatchers.clear()
         super.initRun(target, outputContext, metaInfo)
         defaultTagDispatcher = TagLibNamespaceMethodDispatcher.cast(lookupTagDispatcher(DEFAULT_NAMESPACE))
     }
 
     @Override
     protected Object lookupTagDispatcher(String namespace) {
-        gspTagLibraryLookup?.hasNamespace(namespace) ? new TagLibNamespaceMethodDispatcher(namespace, gspTagLibraryLookup, outputContext) : null
+        TagLibNamespaceMethodDispatcher dispatcher = tagDispatchers.get(namespace)
+        if (dispatcher == null && gspTagLibraryLookup?.hasNamespace(namespace)) {
+            dispatcher = new TagLibNamespaceMethodDispatcher(namespace, gspTagLibraryLookup, outputContext)
+            tagDispatchers.put(namespace, dispatcher)
+        }
+        dispatcher
     }
 
     @Override
@@ -46,6 +46,7 @@ import org.grails.taglib.AbstractTemplateVariableBinding;
 import org.grails.taglib.GrailsTagException;
 import org.grails.taglib.GroovyPageAttributes;
 import org.grails.taglib.TagBodyClosure;
+import org.grails.taglib.TagDescriptor;
 import org.grails.taglib.TagInvocationContext;
 import org.grails.taglib.TagInvocationContextCustomizer;
 import org.grails.taglib.TagLibraryLookup;
@@ -193,7 +194,8 @@ public abstract class GroovyPage extends Script {
     private void applyModelFieldsFromBinding(Iterable<Field> modelFields) {
         for (Field field : modelFields) {
             try {
-                Object value = getProperty(field.getName());
+                // the model is read from the binding only, a missing variable must not resolve to a tag library
+                Object value = resolveModelVariable(field.getName());
                 if (value != null) {
                     field.set(this, value);
                 }
@@ -349,6 +351,17 @@ public abstract class GroovyPage extends Script {
         return value;
     }
 
+    /**
+     * Resolves the value of a model field declared with the model directive from the binding of the page.
+     *
+     * @param name The name of the model field
+     * @return The value or null if the model doesn't contain it
+     * @since 2023.1.0
+     */
+    protected Object resolveModelVariable(String name) {
+        return getBinding().getVariable(name);
+    }
+
     protected Object lookupTagDispatcher(String namespace) {
         return this.gspTagLibraryLookup != null ? this.gspTagLibraryLookup.lookupNamespaceDispatcher(namespace) : null;
     }
@@ -398,14 +411,13 @@ public abstract class GroovyPage extends Script {
         Closure body = getBodyClosure(bodyClosureIndex);
 
         try {
-            GroovyObject tagLib = getTagLib(theNamespace, theTagName);
+            TagDescriptor tag = this.gspTagLibraryLookup != null ? this.gspTagLibraryLookup.lookupTag(theNamespace, theTagName) : null;
+            GroovyObject tagLib = tag != null ? tag.getTagLibrary() : null;
             if (tagLib != null || (this.gspTagLibraryLookup != null && this.gspTagLibraryLookup.hasNamespace(theNamespace))) {
                 if (tagLib != null) {
-                    boolean returnsObject = this.gspTagLibraryLookup.doesTagReturnObject(theNamespace, theTagName);
                     Object tagLibClosure = tagLib.getProperty(theTagName);
                     if (tagLibClosure instanceof Closure) {
-                        Map<String, Object> encodeAsForTag = this.gspTagLibraryLookup.getEncodeAsForTag(theNamespace, theTagName);
-                        invokeTagLibClosure(theTagName, theNamespace, (Closure) tagLibClosure, theAttrs, body, returnsObject, encodeAsForTag);
+                        invokeTagLibClosure(tag, (Closure) tagLibClosure, theAttrs, body);
                     }
                     else {
                         throw new GrailsTagException("Tag [" + theTagName + "] does not exist in tag library [" + tagLib.getClass().getName() + "]",
@@ -474,8 +486,7 @@ public abstract class GroovyPage extends Script {
         }
     }
 
-    private void invokeTagLibClosure(String tagName, String tagNamespace, Closure<?> tagLibClosure, Map<?, ?> attrs, Closure<?> body,
-            boolean returnsObject, Map<String, Object> defaultEncodeAs) {
+    private void invokeTagLibClosure(TagDescriptor tagDescriptor, Closure<?> tagLibClosure, Map<?, ?> attrs, Closure<?> body) {
         Closure<?> tag = (Closure<?>) tagLibClosure.clone();
 
         if (!(attrs instanceof GroovyPageAttributes)) {
@@ -485,24 +496,24 @@ public abstract class GroovyPage extends Script {
 
         boolean encodeAsPushedToStack = false;
         try {
-            Map<String, Object> codecSettings = TagOutput.createCodecSettings(tagNamespace, tagName, attrs, defaultEncodeAs);
-            if (codecSettings != null) {
-                this.outputStack.push(WithCodecHelper.createOutputStackAttributesBuilder(codecSettings, this.outputContext.getGrailsApplication())
-                        .build());
+            OutputEncodingStackAttributes codecAttributes =
+                    TagOutput.createCodecAttributes(tagDescriptor, attrs, this.outputContext.getGrailsApplication());
+            if (codecAttributes != null) {
+                this.outputStack.push(codecAttributes, (Writer) null);
                 encodeAsPushedToStack = true;
             }
             Object tagresult = null;
             switch (tag.getParameterTypes().length) {
                 case 1:
                     tagresult = tag.call(new Object[] { attrs });
-                    outputTagResult(returnsObject, tagresult);
+                    outputTagResult(tagDescriptor.isReturnsObject(), tagresult);
                     if (body != null && body != TagOutput.EMPTY_BODY_CLOSURE) {
                         body.call();
                     }
                     break;
                 case 2:
                     tagresult = tag.call(new Object[] { attrs, (body != null) ? body : TagOutput.EMPTY_BODY_CLOSURE });
-                    outputTagResult(returnsObject, tagresult);
+                    outputTagResult(tagDescriptor.isReturnsObject(), tagresult);
                     break;
             }
         }
@@ -535,10 +546,6 @@ public abstract class GroovyPage extends Script {
                 ">: " + e.getMessage(), e, getGroovyPageFileName(), lineNumber);
     }
 
-    private GroovyObject getTagLib(String namespace, String tagName) {
-        return TagOutput.lookupCachedTagLib(this.gspTagLibraryLookup, namespace, tagName);
-    }
-
     /**
      * Return whether the given name cannot be used within the binding of a GSP
      *
@@ -28,7 +28,7 @@ import java.net.URLConnection;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -52,6 +52,7 @@ import org.grails.encoder.Encoder;
 import org.grails.gsp.compiler.GroovyPageParser;
 import org.grails.gsp.jsp.TagLibraryResolver;
 import org.grails.io.support.SpringIOUtils;
+import org.grails.io.watch.FileWatchRegistry;
 import org.grails.taglib.TagInvocationContextCustomizer;
 import org.grails.taglib.TagLibraryLookup;
 import org.grails.taglib.encoder.WithCodecHelper;
@@ -130,6 +131,10 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
 
     private CacheEntry<Resource> shouldReloadCacheEntry = new CacheEntry<>();
 
+    private volatile FileWatchRegistry.WatchedFile watchedFile;
+
+    private long watchedVersion;
+
     private List<TagInvocationContextCustomizer> tagInvocationContextCustomizers = new ArrayList<>();
 
     public static String DEFAULT_PLUGIN_PATH = "";
@@ -196,7 +201,7 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
 
     private synchronized void initializeModelFields() {
         if (getPageClass() != null) {
-            Set<Field> modelFields = new HashSet<>();
+            Set<Field> modelFields = new LinkedHashSet<>();
             if (this.modelFieldsMode) {
                 for (Field field : getPageClass().getDeclaredFields()) {
                     if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
@@ -460,7 +465,8 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
      *
      * lastModified checking is done only when enough time has expired since the last check.
      * This setting is controlled by the grails.gsp.reload.interval System property,
-     * by default it's value is 5000 (ms).
+     * by default it's value is 5000 (ms). Once the source gsp file has been checked, it is watched
+     * with the {@link FileWatchRegistry} if available, and a change is detected without accessing the file system.
      *
      * @param resourceCallable call back that resolves the source gsp lazily
      * @return true if the available gsp source file is newer than the loaded one.
@@ -474,10 +480,17 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
     }
 
     public Resource checkIfReloadableResourceHasChanged(final PrivilegedAction<Resource> resourceCallable) {
+        FileWatchRegistry.WatchedFile watched = this.watchedFile;
+        if (watched != null) {
+            return watched.hasChangedSince(this.watchedVersion) ? resourceCallable.run() : null;
+        }
         Callable<Resource> checkerCallable = new Callable<Resource>() {
             public Resource call() {
                 Resource resource = resourceCallable.run();
                 if (resource != null && resource.exists()) {
+                    // start watching before the last modified check, so that no change gets lost in between
+                    FileWatchRegistry.WatchedFile watching = watchResource(resource);
+                    long version = watching != null ? watching.getVersion() : 0;
                     long currentLastmodified = establishLastModified(resource);
                     // granularity is required since lastmodified information is rounded some where in copying & war (zip) file information
                     // usually the lastmodified time is 1000L apart in files and in files extracted from the zip (war) file
@@ -485,6 +498,10 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
                             Math.abs(currentLastmodified - GroovyPageMetaInfo.this.lastModified) > LASTMODIFIED_CHECK_GRANULARITY) {
                         return resource;
                     }
+                    if (watching != null) {
+                        GroovyPageMetaInfo.this.watchedVersion = version;
+                        GroovyPageMetaInfo.this.watchedFile = watching;
+                    }
                 }
                 return null;
             }
@@ -492,6 +509,18 @@ public class GroovyPageMetaInfo implements GrailsApplicationAware {
         return this.shouldReloadCacheEntry.getValue(LASTMODIFIED_CHECK_INTERVAL, checkerCallable, true, null);
     }
 
+    private FileWatchRegistry.WatchedFile watchResource(Resource resource) {
+        if (!FileWatchRegistry.isEnabled() || !resource.isFile()) {
+            return null;
+        }
+        try {
+            return FileWatchRegistry.watch(resource.getFile());
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
     public boolean isPrecompiledMode() {
         return this.precompiledMode;
     }
@@ -15,26 +15,32 @@
  */
 package org.grails.gsp.compiler
 
-import java.util.concurrent.Callable
-import java.util.concurrent.CompletionService
-import java.util.concurrent.ExecutorCompletionService
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.ExecutorService
-import java.util.concurrent.Executors
-import java.util.concurrent.Future
-import java.util.concurrent.TimeUnit
+import java.util.concurrent.ForkJoinPool
+import java.util.function.Function
+import java.util.function.Supplier
 
 import groovy.transform.CompileStatic
 import org.apache.commons.logging.Log
 import org.apache.commons.logging.LogFactory
 import org.codehaus.groovy.control.CompilationUnit
 import org.codehaus.groovy.control.CompilerConfiguration
+import org.codehaus.groovy.control.MultipleCompilationErrorsException
 import org.codehaus.groovy.control.Phases
+import org.codehaus.groovy.control.messages.Message
+import org.codehaus.groovy.control.messages.SyntaxErrorMessage
+import org.codehaus.groovy.syntax.SyntaxException
+import org.codehaus.groovy.tools.GroovyClass
 
 import grails.config.ConfigMap
 
 import org.grails.config.CodeGenConfig
 import org.grails.gsp.GroovyPageMetaInfo
 import org.grails.gsp.compiler.transform.GroovyPageInjectionOperation
+import org.grails.gsp.io.GroovyPageArchive
 import org.grails.taglib.encoder.OutputEncodingSettings
 
 /**
@@ -49,7 +55,7 @@ class GroovyPageCompiler {
     private static final Log LOG = LogFactory.getLog(GroovyPageCompiler)
 
     private Map compileGSPRegistry = [:]
-    private final Object mutexObject = new Object()
+    private final Map<String, Long> pageTimings = new ConcurrentHashMap<>()
     File generatedGroovyPagesDirectory
     File targetDir
     CompilerConfiguration compilerConfig = new CompilerConfiguration()
@@ -64,7 +70,21 @@ class GroovyPageCompiler {
     String expressionCodec = OutputEncodingSettings.getDefaultValue(OutputEncodingSettings.EXPRESSION_CODEC_NAME)
     String[] configs = []
     ConfigMap configMap
+    /**
+     * The pool running the compilation, defaults to a work-stealing pool with a thread per processor
+     */
     ExecutorService threadPool
+    /**
+     * The number of pages compiled by a single {@link CompilationUnit}
+     */
+    int compileBatchSize = 50
+    /**
+     * Whether to package the compiled GSPs into a single indexed archive, which is loaded by
+     * {@link org.grails.gsp.io.GroovyPageArchiveClassLoader} at runtime. The class and data files are still
+     * written to the target directory for incremental compilation, the Gradle plugin leaves them out of
+     * the packaged application.
+     */
+    boolean archive
 
     void setCompilerConfig(CompilerConfiguration c) {
         compilerConfig = c
@@ -103,46 +123,23 @@ class GroovyPageCompiler {
             }
             compilerConfig.setTargetDirectory(targetDir)
             compilerConfig.setSourceEncoding(encoding)
-            ExecutorService threadPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2)
-            CompletionService<Map> completionService = new ExecutorCompletionService<Map>(threadPool)
-            List<Future<Map>> futures = []
-            try {
-                Integer collationLevel = Runtime.getRuntime().availableProcessors() * 2
-                if (srcFiles.size() < collationLevel) {
-                    collationLevel = 1
-                }
-                def collatedSrcFiles = srcFiles.collate(collationLevel)
-                for (int index = 0; index < collatedSrcFiles.size(); index++) {
-                    def gspFiles = collatedSrcFiles[index]
-
-                    futures << completionService.submit({ ->
-                        def results = [:]
-                        for (int gspIndex = 0; gspIndex < gspFiles.size(); gspIndex++) {
-                            File gsp = gspFiles[gspIndex]
-                            try {
-                                compileGSP(viewsDir, gsp, viewPrefix, packagePrefix, results)
-                            }
-                            catch (Exception ex) {
-                                LOG.error("Error Compiling GSP File: ${gsp.name} - ${ex.message}")
-                                throw ex
-                            }
-                        }
-                        results
-                    } as Callable)
+
+            List<GroovyPageSource> stalePages = []
+            for (File gspfile : srcFiles) {
+                GroovyPageSource page = createPageSource(viewsDir, gspfile, viewPrefix, packagePrefix)
+                // register viewuri -> classname mapping
+                compileGSPRegistry[page.viewUri] = page.fullClassName
+                if (page.isStale()) {
+                    stalePages << page
                 }
+            }
 
-                int pending = futures.size()
-
-                while (pending > 0) {
-                    // Wait for up to 100ms to see if anything has completed.
-                    // The completed future is returned if one is found; otherwise null.
-                    // (Tune 100ms as desired)
-                    def completed = completionService.poll(100, TimeUnit.MILLISECONDS)
-                    if (completed != null) {
-                        Map results = completed.get() as Map //need this to throw exceptions on main thread it seems
-                        compileGSPRegistry += results
-                        --pending
-                    }
+            ExecutorService pool = threadPool ?: new ForkJoinPool(Runtime.getRuntime().availableProcessors())
+            try {
+                long start = System.currentTimeMillis()
+                compilePages(stalePages, pool)
+                if (LOG.isInfoEnabled() && stalePages) {
+                    LOG.info("Compiled ${stalePages.size()} GSP files in ${System.currentTimeMillis() - start}ms")
                 }
 
                 // write the view registry to a properties file (this is read by GroovyPagesTemplateEngine at runtime)
@@ -159,15 +156,69 @@ class GroovyPageCompiler {
                 viewregistryFile.withOutputStream { viewsOut ->
                     views.store(viewsOut, "Precompiled views for ${packagePrefix}")
                 }
+
+                if (archive) {
+                    GroovyPageArchive.write(new File(targetDir, GroovyPageArchive.ARCHIVE_RESOURCE_NAME), targetDir,
+                            views.values().collect { it.toString() })
+                }
             }
             finally {
-                // eventListener?.triggerEvent("StatusUpdate", "Shutting Down ThreadPool")
-                threadPool.shutdown()
+                if (pool != threadPool) {
+                    pool.shutdown()
+                }
             }
         }
         compileGSPRegistry
     }
 
+    /**
+     * @return The time in milliseconds taken to compile each page of the last compilation by the view URI, the
+     * compilation time of a batch of pages is shared equally by its pages
+     */
+    Map<String, Long> getPageTimings() {
+        new LinkedHashMap<String, Long>(pageTimings)
+    }
+
+    /**
+     * Compiles the pages as a pipeline, the pages are parsed in parallel, each batch of
+     * {@link #compileBatchSize} parsed pages is compiled by a single {@link CompilationUnit}
+     * once its pages have been parsed and the classes of a batch are written in parallel.
+     */
+    protected void compilePages(List<GroovyPageSource> pages, ExecutorService pool) {
+        pageTimings.clear()
+        if (!pages) {
+            return
+        }
+        List<CompletableFuture<Void>> batches = []
+        for (List<GroovyPageSource> batch : pages.collate(Math.max(1, compileBatchSize))) {
+            batches << compileBatchAsync(batch, pool)
+        }
+        try {
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).join()
+        }
+        catch (CompletionException e) {
+            throw e.cause ?: e
+        }
+        finally {
+            for (GroovyPageSource page : pages) {
+                pageTimings[page.viewUri] = page.parseTime + page.compileTime
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Compiled GSP ${page.viewUri} (parse: ${page.parseTime}ms, compile: ${page.compileTime}ms)")
+                }
+            }
+        }
+    }
+
+    private CompletableFuture<Void> compileBatchAsync(List<GroovyPageSource> batch, ExecutorService pool) {
+        List<CompletableFuture<GroovyPageSource>> parsedPages = batch.collect { GroovyPageSource page ->
+            CompletableFuture.supplyAsync({ -> parsePage(page) } as Supplier<GroovyPageSource>, pool)
+        }
+        CompletableFuture.allOf(parsedPages.toArray(new CompletableFuture<?>[0]))
+                .thenApplyAsync({ Void ignored -> compileBatch(batch) } as Function<Void, Collection<GroovyClass>>, pool)
+                .thenComposeAsync({ Collection<GroovyClass> classes -> writeClasses(classes, pool) }
+                        as Function<Collection<GroovyClass>, CompletableFuture<Void>>, pool)
+    }
+
     /**
      * Compiles an individual GSP file
      *
@@ -178,6 +229,19 @@ class GroovyPageCompiler {
      *
      */
     protected Map compileGSP(File viewsDir, File gspfile, String viewPrefix, String packagePrefix, Map compileGSPResults) {
+        GroovyPageSource page = createPageSource(viewsDir, gspfile, viewPrefix, packagePrefix)
+        if (page.isStale()) {
+            parsePage(page)
+            for (GroovyClass groovyClass : compileBatch([page])) {
+                writeClass(groovyClass)
+            }
+        }
+        // register viewuri -> classname mapping
+        compileGSPResults[page.viewUri] = page.fullClassName
+        compileGSPResults
+    }
+
+    protected GroovyPageSource createPageSource(File viewsDir, File gspfile, String viewPrefix, String packagePrefix) {
         String relPath = relativePath(viewsDir, gspfile)
         String viewuri = viewPrefix + relPath
 
@@ -197,23 +261,21 @@ class GroovyPageCompiler {
 
         File classFile = new File(new File(targetDir, packageDir), "${className}.class")
         String packageName = packageDir.replace('/', '.')
-        String fullClassName
-        if (packageName) {
-            fullClassName = packageName + '.' + className
-        }
-        else {
-            fullClassName = className
-        }
-
-        // compile check
-        if (gspfile.exists() && (!classFile.exists() || gspfile.lastModified() > classFile.lastModified())) {
-            File gspgroovyfile = new File(new File(generatedGroovyPagesDirectory, packageDir), className + '.groovy')
-            // gspgroovyfile.getParentFile().mkdirs()
+        new GroovyPageSource(gspfile, viewuri, packageName, className, classFile)
+    }
 
+    /**
+     * Parses a GSP file into Groovy source and writes its static html parts and line numbers
+     */
+    protected GroovyPageSource parsePage(GroovyPageSource page) {
+        long start = System.currentTimeMillis()
+        File gspfile = page.gspFile
+        try {
             gspfile.withInputStream { InputStream gspinput ->
-                GroovyPageParser gpp = new GroovyPageParser(viewuri - '.gsp', viewuri, gspfile.absolutePath, gspinput, encoding, expressionCodec)
-                gpp.packageName = packageName
-                gpp.className = className
+                GroovyPageParser gpp = new GroovyPageParser(page.viewUri - '.gsp', page.viewUri, gspfile.absolutePath, gspinput,
+                        encoding, expressionCodec)
+                gpp.packageName = page.packageName
+                gpp.className = page.className
                 gpp.lastModified = gspfile.lastModified()
                 if (configMap) {
                     gpp.configure(configMap)
@@ -222,28 +284,112 @@ class GroovyPageCompiler {
                 gpp.generateGsp(gsptarget)
                 gsptarget.flush()
                 // write static html parts to data file (read from classpath at runtime)
-                File htmlDataFile = new File(new File(targetDir, packageDir), className + GroovyPageMetaInfo.HTML_DATA_POSTFIX)
+                File htmlDataFile = new File(page.classFile.parentFile, page.className + GroovyPageMetaInfo.HTML_DATA_POSTFIX)
                 htmlDataFile.parentFile.mkdirs()
                 gpp.writeHtmlParts(htmlDataFile)
                 // write linenumber mapping info to data file
-                File lineNumbersDataFile = new File(new File(targetDir, packageDir), className + GroovyPageMetaInfo.LINENUMBERS_DATA_POSTFIX)
+                File lineNumbersDataFile = new File(page.classFile.parentFile, page.className + GroovyPageMetaInfo.LINENUMBERS_DATA_POSTFIX)
                 gpp.writeLineNumbers(lineNumbersDataFile)
+                page.groovySource = gsptarget.toString()
+            }
+        }
+        catch (Exception ex) {
+            LOG.error("Error Compiling GSP File: ${gspfile.name} - ${ex.message}")
+            throw ex
+        }
+        page.parseTime = System.currentTimeMillis() - start
+        page
+    }
 
-                // register viewuri -> classname mapping
-                compileGSPResults[viewuri] = fullClassName
+    /**
+     * Compiles the Groovy source of parsed pages with a single {@link CompilationUnit}, so that the classes
+     * are resolved and the AST transformations are set up once for all pages of the batch.
+     * When some pages of the batch fail to compile, the failing pages are reported and the classes of the
+     * remaining pages are compiled and written before the error is rethrown, so that only the failing pages
+     * are stale on the next compilation.
+     *
+     * @return The generated classes, which haven't been written yet
+     */
+    protected Collection<GroovyClass> compileBatch(List<GroovyPageSource> pages) {
+        long start = System.currentTimeMillis()
+        CompilationUnit unit = new CompilationUnit(compilerConfig, null, classLoader)
+        unit.addPhaseOperation(operation, Phases.CANONICALIZATION)
+        for (GroovyPageSource page : pages) {
+            unit.addSource(page.className + '.groovy', page.groovySource)
+        }
+        try {
+            unit.compile(Phases.CLASS_GENERATION)
+        }
+        catch (MultipleCompilationErrorsException ex) {
+            Map<GroovyPageSource, List<String>> errors = findCompilationErrors(pages, ex)
+            if (!errors) {
+                LOG.error("Error Compiling GSP Files: ${pages.collect { it.gspFile.name }.join(', ')} - ${ex.message}")
+                throw ex
+            }
+            for (Map.Entry<GroovyPageSource, List<String>> error : errors.entrySet()) {
+                LOG.error("Error Compiling GSP File: ${error.key.gspFile.name} - ${error.value.join(', ')}")
+            }
+            List<GroovyPageSource> remainingPages = pages.findAll { GroovyPageSource page -> !errors.containsKey(page) }
+            if (remainingPages) {
+                for (GroovyClass groovyClass : compileBatch(remainingPages)) {
+                    writeClass(groovyClass)
+                }
+            }
+            throw ex
+        }
+        catch (Exception ex) {
+            LOG.error("Error Compiling GSP Files: ${pages.collect { it.gspFile.name }.join(', ')} - ${ex.message}")
+            throw ex
+        }
+        long compileTime = (System.currentTimeMillis() - start).intdiv(pages.size()).longValue()
+        for (GroovyPageSource page : pages) {
+            page.compileTime = compileTime
+            page.groovySource = null
+        }
+        (Collection<GroovyClass>) unit.getClasses()
+    }
 
-                CompilationUnit unit = new CompilationUnit(compilerConfig, null, classLoader)
-                unit.addPhaseOperation(operation, Phases.CANONICALIZATION)
-                unit.addSource(gspgroovyfile.name, gsptarget.toString())
-                // unit.addSource(gspgroovyfile)
-                unit.compile()
+    /**
+     * Finds the pages of a batch that failed to compile from the syntax errors collected by the compiler, which
+     * reports the errors of every source that failed in the same phase
+     *
+     * @return The error messages by page, empty if the errors can't be attributed to a page
+     */
+    protected Map<GroovyPageSource, List<String>> findCompilationErrors(List<GroovyPageSource> pages,
+            MultipleCompilationErrorsException ex) {
+        Map<String, GroovyPageSource> pagesBySourceName = [:]
+        for (GroovyPageSource page : pages) {
+            pagesBySourceName[page.className + '.groovy'] = page
+        }
+        Map<GroovyPageSource, List<String>> errors = new LinkedHashMap<>()
+        for (Message message : ex.errorCollector.errors) {
+            if (message instanceof SyntaxErrorMessage) {
+                SyntaxException cause = ((SyntaxErrorMessage) message).cause
+                GroovyPageSource page = pagesBySourceName[cause.sourceLocator]
+                if (page != null) {
+                    List<String> pageErrors = errors[page]
+                    if (pageErrors == null) {
+                        pageErrors = []
+                        errors[page] = pageErrors
+                    }
+                    pageErrors << cause.message
+                }
             }
         }
-        else {
-            compileGSPResults[viewuri] = fullClassName
+        errors
+    }
+
+    protected CompletableFuture<Void> writeClasses(Collection<GroovyClass> classes, ExecutorService pool) {
+        List<CompletableFuture<Void>> writes = classes.collect { GroovyClass groovyClass ->
+            CompletableFuture.runAsync({ -> writeClass(groovyClass) } as Runnable, pool)
         }
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0]))
+    }
 
-        compileGSPResults
+    protected void writeClass(GroovyClass groovyClass) {
+        File classFile = new File(targetDir, groovyClass.name.replace('.', '/') + '.class')
+        classFile.parentFile.mkdirs()
+        classFile.bytes = groovyClass.bytes
     }
 
     // find out the relative path from relbase to file
@@ -280,4 +426,36 @@ class GroovyPageCompiler {
         sb.toString()
     }
 
+    /**
+     * A GSP file to compile and the state of its compilation
+     */
+    protected static class GroovyPageSource {
+
+        final File gspFile
+        final String viewUri
+        final String packageName
+        final String className
+        final File classFile
+        String groovySource
+        long parseTime
+        long compileTime
+
+        GroovyPageSource(File gspFile, String viewUri, String packageName, String className, File classFile) {
+            this.gspFile = gspFile
+            this.viewUri = viewUri
+            this.packageName = packageName
+            this.className = className
+            this.classFile = classFile
+        }
+
+        String getFullClassName() {
+            packageName ? packageName + '.' + className : className
+        }
+
+        boolean isStale() {
+            gspFile.exists() && (!classFile.exists() || gspFile.lastModified() > classFile.lastModified())
+        }
+
+    }
+
 }
@@ -78,6 +78,8 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
 
     private ConcurrentMap<String, String> precompiledGspMap;
 
+    private ClassLoader precompiledGspClassLoader;
+
     protected boolean warDeployed = Environment.isWarDeployed();
 
     protected boolean reloadEnabled = !this.warDeployed;
@@ -103,6 +105,21 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
         }
     }
 
+    /**
+     * @return The URIs of the precompiled GSPs, empty if there are none
+     */
+    public Set<String> getPrecompiledGspUris() {
+        return this.precompiledGspMap != null ? Collections.unmodifiableSet(this.precompiledGspMap.keySet()) : Collections.emptySet();
+    }
+
+    /**
+     * @param precompiledGspClassLoader The class loader of the precompiled GSP classes, such as a
+     * {@link GroovyPageArchiveClassLoader}, defaults to the context class loader
+     */
+    public void setPrecompiledGspClassLoader(ClassLoader precompiledGspClassLoader) {
+        this.precompiledGspClassLoader = precompiledGspClassLoader;
+    }
+
     public GroovyPageScriptSource findPage(final String uri) {
         GroovyPageScriptSource scriptSource = findResourceScriptSource(uri);
         if (scriptSource == null) {
@@ -393,7 +410,9 @@ public class DefaultGroovyPageLocator implements GroovyPageLocator, ResourceLoad
                         if (logger.isDebugEnabled()) {
                             logger.debug("Loading GSP template [{}]", gspClassName);
                         }
-                        gspClass = (Class<GroovyPage>) Class.forName(gspClassName, true, Thread.currentThread().getContextClassLoader());
+                        ClassLoader classLoader = this.precompiledGspClassLoader != null ?
+                                this.precompiledGspClassLoader : Thread.currentThread().getContextClassLoader();
+                        gspClass = (Class<GroovyPage>) Class.forName(gspClassName, true, classLoader);
                     }
                     catch (ClassNotFoundException e) {
                         logger.warn("Cannot load class " + gspClassName + ". Resuming on non-precompiled implementation.", e);
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gsp.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.grails.gsp.GroovyPageMetaInfo;
+
+/**
+ * A single indexed archive of precompiled GSPs, which contains the page classes with their closure classes,
+ * and the html parts and line numbers read by {@link GroovyPageMetaInfo}.
+ *
+ * <p>The archive starts with an index of the resource names and the offset and length of their contents,
+ * followed by the contents. It's read at once into an array per entry, the classes are defined by a
+ * {@link GroovyPageArchiveClassLoader} and the bytes of a class are released once it has been defined,
+ * only the data files are retained.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public final class GroovyPageArchive {
+
+    /**
+     * The name of the archive written next to <code>gsp/views.properties</code>
+     */
+    public static final String ARCHIVE_RESOURCE_NAME = "gsp/views.gspa";
+
+    private static final int MAGIC = 0x47535041;
+
+    private static final int VERSION = 1;
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final Map<String, Entry> entries;
+
+    private final List<String> pageClassNames;
+
+    private GroovyPageArchive(Map<String, Entry> entries, List<String> pageClassNames) {
+        this.entries = entries;
+        this.pageClassNames = pageClassNames;
+    }
+
+    /**
+     * Reads an archive, the stream is read fully but not closed.
+     *
+     * @param input The stream of the archive
+     * @return The archive
+     * @throws IOException If the stream cannot be read or doesn't contain an archive
+     */
+    public static GroovyPageArchive read(InputStream input) throws IOException {
+        DataInputStream dataInput = new DataInputStream(input);
+        if (dataInput.readInt() != MAGIC) {
+            throw new IOException("Not a precompiled GSP archive");
+        }
+        int version = dataInput.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported precompiled GSP archive version [" + version + "]");
+        }
+        int entryCount = dataInput.readInt();
+        Map<String, Entry> entries = new HashMap<>((int) (entryCount / 0.75f) + 1);
+        List<String> pageClassNames = new ArrayList<>();
+        List<Entry> indexedEntries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            String name = dataInput.readUTF();
+            int offset = dataInput.readInt();
+            int length = dataInput.readInt();
+            if (offset < 0 || length < 0 || offset + length < 0) {
+                throw new IOException("Corrupt precompiled GSP archive entry [" + name + "]");
+            }
+            Entry entry = new Entry(name, offset, length);
+            entries.put(name, entry);
+            indexedEntries.add(entry);
+            if (name.endsWith(CLASS_FILE_SUFFIX) && name.indexOf('$') == -1) {
+                pageClassNames.add(toClassName(name));
+            }
+        }
+        // the contents are written in the order of the index, read each entry into its own array
+        indexedEntries.sort(Comparator.comparingInt(entry -> entry.offset));
+        long position = 0;
+        for (Entry entry : indexedEntries) {
+            if (entry.offset < position) {
+                throw new IOException("Corrupt precompiled GSP archive entry [" + entry.name + "]");
+            }
+            dataInput.skipNBytes(entry.offset - position);
+            byte[] bytes = new byte[entry.length];
+            dataInput.readFully(bytes);
+            entry.bytes = bytes;
+            position = (long) entry.offset + entry.length;
+        }
+        return new GroovyPageArchive(entries, Collections.unmodifiableList(pageClassNames));
+    }
+
+    /**
+     * Writes the classes and data files of the given precompiled GSPs to an archive.
+     *
+     * @param archiveFile The archive to write
+     * @param classesDir The directory the GSPs were compiled to
+     * @param pageClassNames The names of the page classes
+     * @throws IOException If a file cannot be read or the archive cannot be written
+     */
+    public static void write(File archiveFile, File classesDir, Collection<String> pageClassNames) throws IOException {
+        Map<String, File> files = new LinkedHashMap<>();
+        for (String pageClassName : new TreeSet<>(pageClassNames)) {
+            String resourceName = pageClassName.replace('.', '/');
+            File classFile = new File(classesDir, resourceName + CLASS_FILE_SUFFIX);
+            if (!classFile.isFile()) {
+                continue;
+            }
+            files.put(resourceName + CLASS_FILE_SUFFIX, classFile);
+            File packageDir = classFile.getParentFile();
+            String packagePath = resourceName.substring(0, resourceName.length() - classFile.getName().length() + CLASS_FILE_SUFFIX.length());
+            String simpleName = classFile.getName().substring(0, classFile.getName().length() - CLASS_FILE_SUFFIX.length());
+            File[] innerClassFiles = packageDir.listFiles((dir, name) -> name.startsWith(simpleName + '$') && name.endsWith(CLASS_FILE_SUFFIX));
+            if (innerClassFiles != null) {
+                Arrays.sort(innerClassFiles);
+                for (File innerClassFile : innerClassFiles) {
+                    files.put(packagePath + innerClassFile.getName(), innerClassFile);
+                }
+            }
+            for (String postfix : new String[] { GroovyPageMetaInfo.HTML_DATA_POSTFIX, GroovyPageMetaInfo.LINENUMBERS_DATA_POSTFIX }) {
+                File dataFile = new File(packageDir, simpleName + postfix);
+                if (dataFile.isFile()) {
+                    files.put(packagePath + dataFile.getName(), dataFile);
+                }
+            }
+        }
+
+        archiveFile.getParentFile().mkdirs();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(archiveFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(files.size());
+            long offset = 0;
+            for (Map.Entry<String, File> file : files.entrySet()) {
+                long length = file.getValue().length();
+                if (offset + length > Integer.MAX_VALUE) {
+                    throw new IOException("Precompiled GSPs exceed the maximum archive size");
+                }
+                output.writeUTF(file.getKey());
+                output.writeInt((int) offset);
+                output.writeInt((int) length);
+                offset += length;
+            }
+            for (File file : files.values()) {
+                Files.copy(file.toPath(), output);
+            }
+        }
+    }
+
+    /**
+     * @return The names of the page classes in the archive, without their closure classes
+     */
+    public List<String> getPageClassNames() {
+        return this.pageClassNames;
+    }
+
+    /**
+     * @param className The name of a class
+     * @return Whether the archive contains the class
+     */
+    public boolean containsClass(String className) {
+        return this.entries.containsKey(toResourceName(className));
+    }
+
+    /**
+     * @param resourceName The name of a resource, such as the html parts of a page
+     * @return The stream of the resource or null if the archive doesn't contain it
+     */
+    public InputStream getResourceAsStream(String resourceName) {
+        Entry entry = this.entries.get(resourceName);
+        byte[] bytes = entry != null ? entry.bytes : null;
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    /**
+     * Defines an archived class, which is only called once per class while holding its class loading lock,
+     * so the bytes of the class are released once it has been defined.
+     */
+    Class<?> defineClass(GroovyPageArchiveClassLoader classLoader, String className) throws ClassNotFoundException {
+        Entry entry = this.entries.get(toResourceName(className));
+        byte[] bytes = entry != null ? entry.bytes : null;
+        if (bytes == null) {
+            throw new ClassNotFoundException(className);
+        }
+        Class<?> definedClass = classLoader.defineArchivedClass(className, bytes, 0, bytes.length);
+        entry.bytes = null;
+        return definedClass;
+    }
+
+    private static String toResourceName(String className) {
+        return className.replace('.', '/') + CLASS_FILE_SUFFIX;
+    }
+
+    private static String toClassName(String resourceName) {
+        return resourceName.substring(0, resourceName.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.');
+    }
+
+    private static final class Entry {
+
+        private final String name;
+
+        private final int offset;
+
+        private final int length;
+
+        private volatile byte[] bytes;
+
+        Entry(String name, int offset, int length) {
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+        }
+
+    }
+
+}
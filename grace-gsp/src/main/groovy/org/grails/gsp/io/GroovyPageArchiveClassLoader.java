@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gsp.io;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads precompiled GSP classes from a {@link GroovyPageArchive}, the classes and data files of the archive
+ * are preferred to the ones of the parent class loader, all other classes are loaded by the parent.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class GroovyPageArchiveClassLoader extends ClassLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroovyPageArchiveClassLoader.class);
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final GroovyPageArchive archive;
+
+    public GroovyPageArchiveClassLoader(ClassLoader parent, GroovyPageArchive archive) {
+        super(parent);
+        this.archive = archive;
+    }
+
+    public GroovyPageArchive getArchive() {
+        return this.archive;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!this.archive.containsClass(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loadedClass = findLoadedClass(name);
+            if (loadedClass == null) {
+                loadedClass = findClass(name);
+            }
+            if (resolve) {
+                resolveClass(loadedClass);
+            }
+            return loadedClass;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        return this.archive.defineClass(this, name);
+    }
+
+    Class<?> defineArchivedClass(String name, byte[] data, int offset, int length) {
+        return defineClass(name, data, offset, length);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+        InputStream resourceStream = this.archive.getResourceAsStream(name);
+        return resourceStream != null ? resourceStream : super.getResourceAsStream(name);
+    }
+
+    /**
+     * Loads and initializes all page classes of the archive in the background, so that the first request
+     * of a view doesn't wait for its classes. Classes which cannot be loaded are logged and loaded again
+     * when their view is requested.
+     *
+     * @param threads The number of threads loading the classes
+     * @return A future completed when all page classes have been loaded
+     */
+    public CompletableFuture<Void> warmUp(int threads) {
+        List<String> pageClassNames = this.archive.getPageClassNames();
+        if (pageClassNames.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, pageClassNames.size())), runnable -> {
+            Thread thread = new Thread(runnable, "grails-gsp-warmup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.currentTimeMillis();
+        List<CompletableFuture<Void>> loads = new ArrayList<>(pageClassNames.size());
+        for (String pageClassName : pageClassNames) {
+            loads.add(CompletableFuture.runAsync(() -> initializeClass(pageClassName), executor));
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[0])).whenComplete((result, failure) -> {
+            executor.shutdown();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Loaded {} precompiled GSP classes in {}ms", pageClassNames.size(), System.currentTimeMillis() - start);
+            }
+        });
+    }
+
+    private void initializeClass(String className) {
+        try {
+            Class.forName(className, true, this);
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            logger.warn("Cannot load precompiled GSP class [{}]", className, e);
+        }
+    }
+
+}
@@ -60,6 +60,15 @@ class GspCompileStaticSpec extends Specification {
         rendered == '123'
     }
 
+    def "model fields missing from the model are not resolved to tag libraries"() {
+        given:
+        def template = '<%@ model="Object g"%>${g == null}'
+        when:
+        def rendered = renderTemplate(template, [:], true)
+        then:
+        rendered == 'true'
+    }
+
     def "should support typed variables in both compilation modes"() {
         given:
         def template = """<%@ compileStatic="$compileStatic"%><g:def type="Date" var="date" value="\${new Date(123L)}"/>\${date.time}"""
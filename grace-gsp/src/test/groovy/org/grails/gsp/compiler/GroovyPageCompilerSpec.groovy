@@ -0,0 +1,97 @@
+package org.grails.gsp.compiler
+
+import org.grails.gsp.GroovyPageMetaInfo
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class GroovyPageCompilerSpec extends Specification {
+
+    @TempDir
+    File tempDir
+
+    File viewsDir
+    File targetDir
+
+    void setup() {
+        viewsDir = new File(tempDir, 'views')
+        targetDir = new File(tempDir, 'classes')
+        targetDir.mkdirs()
+    }
+
+    void "pages are compiled in batches and registered by their view uri"() {
+        given:
+        List<File> gsps = (1..5).collect { int i -> createView("book/show${i}.gsp", "<p>\${book${i}}</p>") }
+        GroovyPageCompiler compiler = createCompiler(gsps)
+        compiler.compileBatchSize = 2
+
+        when:
+        Map views = compiler.compile()
+
+        then:
+        views.size() == 5
+        views.keySet() == (1..5).collect { "/book/show${it}.gsp" } as Set
+        views.values().every { String className -> new File(targetDir, className + '.class').isFile() }
+        views.values().every { String className -> new File(targetDir, className + GroovyPageMetaInfo.HTML_DATA_POSTFIX).isFile() }
+        new File(targetDir, 'gsp/views.properties').isFile()
+        compiler.pageTimings.keySet() == views.keySet()
+    }
+
+    void "pages which are up to date are registered without being compiled again"() {
+        given:
+        File gsp = createView('book/list.gsp', '<p>list</p>')
+        createCompiler([gsp]).compile()
+        GroovyPageCompiler compiler = createCompiler([gsp])
+
+        when:
+        Map views = compiler.compile()
+
+        then:
+        views.keySet() == ['/book/list.gsp'] as Set
+        compiler.pageTimings.isEmpty()
+    }
+
+    void "compilation errors are rethrown"() {
+        given:
+        GroovyPageCompiler compiler = createCompiler([createView('book/broken.gsp', '<% def x = ( %>')])
+
+        when:
+        compiler.compile()
+
+        then:
+        thrown(Exception)
+    }
+
+    void "pages of a batch without errors are compiled when another page of the batch fails"() {
+        given:
+        List<File> gsps = [createView('book/list.gsp', '<p>list</p>'),
+                           createView('book/broken.gsp', '<% def x = ( %>'),
+                           createView('book/show.gsp', '<p>\${book}</p>')]
+        GroovyPageCompiler compiler = createCompiler(gsps)
+
+        when:
+        compiler.compile()
+
+        then:
+        thrown(Exception)
+        classFile(compiler, gsps[0]).isFile()
+        !classFile(compiler, gsps[1]).exists()
+        classFile(compiler, gsps[2]).isFile()
+    }
+
+    private File createView(String path, String content) {
+        File gsp = new File(viewsDir, path)
+        gsp.parentFile.mkdirs()
+        gsp.text = content
+        gsp
+    }
+
+    private File classFile(GroovyPageCompiler compiler, File gsp) {
+        compiler.createPageSource(viewsDir, gsp, compiler.viewPrefix, compiler.packagePrefix).classFile
+    }
+
+    private GroovyPageCompiler createCompiler(List<File> gsps) {
+        new GroovyPageCompiler(viewsDir: viewsDir, targetDir: targetDir, srcFiles: gsps,
+                generatedGroovyPagesDirectory: new File(tempDir, 'generated'))
+    }
+
+}
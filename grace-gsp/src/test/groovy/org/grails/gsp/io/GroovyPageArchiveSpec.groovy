@@ -0,0 +1,82 @@
+package org.grails.gsp.io
+
+import org.codehaus.groovy.control.CompilationUnit
+import org.codehaus.groovy.control.CompilerConfiguration
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import org.grails.gsp.GroovyPageMetaInfo
+
+class GroovyPageArchiveSpec extends Specification {
+
+    @TempDir
+    File classesDir
+
+    void setup() {
+        CompilerConfiguration config = new CompilerConfiguration(targetDirectory: classesDir)
+        CompilationUnit unit = new CompilationUnit(config)
+        unit.addSource('gsp_test_indexgsp.groovy', '''
+class gsp_test_indexgsp {
+    static final String TITLE = 'index'
+    def render() { [1, 2].collect { it * 2 } }
+}
+class gsp_test_showgsp {
+    static {
+        System.setProperty('gsp_test_showgsp.initialized', 'true')
+    }
+}
+''')
+        unit.compile()
+        new File(classesDir, 'gsp_test_indexgsp' + GroovyPageMetaInfo.HTML_DATA_POSTFIX).bytes = [1, 2, 3] as byte[]
+    }
+
+    void "page classes, their closures and data files are loaded from the archive"() {
+        given:
+        File archiveFile = new File(classesDir, GroovyPageArchive.ARCHIVE_RESOURCE_NAME)
+        GroovyPageArchive.write(archiveFile, classesDir, ['gsp_test_indexgsp', 'gsp_test_showgsp', 'gsp_test_missinggsp'])
+
+        when:
+        GroovyPageArchive archive = archiveFile.withInputStream { GroovyPageArchive.read(it) }
+        GroovyPageArchiveClassLoader classLoader = new GroovyPageArchiveClassLoader(getClass().classLoader, archive)
+        Class<?> pageClass = Class.forName('gsp_test_indexgsp', true, classLoader)
+
+        then:
+        archive.pageClassNames == ['gsp_test_indexgsp', 'gsp_test_showgsp']
+        pageClass.classLoader.is(classLoader)
+        pageClass.getDeclaredConstructor().newInstance().render() == [2, 4]
+        pageClass.getResourceAsStream('gsp_test_indexgsp' + GroovyPageMetaInfo.HTML_DATA_POSTFIX).bytes == [1, 2, 3] as byte[]
+        classLoader.loadClass(String.name).is(String)
+
+        and: "the bytes of a defined class are released"
+        archive.getResourceAsStream('gsp_test_indexgsp.class') == null
+        archive.getResourceAsStream('gsp_test_showgsp.class') != null
+    }
+
+    void cleanup() {
+        System.clearProperty('gsp_test_showgsp.initialized')
+    }
+
+    void "warm up loads and initializes all page classes"() {
+        given:
+        File archiveFile = new File(classesDir, GroovyPageArchive.ARCHIVE_RESOURCE_NAME)
+        GroovyPageArchive.write(archiveFile, classesDir, ['gsp_test_indexgsp', 'gsp_test_showgsp'])
+        GroovyPageArchive archive = archiveFile.withInputStream { GroovyPageArchive.read(it) }
+        GroovyPageArchiveClassLoader classLoader = new GroovyPageArchiveClassLoader(getClass().classLoader, archive)
+
+        when:
+        classLoader.warmUp(2).get()
+
+        then:
+        System.getProperty('gsp_test_showgsp.initialized') == 'true'
+    }
+
+    void "streams which aren't archives are rejected"() {
+        when:
+        GroovyPageArchive.read(new ByteArrayInputStream(new byte[12]))
+
+        then:
+        IOException e = thrown()
+        e.message == 'Not a precompiled GSP archive'
+    }
+
+}
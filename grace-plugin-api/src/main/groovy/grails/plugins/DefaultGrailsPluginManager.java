@@ -852,16 +852,16 @@ public class DefaultGrailsPluginManager extends AbstractGrailsPluginManager {
         for (Class<?> COMMON_CLASS : COMMON_CLASSES) {
             registry.removeMetaClass(COMMON_CLASS);
         }
-        for (GrailsPlugin plugin : this.loadedPlugins) {
-            if (plugin.supportsCurrentScopeAndEnvironment()) {
-                try {
-                    plugin.doWithDynamicMethods(this.applicationContext);
-                }
-                catch (Throwable t) {
-                    throw new GrailsConfigurationException("Error configuring dynamic methods for plugin " + plugin + ": " + t.getMessage(), t);
-                }
-            }
-        }
+        createLifecycleExecutor().execute("doWithDynamicMethods",
+                GrailsPlugin::supportsCurrentScopeAndEnvironment,
+                plugin -> {
+                    try {
+                        plugin.doWithDynamicMethods(this.applicationContext);
+                    }
+                    catch (Throwable t) {
+                        throw new GrailsConfigurationException("Error configuring dynamic methods for plugin " + plugin + ": " + t.getMessage(), t);
+                    }
+                });
     }
 
     private PluginFilter getPluginFilter() {
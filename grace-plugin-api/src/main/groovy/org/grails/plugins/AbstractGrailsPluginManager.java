@@ -53,6 +53,8 @@ import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.util.Assert;
 
 import grails.artefact.Enhanced;
+import grails.config.Config;
+import grails.config.Settings;
 import grails.core.ArtefactHandler;
 import grails.core.GrailsApplication;
 import grails.plugins.DynamicGrailsPlugin;
@@ -118,6 +120,8 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
 
     protected boolean loadCorePlugins = true;
 
+    protected Boolean parallelLifecycle;
+
     private static final String CONFIG_BINDING_USER_HOME = "userHome";
 
     private static final String CONFIG_BINDING_GRAILS_HOME = "grailsHome";
@@ -200,11 +204,10 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
 
         checkInitialised();
 
-        for (GrailsPlugin plugin : this.loadedPlugins) {
-            if (plugin.supportsCurrentScopeAndEnvironment() && plugin.isEnabled(context.getEnvironment().getActiveProfiles())) {
-                plugin.doWithRuntimeConfiguration(springConfig);
-            }
-        }
+        String[] activeProfiles = context.getEnvironment().getActiveProfiles();
+        createLifecycleExecutor().execute("doWithSpring",
+                plugin -> plugin.supportsCurrentScopeAndEnvironment() && plugin.isEnabled(activeProfiles),
+                plugin -> plugin.doWithRuntimeConfiguration(springConfig));
     }
 
     /**
@@ -263,14 +266,9 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
     public void doPostProcessing(ApplicationContext ctx) {
         checkInitialised();
 
-        for (GrailsPlugin plugin : this.loadedPlugins) {
-            if (isPluginDisabledForProfile(plugin)) {
-                continue;
-            }
-            if (plugin.supportsCurrentScopeAndEnvironment()) {
-                plugin.doWithApplicationContext(ctx);
-            }
-        }
+        createLifecycleExecutor().execute("doWithApplicationContext",
+                plugin -> !isPluginDisabledForProfile(plugin) && plugin.supportsCurrentScopeAndEnvironment(),
+                plugin -> plugin.doWithApplicationContext(ctx));
     }
 
     public Resource[] getPluginResources() {
@@ -316,12 +314,10 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
                 emc.initialize();
             }
             ApplicationContext ctx = this.applicationContext;
-            for (GrailsPlugin plugin : this.loadedPlugins) {
-                if (!plugin.isEnabled(ctx.getEnvironment().getActiveProfiles())) {
-                    continue;
-                }
-                plugin.doWithDynamicMethods(ctx);
-            }
+            String[] activeProfiles = ctx.getEnvironment().getActiveProfiles();
+            createLifecycleExecutor().execute("doWithDynamicMethods",
+                    plugin -> plugin.isEnabled(activeProfiles),
+                    plugin -> plugin.doWithDynamicMethods(ctx));
         }
     }
 
@@ -461,6 +457,27 @@ public abstract class AbstractGrailsPluginManager implements GrailsPluginManager
         }
     }
 
+    /**
+     * Sets whether to execute the lifecycle phases of independent plugins concurrently,
+     * overrides {@link Settings#PLUGIN_PARALLEL_LIFECYCLE}.
+     */
+    public void setParallelLifecycle(boolean parallelLifecycle) {
+        this.parallelLifecycle = parallelLifecycle;
+    }
+
+    public boolean isParallelLifecycle() {
+        if (this.parallelLifecycle != null) {
+            return this.parallelLifecycle;
+        }
+        Config config = this.application.getConfig();
+        return config != null && config.getProperty(Settings.PLUGIN_PARALLEL_LIFECYCLE, Boolean.class, false);
+    }
+
+    protected PluginLifecycleExecutor createLifecycleExecutor() {
+        return new PluginLifecycleExecutor(this.loadedPlugins, this::getGrailsPlugin,
+                getApplicationStartup(), isParallelLifecycle());
+    }
+
     protected boolean isPluginDisabledForProfile(GrailsPlugin plugin) {
         return this.applicationContext != null && !plugin.isEnabled(this.applicationContext.getEnvironment().getActiveProfiles());
     }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import grails.plugins.GrailsPlugin;
+import grails.plugins.exceptions.PluginException;
+
+/**
+ * Executes a lifecycle phase, such as {@code doWithSpring}, for the given plugins and records the time spent
+ * in every plugin as an {@link ApplicationStartup} step.
+ *
+ * <p>The plugins are expected in load order. When parallel execution is enabled, plugins run concurrently
+ * as soon as all the plugins they depend on ({@code dependsOn}, {@code loadAfter} and {@code loadBefore})
+ * have completed the phase, so independent branches of the plugin graph are processed at the same time,
+ * while the order along every edge is kept. Plugins configuring the same beans or meta classes must therefore
+ * declare their ordering.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class PluginLifecycleExecutor {
+
+    private static final Log logger = LogFactory.getLog(PluginLifecycleExecutor.class);
+
+    private final List<GrailsPlugin> plugins;
+
+    private final Function<String, GrailsPlugin> pluginLookup;
+
+    private final ApplicationStartup applicationStartup;
+
+    private final boolean parallel;
+
+    /**
+     * Creates a new executor.
+     * @param plugins the plugins in load order
+     * @param pluginLookup resolves a plugin by its name
+     * @param applicationStartup the application startup to record the steps
+     * @param parallel whether to run independent plugins concurrently
+     */
+    public PluginLifecycleExecutor(List<GrailsPlugin> plugins, Function<String, GrailsPlugin> pluginLookup,
+            ApplicationStartup applicationStartup, boolean parallel) {
+        this.plugins = plugins;
+        this.pluginLookup = pluginLookup;
+        this.applicationStartup = applicationStartup;
+        this.parallel = parallel;
+    }
+
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Executes a lifecycle phase.
+     * @param phase the name of the phase, used as tag of the startup steps
+     * @param condition whether the phase applies to a plugin
+     * @param callback the phase to execute for a plugin
+     */
+    public void execute(String phase, Predicate<GrailsPlugin> condition, Consumer<GrailsPlugin> callback) {
+        if (!this.parallel || this.plugins.size() < 2) {
+            for (GrailsPlugin plugin : this.plugins) {
+                if (condition.test(plugin)) {
+                    executePhase(phase, plugin, callback);
+                }
+            }
+            return;
+        }
+
+        int poolSize = Math.min(this.plugins.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize,
+                new CustomizableThreadFactory("grails-plugin-" + phase + "-"));
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Map<GrailsPlugin, CompletableFuture<Void>> futures = new HashMap<>();
+            for (GrailsPlugin plugin : this.plugins) {
+                List<CompletableFuture<Void>> predecessors = new ArrayList<>();
+                for (GrailsPlugin predecessor : resolvePredecessors(plugin)) {
+                    CompletableFuture<Void> future = futures.get(predecessor);
+                    if (future != null) {
+                        predecessors.add(future);
+                    }
+                }
+                CompletableFuture<Void> future = CompletableFuture
+                        .allOf(predecessors.toArray(new CompletableFuture<?>[0]))
+                        .thenRunAsync(() -> {
+                            if (condition.test(plugin)) {
+                                Thread thread = Thread.currentThread();
+                                ClassLoader previous = thread.getContextClassLoader();
+                                thread.setContextClassLoader(contextClassLoader);
+                                try {
+                                    executePhase(phase, plugin, callback);
+                                }
+                                finally {
+                                    thread.setContextClassLoader(previous);
+                                }
+                            }
+                        }, executor);
+                futures.put(plugin, future);
+            }
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+        }
+        catch (CompletionException ex) {
+            Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PluginException("Error executing plugin phase [" + phase + "]: " + cause.getMessage(), cause);
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private void executePhase(String phase, GrailsPlugin plugin, Consumer<GrailsPlugin> callback) {
+        StartupStep step = this.applicationStartup.start("grails.plugins.lifecycle")
+                .tag("phase", phase)
+                .tag("plugin", plugin.getName());
+        long time = logger.isDebugEnabled() ? System.currentTimeMillis() : 0;
+        try {
+            callback.accept(plugin);
+        }
+        finally {
+            step.end();
+            if (logger.isDebugEnabled()) {
+                logger.debug(String.format("Plugin [%s] completed %s in %d ms", plugin.getName(), phase,
+                        (System.currentTimeMillis() - time)));
+            }
+        }
+    }
+
+    /**
+     * Resolves the plugins that have to complete a phase before the given plugin, only plugins
+     * preceding it in load order are considered.
+     */
+    private Set<GrailsPlugin> resolvePredecessors(GrailsPlugin plugin) {
+        Set<GrailsPlugin> predecessors = new LinkedHashSet<>();
+        int index = this.plugins.indexOf(plugin);
+        addPredecessors(predecessors, plugin.getDependencyNames(), index);
+        addPredecessors(predecessors, plugin.getLoadAfterNames(), index);
+        for (int i = 0; i < index; i++) {
+            GrailsPlugin other = this.plugins.get(i);
+            String[] loadBefore = other.getLoadBeforeNames();
+            if (loadBefore != null) {
+                for (String name : loadBefore) {
+                    if (this.pluginLookup.apply(name) == plugin) {
+                        predecessors.add(other);
+                        break;
+                    }
+                }
+            }
+        }
+        return predecessors;
+    }
+
+    private void addPredecessors(Set<GrailsPlugin> predecessors, String[] names, int index) {
+        if (names == null) {
+            return;
+        }
+        for (String name : names) {
+            GrailsPlugin predecessor = this.pluginLookup.apply(name);
+            if (predecessor != null && this.plugins.indexOf(predecessor) < index) {
+                predecessors.add(predecessor);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.grails.plugins
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import org.springframework.core.metrics.ApplicationStartup
+import org.springframework.core.metrics.StartupStep
+import spock.lang.Specification
+
+import grails.plugins.GrailsPlugin
+
+class PluginLifecycleExecutorSpec extends Specification {
+
+    void "Test plugins are executed sequentially in load order"() {
+        given:
+        List<GrailsPlugin> plugins = [plugin('core'), plugin('web', ['core']), plugin('rest', [], ['web'])]
+        List<String> executed = []
+
+        when:
+        executor(plugins, false).execute('doWithSpring', { true }, { GrailsPlugin p -> executed << p.name })
+
+        then:
+        executed == ['core', 'web', 'rest']
+    }
+
+    void "Test independent plugins run concurrently while dependencies are respected"() {
+        given:"two independent plugins that wait for each other and a plugin depending on both"
+        CountDownLatch latch = new CountDownLatch(2)
+        List<GrailsPlugin> plugins = [plugin('a'), plugin('b'), plugin('c', ['a'], ['b'])]
+        Queue<String> executed = new ConcurrentLinkedQueue<>()
+
+        when:
+        executor(plugins, true).execute('doWithSpring', { true }, { GrailsPlugin p ->
+            if (p.name != 'c') {
+                latch.countDown()
+                assert latch.await(10, TimeUnit.SECONDS)
+            }
+            executed << p.name
+        })
+
+        then:
+        executed.size() == 3
+        executed.last() == 'c'
+    }
+
+    void "Test a plugin with loadBefore completes before the other plugin"() {
+        given:
+        List<GrailsPlugin> plugins = [plugin('first', [], [], ['second']), plugin('second')]
+        Queue<String> executed = new ConcurrentLinkedQueue<>()
+
+        when:
+        executor(plugins, true).execute('doWithSpring', { true }, { GrailsPlugin p ->
+            if (p.name == 'first') {
+                Thread.sleep(50)
+            }
+            executed << p.name
+        })
+
+        then:
+        executed as List == ['first', 'second']
+    }
+
+    void "Test failures of a plugin are propagated and dependents are skipped"() {
+        given:
+        List<GrailsPlugin> plugins = [plugin('a'), plugin('b', ['a'])]
+        Queue<String> executed = new ConcurrentLinkedQueue<>()
+
+        when:
+        executor(plugins, true).execute('doWithSpring', { true }, { GrailsPlugin p ->
+            if (p.name == 'a') {
+                throw new IllegalStateException('bad plugin')
+            }
+            executed << p.name
+        })
+
+        then:
+        IllegalStateException e = thrown()
+        e.message == 'bad plugin'
+        executed.isEmpty()
+    }
+
+    void "Test disabled plugins are skipped and every executed plugin is recorded as startup step"() {
+        given:
+        List<GrailsPlugin> plugins = [plugin('a'), plugin('b'), plugin('c')]
+        StartupStep step = Mock(StartupStep)
+        step.tag(_ as String, _ as String) >> step
+        ApplicationStartup startup = Mock(ApplicationStartup)
+
+        when:
+        new PluginLifecycleExecutor(plugins, { String name -> plugins.find { it.name == name } }, startup, true)
+                .execute('doWithApplicationContext', { GrailsPlugin p -> p.name != 'b' }, { })
+
+        then:
+        2 * startup.start('grails.plugins.lifecycle') >> step
+        2 * step.end()
+    }
+
+    private PluginLifecycleExecutor executor(List<GrailsPlugin> plugins, boolean parallel) {
+        new PluginLifecycleExecutor(plugins, { String name -> plugins.find { it.name == name } },
+                ApplicationStartup.DEFAULT, parallel)
+    }
+
+    private GrailsPlugin plugin(String name, List<String> dependsOn = [], List<String> loadAfter = [],
+                                List<String> loadBefore = []) {
+        Stub(GrailsPlugin) {
+            getName() >> name
+            getDependencyNames() >> (dependsOn as String[])
+            getLoadAfterNames() >> (loadAfter as String[])
+            getLoadBeforeNames() >> (loadBefore as String[])
+        }
+    }
+
+}
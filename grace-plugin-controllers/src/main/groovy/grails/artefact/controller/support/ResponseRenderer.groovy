@@ -15,6 +15,8 @@
  */
 package grails.artefact.controller.support
 
+import java.nio.file.Path
+
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
 
@@ -26,13 +28,14 @@ import groovy.xml.slurpersupport.GPathResult
 import org.springframework.beans.factory.NoSuchBeanDefinitionException
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.beans.factory.annotation.Qualifier
+import org.springframework.core.io.FileSystemResource
+import org.springframework.core.io.Resource
 import org.springframework.http.HttpStatus
 import org.springframework.web.context.request.RequestAttributes
 import org.springframework.web.context.request.RequestContextHolder
 import org.springframework.web.servlet.ModelAndView
 import org.springframework.web.servlet.View
 
-import grails.io.IOUtils
 import grails.plugins.GrailsPlugin
 import grails.plugins.GrailsPluginManager
 import grails.util.GrailsStringUtils
@@ -44,7 +47,10 @@ import grails.web.mime.MimeUtility
 
 import org.grails.gsp.GroovyPageTemplate
 import org.grails.io.support.SpringIOUtils
+import org.grails.plugins.web.controllers.FileResourceRenderer
+import org.grails.web.gsp.ParallelTemplateRenderer
 import org.grails.web.json.JSONElement
+import org.grails.web.pages.GSPResponseWriter
 import org.grails.web.servlet.mvc.ActionResultTransformer
 import org.grails.web.servlet.mvc.GrailsWebRequest
 import org.grails.web.servlet.mvc.exceptions.ControllerExecutionException
@@ -74,6 +80,7 @@ trait ResponseRenderer extends WebAttributes {
     private MimeUtility mimeUtility
     private GroovyPageLayoutFinder groovyPageLayoutFinder
     private GrailsPluginManager pluginManager
+    private ParallelTemplateRenderer parallelTemplateRenderer
 
     @Generated
     @Autowired(required = false)
@@ -349,7 +356,8 @@ trait ResponseRenderer extends WebAttributes {
                             setTemplateModel webRequest, binding, (Map) modelObject
                         }
                     }
-                    renderTemplateForCollection webRequest, view, binding, colObject, var
+                    boolean parallel = 'true' == String.valueOf(argMap[ARGUMENT_PARALLEL])
+                    renderTemplateForCollection webRequest, view, binding, colObject, var, parallel && !renderWithLayout
                 }
                 else if (hasModel) {
                     if (modelObject instanceof Map) {
@@ -373,7 +381,8 @@ trait ResponseRenderer extends WebAttributes {
 
             def o = argMap[ARGUMENT_FILE]
             def fnO = argMap[ARGUMENT_FILE_NAME]
-            String fileName = fnO ? fnO.toString() : ((o instanceof File) ? ((File) o).name : null)
+            Resource resource = toFileResource(o)
+            String fileName = fnO ? fnO.toString() : resource?.filename
             if (o) {
                 boolean hasContentType = applyContentType(response, argMap, null, false)
                 if (fileName) {
@@ -387,19 +396,26 @@ trait ResponseRenderer extends WebAttributes {
                             'Argument [file] of render method specified without valid [contentType] argument')
                 }
 
+                if (resource != null) {
+                    try {
+                        FileResourceRenderer.render(webRequest, resource)
+                    }
+                    catch (IOException e) {
+                        throw new ControllerExecutionException(
+                                "I/O error copying file to response: ${e.message}", e)
+                    }
+                    return
+                }
+
                 InputStream input
                 try {
-                    if (o instanceof File) {
-                        input = IOUtils.openStream(o)
-                    }
-                    else if (o instanceof InputStream) {
+                    if (o instanceof InputStream) {
                         input = (InputStream) o
                     }
-                    else if (o instanceof byte[]) {
-                        input = new ByteArrayInputStream((byte[]) o)
-                    }
                     else {
-                        input = IOUtils.openStream(new File(o.toString()))
+                        byte[] bytes = (byte[]) o
+                        response.setContentLength(bytes.length)
+                        input = new ByteArrayInputStream(bytes)
                     }
                     SpringIOUtils.copy input, response.getOutputStream()
                 }
@@ -594,9 +610,17 @@ trait ResponseRenderer extends WebAttributes {
     private void renderTemplateForCollection(GrailsWebRequest webRequest,
                                              View view, Map binding,
                                              Object colObject,
-                                             String var) throws IOException {
+                                             String var,
+                                             boolean parallel) throws IOException {
         if (colObject instanceof Iterable) {
             Iterable c = (Iterable) colObject
+            if (parallel && view instanceof GroovyPageView) {
+                ParallelTemplateRenderer renderer = getParallelTemplateRenderer(webRequest)
+                if (renderer != null) {
+                    renderTemplateForCollectionInParallel webRequest, (GroovyPageView) view, renderer, binding, c, var
+                    return
+                }
+            }
             for (Object o : c) {
                 if (GrailsStringUtils.isBlank(var)) {
                     binding.put DEFAULT_ARGUMENT, o
@@ -619,6 +643,44 @@ trait ResponseRenderer extends WebAttributes {
         }
     }
 
+    private void renderTemplateForCollectionInParallel(GrailsWebRequest webRequest, GroovyPageView view,
+                                                       ParallelTemplateRenderer renderer,
+                                                       Map binding, Iterable collection, String var) {
+        List<Map> models = []
+        for (Object o : collection) {
+            Map model = new LinkedHashMap(binding)
+            model.put(GrailsStringUtils.isBlank(var) ? DEFAULT_ARGUMENT : var, o)
+            models.add(model)
+        }
+        GroovyPageTemplate template = (GroovyPageTemplate) view.template
+        HttpServletResponse response = webRequest.currentResponse
+        // the content type is set before rendering, so that the templates don't set it concurrently
+        if (response.contentType == null) {
+            response.contentType = template.metaInfo.contentType
+        }
+        GSPResponseWriter out = GSPResponseWriter.getInstance(response)
+        webRequest.setOut(out)
+        try {
+            renderer.render(webRequest, models, out, { Map model, Writer itemOut ->
+                template.make(model).writeTo(itemOut)
+            })
+        }
+        catch (Exception e) {
+            out.setError()
+            throw new ControllerExecutionException(e.getMessage(), e)
+        }
+        finally {
+            out.close()
+        }
+    }
+
+    private ParallelTemplateRenderer getParallelTemplateRenderer(GrailsWebRequest webRequest) {
+        if (parallelTemplateRenderer == null) {
+            parallelTemplateRenderer = webRequest.getApplicationContext().getBeanProvider(ParallelTemplateRenderer).getIfAvailable()
+        }
+        parallelTemplateRenderer
+    }
+
     private void renderViewForTemplate(GrailsWebRequest webRequest, View view, Map binding) {
         try {
             view.render binding, webRequest.getCurrentRequest(), webRequest.getResponse()
@@ -628,6 +690,19 @@ trait ResponseRenderer extends WebAttributes {
         }
     }
 
+    private Resource toFileResource(Object o) {
+        if (o == null || o instanceof InputStream || o instanceof byte[]) {
+            return null
+        }
+        if (o instanceof Resource) {
+            return (Resource) o
+        }
+        if (o instanceof Path) {
+            return new FileSystemResource((Path) o)
+        }
+        new FileSystemResource(o instanceof File ? (File) o : new File(o.toString()))
+    }
+
     private boolean detectContentTypeFromFileName(GrailsWebRequest webRequest, HttpServletResponse response, Map argMap, String fileName) {
         if (mimeUtility) {
             MimeType mimeType = mimeUtility.getMimeTypeForExtension(GrailsStringUtils.getFilenameExtension(fileName))
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins.web.controllers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StreamUtils;
+
+import grails.web.http.HttpHeaders;
+
+import org.grails.web.servlet.mvc.GrailsWebRequest;
+
+/**
+ * Renders a {@link Resource} such as a file to the response.
+ *
+ * <p>Supports conditional requests with the {@code ETag} and {@code Last-Modified} headers of the resource,
+ * which are answered with {@code 304 Not Modified}, and single or multiple byte ranges, which are answered
+ * with {@code 206 Partial Content}. A range request with an {@code If-Range} header which is a weak entity tag,
+ * or which doesn't match the entity tag or the exact last modification date, is answered with the whole content.
+ * The container's sendfile support is used to send the content of files when the container provides it,
+ * otherwise the content is copied from a {@link FileChannel} to the response stream.</p>
+ *
+ * <p>Resources which can only be read once, such as an {@code InputStreamResource}, are copied as a whole,
+ * without a {@code Content-Length} and without support for conditional or range requests.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public final class FileResourceRenderer {
+
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+    private static final String ACCEPT_RANGES_BYTES = "bytes";
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private FileResourceRenderer() {
+    }
+
+    /**
+     * Renders the resource to the response of the given request, the content type has to be set already.
+     *
+     * @param webRequest The current request
+     * @param resource The resource to render
+     * @throws IOException if the resource could not be read or written
+     */
+    public static void render(GrailsWebRequest webRequest, Resource resource) throws IOException {
+        HttpServletRequest request = webRequest.getCurrentRequest();
+        HttpServletResponse response = webRequest.getCurrentResponse();
+        boolean isGet = HttpMethod.GET.matches(request.getMethod());
+        boolean isHead = HttpMethod.HEAD.matches(request.getMethod());
+
+        if (resource.isOpen()) {
+            // the length of a stream is unknown without consuming it, so it can only be copied as a whole
+            if (!isHead) {
+                OutputStream out = response.getOutputStream();
+                try (InputStream input = resource.getInputStream()) {
+                    StreamUtils.copy(input, out);
+                }
+                out.flush();
+            }
+            return;
+        }
+
+        long length = resource.contentLength();
+        long lastModified = lastModified(resource);
+        String etag = lastModified > 0 ? "\"" + Long.toHexString(lastModified) + '-' + Long.toHexString(length) + '"' : null;
+
+        if ((isGet || isHead) && (etag != null || lastModified > 0) && webRequest.checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, ACCEPT_RANGES_BYTES);
+        String rangeHeader = isGet ? request.getHeader(HttpHeaders.RANGE) : null;
+        if (rangeHeader == null || !matchesIfRange(request, etag, lastModified)) {
+            response.setContentLengthLong(length);
+            if (!isHead) {
+                writeRegion(request, response, resource, 0, length, true);
+            }
+            return;
+        }
+
+        List<ResourceRegion> regions;
+        try {
+            regions = HttpRange.toResourceRegions(HttpRange.parseRanges(rangeHeader), resource);
+        }
+        catch (IllegalArgumentException ex) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (regions.size() == 1) {
+            ResourceRegion region = regions.get(0);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(region, length));
+            response.setContentLengthLong(region.getCount());
+            writeRegion(request, response, resource, region.getPosition(), region.getCount(), true);
+            return;
+        }
+
+        String contentType = response.getContentType();
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        ServletOutputStream out = response.getOutputStream();
+        for (ResourceRegion region : regions) {
+            println(out, "--" + boundary);
+            if (contentType != null) {
+                println(out, HttpHeaders.CONTENT_TYPE + ": " + contentType);
+            }
+            println(out, HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, length));
+            out.write(CRLF);
+            writeRegion(request, response, resource, region.getPosition(), region.getCount(), false);
+            out.write(CRLF);
+        }
+        println(out, "--" + boundary + "--");
+        out.flush();
+    }
+
+    private static void writeRegion(HttpServletRequest request, HttpServletResponse response, Resource resource,
+            long position, long count, boolean sendfileAllowed) throws IOException {
+        if (count <= 0) {
+            return;
+        }
+        if (resource.isFile()) {
+            File file = resource.getFile();
+            if (sendfileAllowed && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+                // let the container send the file after the request is processed
+                request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.getAbsolutePath());
+                request.setAttribute(SENDFILE_START_ATTRIBUTE, position);
+                request.setAttribute(SENDFILE_END_ATTRIBUTE, position + count);
+                return;
+            }
+            OutputStream out = response.getOutputStream();
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                // the Servlet API doesn't expose the socket channel, so the content is copied through a buffer
+                WritableByteChannel target = Channels.newChannel(out);
+                long transferred = 0;
+                while (transferred < count) {
+                    long written = channel.transferTo(position + transferred, count - transferred, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    transferred += written;
+                }
+            }
+            out.flush();
+        }
+        else {
+            OutputStream out = response.getOutputStream();
+            try (InputStream input = resource.getInputStream()) {
+                StreamUtils.copyRange(input, out, position, position + count - 1);
+            }
+            out.flush();
+        }
+    }
+
+    private static boolean matchesIfRange(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("W/")) {
+            // If-Range requires a strong comparison, which a weak entity tag never passes
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return etag != null && etag.equals(ifRange);
+        }
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return lastModified > 0 && lastModified / 1000 == ifRangeDate / 1000;
+        }
+        catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        }
+        catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private static String contentRange(ResourceRegion region, long length) {
+        long start = region.getPosition();
+        return "bytes " + start + '-' + (start + region.getCount() - 1) + '/' + length;
+    }
+
+    private static void println(OutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+}
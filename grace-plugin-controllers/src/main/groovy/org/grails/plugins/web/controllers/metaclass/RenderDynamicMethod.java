@@ -51,6 +51,8 @@ public final class RenderDynamicMethod {
 
     public static final String ARGUMENT_VAR = "var";
 
+    public static final String ARGUMENT_PARALLEL = "parallel";
+
     public static final String DISPOSITION_HEADER_PREFIX = "attachment;filename=";
 
     public static final String ARGUMENT_PLUGIN = "plugin";
@@ -27,13 +27,16 @@ import org.springframework.core.PriorityOrdered
 import org.springframework.core.io.Resource
 import org.springframework.util.ClassUtils
 
+import grails.config.Settings
 import grails.plugins.Plugin
+import grails.util.CacheEntry
 import grails.util.Environment
 import grails.util.GrailsUtil
 
 import org.grails.beans.support.PropertiesEditor
 import org.grails.core.support.ClassEditor
 import org.grails.dev.support.DevelopmentShutdownHook
+import org.grails.io.watch.FileWatchRegistry
 import org.grails.spring.DefaultRuntimeSpringConfiguration
 import org.grails.spring.RuntimeSpringConfigUtilities
 import org.grails.spring.RuntimeSpringConfiguration
@@ -92,9 +95,19 @@ class CoreGrailsPlugin extends Plugin implements PriorityOrdered {
                                  (Properties): PropertiesEditor]
             }
 
+            CacheEntry.setRefreshAhead(application.config.getProperty(Settings.CACHE_REFRESH_AHEAD, Boolean, CacheEntry.isRefreshAhead()))
+            CacheEntry.setRefreshJitterMillis(application.config.getProperty(Settings.CACHE_REFRESH_AHEAD_JITTER, Long, CacheEntry.getRefreshJitterMillis()))
+            CacheEntry.retainRefreshScheduler()
+            FileWatchRegistry.setEnabled(application.config.getProperty(Settings.RELOAD_WATCH_ENABLED, Boolean, FileWatchRegistry.isEnabled()))
         }
     }
 
+    @Override
+    void onShutdown(Map<String, Object> event) {
+        CacheEntry.releaseRefreshScheduler()
+        FileWatchRegistry.shutdown()
+    }
+
     @Override
     @CompileStatic
     void onChange(Map<String, Object> event) {
@@ -15,14 +15,18 @@
  */
 package org.grails.plugins.databinding;
 
+import java.nio.file.Paths;
+
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.util.StringUtils;
 
 import grails.core.GrailsApplication;
 import grails.databinding.TypedStructuredBindingEditor;
@@ -40,6 +44,10 @@ import org.grails.web.databinding.bindingsource.HalXmlDataBindingSourceCreator;
 import org.grails.web.databinding.bindingsource.JsonApiDataBindingSourceCreator;
 import org.grails.web.databinding.bindingsource.JsonDataBindingSourceCreator;
 import org.grails.web.databinding.bindingsource.XmlDataBindingSourceCreator;
+import org.grails.web.databinding.converters.InputStreamMultipartFileValueConverter;
+import org.grails.web.databinding.converters.MultipartFileSizeLimits;
+import org.grails.web.databinding.converters.PathMultipartFileValueConverter;
+import org.grails.web.databinding.converters.ReadableByteChannelMultipartFileValueConverter;
 
 /**
  * Plugin for configuring the data binding features of Grails
@@ -80,6 +88,11 @@ public class DataBindingConfiguration {
         AnnotationAwareOrderComparator.sort(defaultValueConverters);
         dataBinder.setValueConverters(defaultValueConverters);
 
+        MultipartFileSizeLimits multipartFileSizeLimits = new MultipartFileSizeLimits();
+        multipartFileSizeLimits.setMaxFileSize(this.configurationProperties.getMultipart().getMaxFileSize());
+        multipartFileSizeLimits.setMaxFileSizes(this.configurationProperties.getMultipart().getMaxFileSizes());
+        dataBinder.setMultipartFileSizeLimits(multipartFileSizeLimits);
+
         FormattedValueConverter[] defaultFormattedValueConverters = formattedValueConverters.orderedStream()
                 .toArray(FormattedValueConverter[]::new);
         dataBinder.setFormattedValueConverters(defaultFormattedValueConverters);
@@ -96,6 +109,29 @@ public class DataBindingConfiguration {
         return dataBinder;
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "grails.databinding.multipart.streaming", havingValue = "true")
+    public InputStreamMultipartFileValueConverter inputStreamMultipartFileValueConverter() {
+        return new InputStreamMultipartFileValueConverter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "grails.databinding.multipart.streaming", havingValue = "true")
+    public ReadableByteChannelMultipartFileValueConverter readableByteChannelMultipartFileValueConverter() {
+        return new ReadableByteChannelMultipartFileValueConverter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "grails.databinding.multipart.streaming", havingValue = "true")
+    public PathMultipartFileValueConverter pathMultipartFileValueConverter() {
+        PathMultipartFileValueConverter converter = new PathMultipartFileValueConverter();
+        String location = this.configurationProperties.getMultipart().getLocation();
+        if (StringUtils.hasText(location)) {
+            converter.setDirectory(Paths.get(location));
+        }
+        return converter;
+    }
+
     @Bean
     public XmlDataBindingSourceCreator xmlDataBindingSourceCreator() {
         return new XmlDataBindingSourceCreator();
@@ -16,7 +16,9 @@
 
 package org.grails.plugins.databinding;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -39,6 +41,8 @@ public class DataBindingConfigurationProperties {
 
     private List<String> dateFormats = AbstractDataBindingGrailsPlugin.DEFAULT_DATE_FORMATS;
 
+    private final Multipart multipart = new Multipart();
+
     public boolean isTrimStrings() {
         return this.trimStrings;
     }
@@ -79,4 +83,67 @@ public class DataBindingConfigurationProperties {
         this.dateFormats = dateFormats;
     }
 
+    public Multipart getMultipart() {
+        return this.multipart;
+    }
+
+    /**
+     * Binding of uploaded files.
+     */
+    public static class Multipart {
+
+        /**
+         * Whether uploaded files can be bound to InputStream, ReadableByteChannel and Path properties
+         */
+        private boolean streaming = false;
+
+        /**
+         * The maximum size in bytes of bound files, -1 for no limit
+         */
+        private long maxFileSize = -1;
+
+        /**
+         * The maximum sizes in bytes of bound files by the name of their form field
+         */
+        private Map<String, Long> maxFileSizes = new LinkedHashMap<>();
+
+        /**
+         * The directory of the temporary files bound to Path properties, defaults to java.io.tmpdir
+         */
+        private String location;
+
+        public boolean isStreaming() {
+            return this.streaming;
+        }
+
+        public void setStreaming(boolean streaming) {
+            this.streaming = streaming;
+        }
+
+        public long getMaxFileSize() {
+            return this.maxFileSize;
+        }
+
+        public void setMaxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+        }
+
+        public Map<String, Long> getMaxFileSizes() {
+            return this.maxFileSizes;
+        }
+
+        public void setMaxFileSizes(Map<String, Long> maxFileSizes) {
+            this.maxFileSizes = maxFileSizes;
+        }
+
+        public String getLocation() {
+            return this.location;
+        }
+
+        public void setLocation(String location) {
+            this.location = location;
+        }
+
+    }
+
 }
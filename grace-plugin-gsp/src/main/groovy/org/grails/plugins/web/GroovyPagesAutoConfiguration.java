@@ -15,11 +15,15 @@
  */
 package org.grails.plugins.web;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.PropertiesFactoryBean;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -53,12 +57,15 @@ import org.grails.core.io.ResourceLocator;
 import org.grails.gsp.GroovyPageResourceLoader;
 import org.grails.gsp.GroovyPagesTemplateEngine;
 import org.grails.gsp.io.CachingGroovyPageStaticResourceLocator;
+import org.grails.gsp.io.GroovyPageArchive;
+import org.grails.gsp.io.GroovyPageArchiveClassLoader;
 import org.grails.gsp.io.GroovyPageLocator;
 import org.grails.gsp.jsp.TagLibraryResolver;
 import org.grails.gsp.jsp.TagLibraryResolverImpl;
 import org.grails.taglib.TagLibraryLookup;
 import org.grails.web.errors.ErrorsViewStackTracePrinter;
 import org.grails.web.gsp.GroovyPagesTemplateRenderer;
+import org.grails.web.gsp.ParallelTemplateRenderer;
 import org.grails.web.gsp.io.CachingGrailsConventionGroovyPageLocator;
 import org.grails.web.pages.DefaultGroovyPagesUriService;
 import org.grails.web.pages.FilteringCodecsByContentTypeSettings;
@@ -78,6 +85,8 @@ import org.grails.web.util.GrailsApplicationAttributes;
 @AutoConfigureOrder
 public class GroovyPagesAutoConfiguration {
 
+    private static final Logger logger = LoggerFactory.getLogger(GroovyPagesAutoConfiguration.class);
+
     private static final String GSP_RELOAD_INTERVAL = "grails.gsp.reload.interval";
     private static final String GSP_VIEWS_DIR = "grails.gsp.view.dir";
     private static final String SITEMESH_DEFAULT_LAYOUT = "grails.sitemesh.default.layout";
@@ -145,6 +154,8 @@ public class GroovyPagesAutoConfiguration {
                 }
                 catch (IOException ignored) {
                 }
+                loadPrecompiledGspArchive(groovyPageLocator, resourceLoader,
+                        config.getProperty(Settings.GSP_ARCHIVE_WARMUP, Boolean.class, false));
             }
         }
         if (enableReload) {
@@ -155,6 +166,30 @@ public class GroovyPagesAutoConfiguration {
         return groovyPageLocator;
     }
 
+    private static void loadPrecompiledGspArchive(CachingGrailsConventionGroovyPageLocator groovyPageLocator,
+            ResourceLoader resourceLoader, boolean warmUp) {
+        Resource archiveResource = resourceLoader.getResource(GroovyPageArchive.ARCHIVE_RESOURCE_NAME);
+        if (!archiveResource.exists()) {
+            archiveResource = resourceLoader.getResource(ResourceLoader.CLASSPATH_URL_PREFIX + GroovyPageArchive.ARCHIVE_RESOURCE_NAME);
+        }
+        if (!archiveResource.exists()) {
+            return;
+        }
+        GroovyPageArchive archive;
+        try (InputStream input = new BufferedInputStream(archiveResource.getInputStream())) {
+            archive = GroovyPageArchive.read(input);
+        }
+        catch (IOException e) {
+            logger.warn("Cannot read precompiled GSP archive [{}]", archiveResource, e);
+            return;
+        }
+        GroovyPageArchiveClassLoader classLoader = new GroovyPageArchiveClassLoader(ClassUtils.getDefaultClassLoader(), archive);
+        groovyPageLocator.setPrecompiledGspClassLoader(classLoader);
+        if (warmUp) {
+            classLoader.warmUp(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
     @Bean
     @Order(-20)
     @Primary
@@ -277,13 +312,27 @@ public class GroovyPagesAutoConfiguration {
         return groovyPagesTemplateEngine;
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public ParallelTemplateRenderer parallelTemplateRenderer(ObjectProvider<GrailsApplication> grailsApplication) {
+        Config config = grailsApplication.getIfAvailable().getConfig();
+        ParallelTemplateRenderer parallelTemplateRenderer = new ParallelTemplateRenderer();
+        parallelTemplateRenderer.setEnabled(config.getProperty(Settings.GSP_RENDER_PARALLEL_ENABLED, Boolean.class, true));
+        parallelTemplateRenderer.setMaxThreads(config.getProperty(Settings.GSP_RENDER_PARALLEL_THREADS, Integer.class,
+                ParallelTemplateRenderer.DEFAULT_MAX_THREADS));
+        parallelTemplateRenderer.setTimeout(config.getProperty(Settings.GSP_RENDER_PARALLEL_TIMEOUT, Long.class,
+                ParallelTemplateRenderer.DEFAULT_TIMEOUT));
+        return parallelTemplateRenderer;
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public GroovyPagesTemplateRenderer groovyPagesTemplateRenderer(CachingGrailsConventionGroovyPageLocator groovyPageLocator,
-            GroovyPagesTemplateEngine groovyPagesTemplateEngine) {
+            GroovyPagesTemplateEngine groovyPagesTemplateEngine, ObjectProvider<ParallelTemplateRenderer> parallelTemplateRenderer) {
         GroovyPagesTemplateRenderer groovyPagesTemplateRenderer = new GroovyPagesTemplateRenderer();
         groovyPagesTemplateRenderer.setGroovyPageLocator(groovyPageLocator);
         groovyPagesTemplateRenderer.setGroovyPagesTemplateEngine(groovyPagesTemplateEngine);
+        parallelTemplateRenderer.ifAvailable(groovyPagesTemplateRenderer::setParallelTemplateRenderer);
         return groovyPagesTemplateRenderer;
     }
 
@@ -317,6 +366,14 @@ public class GroovyPagesAutoConfiguration {
         return groovyPageLayoutFinder;
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "grails.warmup.enabled", havingValue = "true")
+    public GroovyPagesWarmUpTask groovyPagesWarmUpTask(ObjectProvider<GrailsApplication> grailsApplication,
+            CachingGrailsConventionGroovyPageLocator groovyPageLocator) {
+        Config config = grailsApplication.getIfAvailable().getConfig();
+        return new GroovyPagesWarmUpTask(groovyPageLocator, config.getProperty(SITEMESH_DEFAULT_LAYOUT, "application"));
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public DefaultGroovyPagesUriService groovyPagesUriService() {
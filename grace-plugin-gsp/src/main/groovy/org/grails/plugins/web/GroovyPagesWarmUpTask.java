@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins.web;
+
+import grails.core.GrailsClass;
+import grails.core.GrailsControllerClass;
+import grails.core.warmup.WarmUpContext;
+import grails.core.warmup.WarmUpTask;
+
+import org.grails.core.artefact.ControllerArtefactHandler;
+import org.grails.web.gsp.io.GrailsConventionGroovyPageLocator;
+
+/**
+ * Warms up the GSP views, resolves the views and layouts of the controller actions and loads the classes
+ * of the precompiled GSPs, including templates.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class GroovyPagesWarmUpTask implements WarmUpTask {
+
+    private static final String LAYOUTS_PATH = "/layouts/";
+
+    private final GrailsConventionGroovyPageLocator groovyPageLocator;
+
+    private final String defaultLayoutName;
+
+    public GroovyPagesWarmUpTask(GrailsConventionGroovyPageLocator groovyPageLocator, String defaultLayoutName) {
+        this.groovyPageLocator = groovyPageLocator;
+        this.defaultLayoutName = defaultLayoutName;
+    }
+
+    @Override
+    public String getName() {
+        return "views";
+    }
+
+    @Override
+    public int getOrder() {
+        return 10;
+    }
+
+    @Override
+    public int warmUp(WarmUpContext context) {
+        int count = 0;
+        for (String uri : this.groovyPageLocator.getPrecompiledGspUris()) {
+            if (this.groovyPageLocator.findPage(uri) != null) {
+                count++;
+            }
+        }
+        for (GrailsClass grailsClass : context.getGrailsApplication().getArtefacts(ControllerArtefactHandler.TYPE)) {
+            if (!(grailsClass instanceof GrailsControllerClass)) {
+                continue;
+            }
+            GrailsControllerClass controllerClass = (GrailsControllerClass) grailsClass;
+            String controllerName = controllerClass.getLogicalPropertyName();
+            if (this.groovyPageLocator.findViewByPath(LAYOUTS_PATH + controllerName) != null) {
+                count++;
+            }
+            for (String action : controllerClass.getActions()) {
+                // resolved like the view of the action, in the namespace and the plugin of the controller
+                if (this.groovyPageLocator.findViewForController(controllerClass, action, null) != null) {
+                    count++;
+                }
+                if (this.groovyPageLocator.findViewByPath(LAYOUTS_PATH + controllerName + '/' + action) != null) {
+                    count++;
+                }
+            }
+        }
+        if (this.defaultLayoutName != null && this.groovyPageLocator.findViewByPath(LAYOUTS_PATH + this.defaultLayoutName) != null) {
+            count++;
+        }
+        return count;
+    }
+
+}
@@ -32,6 +32,7 @@ import org.springframework.web.servlet.support.RequestDataValueProcessor
 
 import grails.artefact.TagLibrary
 import grails.config.Config
+import grails.config.ConfigKey
 import grails.core.support.GrailsConfigurationAware
 import grails.gsp.TagLib
 import grails.web.mapping.LinkGenerator
@@ -57,6 +58,7 @@ class FormTagLib implements ApplicationContextAware, InitializingBean, TagLibrar
                                                    'XAF', 'NZD', 'MAD', 'DKK', 'GBP', 'CHF',
                                                    'XPF', 'ILS', 'ROL', 'TRL']
     private static final PRECISION_RANKINGS = ["year": 0, "month": 10, "day": 20, "hour": 30, "minute": 40, "second": 50]
+    private static final ConfigKey<String> DATE_PICKER_DEFAULT_PRECISION = ConfigKey.of('grails.tags.datePicker.default.precision', String)
     private static final DEFAULT_CSS_CLASSES = ['year': 'year', 'month': 'month', 'day': 'day',
                                                 'hour': 'hour', 'minute': 'minute', 'second': 'second']
 
@@ -642,9 +644,7 @@ class FormTagLib implements ApplicationContextAware, InitializingBean, TagLibrar
         }
 
         def precision = (attrs.precision ? PRECISION_RANKINGS[attrs.precision] :
-                (grailsApplication.config.getProperty('grails.tags.datePicker.default.precision') ?
-                        PRECISION_RANKINGS["${grailsApplication.config.getProperty('grails.tags.datePicker.default.precision')}"] :
-                        PRECISION_RANKINGS["minute"]))
+                PRECISION_RANKINGS[DATE_PICKER_DEFAULT_PRECISION.get(grailsApplication.config) ?: 'minute'])
 
         booleanToAttribute(attrs, 'disabled')
         booleanToAttribute(attrs, 'readonly')
@@ -985,9 +985,7 @@ class FormTagLib implements ApplicationContextAware, InitializingBean, TagLibrar
         }
 
         def precision = (attrs.precision ? PRECISION_RANKINGS[attrs.precision] :
-                (grailsApplication.config.getProperty('grails.tags.datePicker.default.precision') ?
-                        PRECISION_RANKINGS["${grailsApplication.config.getProperty('grails.tags.datePicker.default.precision')}"] :
-                        PRECISION_RANKINGS["minute"]))
+                PRECISION_RANKINGS[DATE_PICKER_DEFAULT_PRECISION.get(grailsApplication.config) ?: 'minute'])
 
         def c = null
         if (value instanceof Calendar) {
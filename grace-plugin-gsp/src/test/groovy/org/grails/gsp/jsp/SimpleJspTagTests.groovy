@@ -55,4 +55,56 @@ class SimpleJspTagTests {
 
         assertEquals "10.00", writer.toString()
     }
+
+    @Test
+    void testPooledTagHandlerUsage() {
+
+        def resolver = new TagLibraryResolverImpl()
+        resolver.servletContext = new MockServletContext()
+        resolver.grailsApplication = new DefaultGrailsApplication()
+        resolver.tldScanPatterns = ['classpath*:/META-INF/fmt.tld'] as String[]
+        resolver.resourceLoader = new DefaultResourceLoader(this.class.classLoader)
+
+        JspTag formatNumberTag = resolver.resolveTagLibrary("jakarta.tags.fmt").getTag("formatNumber")
+
+        JstlUtils.exposeLocalizationContext webRequest.getRequest(),null
+        def writer = new StringWriter()
+        formatNumberTag.doTag writer, [value:"10", pattern:".00"]
+        formatNumberTag.doTag writer, [value:"20", pattern:".0"]
+        formatNumberTag.doTag writer, [value:"30"]
+
+        assertEquals "10.0020.030", writer.toString()
+    }
+
+    @Test
+    void testPooledTagHandlersOfForkedRequestAreReleasedWithTheRootRequest() {
+
+        def resolver = new TagLibraryResolverImpl()
+        resolver.servletContext = new MockServletContext()
+        resolver.grailsApplication = new DefaultGrailsApplication()
+        resolver.tldScanPatterns = ['classpath*:/META-INF/fmt.tld'] as String[]
+        resolver.resourceLoader = new DefaultResourceLoader(this.class.classLoader)
+
+        JspTag formatNumberTag = resolver.resolveTagLibrary("jakarta.tags.fmt").getTag("formatNumber")
+        JstlUtils.exposeLocalizationContext webRequest.getRequest(),null
+        GroovyPagesPageContext pageContext = PageContextFactory.getCurrent()
+
+        GrailsWebRequest forkedRequest = webRequest.fork()
+        RequestContextHolder.setRequestAttributes(forkedRequest)
+        def writer = new StringWriter()
+        formatNumberTag.doTag writer, [value:"10", pattern:".00"]
+        formatNumberTag.doTag writer, [value:"20", pattern:".00"]
+        GroovyPagesPageContext forkedPageContext = PageContextFactory.getCurrent()
+        forkedRequest.requestCompleted()
+        RequestContextHolder.setRequestAttributes(webRequest)
+
+        assertEquals "10.0020.00", writer.toString()
+        assert !forkedPageContext.is(pageContext)
+        assert PageContextFactory.getCurrent().is(pageContext)
+        assert forkedRequest.rootRequest.is(webRequest)
+        // the pool of the forked page context is released with the root request
+        assert webRequest.@requestDestructionCallbacks.keySet().any { String name -> name.contains('TAG_HANDLER_POOL') }
+        webRequest.requestCompleted()
+        assert webRequest.@requestDestructionCallbacks.isEmpty()
+    }
 }
@@ -32,5 +32,6 @@ class TldReaderTests {
 
         assert tldReader.tags
         assertEquals tldReader.tags.localeSelect, JspLocaleSelectTag.class.name
+        assert tldReader.tagAttributes.localeSelect.containsAll(['name', 'value'])
     }
 }
@@ -18,6 +18,7 @@ package org.grails.plugins.i18n;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.SearchStrategy;
 import org.springframework.boot.autoconfigure.context.MessageSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
@@ -76,6 +77,12 @@ public class GrailsMessageSourceConfiguration {
         return messageSource;
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "grails.warmup.enabled", havingValue = "true")
+    public MessageSourceWarmUpTask messageSourceWarmUpTask(MessageSource messageSource) {
+        return new MessageSourceWarmUpTask(messageSource);
+    }
+
     @Bean
     public I18nGroovyShellBindingCustomizer i18nShellBindingCustomizer(MessageSource messageSource) {
         return new I18nGroovyShellBindingCustomizer(messageSource);
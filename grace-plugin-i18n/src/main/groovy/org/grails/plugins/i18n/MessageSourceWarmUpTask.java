@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins.i18n;
+
+import java.util.Locale;
+
+import org.springframework.context.MessageSource;
+
+import grails.core.warmup.WarmUpContext;
+import grails.core.warmup.WarmUpTask;
+
+/**
+ * Warms up the message source, loads the message bundles of the application and plugins for the warm-up locales
+ * by resolving a code which doesn't exist.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class MessageSourceWarmUpTask implements WarmUpTask {
+
+    private static final String WARMUP_CODE = "grails.warmup";
+
+    private final MessageSource messageSource;
+
+    public MessageSourceWarmUpTask(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    @Override
+    public String getName() {
+        return "messageSource";
+    }
+
+    @Override
+    public int warmUp(WarmUpContext context) {
+        for (Locale locale : context.getLocales()) {
+            this.messageSource.getMessage(WARMUP_CODE, null, null, locale);
+        }
+        return context.getLocales().size();
+    }
+
+}
@@ -45,6 +45,8 @@ import org.springframework.util.StringUtils;
 import grails.util.CacheEntry;
 import grails.util.Pair;
 
+import org.grails.io.watch.FileWatchRegistry;
+
 /**
  * Spring-specific {@link org.springframework.context.MessageSource} implementation
  * that accesses resource bundles using specified basenames, participating in the
@@ -577,6 +579,18 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
         }
     }
 
+    private FileWatchRegistry.WatchedFile watchResource(Resource resource) {
+        if (!FileWatchRegistry.isEnabled() || !resource.isFile()) {
+            return null;
+        }
+        try {
+            return FileWatchRegistry.watch(resource.getFile());
+        }
+        catch (IOException ex) {
+            return null;
+        }
+    }
+
 
     protected static class PropertiesHolderCacheEntry extends CacheEntry<PropertiesHolder> {
 
@@ -594,6 +608,16 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
             return updater.call();
         }
 
+        @Override
+        protected boolean hasExpired(long timeout, Object cacheRequestObject) {
+            PropertiesHolder holder = getValue();
+            if (timeout >= 0 && holder != null && holder.isWatched()) {
+                // the file system watcher reports changes, so there is no need to check the timestamp
+                return holder.hasChanged();
+            }
+            return super.hasExpired(timeout, cacheRequestObject);
+        }
+
     }
 
     /**
@@ -601,6 +625,8 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
      * Stores the last-modified timestamp of the source file for efficient
      * change detection, and the timestamp of the last refresh attempt
      * (updated every time the cache entry gets re-validated).
+     * If the source file can be watched with the {@link FileWatchRegistry},
+     * changes are detected from the version of the watched file instead.
      */
     protected class PropertiesHolder {
 
@@ -612,6 +638,10 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
 
         private long fileTimestamp = -1;
 
+        private volatile FileWatchRegistry.WatchedFile watchedFile;
+
+        private long watchedVersion;
+
         /** Cache to hold already generated MessageFormats per message code */
         private final ConcurrentMap<Pair<String, Locale>, CacheEntry<MessageFormat>> cachedMessageFormats = new ConcurrentHashMap<>();
 
@@ -637,6 +667,12 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
                 this.resource = locateResource(this.filename);
             }
             if (this.resource != null) {
+                FileWatchRegistry.WatchedFile watched = this.watchedFile;
+                boolean watchedChange = watched != null && watched.hasChangedSince(this.watchedVersion);
+                // start watching before the timestamp is read, so that no change gets lost in between
+                FileWatchRegistry.WatchedFile watching = ReloadableResourceBundleMessageSource.this.fileCacheMillis >= 0 ?
+                        watchResource(this.resource) : null;
+                long version = watching != null ? watching.getVersion() : 0;
                 long newFileTimestamp;
                 try {
                     newFileTimestamp = this.resource.lastModified();
@@ -647,8 +683,9 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
                     }
                     newFileTimestamp = -1;
                 }
-                if (ReloadableResourceBundleMessageSource.this.fileCacheMillis >= 0 &&
+                if (ReloadableResourceBundleMessageSource.this.fileCacheMillis >= 0 && !watchedChange &&
                         newFileTimestamp == this.fileTimestamp && this.properties != null) {
+                    watch(watching, version);
                     return false;
                 }
                 try {
@@ -661,6 +698,7 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
                         logger.warn("Could not parse properties file [" + this.resource.getFilename() + "]", ex);
                     }
                 }
+                watch(watching, version);
             }
             else {
                 // Resource does not exist.
@@ -670,10 +708,31 @@ public class ReloadableResourceBundleMessageSource extends AbstractMessageSource
                 this.properties = new Properties();
                 this.fileTimestamp = -1;
                 this.cachedMessageFormats.clear();
+                this.watchedFile = null;
             }
             return true;
         }
 
+        private void watch(FileWatchRegistry.WatchedFile watching, long version) {
+            this.watchedVersion = version;
+            this.watchedFile = watching;
+        }
+
+        /**
+         * @return Whether changes of the source file are reported by a file system watcher
+         */
+        public boolean isWatched() {
+            return this.watchedFile != null;
+        }
+
+        /**
+         * @return Whether the watched source file changed since it was loaded
+         */
+        public boolean hasChanged() {
+            FileWatchRegistry.WatchedFile watched = this.watchedFile;
+            return watched == null || watched.hasChangedSince(this.watchedVersion);
+        }
+
         public String getFilename() {
             return this.filename;
         }
@@ -15,6 +15,7 @@
  */
 package org.grails.plugins.web.interceptors
 
+import jakarta.servlet.DispatcherType
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
 
@@ -70,6 +71,11 @@ class GrailsInterceptorHandlerInterceptorAdapter implements HandlerInterceptor {
 
     @Override
     boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (request.dispatcherType == DispatcherType.ASYNC && request.getAttribute(GrailsApplicationAttributes.ASYNC_ACTION_STARTED) != null) {
+            // the action already ran with the before phase when the request was initially dispatched,
+            // the async dispatch only renders its result
+            return true
+        }
         if (!interceptors.isEmpty()) {
             List<Interceptor> matchInterceptors = []
             request.setAttribute(ATTRIBUTE_MATCHED_INTERCEPTORS, matchInterceptors)
@@ -1,9 +1,12 @@
 package grails.artefact
 
+import jakarta.servlet.DispatcherType
+
 import grails.interceptors.Matcher
 import grails.util.GrailsWebMockUtil
 import org.grails.plugins.web.interceptors.GrailsInterceptorHandlerInterceptorAdapter
 import org.grails.web.servlet.mvc.GrailsWebRequest
+import org.grails.web.util.GrailsApplicationAttributes
 import org.springframework.web.context.request.RequestContextHolder
 import org.springframework.web.servlet.ModelAndView
 import spock.lang.Issue
@@ -107,6 +110,44 @@ class GrailsInterceptorHandlerInterceptorAdapterSpec extends Specification{
             webRequest.request.getAttribute('executed') == ['lowest afterView', 'highest afterView']
     }
 
+    void "Test that the before phase is not executed again on the async dispatch of an async action"() {
+        given: "An interceptor"
+            def adapter = new GrailsInterceptorHandlerInterceptorAdapter()
+            adapter.setInterceptors([new HighestInterceptor()] as Interceptor[])
+            def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+
+        when: "The adapter preHandle is executed on the initial dispatch"
+            adapter.preHandle(webRequest.request, webRequest.response, this)
+
+        then: "The before phase is executed"
+            webRequest.request.getAttribute('executed') == ['highest before']
+
+        when: "The adapter preHandle and postHandle are executed on the async dispatch of the action result"
+            webRequest.request.setAttribute('executed', null)
+            webRequest.request.setAttribute(GrailsApplicationAttributes.ASYNC_ACTION_STARTED, true)
+            webRequest.request.setDispatcherType(DispatcherType.ASYNC)
+            adapter.preHandle(webRequest.request, webRequest.response, this)
+            adapter.postHandle(webRequest.request, webRequest.response, this, new ModelAndView())
+
+        then: "Only the after phase is executed"
+            webRequest.request.getAttribute('executed') == ['highest after']
+    }
+
+    void "Test that the before phase is executed again on other async dispatches"() {
+        given: "An interceptor"
+            def adapter = new GrailsInterceptorHandlerInterceptorAdapter()
+            adapter.setInterceptors([new HighestInterceptor()] as Interceptor[])
+            def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+
+        when: "The adapter preHandle is executed on the initial dispatch and on the async dispatch"
+            adapter.preHandle(webRequest.request, webRequest.response, this)
+            webRequest.request.setDispatcherType(DispatcherType.ASYNC)
+            adapter.preHandle(webRequest.request, webRequest.response, this)
+
+        then: "The before phase is executed on both dispatches"
+            webRequest.request.getAttribute('executed') == ['highest before', 'highest before']
+    }
+
     @Issue('https://github.com/grails/grails-core/issues/9548')
     void "Test the exception is set in the request if thrown"() {
         given:"An interceptor"
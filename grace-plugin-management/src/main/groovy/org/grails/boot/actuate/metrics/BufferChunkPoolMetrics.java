@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.boot.actuate.metrics;
+
+import java.util.Collections;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.grails.buffer.BufferChunkPool;
+
+/**
+ * A {@link MeterBinder} for the {@link BufferChunkPool#getSharedInstance() shared} {@link BufferChunkPool},
+ * no meters are bound if pooling is disabled.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class BufferChunkPoolMetrics implements MeterBinder {
+
+    private final Iterable<Tag> tags;
+
+    public BufferChunkPoolMetrics() {
+        this(Collections.emptyList());
+    }
+
+    public BufferChunkPoolMetrics(Iterable<Tag> tags) {
+        this.tags = tags;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        BufferChunkPool pool = BufferChunkPool.getSharedInstance();
+        if (pool == null) {
+            return;
+        }
+        FunctionCounter.builder("grails.buffer.pool.acquisitions", pool, BufferChunkPool::getHitCount)
+                .tags(this.tags)
+                .tag("result", "hit")
+                .description("The number of chunks acquired from the pool")
+                .register(registry);
+        FunctionCounter.builder("grails.buffer.pool.acquisitions", pool, BufferChunkPool::getMissCount)
+                .tags(this.tags)
+                .tag("result", "miss")
+                .description("The number of chunks allocated because the pool had no free chunk")
+                .register(registry);
+        FunctionCounter.builder("grails.buffer.pool.discarded", pool, BufferChunkPool::getDiscardCount)
+                .tags(this.tags)
+                .description("The number of released chunks not pooled because the pool was full")
+                .register(registry);
+        Gauge.builder("grails.buffer.pool.pooled", pool, BufferChunkPool::getPooledBytes)
+                .tags(this.tags)
+                .baseUnit(BaseUnits.BYTES)
+                .description("The size of the chunks in the pool")
+                .register(registry);
+        Gauge.builder("grails.buffer.pool.leased", pool, BufferChunkPool::getLeasedBytes)
+                .tags(this.tags)
+                .baseUnit(BaseUnits.BYTES)
+                .description("The size of the chunks leased to the requests in progress")
+                .register(registry);
+        Gauge.builder("grails.buffer.pool.max", pool, BufferChunkPool::getMaxPooledBytes)
+                .tags(this.tags)
+                .baseUnit(BaseUnits.BYTES)
+                .description("The maximum size of the chunks in the pool")
+                .register(registry);
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.grails.boot.actuate.metrics
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+import org.grails.buffer.BufferChunkPool
+
+class BufferChunkPoolMetricsSpec extends Specification {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry()
+
+    void cleanup() {
+        BufferChunkPool.setSharedInstance(null)
+    }
+
+    void "the hits, misses and leased bytes of the shared pool are published"() {
+        given:
+        BufferChunkPool pool = new BufferChunkPool(1024 * 1024, 1024 * 1024)
+        BufferChunkPool.setSharedInstance(pool)
+        new BufferChunkPoolMetrics().bindTo(registry)
+
+        when: "a chunk is allocated, returned to the pool and acquired again"
+        BufferChunkPool.Lease lease = pool.createLease()
+        lease.acquireChars(256)
+        lease.release()
+        lease.acquireChars(256)
+
+        then:
+        registry.get('grails.buffer.pool.acquisitions').tag('result', 'hit').functionCounter().count() == 1
+        registry.get('grails.buffer.pool.acquisitions').tag('result', 'miss').functionCounter().count() == 1
+        registry.get('grails.buffer.pool.leased').gauge().value() == 512
+        registry.get('grails.buffer.pool.pooled').gauge().value() == 0
+    }
+
+    void "no meters are bound when pooling is disabled"() {
+        given:
+        BufferChunkPool.setSharedInstance(null)
+
+        when:
+        new BufferChunkPoolMetrics().bindTo(registry)
+
+        then:
+        registry.meters.empty
+    }
+
+}
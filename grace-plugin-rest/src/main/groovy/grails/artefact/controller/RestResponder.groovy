@@ -23,14 +23,18 @@ import groovy.transform.Generated
 import groovy.transform.TypeChecked
 import groovy.transform.TypeCheckingMode
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.http.HttpHeaders
 import org.springframework.http.HttpStatus
 import org.springframework.validation.BeanPropertyBindingResult
 import org.springframework.validation.Errors
+import org.springframework.web.context.request.RequestAttributes
+import org.springframework.web.servlet.ModelAndView
 
 import grails.artefact.Controller
 import grails.artefact.controller.support.ResponseRenderer
 import grails.core.support.proxy.ProxyHandler
 import grails.rest.Resource
+import grails.rest.ResourceCursor
 import grails.rest.render.RenderContext
 import grails.rest.render.Renderer
 import grails.rest.render.RendererRegistry
@@ -126,6 +130,32 @@ trait RestResponder {
     }
 
     private internalRespond(Object value, Map args = [:]) {
+        if (value instanceof ResourceCursor) {
+            // the cursor is read while the response is rendered, and closed once it has been written
+            ResourceCursor cursor = (ResourceCursor) value
+            try {
+                return respondWithValue(cursor, args)
+            }
+            finally {
+                closeCursor(cursor)
+            }
+        }
+        respondWithValue(value, args)
+    }
+
+    private void closeCursor(ResourceCursor cursor) {
+        GrailsWebRequest webRequest = ((Controller) this).getWebRequest()
+        ModelAndView modelAndView = (ModelAndView) webRequest.currentRequest.getAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW)
+        if (modelAndView?.model?.values()?.any { Object modelValue -> modelValue.is(cursor) }) {
+            // a renderer has handed the cursor to a view, which reads it after the action has returned
+            webRequest.registerDestructionCallback("${ResourceCursor.name}.${System.identityHashCode(cursor)}".toString(),
+                    { cursor.close() } as Runnable, RequestAttributes.SCOPE_REQUEST)
+            return
+        }
+        cursor.close()
+    }
+
+    private respondWithValue(Object value, Map args) {
         Integer statusCode
         if (args.status) {
             Object statusValue = args.status
@@ -220,6 +250,9 @@ trait RestResponder {
             if (statusCode != null) {
                 context.setStatus(HttpStatus.valueOf(statusCode))
             }
+            if (value instanceof ResourceCursor) {
+                prepareCursorResponse((ResourceCursor) value, context, response)
+            }
             renderer.render(value, context)
             if (context.wasWrittenTo() && !response.isCommitted()) {
                 response.flushBuffer()
@@ -229,6 +262,21 @@ trait RestResponder {
         callRender([status: statusCode ?: HttpStatus.NOT_ACCEPTABLE.value()])
     }
 
+    private void prepareCursorResponse(ResourceCursor cursor, RenderContext context, HttpServletResponse response) {
+        if (cursor.nextLink) {
+            response.addHeader(HttpHeaders.LINK, "<${cursor.nextLink}>; rel=\"next\"".toString())
+        }
+        if (cursor.estimatedCount != null) {
+            response.setHeader(ResourceCursor.ESTIMATED_COUNT_HEADER, cursor.estimatedCount.toString())
+        }
+        cursor.flushTarget = {
+            // only push what the renderer has written, a view renders the cursor itself
+            if (context.wasWrittenTo()) {
+                response.flushBuffer()
+            }
+        } as Flushable
+    }
+
     private callRender(Map args) {
         ((ResponseRenderer) this).render args
     }
@@ -276,7 +324,8 @@ trait RestResponder {
     }
 
     private List<String> getDefaultResponseFormats(value) {
-        Resource resAnn = value != null ? value.getClass().getAnnotation(Resource) : null
+        Class type = value instanceof ResourceCursor ? ((ResourceCursor) value).componentType : value?.getClass()
+        Resource resAnn = type != null ? (Resource) type.getAnnotation(Resource) : null
         if (resAnn) {
             return resAnn.formats().toList()
         }
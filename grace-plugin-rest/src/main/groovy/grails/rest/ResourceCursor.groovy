@@ -0,0 +1,296 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package grails.rest
+
+import java.util.stream.Stream
+
+import groovy.transform.CompileStatic
+
+/**
+ * A collection of resources which is read from a cursor while it is rendered, so that large collections can be
+ * streamed to the client without loading them into memory first.
+ *
+ * <p>A cursor can be iterated only once. Renderers may look at the first element any number of times, for example
+ * to find the component type, but once the elements after it have been read the cursor is exhausted.
+ * The {@link #size()} of a cursor is the {@link #getEstimatedCount() estimated count} if there is one, otherwise
+ * the remaining elements are read into a list to count them, so renderers which stream should not call it.</p>
+ *
+ * <pre>
+ * def index() {
+ *     respond ResourceCursor.of(Book.where { author == params.author }.stream(), Book)
+ * }
+ * </pre>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@CompileStatic
+class ResourceCursor<T> extends AbstractCollection<T> implements Closeable {
+
+    public static final int DEFAULT_FLUSH_INTERVAL = 100
+
+    /**
+     * The response header with the estimated number of resources
+     */
+    public static final String ESTIMATED_COUNT_HEADER = 'X-Estimated-Count'
+
+    private final Iterator<T> source
+
+    private final AutoCloseable closeable
+
+    private Class<T> componentType
+
+    private T first
+
+    private boolean firstRead
+
+    private boolean consumed
+
+    private boolean closed
+
+    private boolean retainingElements
+
+    private List<T> elements
+
+    /**
+     * The estimated number of resources, or null if unknown
+     */
+    Long estimatedCount
+
+    /**
+     * The key of the element after which the next page starts, or null if this is the last page
+     */
+    Object nextCursor
+
+    /**
+     * The link to the next page, or null if this is the last page
+     */
+    String nextLink
+
+    /**
+     * The number of elements to render between two flushes of the response
+     */
+    int flushInterval = DEFAULT_FLUSH_INTERVAL
+
+    /**
+     * Called every {@link #flushInterval} elements to push the rendered elements to the client
+     */
+    Flushable flushTarget
+
+    ResourceCursor(Iterator<T> source, Class<T> componentType) {
+        this(source, componentType, null)
+    }
+
+    ResourceCursor(Iterator<T> source, Class<T> componentType, AutoCloseable closeable) {
+        this.source = source
+        this.componentType = componentType
+        this.closeable = closeable
+    }
+
+    static <T> ResourceCursor<T> of(Iterator<T> source, Class<T> componentType = null) {
+        new ResourceCursor<T>(source, componentType)
+    }
+
+    static <T> ResourceCursor<T> of(Iterable<T> source, Class<T> componentType = null) {
+        new ResourceCursor<T>(source.iterator(), componentType, source instanceof AutoCloseable ? (AutoCloseable) source : null)
+    }
+
+    /**
+     * Creates a cursor for the given stream, which is closed with the cursor.
+     */
+    static <T> ResourceCursor<T> of(Stream<T> source, Class<T> componentType = null) {
+        new ResourceCursor<T>(source.iterator(), componentType, source)
+    }
+
+    /**
+     * Creates a cursor which reads the resources in batches, for example with keyset pagination.
+     *
+     * @param componentType The type of the resources
+     * @param nextBatch Called with the last element of the previous batch, or null for the first batch,
+     * returns the next batch or an empty list when there are no more resources
+     */
+    static <T> ResourceCursor<T> batched(Class<T> componentType, Closure<List<T>> nextBatch) {
+        new ResourceCursor<T>(new BatchIterator<T>(nextBatch), componentType)
+    }
+
+    /**
+     * @return The type of the resources, as given or from the first element
+     */
+    Class<T> getComponentType() {
+        if (this.componentType == null && readFirst()) {
+            this.componentType = this.first != null ? (Class<T>) this.first.getClass() : null
+        }
+        this.componentType
+    }
+
+    @Override
+    Iterator<T> iterator() {
+        if (this.elements != null) {
+            return this.elements.iterator()
+        }
+        if (this.consumed) {
+            throw new IllegalStateException('The resource cursor has already been read')
+        }
+        new CursorIterator()
+    }
+
+    @Override
+    boolean isEmpty() {
+        this.elements != null ? this.elements.isEmpty() : !readFirst()
+    }
+
+    /**
+     * @return The estimated count if there is one, otherwise the number of remaining elements,
+     * which are read into a list to count them
+     */
+    @Override
+    int size() {
+        if (this.estimatedCount != null) {
+            return (int) Math.min(this.estimatedCount, Integer.MAX_VALUE)
+        }
+        toList().size()
+    }
+
+    /**
+     * Whether the resources which have been read are still in use, because they have been read into a list,
+     * so that a batched cursor must not detach them from the session
+     */
+    boolean isRetainingElements() {
+        this.retainingElements
+    }
+
+    /**
+     * Reads the remaining resources into a list, for renderers which cannot stream.
+     * The cursor is iterated over the list afterwards.
+     */
+    List<T> toList() {
+        if (this.elements == null) {
+            this.retainingElements = true
+            List<T> list = []
+            Iterator<T> iterator = iterator()
+            while (iterator.hasNext()) {
+                list.add(iterator.next())
+            }
+            this.elements = list
+        }
+        this.elements
+    }
+
+    @Override
+    void close() throws IOException {
+        if (this.closed) {
+            return
+        }
+        this.closed = true
+        this.consumed = true
+        if (this.closeable != null) {
+            this.closeable.close()
+        }
+    }
+
+    private boolean readFirst() {
+        if (!this.firstRead) {
+            if (this.consumed || !this.source.hasNext()) {
+                return false
+            }
+            this.first = this.source.next()
+            this.firstRead = true
+        }
+        true
+    }
+
+    private class CursorIterator implements Iterator<T> {
+
+        private int index
+
+        @Override
+        boolean hasNext() {
+            if (this.index == 0) {
+                return readFirst()
+            }
+            if (consumed && this.index == 1) {
+                // another iterator has read past the first element
+                throw new IllegalStateException('The resource cursor has already been read')
+            }
+            source.hasNext()
+        }
+
+        @Override
+        T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException()
+            }
+            T element
+            if (this.index == 0) {
+                element = first
+            }
+            else {
+                if (this.index == 1) {
+                    consumed = true
+                    // release the first element, it is not read again
+                    first = null
+                }
+                element = source.next()
+            }
+            this.index++
+            if (flushTarget != null && this.index % flushInterval == 0) {
+                flushTarget.flush()
+            }
+            element
+        }
+
+    }
+
+    private static class BatchIterator<T> implements Iterator<T> {
+
+        private final Closure<List<T>> nextBatch
+
+        private Iterator<T> batch
+
+        private T last
+
+        private boolean done
+
+        BatchIterator(Closure<List<T>> nextBatch) {
+            this.nextBatch = nextBatch
+        }
+
+        @Override
+        boolean hasNext() {
+            while (!this.done && (this.batch == null || !this.batch.hasNext())) {
+                List<T> elements = this.nextBatch.call(this.last)
+                if (elements) {
+                    this.batch = elements.iterator()
+                }
+                else {
+                    this.done = true
+                }
+            }
+            !this.done
+        }
+
+        @Override
+        T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException()
+            }
+            this.last = this.batch.next()
+            this.last
+        }
+
+    }
+
+}
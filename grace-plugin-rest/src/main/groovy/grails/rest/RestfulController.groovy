@@ -39,6 +39,10 @@ class RestfulController<T> {
 
     static allowedMethods = [save: 'POST', update: ['PUT', 'POST'], patch: 'PATCH', delete: 'DELETE']
 
+    private static final int STREAM_BATCH_SIZE = 100
+
+    private static final List<String> STREAMING_FORMATS = ['json', 'xml', 'ndjson']
+
     Class<T> resource
     String resourceName
     String resourceClassName
@@ -56,7 +60,9 @@ class RestfulController<T> {
     }
 
     /**
-     * Lists all resources up to the given maximum
+     * Lists all resources up to the given maximum, or streams them if {@link #isStreamingRequest()}.
+     * A listed page is limited to 100 resources, a streamed page is not limited because only one batch
+     * of it is held in memory.
      *
      * @param max The maximum
      * @return A list of resources
@@ -65,6 +71,11 @@ class RestfulController<T> {
         if (max < 0) {
             max = null
         }
+        if (isStreamingRequest()) {
+            params.max = max
+            respond streamResources(params)
+            return
+        }
         params.max = Math.min(max ?: 10, 100)
         respond listAllResources(params), model: [("${resourceName}Count".toString()): countResources()]
     }
@@ -273,6 +284,82 @@ class RestfulController<T> {
         resource.list(params)
     }
 
+    /**
+     * Whether the resources should be streamed from a cursor instead of listed with a count,
+     * which is the case for newline delimited JSON and when the page after a given id is requested
+     * in a format whose renderers write the resources while they are read. Views are given a list with a count.
+     */
+    protected boolean isStreamingRequest() {
+        String format = response.format
+        format == 'ndjson' || (params.after != null && format in STREAMING_FORMATS)
+    }
+
+    /**
+     * Streams the resources ordered by id, starting after the id given by the 'after' parameter.
+     * The resources are read in batches with keyset pagination. If a maximum is given, the last id of the page
+     * is looked up first with a single offset query, so that the link to the next page can be sent before
+     * the resources. The resources are only counted if the 'count' parameter is true.
+     *
+     * @return A cursor over the resources
+     */
+    protected ResourceCursor<T> streamResources(Map params) {
+        def identity = resource.gormPersistentEntity.identity
+        String idName = identity.name
+        def after = params.after != null ? params.after.asType(identity.type) : null
+        Integer max = params.max ? params.max as Integer : null
+        int batchSize = Math.min(max ?: STREAM_BATCH_SIZE, STREAM_BATCH_SIZE)
+
+        def last = null
+        if (max) {
+            last = resource.createCriteria().get {
+                projections {
+                    property(idName)
+                }
+                if (after != null) {
+                    gt(idName, after)
+                }
+                order(idName, 'asc')
+                firstResult(max - 1)
+                maxResults(1)
+            }
+        }
+
+        ResourceCursor<T> cursor
+        List<T> previousBatch = null
+        cursor = ResourceCursor.batched(resource) { T previous ->
+            if (previousBatch && !cursor.retainingElements) {
+                // the previous batch has been rendered, detach it so that only one batch is held in memory
+                for (Object element in previousBatch) {
+                    element.discard()
+                }
+            }
+            def from = previous != null ? previous[idName] : after
+            previousBatch = resource.createCriteria().list {
+                if (from != null) {
+                    gt(idName, from)
+                }
+                if (last != null) {
+                    le(idName, last)
+                }
+                order(idName, 'asc')
+                maxResults(batchSize)
+            }
+        }
+        if (last != null) {
+            Map linkParams = [after: last, max: max]
+            if (params.format) {
+                linkParams.format = params.format
+            }
+            cursor.nextCursor = last
+            cursor.nextLink = grailsLinkGenerator.link(resource: this.controllerName, action: 'index', params: linkParams, absolute: true,
+                    namespace: hasProperty('namespace') ? this.namespace : null)
+        }
+        if (params.count?.toString() == 'true') {
+            cursor.estimatedCount = countResources()
+        }
+        cursor
+    }
+
     /**
      * Counts all of resources
      *
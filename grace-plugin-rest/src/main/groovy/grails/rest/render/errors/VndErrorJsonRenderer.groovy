@@ -15,7 +15,6 @@
  */
 package grails.rest.render.errors
 
-import groovy.json.JsonOutput
 import groovy.json.StreamingJsonBuilder
 import groovy.transform.CompileStatic
 import org.springframework.http.HttpMethod
@@ -28,6 +27,8 @@ import grails.rest.render.RenderContext
 import grails.util.GrailsWebUtil
 import grails.web.mime.MimeType
 
+import org.grails.web.json.IndentingJsonWriter
+
 /**
  * A JSON renderer that renders errors in in the Vnd.Error format (see https://github.com/blongden/vnd.error)
  *
@@ -55,7 +56,7 @@ class VndErrorJsonRenderer extends AbstractVndErrorRenderer {
             Object target = object.target
 
             Writer responseWriter = context.writer
-            Writer targetWriter = prettyPrint ? new StringWriter() : responseWriter
+            Writer targetWriter = prettyPrint ? new IndentingJsonWriter(responseWriter) : responseWriter
             StreamingJsonBuilder writer = new StreamingJsonBuilder(targetWriter)
 
             writer.call(object.allErrors) { ObjectError oe ->
@@ -74,9 +75,6 @@ class VndErrorJsonRenderer extends AbstractVndErrorRenderer {
             }
 
             targetWriter.flush()
-            if (prettyPrint) {
-                responseWriter.write(JsonOutput.prettyPrint(targetWriter.toString()))
-            }
         }
     }
 
@@ -20,7 +20,6 @@ import java.beans.PropertyDescriptor
 import jakarta.annotation.PostConstruct
 import jakarta.xml.bind.DatatypeConverter
 
-import groovy.json.JsonOutput
 import groovy.json.StreamingJsonBuilder
 import groovy.transform.CompileStatic
 import org.springframework.beans.BeanWrapper
@@ -30,6 +29,7 @@ import org.springframework.core.convert.converter.Converter
 import org.springframework.http.HttpMethod
 
 import grails.rest.Link
+import grails.rest.ResourceCursor
 import grails.rest.render.RenderContext
 import grails.rest.render.util.AbstractLinkingRenderer
 import grails.web.mime.MimeType
@@ -40,6 +40,7 @@ import org.grails.datastore.mapping.model.types.Association
 import org.grails.datastore.mapping.model.types.ToOne
 import org.grails.web.databinding.bindingsource.DataBindingSourceRegistry
 import org.grails.web.databinding.bindingsource.HalJsonDataBindingSourceCreator
+import org.grails.web.json.IndentingJsonWriter
 
 /**
  * Renders domain instances in HAL JSON format (see http://tools.ietf.org/html/draft-kelly-json-hal-05)
@@ -53,6 +54,8 @@ class HalJsonRenderer<T> extends AbstractLinkingRenderer<T> {
     public static final MimeType MIME_TYPE = MimeType.HAL_JSON
     public static final String LINKS_ATTRIBUTE = '_links'
     public static final String EMBEDDED_ATTRIBUTE = '_embedded'
+    public static final String RELATIONSHIP_NEXT = 'next'
+    public static final String ESTIMATED_COUNT_ATTRIBUTE = 'estimatedCount'
 
     private static final MimeType[] DEFAULT_MIME_TYPES = [MIME_TYPE] as MimeType[]
 
@@ -116,7 +119,7 @@ class HalJsonRenderer<T> extends AbstractLinkingRenderer<T> {
     void renderInternal(T object, RenderContext context) {
         MimeType mimeType = context.acceptMimeType ?: mimeTypes[0]
         Writer responseWriter = context.writer
-        Writer targetWriter = prettyPrint ? new StringWriter() : responseWriter
+        Writer targetWriter = prettyPrint ? new IndentingJsonWriter(responseWriter) : responseWriter
         StreamingJsonBuilder writer = new StreamingJsonBuilder(targetWriter)
 
         try {
@@ -131,6 +134,12 @@ class HalJsonRenderer<T> extends AbstractLinkingRenderer<T> {
                 writer.call {
                     call(LINKS_ATTRIBUTE) {
                         writeLinkForCurrentPath(context, mimeType, delegate)
+                        if (object instanceof ResourceCursor && ((ResourceCursor) object).nextLink) {
+                            writeLink(new Link(RELATIONSHIP_NEXT, ((ResourceCursor) object).nextLink), context.locale, delegate)
+                        }
+                    }
+                    if (object instanceof ResourceCursor && ((ResourceCursor) object).estimatedCount != null) {
+                        call(ESTIMATED_COUNT_ATTRIBUTE, ((ResourceCursor) object).estimatedCount)
                     }
 
                     if (collectionName != null) {
@@ -163,10 +172,6 @@ class HalJsonRenderer<T> extends AbstractLinkingRenderer<T> {
         finally {
             targetWriter.flush()
         }
-
-        if (prettyPrint) {
-            responseWriter.write(JsonOutput.prettyPrint(targetWriter.toString()))
-        }
     }
 
     protected renderEmbeddedAttributes(StreamingJsonBuilder.StreamingJsonDelegate writer, object, RenderContext context, MimeType mimeType) {
@@ -43,10 +43,10 @@ class JsonCollectionRenderer extends JsonRenderer implements ContainerRenderer {
     }
 
     @Override
-    protected void renderJson(JSON converter, RenderContext context) {
+    protected void renderJson(JSON converter, RenderContext context, Writer writer) {
         converter.setExcludes(componentType, excludes != null ? excludes : context.excludes)
         converter.setIncludes(componentType, includes != null ? includes : context.includes)
-        converter.render(context.getWriter())
+        converter.render(writer)
     }
 
 }
@@ -126,10 +126,10 @@ class JsonRenderer<T> extends DefaultJsonRenderer<T> {
     }
 
     @Override
-    protected void renderJson(JSON converter, RenderContext context) {
+    protected void renderJson(JSON converter, RenderContext context, Writer writer) {
         converter.setExcludes(excludes ?: context.excludes)
         converter.setIncludes(includes != null ? includes : context.includes)
-        converter.render(context.getWriter())
+        converter.render(writer)
     }
 
 }
@@ -21,6 +21,7 @@ import org.springframework.validation.BeanPropertyBindingResult
 import org.springframework.validation.Errors
 
 import grails.core.support.proxy.ProxyHandler
+import grails.rest.ResourceCursor
 import grails.rest.render.RenderContext
 import grails.rest.render.Renderer
 import grails.util.GrailsNameUtils
@@ -78,6 +79,10 @@ class DefaultHtmlRenderer<T> implements Renderer<T> {
                 applyModel(context, target)
             }
         }
+        else if (object instanceof ResourceCursor) {
+            // the view is rendered after the cursor has been closed, and may read the resources more than once
+            applyModel(context, ((ResourceCursor) object).toList())
+        }
         else {
             applyModel(context, object)
         }
@@ -41,7 +41,7 @@ import org.grails.web.gsp.io.GrailsConventionGroovyPageLocator
 class DefaultJsonRenderer<T> implements Renderer<T> {
 
     final Class<T> targetType
-    MimeType[] mimeTypes = [MimeType.JSON, MimeType.TEXT_JSON] as MimeType[]
+    MimeType[] mimeTypes = [MimeType.JSON, MimeType.TEXT_JSON, MimeType.NDJSON] as MimeType[]
     String encoding = GrailsWebUtil.DEFAULT_ENCODING
 
     @Autowired(required = false)
@@ -102,6 +102,39 @@ class DefaultJsonRenderer<T> implements Renderer<T> {
      * @param context
      */
     protected void renderJson(T object, RenderContext context) {
+        if (object instanceof Iterable && context.acceptMimeType == MimeType.NDJSON) {
+            renderJsonLines((Iterable) object, context)
+        }
+        else {
+            renderJson(createConverter(object), context)
+        }
+    }
+
+    /**
+     * Renders each element of the given objects as a JSON document on its own line (newline delimited JSON),
+     * so that clients can process the elements while the response is streamed
+     *
+     * @param objects
+     * @param context
+     */
+    protected void renderJsonLines(Iterable objects, RenderContext context) {
+        Writer lineWriter = new JsonLineWriter(context.getWriter())
+        for (Object object in objects) {
+            renderJson(createConverter(object), context, lineWriter)
+        }
+    }
+
+    protected void renderJson(JSON converter, RenderContext context) {
+        renderJson(converter, context, context.getWriter())
+    }
+
+    protected void renderJson(JSON converter, RenderContext context, Writer writer) {
+        converter.setExcludes(context.excludes)
+        converter.setIncludes(context.includes)
+        converter.render(writer)
+    }
+
+    protected JSON createConverter(Object object) {
         JSON converter
         if (namedConfiguration) {
             JSON.use(namedConfiguration) {
@@ -111,13 +144,27 @@ class DefaultJsonRenderer<T> implements Renderer<T> {
         else {
             converter = object as JSON
         }
-        renderJson(converter, context)
+        converter
     }
 
-    protected void renderJson(JSON converter, RenderContext context) {
-        converter.setExcludes(context.excludes)
-        converter.setIncludes(context.includes)
-        converter.render(context.getWriter())
+    /**
+     * Terminates each rendered JSON document with a new line instead of flushing and closing the response writer
+     */
+    private static class JsonLineWriter extends FilterWriter {
+
+        JsonLineWriter(Writer out) {
+            super(out)
+        }
+
+        @Override
+        void flush() {
+        }
+
+        @Override
+        void close() {
+            out.write('\n')
+        }
+
     }
 
 }
@@ -2,8 +2,11 @@ package org.grails.plugins.web.rest.render.json
 
 import grails.core.DefaultGrailsApplication
 import grails.persistence.Entity
+import grails.rest.ResourceCursor
+import grails.rest.render.json.JsonCollectionRenderer
 import grails.rest.render.json.JsonRenderer
 import grails.util.GrailsWebMockUtil
+import grails.web.mime.MimeType
 import org.grails.config.NavigableMapConfig
 import org.grails.config.PropertySourcesConfig
 import org.grails.core.lifecycle.ShutdownOperations
@@ -76,6 +79,44 @@ class JsonRendererSpec extends Specification {
 
     }
 
+    void "Test rendering a resource cursor with JsonCollectionRenderer"() {
+        given:"A collection renderer and a cursor over a stream"
+            def renderer = new JsonCollectionRenderer(Album)
+            renderer.includes = ['title']
+            def stream = [new Album(title: "Undertow", isbn: "38047301"), new Album(title: "Lateralus", isbn: "61422313")].stream()
+            boolean closed = false
+            def cursor = ResourceCursor.of(stream.onClose { closed = true })
+
+        when:"The renderer renders the cursor"
+            final webRequest = GrailsWebMockUtil.bindMockWebRequest()
+            renderer.render(cursor, new ServletRenderContext(webRequest))
+            cursor.close()
+
+        then:"The elements are rendered as a JSON array and the stream is closed"
+            webRequest.response.contentAsString == '[{"title":"Undertow"},{"title":"Lateralus"}]'
+            closed
+    }
+
+    void "Test rendering newline delimited JSON"() {
+        given:"A collection renderer and a cursor"
+            def renderer = new JsonCollectionRenderer(Album)
+            renderer.includes = ['title']
+            def cursor = ResourceCursor.of([new Album(title: "Undertow"), new Album(title: "Lateralus")].iterator(), Album)
+
+        when:"The renderer renders the cursor for the NDJSON mime type"
+            final webRequest = GrailsWebMockUtil.bindMockWebRequest()
+            renderer.render(cursor, new ServletRenderContext(webRequest) {
+                @Override
+                MimeType getAcceptMimeType() {
+                    MimeType.NDJSON
+                }
+            })
+
+        then:"Each element is rendered on its own line"
+            webRequest.response.contentType.startsWith(MimeType.NDJSON.name)
+            webRequest.response.contentAsString == '{"title":"Undertow"}\n{"title":"Lateralus"}\n'
+    }
+
     void "Test render domain class with JsonRenderer"() {
         given:"A new JsonRenderer instance is created with the defaults"
         def renderer = new JsonRenderer(Song)
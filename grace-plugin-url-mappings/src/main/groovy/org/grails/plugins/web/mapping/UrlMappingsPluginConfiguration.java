@@ -93,15 +93,18 @@ public class UrlMappingsPluginConfiguration {
     }
 
     @Bean
-    public UrlMappingsInfoHandlerAdapter urlMappingsInfoHandlerAdapter(
+    public UrlMappingsInfoHandlerAdapter urlMappingsInfoHandlerAdapter(ObjectProvider<GrailsApplication> grailsApplicationProvider,
             ObjectProvider<ActionResultTransformer> actionResultTransformerProvider,
             LinkGenerator grailsLinkGenerator) {
 
+        Config config = grailsApplicationProvider.getIfAvailable().getConfig();
         List<ActionResultTransformer> actionResultTransformers = actionResultTransformerProvider
                 .orderedStream().collect(Collectors.toList());
         UrlMappingsInfoHandlerAdapter handlerAdapter = new UrlMappingsInfoHandlerAdapter();
         handlerAdapter.setActionResultTransformers(actionResultTransformers);
         handlerAdapter.setLinkGenerator(grailsLinkGenerator);
+        handlerAdapter.setVirtualThreadsEnabled(config.getProperty(Settings.CONTROLLERS_VIRTUAL_THREADS_ENABLED, Boolean.class, false));
+        handlerAdapter.setAsyncTimeout(config.getProperty(Settings.CONTROLLERS_ASYNC_TIMEOUT, Long.class));
 
         return handlerAdapter;
     }
@@ -133,6 +136,12 @@ public class UrlMappingsPluginConfiguration {
         return linkGenerator;
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "grails.warmup.enabled", havingValue = "true")
+    public UrlMappingsWarmUpTask urlMappingsWarmUpTask(ObjectProvider<UrlMappingsHolder> grailsUrlMappingsHolder) {
+        return new UrlMappingsWarmUpTask(grailsUrlMappingsHolder.getIfAvailable());
+    }
+
     @Bean
     public UrlMappingsErrorPageCustomizer urlMappingsErrorPageCustomizer(ObjectProvider<UrlMappings> urlMappingsProvider) {
         UrlMappingsErrorPageCustomizer errorPageCustomizer = new UrlMappingsErrorPageCustomizer();
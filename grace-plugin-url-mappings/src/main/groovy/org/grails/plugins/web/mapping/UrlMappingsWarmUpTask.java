@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.plugins.web.mapping;
+
+import java.util.HashMap;
+
+import grails.core.warmup.WarmUpContext;
+import grails.core.warmup.WarmUpTask;
+import grails.web.mapping.UrlMapping;
+import grails.web.mapping.UrlMappingsHolder;
+
+/**
+ * Warms up the URL mappings, builds the reverse URL creators of the mappings of controller actions
+ * and matches the URIs of the mappings without variables.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class UrlMappingsWarmUpTask implements WarmUpTask {
+
+    private final UrlMappingsHolder urlMappingsHolder;
+
+    public UrlMappingsWarmUpTask(UrlMappingsHolder urlMappingsHolder) {
+        this.urlMappingsHolder = urlMappingsHolder;
+    }
+
+    @Override
+    public String getName() {
+        return "urlMappings";
+    }
+
+    @Override
+    public int warmUp(WarmUpContext context) {
+        int count = 0;
+        for (UrlMapping urlMapping : this.urlMappingsHolder.getUrlMappings()) {
+            String httpMethod = urlMapping.getHttpMethod();
+            if (urlMapping.getControllerName() instanceof String && urlMapping.getActionName() instanceof String) {
+                this.urlMappingsHolder.getReverseMapping((String) urlMapping.getControllerName(), (String) urlMapping.getActionName(),
+                        toName(urlMapping.getNamespace()), toName(urlMapping.getPluginName()), httpMethod, new HashMap<>());
+                count++;
+            }
+            String urlPattern = urlMapping.getUrlData() != null ? urlMapping.getUrlData().getUrlPattern() : null;
+            if (urlPattern != null && urlPattern.startsWith("/") && urlPattern.indexOf('(') == -1 && urlPattern.indexOf('*') == -1) {
+                if (httpMethod == null || UrlMapping.ANY_HTTP_METHOD.equals(httpMethod)) {
+                    this.urlMappingsHolder.match(urlPattern);
+                }
+                else {
+                    this.urlMappingsHolder.matchAll(urlPattern, httpMethod);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String toName(Object name) {
+        return name instanceof String ? (String) name : null;
+    }
+
+}
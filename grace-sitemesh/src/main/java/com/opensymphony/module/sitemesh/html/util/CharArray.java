@@ -1,6 +1,8 @@
 package com.opensymphony.module.sitemesh.html.util;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
 
 /**
  * A leaner, meaner version of StringBuffer.
@@ -281,4 +283,12 @@ public class CharArray
     {
         writer.write(buffer, 0, size);
     }
+
+    /**
+     * Writes the contents without creating a String first.
+     */
+    public void writeTo(Writer writer) throws IOException
+    {
+        writer.write(buffer, 0, size);
+    }
 }
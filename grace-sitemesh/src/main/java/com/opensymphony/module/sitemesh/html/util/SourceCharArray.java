@@ -0,0 +1,219 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opensymphony.module.sitemesh.html.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * A CharArray over the chars of a parsed page.
+ * <p/>
+ * The tokens of the page are appended as ranges of the page, which are kept as offsets
+ * instead of being copied, adjacent ranges are merged. The ranges are only copied to the
+ * buffer once chars which aren't part of the page are appended, or the contents are modified.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class SourceCharArray extends CharArray {
+
+    private final char[] source;
+
+    // offset and length pairs of the ranges of the source
+    private int[] ranges = new int[8];
+
+    private int rangeCount;
+
+    private boolean copied;
+
+    public SourceCharArray(char[] source) {
+        super(0);
+        this.source = source;
+    }
+
+    /**
+     * Returns whether the contents are ranges of the source, which haven't been copied.
+     */
+    public boolean isSourceRanges() {
+        checkCleared();
+        return !copied;
+    }
+
+    public String toString() {
+        checkCleared();
+        if (copied) {
+            return super.toString();
+        }
+        if (rangeCount == 1) {
+            return new String(source, ranges[0], ranges[1]);
+        }
+        StringBuilder builder = new StringBuilder(size);
+        for (int i = 0; i < rangeCount * 2; i += 2) {
+            builder.append(source, ranges[i], ranges[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    public char charAt(int pos) {
+        checkCleared();
+        if (copied) {
+            return super.charAt(pos);
+        }
+        for (int i = 0; i < rangeCount * 2; i += 2) {
+            if (pos < ranges[i + 1]) {
+                return source[ranges[i] + pos];
+            }
+            pos -= ranges[i + 1];
+        }
+        throw new ArrayIndexOutOfBoundsException(pos);
+    }
+
+    public void setLength(int newSize) {
+        copy();
+        super.setLength(newSize);
+    }
+
+    public CharArray append(CharArray chars) {
+        checkCleared();
+        if (chars instanceof SourceCharArray) {
+            SourceCharArray other = (SourceCharArray) chars;
+            other.checkCleared();
+            if (!other.copied) {
+                for (int i = 0; i < other.rangeCount * 2; i += 2) {
+                    append(other.source, other.ranges[i], other.ranges[i + 1]);
+                }
+                return this;
+            }
+        }
+        return super.append(chars);
+    }
+
+    public CharArray append(char[] chars, int position, int length) {
+        checkCleared();
+        if (chars == source && !copied) {
+            addRange(position, length);
+            return this;
+        }
+        copy();
+        return super.append(chars, position, length);
+    }
+
+    public CharArray append(char c) {
+        copy();
+        return super.append(c);
+    }
+
+    public CharArray append(String str) {
+        copy();
+        return super.append(str);
+    }
+
+    public String substring(int begin, int end) {
+        copy();
+        return super.substring(begin, end);
+    }
+
+    public String getLowerSubstr() {
+        copy();
+        return super.getLowerSubstr();
+    }
+
+    public boolean compareLowerSubstr(String lowerStr) {
+        copy();
+        return super.compareLowerSubstr(lowerStr);
+    }
+
+    public int substrHashCode() {
+        copy();
+        return super.substrHashCode();
+    }
+
+    public boolean compareLower(String lowerStr, int offset) {
+        copy();
+        return super.compareLower(lowerStr, offset);
+    }
+
+    public void writeTo(PrintWriter writer) {
+        checkCleared();
+        if (copied) {
+            super.writeTo(writer);
+            return;
+        }
+        for (int i = 0; i < rangeCount * 2; i += 2) {
+            writer.write(source, ranges[i], ranges[i + 1]);
+        }
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        checkCleared();
+        if (copied) {
+            super.writeTo(writer);
+            return;
+        }
+        for (int i = 0; i < rangeCount * 2; i += 2) {
+            writer.write(source, ranges[i], ranges[i + 1]);
+        }
+    }
+
+    private void addRange(int position, int length) {
+        if (length <= 0) {
+            return;
+        }
+        int last = (rangeCount - 1) * 2;
+        if (rangeCount > 0 && ranges[last] + ranges[last + 1] == position) {
+            ranges[last + 1] += length;
+        }
+        else {
+            if (rangeCount * 2 == ranges.length) {
+                int[] newRanges = new int[ranges.length * 2];
+                System.arraycopy(ranges, 0, newRanges, 0, ranges.length);
+                ranges = newRanges;
+            }
+            ranges[rangeCount * 2] = position;
+            ranges[rangeCount * 2 + 1] = length;
+            rangeCount++;
+        }
+        size += length;
+    }
+
+    /**
+     * Copies the ranges to the buffer, so that chars which aren't part of the source can be appended.
+     */
+    private void copy() {
+        checkCleared();
+        if (copied) {
+            return;
+        }
+        copied = true;
+        size = 0;
+        for (int i = 0; i < rangeCount * 2; i += 2) {
+            super.append(source, ranges[i], ranges[i + 1]);
+        }
+        rangeCount = 0;
+    }
+
+    /**
+     * {@link #clear()} only resets the size, the ranges are reset once the cleared array is used again.
+     */
+    private void checkCleared() {
+        if (size == 0) {
+            rangeCount = 0;
+            copied = false;
+        }
+    }
+
+}
@@ -7,6 +7,7 @@ import com.opensymphony.module.sitemesh.html.State;
 import com.opensymphony.module.sitemesh.html.StateTransitionRule;
 import com.opensymphony.module.sitemesh.html.tokenizer.TagTokenizer;
 import com.opensymphony.module.sitemesh.html.util.CharArray;
+import com.opensymphony.module.sitemesh.html.util.SourceCharArray;
 import com.opensymphony.module.sitemesh.html.rules.BodyTagRule;
 import com.opensymphony.module.sitemesh.html.rules.ContentBlockExtractingRule;
 import com.opensymphony.module.sitemesh.html.rules.FramesetRule;
@@ -34,8 +35,8 @@ import java.io.IOException;
 public class HTMLPageParser implements PageParser {
 
     public Page parse(char[] data) throws IOException {
-        CharArray head = new CharArray(64);
-        CharArray body = new CharArray(4096);
+        CharArray head = new SourceCharArray(data);
+        CharArray body = new SourceCharArray(data);
         TokenizedHTMLPage page = new TokenizedHTMLPage(data, body, head);
         HTMLProcessor processor = new HTMLProcessor(data, body);
         State html = processor.defaultState();
@@ -28,11 +28,11 @@ public class TokenizedHTMLPage extends AbstractHTMLPage implements PageBuilder {
     }
 
     public void writeHead(Writer out) throws IOException {
-        out.write(head.toString());
+        head.writeTo(out);
     }
 
     public void writeBody(Writer out) throws IOException {
-        out.write(body.toString());
+        body.writeTo(out);
     }
 
     public String getHead() {
@@ -0,0 +1,62 @@
+package com.opensymphony.module.sitemesh.html.util;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.opensymphony.module.sitemesh.parser.HTMLPageParser;
+import com.opensymphony.module.sitemesh.parser.TokenizedHTMLPage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SourceCharArrayTest {
+
+    @Test
+    public void testKeepsRangesOfTheSource() {
+        char[] source = "abcdef".toCharArray();
+        SourceCharArray chars = new SourceCharArray(source);
+        chars.append(source, 0, 2).append(source, 2, 2).append(source, 5, 1);
+
+        assertTrue(chars.isSourceRanges());
+        assertEquals("abcdf", chars.toString());
+        assertEquals(5, chars.length());
+        assertEquals('f', chars.charAt(4));
+    }
+
+    @Test
+    public void testCopiesRangesWhenOtherCharsAreAppended() {
+        char[] source = "abcdef".toCharArray();
+        SourceCharArray chars = new SourceCharArray(source);
+        chars.append(source, 1, 2).append('!').append(source, 4, 2);
+
+        assertFalse(chars.isSourceRanges());
+        assertEquals("bc!ef", chars.toString());
+
+        chars.clear();
+        chars.append(source, 0, 3);
+
+        assertTrue(chars.isSourceRanges());
+        assertEquals("abc", chars.toString());
+    }
+
+    @Test
+    public void testHeadAndBodyOfParsedPageAreRangesOfThePage() throws IOException {
+        String html = "<html><head><title>Title</title><meta name=\"author\" content=\"me\"></head>" +
+                "<body class=\"main\"><p>Hello <b>world</b></p><content tag=\"nav\">nav</content></body></html>";
+        TokenizedHTMLPage page = (TokenizedHTMLPage) new HTMLPageParser().parse(html.toCharArray());
+
+        StringWriter head = new StringWriter();
+        page.writeHead(head);
+        StringWriter body = new StringWriter();
+        page.writeBody(body);
+
+        assertEquals("<meta name=\"author\" content=\"me\">", head.toString());
+        assertEquals("<p>Hello <b>world</b></p>", body.toString());
+        assertEquals("<p>Hello <b>world</b></p>", page.getBody());
+        assertEquals("Title", page.getTitle());
+        assertEquals("nav", page.getProperty("page.nav"));
+    }
+
+}
@@ -42,7 +42,8 @@ import org.springframework.util.Assert;
 
 /**
  * A programmable runtime Spring configuration that allows a spring ApplicationContext
- * to be constructed at runtime.
+ * to be constructed at runtime. All access to the registered beans and to the context is
+ * synchronized on this configuration, so plugins may configure beans concurrently.
  *
  * Credit must go to Solomon Duskis and the
  * article: <a href="http://jroller.com/page/Solomon?entry=programmatic_configuration_in_spring">Programmatic Configuration in Spring</a>
@@ -129,7 +130,7 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
     /**
      * Initialises the ApplicationContext instance.
      */
-    protected void initialiseApplicationContext() {
+    protected synchronized void initialiseApplicationContext() {
         if (this.context != null) {
             return;
         }
@@ -158,7 +159,7 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
         return bc;
     }
 
-    public ApplicationContext getApplicationContext() {
+    public synchronized ApplicationContext getApplicationContext() {
         long now = logger.isDebugEnabled() ? System.currentTimeMillis() : 0;
         initialiseApplicationContext();
         registerBeansWithContext(this.context);
@@ -169,7 +170,7 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
         return this.context;
     }
 
-    public ApplicationContext getUnrefreshedApplicationContext() {
+    public synchronized ApplicationContext getUnrefreshedApplicationContext() {
         initialiseApplicationContext();
         return this.context;
     }
@@ -197,7 +198,7 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
         return bc;
     }
 
-    private void registerBeanConfiguration(String name, BeanConfiguration bc) {
+    private synchronized void registerBeanConfiguration(String name, BeanConfiguration bc) {
         this.beanConfigs.put(name, bc);
         this.beanNames.add(name);
     }
@@ -220,21 +221,21 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
         registerBeanConfiguration(beanName, beanConfiguration);
     }
 
-    public void addBeanDefinition(String name, BeanDefinition bd) {
+    public synchronized void addBeanDefinition(String name, BeanDefinition bd) {
         this.beanDefinitions.put(name, bd);
         this.beanConfigs.remove(name);
         this.beanNames.add(name);
     }
 
-    public boolean containsBean(String name) {
+    public synchronized boolean containsBean(String name) {
         return this.beanNames.contains(name);
     }
 
-    public BeanConfiguration getBeanConfig(String name) {
+    public synchronized BeanConfiguration getBeanConfig(String name) {
         return this.beanConfigs.get(name);
     }
 
-    public AbstractBeanDefinition createBeanDefinition(String name) {
+    public synchronized AbstractBeanDefinition createBeanDefinition(String name) {
         if (containsBean(name)) {
             if (this.beanDefinitions.containsKey(name)) {
                 return (AbstractBeanDefinition) this.beanDefinitions.get(name);
@@ -246,20 +247,20 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
         return null;
     }
 
-    public void registerPostProcessor(BeanFactoryPostProcessor processor) {
+    public synchronized void registerPostProcessor(BeanFactoryPostProcessor processor) {
         initialiseApplicationContext();
         this.context.addBeanFactoryPostProcessor(processor);
     }
 
-    public List<String> getBeanNames() {
+    public synchronized List<String> getBeanNames() {
         return Collections.unmodifiableList(new ArrayList<>(this.beanNames));
     }
 
-    public void registerBeansWithContext(GenericApplicationContext applicationContext) {
+    public synchronized void registerBeansWithContext(GenericApplicationContext applicationContext) {
         registerBeansWithRegistry(applicationContext);
     }
 
-    public void registerBeansWithRegistry(BeanDefinitionRegistry registry) {
+    public synchronized void registerBeansWithRegistry(BeanDefinitionRegistry registry) {
         registerUnrefreshedBeansWithRegistry(registry);
         registerBeanConfigsWithRegistry(registry);
         registerBeanDefinitionsWithRegistry(registry);
@@ -322,12 +323,17 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
         }
 
         ApplicationContext ctx = targetSpringConfig.getUnrefreshedApplicationContext();
-        if (ctx instanceof BeanDefinitionRegistry) {
-            BeanDefinitionRegistry registry = (BeanDefinitionRegistry) ctx;
-            registerUnrefreshedBeansWithRegistry(registry);
-            registerBeansWithRegistry(registry);
+        List<Map.Entry<String, BeanConfiguration>> beanEntries;
+        synchronized (this) {
+            if (ctx instanceof BeanDefinitionRegistry) {
+                BeanDefinitionRegistry registry = (BeanDefinitionRegistry) ctx;
+                registerUnrefreshedBeansWithRegistry(registry);
+                registerBeansWithRegistry(registry);
+            }
+            beanEntries = new ArrayList<>(this.beanConfigs.entrySet());
         }
-        for (Map.Entry<String, BeanConfiguration> beanEntry : this.beanConfigs.entrySet()) {
+        // the target is configured outside of the lock, so that two configurations registering with each other cannot deadlock
+        for (Map.Entry<String, BeanConfiguration> beanEntry : beanEntries) {
             String beanName = beanEntry.getKey();
             BeanConfiguration bc = beanEntry.getValue();
             if (beanEntry.getValue().isConditionOn()) {
@@ -377,16 +383,16 @@ public class DefaultRuntimeSpringConfiguration implements RuntimeSpringConfigura
         return bc;
     }
 
-    public void addAlias(String alias, String beanName) {
+    public synchronized void addAlias(String alias, String beanName) {
         List<String> beanAliases = this.aliases.computeIfAbsent(beanName, k -> new ArrayList<>());
         beanAliases.add(alias);
     }
 
-    public BeanDefinition getBeanDefinition(String beanName) {
+    public synchronized BeanDefinition getBeanDefinition(String beanName) {
         return this.beanDefinitions.get(beanName);
     }
 
-    public void setBeanFactory(ListableBeanFactory beanFactory) {
+    public synchronized void setBeanFactory(ListableBeanFactory beanFactory) {
         this.beanFactory = beanFactory;
     }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.taglib;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import groovy.lang.GroovyObject;
+import org.springframework.context.ApplicationContext;
+
+import grails.core.GrailsApplication;
+
+import org.grails.taglib.encoder.OutputEncodingStackAttributes;
+import org.grails.taglib.encoder.WithCodecHelper;
+
+/**
+ * A tag of a tag library registered with the {@link TagLibraryLookup}, resolved once per namespace and tag name.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public final class TagDescriptor {
+
+    private static final int MAX_CACHED_CODECS = 32;
+
+    private static final String CODEC_LOOKUP_BEAN_NAME = "codecLookup";
+
+    private final String namespace;
+
+    private final String tagName;
+
+    private final GroovyObject tagLibrary;
+
+    private final boolean returnsObject;
+
+    private final Map<String, Object> encodeAs;
+
+    private volatile ResolvedCodecAttributes defaultCodecAttributes;
+
+    private final ConcurrentMap<String, ResolvedCodecAttributes> codecAttributes = new ConcurrentHashMap<>();
+
+    public TagDescriptor(String namespace, String tagName, GroovyObject tagLibrary, boolean returnsObject, Map<String, Object> encodeAs) {
+        this.namespace = namespace;
+        this.tagName = tagName;
+        this.tagLibrary = tagLibrary;
+        this.returnsObject = returnsObject;
+        this.encodeAs = encodeAs;
+    }
+
+    public String getNamespace() {
+        return this.namespace;
+    }
+
+    public String getTagName() {
+        return this.tagName;
+    }
+
+    /**
+     * @return The tag library bean which defines the tag
+     */
+    public GroovyObject getTagLibrary() {
+        return this.tagLibrary;
+    }
+
+    /**
+     * @return Whether the tag returns an object instead of writing to the output
+     */
+    public boolean isReturnsObject() {
+        return this.returnsObject;
+    }
+
+    /**
+     * @return The canonical codec settings of the tag, merged with the defaults of the tag library, or null
+     */
+    public Map<String, Object> getEncodeAs() {
+        return this.encodeAs;
+    }
+
+    /**
+     * Returns the output stack attributes of a call of this tag, with the encoders of the <code>encodeAs</code>
+     * attribute merged with the {@link #getEncodeAs() settings of the tag}. The encoders are resolved once per
+     * distinct codec name and cached, so that pushing the attributes doesn't build any settings maps.
+     *
+     * @param codecName The value of the <code>encodeAs</code> attribute of the call or null
+     * @param grailsApplication The application to look up the encoders
+     * @return The attributes without a top writer, or null if neither the call nor the tag define codecs
+     */
+    public OutputEncodingStackAttributes getCodecAttributes(String codecName, GrailsApplication grailsApplication) {
+        boolean hasCodecName = codecName != null && !codecName.isEmpty();
+        if (!hasCodecName && this.encodeAs == null) {
+            return null;
+        }
+        ApplicationContext context = grailsApplication != null ? grailsApplication.getMainContext() : null;
+        ResolvedCodecAttributes resolved = hasCodecName ? this.codecAttributes.get(codecName) : this.defaultCodecAttributes;
+        if (resolved != null && resolved.context == context) {
+            return resolved.attributes;
+        }
+
+        Map<String, Object> codecSettings = WithCodecHelper.mergeSettingsAndMakeCanonical(hasCodecName ? codecName : null, this.encodeAs);
+        OutputEncodingStackAttributes attributes = WithCodecHelper.createOutputStackAttributesBuilder(codecSettings, grailsApplication).build();
+        // encoders cannot be resolved without the codec lookup, these attributes aren't cached
+        if (context != null && context.containsBean(CODEC_LOOKUP_BEAN_NAME)) {
+            resolved = new ResolvedCodecAttributes(context, attributes);
+            if (!hasCodecName) {
+                this.defaultCodecAttributes = resolved;
+            }
+            else if (this.codecAttributes.size() < MAX_CACHED_CODECS || this.codecAttributes.containsKey(codecName)) {
+                this.codecAttributes.put(codecName, resolved);
+            }
+        }
+        return attributes;
+    }
+
+    private static final class ResolvedCodecAttributes {
+
+        private final ApplicationContext context;
+
+        private final OutputEncodingStackAttributes attributes;
+
+        ResolvedCodecAttributes(ApplicationContext context, OutputEncodingStackAttributes attributes) {
+            this.context = context;
+            this.attributes = attributes;
+        }
+
+    }
+
+}
@@ -17,7 +17,6 @@ package org.grails.taglib;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +41,10 @@ import org.grails.taglib.encoder.WithCodecHelper;
 /**
  * Looks up tag library instances.
  *
+ * <p>The registered tags and namespace dispatchers are kept in an immutable snapshot, which is replaced
+ * when tag libraries are registered or reloaded, so that lookups don't need to lock while the tags
+ * are updated.</p>
+ *
  * @author Graeme Rocher
  * @author Michael Yan
  * @since 1.1
@@ -52,13 +55,7 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
 
     protected GrailsApplication grailsApplication;
 
-    protected Map<String, Map<String, Object>> tagNamespaces = new HashMap<>();
-
-    protected Map<String, NamespacedTagDispatcher> namespaceDispatchers = new HashMap<>();
-
-    protected Map<String, Set<String>> tagsThatReturnObjectForNamespace = new HashMap<>();
-
-    protected Map<String, Map<String, Map<String, Object>>> encodeAsForTagNamespaces = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -79,7 +76,7 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
     }
 
     protected void registerNamespaceDispatchers() {
-        for (String namespace : this.tagNamespaces.keySet()) {
+        for (String namespace : this.snapshot.tags.keySet()) {
             registerNamespaceDispatcher(namespace);
         }
     }
@@ -109,11 +106,14 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
     }
 
     protected void registerNamespaceDispatcher(String namespace) {
-        this.namespaceDispatchers.put(namespace, new DefaultNamespacedTagDispatcher(namespace, null, this.grailsApplication, this));
+        registerNamespaceDispatcher(namespace, new DefaultNamespacedTagDispatcher(namespace, null, this.grailsApplication, this));
     }
 
-    protected void registerNamespaceDispatcher(String namespace, NamespacedTagDispatcher tagDispatcher) {
-        this.namespaceDispatchers.put(namespace, tagDispatcher);
+    protected synchronized void registerNamespaceDispatcher(String namespace, NamespacedTagDispatcher tagDispatcher) {
+        Snapshot current = this.snapshot;
+        Map<String, NamespacedTagDispatcher> namespaceDispatchers = new HashMap<>(current.namespaceDispatchers);
+        namespaceDispatchers.put(namespace, tagDispatcher);
+        this.snapshot = new Snapshot(current.tags, Collections.unmodifiableMap(namespaceDispatchers));
     }
 
     protected void registerTagLibraries() {
@@ -141,49 +141,57 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
         if (!isInitialization) {
             registerNamespaceDispatcher(namespace);
         }
-        Set<String> tagsThatReturnObject = this.tagsThatReturnObjectForNamespace.get(namespace);
-        if (tagsThatReturnObject == null) {
-            tagsThatReturnObject = new HashSet<>();
-            this.tagsThatReturnObjectForNamespace.put(namespace, tagsThatReturnObject);
-        }
-        Map<String, Object> tags = this.tagNamespaces.get(namespace);
-        if (tags == null) {
-            tags = new HashMap<>();
-            this.tagNamespaces.put(namespace, tags);
-        }
 
+        Map<String, Object> tagLibraries = new HashMap<>();
         for (String tagName : taglib.getTagNames()) {
-            putTagLib(tags, tagName, taglib);
-            tagsThatReturnObject.remove(tagName);
-        }
-        for (String tagName : taglib.getTagNamesThatReturnObject()) {
-            tagsThatReturnObject.add(tagName);
-        }
-
-        Map<String, Map<String, Object>> encodeAsForTagNamespace = this.encodeAsForTagNamespaces.get(namespace);
-        if (encodeAsForTagNamespace == null) {
-            encodeAsForTagNamespace = new HashMap<>();
-            this.encodeAsForTagNamespaces.put(namespace, encodeAsForTagNamespace);
+            putTagLib(tagLibraries, tagName, taglib);
         }
+        Set<String> tagsThatReturnObject = taglib.getTagNamesThatReturnObject();
 
         Map<String, Object> defaultEncodeAsForTagLib = null;
         if (taglib.getDefaultEncodeAs() != null) {
             defaultEncodeAsForTagLib = Collections.unmodifiableMap(WithCodecHelper.makeSettingsCanonical(taglib.getDefaultEncodeAs()));
         }
 
+        Map<String, TagDescriptor> namespaceTags = new HashMap<>();
         for (String tagName : taglib.getTagNames()) {
-            Object codecInfo = taglib.getEncodeAsForTag(tagName);
-            Map<String, Object> codecInfoMap = WithCodecHelper.mergeSettingsAndMakeCanonical(codecInfo, defaultEncodeAsForTagLib);
-            if (codecInfoMap != null) {
-                encodeAsForTagNamespace.put(tagName, codecInfoMap);
+            GroovyObject tagLibrary = (GroovyObject) tagLibraries.get(tagName);
+            if (tagLibrary != null) {
+                Map<String, Object> encodeAs = WithCodecHelper.mergeSettingsAndMakeCanonical(taglib.getEncodeAsForTag(tagName), defaultEncodeAsForTagLib);
+                namespaceTags.put(tagName, new TagDescriptor(namespace, tagName, tagLibrary,
+                        tagsThatReturnObject != null && tagsThatReturnObject.contains(tagName), encodeAs));
             }
         }
+        putTags(namespace, namespaceTags);
+    }
+
+    private synchronized void putTags(String namespace, Map<String, TagDescriptor> namespaceTags) {
+        Snapshot current = this.snapshot;
+        Map<String, TagDescriptor> existingTags = current.tags.get(namespace);
+        Map<String, TagDescriptor> mergedTags = existingTags != null ? new HashMap<>(existingTags) : new HashMap<>();
+        mergedTags.putAll(namespaceTags);
+        Map<String, Map<String, TagDescriptor>> tags = new HashMap<>(current.tags);
+        tags.put(namespace, Collections.unmodifiableMap(mergedTags));
+        this.snapshot = new Snapshot(Collections.unmodifiableMap(tags), current.namespaceDispatchers);
     }
 
     protected void putTagLib(Map<String, Object> tags, String name, GrailsTagLibClass taglib) {
         tags.put(name, this.applicationContext.getBean(taglib.getFullName()));
     }
 
+    /**
+     * Looks up a tag for the given namespace and tag name.
+     *
+     * @param namespace The tag library namespace
+     * @param tagName The tag name
+     * @return The tag or null if it wasn't found
+     * @since 2023.1.0
+     */
+    public TagDescriptor lookupTag(String namespace, String tagName) {
+        Map<String, TagDescriptor> tags = this.snapshot.tags.get(namespace);
+        return tags != null ? tags.get(tagName) : null;
+    }
+
     /**
      * Looks up a tag library for the given namespace and tag name.
      *
@@ -192,21 +200,18 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
      * @return The tag library or null if it wasn't found
      */
     public GroovyObject lookupTagLibrary(String namespace, String tagName) {
-        Map<String, Object> tags = this.tagNamespaces.get(namespace);
-        if (tags == null) {
-            return null;
-        }
-        return (GroovyObject) tags.get(tagName);
+        TagDescriptor tag = lookupTag(namespace, tagName);
+        return tag != null ? tag.getTagLibrary() : null;
     }
 
     public boolean doesTagReturnObject(String namespace, String tagName) {
-        Set<String> tagsThatReturnObject = this.tagsThatReturnObjectForNamespace.get(namespace);
-        return tagsThatReturnObject != null && tagsThatReturnObject.contains(tagName);
+        TagDescriptor tag = lookupTag(namespace, tagName);
+        return tag != null && tag.isReturnsObject();
     }
 
     public Map<String, Object> getEncodeAsForTag(String namespace, String tagName) {
-        Map<String, Map<String, Object>> encodeAsForTagNamespace = this.encodeAsForTagNamespaces.get(namespace);
-        return encodeAsForTagNamespace != null ? encodeAsForTagNamespace.get(tagName) : null;
+        TagDescriptor tag = lookupTag(namespace, tagName);
+        return tag != null ? tag.getEncodeAs() : null;
     }
 
     /**
@@ -215,7 +220,7 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
      * @return The NamespacedTagDispatcher
      */
     public NamespacedTagDispatcher lookupNamespaceDispatcher(String namespace) {
-        return this.namespaceDispatchers.get(namespace);
+        return this.snapshot.namespaceDispatchers.get(namespace);
     }
 
     /**
@@ -224,18 +229,18 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
      * @return true if it is in use
      */
     public boolean hasNamespace(String namespace) {
-        return this.namespaceDispatchers.containsKey(namespace);
+        return this.snapshot.namespaceDispatchers.containsKey(namespace);
     }
 
     /**
      * @return The namespaces available
      */
     public Set<String> getAvailableNamespaces() {
-        return this.namespaceDispatchers.keySet();
+        return this.snapshot.namespaceDispatchers.keySet();
     }
 
     public Set<String> getAvailableTags(String namespace) {
-        Map<String, Object> tags = this.tagNamespaces.get(namespace);
+        Map<String, TagDescriptor> tags = this.snapshot.tags.get(namespace);
         if (tags == null) {
             return Collections.emptySet();
         }
@@ -250,4 +255,22 @@ public class TagLibraryLookup implements ApplicationContextAware, GrailsApplicat
         this.grailsApplication = grailsApplication;
     }
 
+    /**
+     * The tags by namespace and name and the namespace dispatchers, which are never modified once published.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyMap());
+
+        final Map<String, Map<String, TagDescriptor>> tags;
+
+        final Map<String, NamespacedTagDispatcher> namespaceDispatchers;
+
+        Snapshot(Map<String, Map<String, TagDescriptor>> tags, Map<String, NamespacedTagDispatcher> namespaceDispatchers) {
+            this.tags = tags;
+            this.namespaceDispatchers = namespaceDispatchers;
+        }
+
+    }
+
 }
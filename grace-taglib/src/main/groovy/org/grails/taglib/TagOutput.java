@@ -22,6 +22,8 @@ import groovy.lang.Closure;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.runtime.typehandling.DefaultTypeTransformation;
 
+import grails.core.GrailsApplication;
+
 import org.grails.encoder.Encoder;
 import org.grails.taglib.encoder.OutputContext;
 import org.grails.taglib.encoder.OutputEncodingStack;
@@ -48,7 +50,8 @@ public final class TagOutput {
     public static Object captureTagOutput(TagLibraryLookup gspTagLibraryLookup, String namespace,
             String tagName, Map attrs, Object body, OutputContext outputContext) {
 
-        GroovyObject tagLib = lookupCachedTagLib(gspTagLibraryLookup, namespace, tagName);
+        TagDescriptor tagDescriptor = gspTagLibraryLookup != null ? gspTagLibraryLookup.lookupTag(namespace, tagName) : null;
+        GroovyObject tagLib = tagDescriptor != null ? tagDescriptor.getTagLibrary() : null;
 
         if (tagLib == null) {
             throw new GrailsTagException("Tag [" + tagName + "] does not exist. No corresponding tag library found.");
@@ -67,13 +70,13 @@ public final class TagOutput {
             if (outputStack == null) {
                 outputStack = OutputEncodingStack.currentStack(outputContext, true, tagOutput, true, true);
             }
-            Map<String, Object> defaultEncodeAs = gspTagLibraryLookup.getEncodeAsForTag(namespace, tagName);
-            Map<String, Object> codecSettings = createCodecSettings(namespace, tagName, attrs, defaultEncodeAs);
-
-            OutputEncodingStackAttributes.Builder builder =
-                    WithCodecHelper.createOutputStackAttributesBuilder(codecSettings, outputContext.getGrailsApplication());
-            builder.topWriter(tagOutput);
-            outputStack.push(builder.build());
+            OutputEncodingStackAttributes codecAttributes = createCodecAttributes(tagDescriptor, attrs, outputContext.getGrailsApplication());
+            if (codecAttributes != null) {
+                outputStack.push(codecAttributes, tagOutput);
+            }
+            else {
+                outputStack.push(tagOutput);
+            }
 
             Object tagLibProp = tagLib.getProperty(tagName); // retrieve tag lib and create wrapper writer
             if (tagLibProp instanceof Closure) {
@@ -108,9 +111,7 @@ public final class TagOutput {
 
                 Encoder taglibEncoder = outputStack.getTaglibEncoder();
 
-                boolean returnsObject = gspTagLibraryLookup.doesTagReturnObject(namespace, tagName);
-
-                if (returnsObject && bodyResult != null && !(bodyResult instanceof Writer)) {
+                if (tagDescriptor.isReturnsObject() && bodyResult != null && !(bodyResult instanceof Writer)) {
                     if (taglibEncoder != null) {
                         bodyResult = taglibEncoder.encode(bodyResult);
                     }
@@ -172,6 +173,35 @@ public final class TagOutput {
         return codecSettings;
     }
 
+    /**
+     * Returns the output stack attributes for a call of the given tag. The attributes of calls without codec
+     * settings or with a codec name in the <code>encodeAs</code> attribute are cached by the {@link TagDescriptor},
+     * only calls with a map of codec settings are resolved for every call.
+     *
+     * @param tag The tag
+     * @param attrs The attributes of the call
+     * @param grailsApplication The application to look up the encoders
+     * @return The attributes without a top writer, or null if no codecs apply to the call
+     */
+    public static OutputEncodingStackAttributes createCodecAttributes(TagDescriptor tag, @SuppressWarnings("rawtypes") Map attrs,
+            GrailsApplication grailsApplication) {
+        Object codecInfo = null;
+        if (attrs.containsKey(ENCODE_AS_ATTRIBUTE_NAME)) {
+            codecInfo = attrs.get(ENCODE_AS_ATTRIBUTE_NAME);
+        }
+        else if (DEFAULT_NAMESPACE.equals(tag.getNamespace()) && APPLY_CODEC_TAG_NAME.equals(tag.getTagName())) {
+            codecInfo = attrs;
+        }
+        if (codecInfo == null || codecInfo instanceof CharSequence) {
+            return tag.getCodecAttributes(codecInfo != null ? codecInfo.toString() : null, grailsApplication);
+        }
+        Map<String, Object> codecSettings = WithCodecHelper.mergeSettingsAndMakeCanonical(codecInfo, tag.getEncodeAs());
+        if (codecSettings == null) {
+            return null;
+        }
+        return WithCodecHelper.createOutputStackAttributesBuilder(codecSettings, grailsApplication).build();
+    }
+
     @SuppressWarnings("rawtypes")
     public static final class ConstantClosure extends Closure {
 
@@ -205,10 +205,25 @@ public final class OutputEncodingStack {
     }
 
     public void push(final OutputEncodingStackAttributes attributes, final boolean checkExisting) {
+        push(attributes, attributes.getTopWriter(), checkExisting);
+    }
+
+    /**
+     * Pushes shared attributes, such as the cached codec attributes of a tag, with the given top writer
+     * instead of the top writer of the attributes.
+     *
+     * @param attributes The attributes to push
+     * @param topWriter The top writer or null to use the writer of the previous stack entry
+     */
+    public void push(final OutputEncodingStackAttributes attributes, final Writer topWriter) {
+        push(attributes, topWriter, false);
+    }
+
+    private void push(final OutputEncodingStackAttributes attributes, final Writer newTopWriter, final boolean checkExisting) {
         this.writerGroup.reset();
 
         if (checkExisting) {
-            checkExistingStack(attributes.getTopWriter());
+            checkExistingStack(newTopWriter);
         }
 
         StackEntry previousStackEntry = null;
@@ -216,7 +231,7 @@ public final class OutputEncodingStack {
             previousStackEntry = this.stack.peek();
         }
 
-        Writer topWriter = attributes.getTopWriter();
+        Writer topWriter = newTopWriter;
         Writer unwrappedWriter = null;
         if (topWriter != null) {
             if (topWriter instanceof OutputProxyWriter) {
@@ -254,7 +269,7 @@ public final class OutputEncodingStack {
         resetWriters();
 
         if (this.autoSync) {
-            applyWriterThreadLocals(attributes.getTopWriter());
+            applyWriterThreadLocals(newTopWriter);
         }
     }
 
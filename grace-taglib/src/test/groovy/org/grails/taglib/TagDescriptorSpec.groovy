@@ -0,0 +1,97 @@
+package org.grails.taglib
+
+import grails.core.GrailsApplication
+import org.grails.encoder.CodecLookup
+import org.grails.encoder.Encoder
+import org.springframework.context.ApplicationContext
+import spock.lang.Specification
+
+class TagDescriptorSpec extends Specification {
+
+    Encoder htmlEncoder = Mock(Encoder)
+    Encoder rawEncoder = Mock(Encoder)
+    CodecLookup codecLookup = Mock(CodecLookup)
+    ApplicationContext context = Mock(ApplicationContext)
+    GrailsApplication grailsApplication = Mock(GrailsApplication)
+
+    void setup() {
+        context.containsBean('codecLookup') >> true
+        context.getBean('codecLookup', CodecLookup) >> codecLookup
+        grailsApplication.getMainContext() >> context
+    }
+
+    void "codec attributes of a tag are resolved once"() {
+        given:
+        TagDescriptor tag = new TagDescriptor('g', 'message', null, true, [expression: 'html', _canonical_: true].asImmutable())
+
+        when:
+        def first = tag.getCodecAttributes(null, grailsApplication)
+        def second = tag.getCodecAttributes(null, grailsApplication)
+
+        then:
+        1 * codecLookup.lookupEncoder('html') >> htmlEncoder
+        first.is(second)
+        first.expressionEncoder.is(htmlEncoder)
+        first.inheritPreviousEncoders
+        first.topWriter == null
+    }
+
+    void "codec attributes are cached per codec name of the encodeAs attribute"() {
+        given:
+        TagDescriptor tag = new TagDescriptor('g', 'message', null, true, null)
+
+        when:
+        def raw = tag.getCodecAttributes('raw', grailsApplication)
+        def html = tag.getCodecAttributes('html', grailsApplication)
+
+        then:
+        1 * codecLookup.lookupEncoder('raw') >> rawEncoder
+        1 * codecLookup.lookupEncoder('html') >> htmlEncoder
+        raw.taglibEncoder.is(rawEncoder)
+        html.taglibEncoder.is(htmlEncoder)
+
+        when:
+        def rawAgain = tag.getCodecAttributes('raw', grailsApplication)
+
+        then:
+        0 * codecLookup.lookupEncoder(_)
+        rawAgain.is(raw)
+    }
+
+    void "no codec attributes without codec settings"() {
+        given:
+        TagDescriptor tag = new TagDescriptor('g', 'link', null, false, null)
+
+        expect:
+        tag.getCodecAttributes(null, grailsApplication) == null
+        tag.getCodecAttributes('', grailsApplication) == null
+    }
+
+    void "codec attributes are not cached without a codec lookup"() {
+        given:
+        TagDescriptor tag = new TagDescriptor('g', 'message', null, true, null)
+
+        when:
+        def first = tag.getCodecAttributes('raw', null)
+        def second = tag.getCodecAttributes('raw', null)
+
+        then:
+        !first.is(second)
+        first.taglibEncoder == null
+    }
+
+    void "encodeAs attribute of a call is merged with the codecs of the tag"() {
+        given:
+        TagDescriptor tag = new TagDescriptor('g', 'message', null, true, [expression: 'html', _canonical_: true].asImmutable())
+        codecLookup.lookupEncoder('html') >> htmlEncoder
+        codecLookup.lookupEncoder('raw') >> rawEncoder
+
+        when:
+        def attributes = TagOutput.createCodecAttributes(tag, [encodeAs: [taglib: 'raw']], grailsApplication)
+
+        then:
+        attributes.taglibEncoder.is(rawEncoder)
+        attributes.expressionEncoder.is(htmlEncoder)
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.grails.taglib
+
+import spock.lang.Specification
+
+import grails.core.gsp.GrailsTagLibClass
+
+import org.grails.core.gsp.DefaultGrailsTagLibClass
+
+class TagLibraryLookupSpec extends Specification {
+
+    TagLibraryLookup tagLibraryLookup = new TagLibraryLookup() {
+        @Override
+        protected void putTagLib(Map<String, Object> tags, String name, GrailsTagLibClass taglib) {
+            tags.put(name, taglib.newInstance())
+        }
+    }
+
+    void "tags are resolved to a single descriptor"() {
+        when:
+        tagLibraryLookup.registerTagLib(new DefaultGrailsTagLibClass(LookupSampleTagLib))
+        TagDescriptor upper = tagLibraryLookup.lookupTag('sample', 'upper')
+        TagDescriptor lower = tagLibraryLookup.lookupTag('sample', 'lower')
+
+        then:
+        upper.namespace == 'sample'
+        upper.tagName == 'upper'
+        upper.tagLibrary instanceof LookupSampleTagLib
+        upper.returnsObject
+        upper.encodeAs.taglib == 'raw'
+        !lower.returnsObject
+        lower.encodeAs == null
+        tagLibraryLookup.lookupTagLibrary('sample', 'upper').is(upper.tagLibrary)
+        tagLibraryLookup.doesTagReturnObject('sample', 'upper')
+        tagLibraryLookup.getEncodeAsForTag('sample', 'upper').is(upper.encodeAs)
+        tagLibraryLookup.hasNamespace('sample')
+        tagLibraryLookup.lookupTag('sample', 'missing') == null
+        tagLibraryLookup.lookupTag('missing', 'upper') == null
+    }
+
+    void "registering a tag library again replaces its tags without modifying the previous snapshot"() {
+        given:
+        tagLibraryLookup.registerTagLib(new DefaultGrailsTagLibClass(LookupSampleTagLib))
+        TagDescriptor previous = tagLibraryLookup.lookupTag('sample', 'upper')
+        Set<String> previousTags = tagLibraryLookup.getAvailableTags('sample')
+
+        when:
+        tagLibraryLookup.registerTagLib(new DefaultGrailsTagLibClass(ReloadedLookupSampleTagLib))
+        TagDescriptor reloaded = tagLibraryLookup.lookupTag('sample', 'upper')
+
+        then:
+        !reloaded.is(previous)
+        reloaded.tagLibrary instanceof ReloadedLookupSampleTagLib
+        !reloaded.returnsObject
+        reloaded.encodeAs == null
+        tagLibraryLookup.lookupTag('sample', 'lower').tagLibrary instanceof LookupSampleTagLib
+        tagLibraryLookup.getAvailableTags('sample') == ['upper', 'lower', 'title'] as Set
+        previousTags == ['upper', 'lower'] as Set
+    }
+
+}
+
+class LookupSampleTagLib {
+    static namespace = 'sample'
+    static returnObjectForTags = ['upper']
+    static encodeAsForTags = [upper: 'raw']
+
+    Closure upper = { attrs -> attrs.value?.toString()?.toUpperCase() }
+    Closure lower = { attrs -> attrs.value?.toString()?.toLowerCase() }
+}
+
+class ReloadedLookupSampleTagLib {
+    static namespace = 'sample'
+
+    Closure upper = { attrs -> attrs.value?.toString()?.toUpperCase() }
+    Closure title = { attrs -> attrs.value?.toString()?.capitalize() }
+}
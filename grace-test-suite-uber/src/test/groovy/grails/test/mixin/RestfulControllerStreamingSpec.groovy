@@ -0,0 +1,134 @@
+package grails.test.mixin
+
+import groovy.json.JsonSlurper
+
+import grails.artefact.Artefact
+import grails.persistence.Entity
+import grails.rest.ResourceCursor
+import grails.rest.RestfulController
+import grails.testing.gorm.DomainUnitTest
+import grails.testing.web.controllers.ControllerUnitTest
+import grails.web.http.HttpHeaders
+import grails.web.mime.MimeType
+import spock.lang.Specification
+
+class RestfulControllerStreamingSpec extends Specification implements ControllerUnitTest<TrackController>, DomainUnitTest<Track> {
+
+    List<Track> tracks
+
+    void setup() {
+        tracks = (1..5).collect { new Track(title: "Track $it").save(flush: true) }
+    }
+
+    void "Test that the page after a given id is streamed with a link to the next page"() {
+        when:
+        response.format = 'json'
+        params.after = tracks[1].id
+        controller.index(2)
+
+        then:
+        response.json*.title == ['Track 3', 'Track 4']
+        response.getHeader(HttpHeaders.LINK).contains("after=${tracks[3].id}")
+        response.getHeader(HttpHeaders.LINK).endsWith('rel="next"')
+        !model.trackCount
+    }
+
+    void "Test that the last page is streamed without a link to the next page"() {
+        when:
+        response.format = 'json'
+        params.after = tracks[3].id
+        controller.index(10)
+
+        then:
+        response.json*.title == ['Track 5']
+        response.getHeader(HttpHeaders.LINK) == null
+    }
+
+    void "Test that a streamed page is not limited like a listed page"() {
+        given:
+        (6..120).each { new Track(title: "Track $it").save() }
+        Track.withSession { it.flush() }
+
+        when:
+        response.format = 'json'
+        params.after = 0L
+        controller.index(110)
+
+        then:
+        response.json.size() == 110
+        response.getHeader(HttpHeaders.LINK).contains('max=110')
+    }
+
+    void "Test that newline delimited JSON is streamed for the ndjson Accept header"() {
+        when:
+        request.addHeader(HttpHeaders.ACCEPT, MimeType.NDJSON.name)
+        controller.index(null)
+
+        then:
+        response.format == 'ndjson'
+        response.contentType.startsWith(MimeType.NDJSON.name)
+        response.contentAsString.readLines().collect { new JsonSlurper().parseText(it).title } == tracks*.title
+        !model.trackCount
+    }
+
+    void "Test that an HTML page is listed with a count instead of being streamed"() {
+        when:
+        response.format = 'html'
+        params.after = tracks[1].id
+        controller.index(2)
+
+        then:
+        model.trackList instanceof List
+        model.trackCount == 5
+    }
+
+    void "Test that a cursor is read into a list for a view"() {
+        when:
+        response.format = 'html'
+        controller.cursor()
+
+        then:
+        model.trackList*.title == tracks*.title
+        controller.closed
+    }
+
+    void "Test that the size of a cursor without an estimated count is counted from its elements"() {
+        given:
+        ResourceCursor<Track> cursor = ResourceCursor.of(tracks.iterator(), Track)
+
+        expect:
+        cursor.size() == 5
+        cursor*.title == tracks*.title
+    }
+
+    void "Test that a cursor is closed once it has been rendered"() {
+        when:
+        response.format = 'json'
+        controller.cursor()
+
+        then:
+        response.json*.title == tracks*.title
+        controller.closed
+    }
+
+}
+
+@Entity
+class Track {
+    String title
+}
+
+@Artefact('Controller')
+class TrackController extends RestfulController<Track> {
+
+    boolean closed
+
+    TrackController() {
+        super(Track)
+    }
+
+    def cursor() {
+        respond ResourceCursor.of(Track.list(sort: 'id').stream().onClose { closed = true }, Track)
+    }
+
+}
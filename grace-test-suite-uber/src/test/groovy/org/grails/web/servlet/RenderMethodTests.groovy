@@ -20,6 +20,7 @@ import grails.web.http.HttpHeaders
 import org.grails.plugins.testing.GrailsMockHttpServletRequest
 import org.grails.plugins.testing.GrailsMockHttpServletResponse
 import org.grails.web.servlet.mvc.exceptions.ControllerExecutionException
+import org.springframework.core.io.InputStreamResource
 import grails.artefact.Artefact
 import spock.lang.Specification
 
@@ -61,6 +62,131 @@ class RenderMethodTests extends Specification implements ControllerUnitTest<Rend
         "attachment;filename=\"hello.txt\"" == response.getHeader(HttpHeaders.CONTENT_DISPOSITION)
     }
 
+    void testRenderFileWithRangesAndConditionalRequests() {
+        given:
+        File file = File.createTempFile("render", ".txt")
+        file.deleteOnExit()
+        file.text = "hello world"
+        request.method = "GET"
+
+        when:
+        controller.render file: file, contentType: "text/plain"
+        String etag = response.getHeader(HttpHeaders.ETAG)
+
+        then:
+        "hello world" == response.contentAsString
+        11 == response.contentLength
+        "bytes" == response.getHeader(HttpHeaders.ACCEPT_RANGES)
+        etag != null
+
+        when:
+        response.reset()
+        request.addHeader(HttpHeaders.RANGE, "bytes=6-")
+        controller.render file: file.toPath(), contentType: "text/plain"
+
+        then:
+        206 == response.status
+        "world" == response.contentAsString
+        "bytes 6-10/11" == response.getHeader(HttpHeaders.CONTENT_RANGE)
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.RANGE)
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,6-7")
+        controller.render file: file, contentType: "text/plain"
+
+        then:
+        206 == response.status
+        response.contentType.startsWith("multipart/byteranges")
+        response.contentAsString.contains("Content-Range: bytes 0-1/11")
+        response.contentAsString.contains("Content-Range: bytes 6-7/11")
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.RANGE)
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30")
+        controller.render file: file, contentType: "text/plain"
+
+        then:
+        416 == response.status
+        "bytes */11" == response.getHeader(HttpHeaders.CONTENT_RANGE)
+
+        when:
+        response.reset()
+        request.removeHeader(HttpHeaders.RANGE)
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag)
+        controller.render file: file, contentType: "text/plain"
+
+        then:
+        304 == response.status
+        "" == response.contentAsString
+    }
+
+    void testRenderFileWithIfRange() {
+        given:
+        File file = File.createTempFile("render", ".txt")
+        file.deleteOnExit()
+        file.text = "hello world"
+        request.method = "GET"
+        controller.render file: file, contentType: "text/plain"
+        String etag = response.getHeader(HttpHeaders.ETAG)
+
+        when: "the If-Range header is the current entity tag"
+        response.reset()
+        request.addHeader(HttpHeaders.RANGE, "bytes=6-")
+        request.addHeader(HttpHeaders.IF_RANGE, etag)
+        controller.render file: file, contentType: "text/plain"
+
+        then:
+        206 == response.status
+        "world" == response.contentAsString
+
+        when: "the If-Range header is a weak entity tag"
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_RANGE)
+        request.addHeader(HttpHeaders.IF_RANGE, "W/" + etag)
+        controller.render file: file, contentType: "text/plain"
+
+        then:
+        200 == response.status
+        "hello world" == response.contentAsString
+
+        when: "the If-Range header is the last modification date"
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_RANGE)
+        request.addHeader(HttpHeaders.IF_RANGE, new Date(file.lastModified()))
+        controller.render file: file, contentType: "text/plain"
+
+        then:
+        206 == response.status
+        "world" == response.contentAsString
+
+        when: "the If-Range header is a later date"
+        response.reset()
+        request.removeHeader(HttpHeaders.IF_RANGE)
+        request.addHeader(HttpHeaders.IF_RANGE, new Date(file.lastModified() + 60000))
+        controller.render file: file, contentType: "text/plain"
+
+        then:
+        200 == response.status
+        "hello world" == response.contentAsString
+    }
+
+    void testRenderInputStreamResourceIsNotConsumedForItsLength() {
+        given:
+        request.method = "GET"
+        request.addHeader(HttpHeaders.RANGE, "bytes=6-")
+
+        when:
+        controller.render file: new InputStreamResource(new ByteArrayInputStream("hello world".bytes)), fileName: "hello.txt", contentType: "text/plain"
+
+        then:
+        200 == response.status
+        "hello world" == response.contentAsString
+        response.getHeader(HttpHeaders.CONTENT_RANGE) == null
+        response.getHeader(HttpHeaders.ETAG) == null
+    }
+
     void testRenderMethodWithStatus() {
         when:
         controller.renderMessageWithStatus()
@@ -61,6 +61,28 @@ public class StreamByteBufferTest {
         assertEquals(TEST_STRING, byteBuffer.readAsString(StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void testToCharArraySplitCharacters() throws IOException {
+        // a chunk size of 7 bytes splits the two byte characters between the chunks
+        StreamByteBuffer byteBuffer = new StreamByteBuffer(7);
+        String text = "\u00e4\u00f6\u00fc-\u00e4\u00f6\u00fc-\u00e4\u00f6\u00fc-\u00e4\u00f6\u00fc";
+        OutputStream output = byteBuffer.getOutputStream();
+        output.write(text.getBytes(StandardCharsets.UTF_8));
+        output.close();
+        assertEquals(text, new String(byteBuffer.readAsCharArray(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testToCharArrayMalformedCharacters() throws IOException {
+        // malformed bytes are replaced by more chars than the well-formed UTF-8 chars counted for the array
+        StreamByteBuffer byteBuffer = new StreamByteBuffer(3);
+        byte[] bytes = { (byte) 0x80, (byte) 0x80, 'a', (byte) 0xc3, (byte) 0xf5, (byte) 0x80, (byte) 0x80, (byte) 0x80 };
+        OutputStream output = byteBuffer.getOutputStream();
+        output.write(bytes);
+        output.close();
+        assertEquals(new String(bytes, StandardCharsets.UTF_8), new String(byteBuffer.readAsCharArray(StandardCharsets.UTF_8)));
+    }
+
     @Test
     public void testToInputStream() throws IOException {
         StreamByteBuffer byteBuffer = createTestInstance();
@@ -19,7 +19,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import groovy.lang.GroovyObject;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.GenericBeanDefinition;
 import org.springframework.context.support.GenericApplicationContext;
@@ -27,6 +26,7 @@ import org.springframework.context.support.GenericApplicationContext;
 import grails.core.gsp.GrailsTagLibClass;
 
 import org.grails.plugins.web.GroovyPagesGrailsPlugin;
+import org.grails.taglib.TagDescriptor;
 import org.grails.taglib.TagLibraryLookup;
 
 /**
@@ -78,9 +78,9 @@ public class LazyTagLibraryLookup extends TagLibraryLookup {
     }
 
     @Override
-    public GroovyObject lookupTagLibrary(String namespace, String tagName) {
-        GroovyObject tagLibrary = super.lookupTagLibrary(namespace, tagName);
-        if (tagLibrary == null) {
+    public TagDescriptor lookupTag(String namespace, String tagName) {
+        TagDescriptor tag = super.lookupTag(namespace, tagName);
+        if (tag == null) {
             String tagKey = tagNameKey(namespace, tagName);
             GrailsTagLibClass taglibClass = this.lazyLoadableTagLibs.get(tagKey);
             if (taglibClass != null) {
@@ -93,10 +93,10 @@ public class LazyTagLibraryLookup extends TagLibraryLookup {
                             .registerBeanDefinition(taglibClass.getFullName(), bd);
                 }
                 registerTagLib(taglibClass);
-                tagLibrary = super.lookupTagLibrary(namespace, tagName);
+                tag = super.lookupTag(namespace, tagName);
             }
         }
-        return tagLibrary;
+        return tag;
     }
 
     protected String tagNameKey(String namespace, String tagName) {
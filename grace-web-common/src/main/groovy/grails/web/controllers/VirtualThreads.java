@@ -0,0 +1,45 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package grails.web.controllers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller or a controller action to be executed on a virtual thread using Servlet async processing,
+ * releasing the container thread while the action runs. Requires JDK 21 or above, on older JVMs the action
+ * is executed on the container thread as usual.
+ *
+ * <p>An annotation on an action takes precedence over one on the controller,
+ * so {@code @VirtualThreads(false)} can be used to exclude a single action.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+public @interface VirtualThreads {
+
+    /**
+     * @return Whether the action should be executed on a virtual thread
+     */
+    boolean value() default true;
+
+}
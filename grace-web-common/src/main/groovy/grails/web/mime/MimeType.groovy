@@ -47,6 +47,7 @@ class MimeType {
     public static final MimeType HAL_XML = new MimeType('application/hal+xml', 'xml')
     public static final MimeType ATOM_XML = new MimeType('application/atom+xml', 'xml')
     public static final MimeType JSON_API = new MimeType('application/vnd.api+json', 'json')
+    public static final MimeType NDJSON = new MimeType('application/x-ndjson', 'ndjson')
 
     private static final DEFAULTS = createDefaults()
     public static final String QUALITY_RATING = '1.0'
@@ -156,6 +157,7 @@ class MimeType {
         mimes << TEXT_XML
         mimes << JSON
         mimes << TEXT_JSON
+        mimes << NDJSON
         mimes as MimeType[]
     }
 
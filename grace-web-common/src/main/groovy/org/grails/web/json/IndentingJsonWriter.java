@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A Writer which pretty prints the JSON written to it while passing it on to the target Writer.
+ *
+ * <p>The output is indented on the fly from the token stream, without buffering or re-parsing the document,
+ * and is formatted like {@link groovy.json.JsonOutput#prettyPrint(String)}: every value on its own line,
+ * indented by 4 spaces per level. Whitespace between tokens is dropped and strings are passed on unchanged.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class IndentingJsonWriter extends Writer {
+
+    private static final int INDENT_SIZE = 4;
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private final Writer target;
+
+    private char[] spaces = new char[INDENT_SIZE * 16];
+
+    private char[] charBuffer;
+
+    private int indent = 0;
+
+    private boolean inString = false;
+
+    private boolean escaped = false;
+
+    public IndentingJsonWriter(Writer target) {
+        this.target = target;
+        Arrays.fill(this.spaces, ' ');
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (this.charBuffer == null) {
+            this.charBuffer = new char[BUFFER_SIZE];
+        }
+        this.charBuffer[0] = (char) c;
+        write(this.charBuffer, 0, 1);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        if (this.charBuffer == null) {
+            this.charBuffer = new char[BUFFER_SIZE];
+        }
+        int end = off + len;
+        for (int start = off; start < end; start += BUFFER_SIZE) {
+            int count = Math.min(BUFFER_SIZE, end - start);
+            str.getChars(start, start + count, this.charBuffer, 0);
+            write(this.charBuffer, 0, count);
+        }
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        int end = off + len;
+        // start of the run of characters which are passed on unchanged
+        int run = off;
+        for (int i = off; i < end; i++) {
+            char c = cbuf[i];
+            if (this.inString) {
+                if (this.escaped) {
+                    this.escaped = false;
+                }
+                else if (c == '\\') {
+                    this.escaped = true;
+                }
+                else if (c == '"') {
+                    this.inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"':
+                    this.inString = true;
+                    continue;
+                case '{':
+                case '[':
+                case '}':
+                case ']':
+                case ',':
+                case ':':
+                case ' ':
+                case '\t':
+                case '\r':
+                case '\n':
+                    break;
+                default:
+                    continue;
+            }
+            if (i > run) {
+                this.target.write(cbuf, run, i - run);
+            }
+            run = i + 1;
+            switch (c) {
+                case '{':
+                case '[':
+                    this.indent += INDENT_SIZE;
+                    this.target.write(c);
+                    newLine();
+                    break;
+                case '}':
+                case ']':
+                    this.indent -= INDENT_SIZE;
+                    newLine();
+                    this.target.write(c);
+                    break;
+                case ',':
+                    this.target.write(',');
+                    newLine();
+                    break;
+                case ':':
+                    this.target.write(": ");
+                    break;
+                default:
+                    // whitespace between tokens
+                    break;
+            }
+        }
+        if (end > run) {
+            this.target.write(cbuf, run, end - run);
+        }
+    }
+
+    private void newLine() throws IOException {
+        this.target.write('\n');
+        if (this.indent > 0) {
+            if (this.indent > this.spaces.length) {
+                this.spaces = new char[this.indent * 2];
+                Arrays.fill(this.spaces, ' ');
+            }
+            this.target.write(this.spaces, 0, this.indent);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.target.close();
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.servlet.mvc;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Request of a {@link GrailsWebRequest#fork() forked} web request, the attributes which are set or removed
+ * are kept in the forked request and hide the attributes of the parent request.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+final class ForkedHttpServletRequest extends HttpServletRequestWrapper {
+
+    private static final Object REMOVED = new Object();
+
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    ForkedHttpServletRequest(HttpServletRequest request) {
+        super(request);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        Object value = this.attributes.get(name);
+        if (value == null) {
+            return super.getAttribute(name);
+        }
+        return value != REMOVED ? value : null;
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        Set<String> names = new LinkedHashSet<>(Collections.list(super.getAttributeNames()));
+        for (Map.Entry<String, Object> entry : this.attributes.entrySet()) {
+            if (entry.getValue() == REMOVED) {
+                names.remove(entry.getKey());
+            }
+            else {
+                names.add(entry.getKey());
+            }
+        }
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        this.attributes.put(name, value != null ? value : REMOVED);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        this.attributes.put(name, REMOVED);
+    }
+
+}
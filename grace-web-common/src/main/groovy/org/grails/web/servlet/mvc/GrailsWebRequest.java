@@ -22,6 +22,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -45,6 +47,8 @@ import grails.web.mvc.FlashScope;
 import grails.web.servlet.mvc.GrailsHttpSession;
 import grails.web.servlet.mvc.GrailsParameterMap;
 
+import org.grails.buffer.BufferChunkLeaseLookup;
+import org.grails.buffer.BufferChunkPool;
 import org.grails.core.artefact.ControllerArtefactHandler;
 import org.grails.core.io.support.GrailsFactoriesLoader;
 import org.grails.encoder.CodecLookupHelper;
@@ -79,6 +83,7 @@ public class GrailsWebRequest extends DispatcherServletWebRequest {
 
     static {
         EncodingStateRegistryLookupHolder.setEncodingStateRegistryLookup(new DefaultEncodingStateRegistryLookup());
+        BufferChunkPool.setLeaseLookup(new DefaultBufferChunkLeaseLookup());
     }
 
     private GrailsApplicationAttributes attributes;
@@ -111,6 +116,14 @@ public class GrailsWebRequest extends DispatcherServletWebRequest {
 
     private HttpServletRequest multipartRequest;
 
+    private volatile boolean requestCompletionDeferred;
+
+    private BufferChunkPool.Lease bufferChunkLease;
+
+    private boolean bufferChunkLeaseInherited;
+
+    private GrailsWebRequest rootRequest;
+
     public GrailsWebRequest(HttpServletRequest request, HttpServletResponse response, GrailsApplicationAttributes attributes) {
         super(request, response);
         this.attributes = attributes;
@@ -136,6 +149,50 @@ public class GrailsWebRequest extends DispatcherServletWebRequest {
         this.applicationContext = applicationContext;
     }
 
+    private GrailsWebRequest(GrailsWebRequest parent) {
+        super(new ForkedHttpServletRequest(parent.getCurrentRequest()), parent.getResponse());
+        this.attributes = parent.attributes;
+        this.applicationContext = parent.applicationContext;
+        this.params = parent.getParams();
+        this.originalParams = parent.getOriginalParams();
+        this.renderView = parent.renderView;
+        this.skipFilteringCodec = parent.skipFilteringCodec;
+        this.filteringEncoder = parent.filteringEncoder;
+        this.wrappedResponse = parent.wrappedResponse;
+        this.encodingStateRegistry = new DefaultEncodingStateRegistry(parent.getEncodingStateRegistry());
+        this.bufferChunkLease = parent.getBufferChunkLease();
+        this.bufferChunkLeaseInherited = true;
+        this.rootRequest = parent.getRootRequest();
+        getRequest().setAttribute(GrailsApplicationAttributes.WEB_REQUEST, this);
+    }
+
+    /**
+     * Creates a web request for rendering a part of this request on another thread, for example
+     * a template of a collection which is rendered in parallel.
+     *
+     * <p>The forked request reads the attributes, parameters and encoded values of this request,
+     * but the attributes it sets and the values it encodes are only visible to itself. This request must
+     * not be modified while forked requests are in use. A forked request has to be completed on the thread
+     * using it, which runs the destruction callbacks it has registered, the buffer chunks it acquires are
+     * released with this request.</p>
+     *
+     * @return the forked request
+     */
+    public GrailsWebRequest fork() {
+        return new GrailsWebRequest(this);
+    }
+
+    /**
+     * Returns the request this request has been {@link #fork() forked} from, which is completed after all
+     * of its forks, or this request if it is not a fork. Destruction callbacks can be registered on
+     * the root request from the threads using its forks.
+     *
+     * @return the root request
+     */
+    public GrailsWebRequest getRootRequest() {
+        return this.rootRequest != null ? this.rootRequest : this;
+    }
+
     /**
      * Holds a reference to the {@link org.springframework.web.multipart.MultipartRequest}
      *
@@ -149,6 +206,9 @@ public class GrailsWebRequest extends DispatcherServletWebRequest {
         GrailsWebRequest parentRequest = GrailsWebRequest.lookup(getRequest());
         if (parentRequest != null) {
             this.encodingStateRegistry = parentRequest.getEncodingStateRegistry();
+            // the content of included and forwarded requests is rendered by the parent request
+            this.bufferChunkLease = parentRequest.getBufferChunkLease();
+            this.bufferChunkLeaseInherited = true;
         }
     }
 
@@ -166,10 +226,79 @@ public class GrailsWebRequest extends DispatcherServletWebRequest {
         return this.params;
     }
 
+    /**
+     * Completes the request, running the request destruction callbacks and releasing the buffer chunks. If the
+     * completion has been deferred and async processing has started, the request is completed when async processing
+     * has completed, after the async dispatch has rendered the view.
+     */
     @Override
     public void requestCompleted() {
+        HttpServletRequest request = getRequest();
+        if (this.requestCompletionDeferred && request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncCompletionListener());
+            return;
+        }
         super.requestCompleted();
         DeferredBindingActions.clear();
+        releaseBufferChunks();
+    }
+
+    private void asyncRequestCompleted() {
+        if (this.requestCompletionDeferred) {
+            super.requestCompleted();
+            DeferredBindingActions.clear();
+        }
+        if (!this.bufferChunkLeaseInherited && this.bufferChunkLease != null) {
+            this.bufferChunkLease.release();
+        }
+    }
+
+    /**
+     * Returns the chunks acquired by the buffers of this request to the {@link BufferChunkPool}.
+     * When the request is processed asynchronously the view may be rendered by an async dispatch after
+     * the action has completed, the async dispatch shares the lease of this request, so the chunks
+     * are released once async processing has completed.
+     */
+    private void releaseBufferChunks() {
+        if (this.bufferChunkLeaseInherited) {
+            return;
+        }
+        HttpServletRequest request = getRequest();
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new AsyncCompletionListener());
+        }
+        else if (this.bufferChunkLease != null) {
+            this.bufferChunkLease.release();
+        }
+    }
+
+    /**
+     * @return The lease of the buffer chunks of this request, or null if buffer chunks aren't pooled
+     */
+    public BufferChunkPool.Lease getBufferChunkLease() {
+        if (this.bufferChunkLease == null && !this.bufferChunkLeaseInherited) {
+            BufferChunkPool pool = BufferChunkPool.getSharedInstance();
+            if (pool != null) {
+                this.bufferChunkLease = pool.createLease();
+            }
+        }
+        return this.bufferChunkLease;
+    }
+
+    /**
+     * Defers the completion of this request, when it is processed asynchronously, until async processing
+     * has completed.
+     */
+    public void deferRequestCompletion() {
+        this.requestCompletionDeferred = true;
+    }
+
+    /**
+     * @return Whether the completion of this request has been deferred
+     * @see #deferRequestCompletion()
+     */
+    public boolean isRequestCompletionDeferred() {
+        return this.requestCompletionDeferred;
     }
 
     /**
@@ -554,6 +683,34 @@ public class GrailsWebRequest extends DispatcherServletWebRequest {
         this.filteringEncoder = filteringEncoder;
     }
 
+    /**
+     * Completes this request, if its completion has been deferred, and releases its buffer chunks when async
+     * processing has completed. The container always notifies {@link #onComplete(AsyncEvent)}, also after
+     * a timeout or an error.
+     */
+    private final class AsyncCompletionListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            asyncRequestCompleted();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // listeners have to register again for each async cycle
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
     private static final class DefaultEncodingStateRegistryLookup implements EncodingStateRegistryLookup {
 
         public EncodingStateRegistry lookup() {
@@ -563,4 +720,13 @@ public class GrailsWebRequest extends DispatcherServletWebRequest {
 
     }
 
+    private static final class DefaultBufferChunkLeaseLookup implements BufferChunkLeaseLookup {
+
+        public BufferChunkPool.Lease lookup() {
+            GrailsWebRequest webRequest = GrailsWebRequest.lookup();
+            return webRequest == null ? null : webRequest.getBufferChunkLease();
+        }
+
+    }
+
 }
@@ -108,6 +108,11 @@ public interface GrailsApplicationAttributes extends ApplicationAttributes {
 
     String GRAILS_CONTROLLER_CLASS_AVAILABLE = "org.grails.GRAILS_CONTROLLER_CLASS_AVAILABLE";
 
+    /**
+     * Set when the controller action has been executed and its result is rendered on the async dispatch
+     */
+    String ASYNC_ACTION_STARTED = "org.grails.ASYNC_ACTION_STARTED";
+
     /**
      * Retrieves the plugin context path for the current request. The plugin context path is the path
      * used by plugins to reference resources such as javascript, CSS and so forth
@@ -48,6 +48,7 @@ import org.springframework.web.servlet.view.UrlBasedViewResolver;
 import org.springframework.web.util.UrlPathHelper;
 
 import grails.config.Config;
+import grails.config.ConfigKey;
 import grails.core.GrailsApplication;
 import grails.util.GrailsStringUtils;
 import grails.util.GrailsWebUtil;
@@ -70,6 +71,8 @@ public class WebUtils extends org.springframework.web.util.WebUtils {
 
     public static final String ENABLE_FILE_EXTENSIONS = "grails.mime.file.extensions";
 
+    private static final ConfigKey<Boolean> FILE_EXTENSIONS_ENABLED = ConfigKey.of(ENABLE_FILE_EXTENSIONS, Boolean.class, true);
+
     public static final String DISPATCH_ACTION_PARAMETER = "_action_";
 
     public static final String SEND_ALLOW_HEADER_FOR_INVALID_HTTP_METHOD = "grails.http.invalid.method.allow.header";
@@ -446,7 +449,7 @@ public class WebUtils extends org.springframework.web.util.WebUtils {
      */
     public static boolean areFileExtensionsEnabled() {
         Config config = GrailsWebUtil.currentApplication().getConfig();
-        return config.getProperty(ENABLE_FILE_EXTENSIONS, Boolean.class, true);
+        return FILE_EXTENSIONS_ENABLED.get(config);
     }
 
     /**
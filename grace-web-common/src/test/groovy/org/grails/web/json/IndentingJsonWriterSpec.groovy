@@ -0,0 +1,43 @@
+package org.grails.web.json
+
+import groovy.json.JsonOutput
+import groovy.json.StreamingJsonBuilder
+import spock.lang.Specification
+
+class IndentingJsonWriterSpec extends Specification {
+
+    void "Test indenting matches JsonOutput.prettyPrint"() {
+        given:
+        String json = JsonOutput.toJson([name: 'a "quoted" {value}, with: punctuation', empty: [:], list: [1, [], [b: null, c: true]], nested: [d: [e: -1.5]]])
+        StringWriter target = new StringWriter()
+
+        when:
+        Writer writer = new IndentingJsonWriter(target)
+        // write in small pieces to cross string and escape boundaries
+        json.toList().collate(3).each { List<String> chars -> writer.write(chars.join('')) }
+        writer.flush()
+
+        then:
+        target.toString() == JsonOutput.prettyPrint(json)
+    }
+
+    void "Test streaming JSON is indented while it is written"() {
+        given:
+        StringWriter target = new StringWriter()
+        StreamingJsonBuilder builder = new StreamingJsonBuilder(new IndentingJsonWriter(target))
+
+        when:
+        builder.call(_links: [self: [href: 'http://localhost/books']], title: 'The Stand \\ "Part 1"')
+
+        then:
+        target.toString() == '''{
+    "_links": {
+        "self": {
+            "href": "http://localhost/books"
+        }
+    },
+    "title": "The Stand \\\\ \\"Part 1\\""
+}'''
+    }
+
+}
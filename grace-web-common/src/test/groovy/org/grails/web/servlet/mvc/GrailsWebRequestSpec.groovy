@@ -0,0 +1,162 @@
+package org.grails.web.servlet.mvc
+
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.web.context.request.RequestAttributes
+import org.springframework.web.context.request.RequestContextHolder
+import spock.lang.Specification
+
+import org.grails.buffer.BufferChunkPool
+import org.grails.buffer.StreamCharBuffer
+import org.grails.web.util.GrailsApplicationAttributes
+import org.grails.web.util.WebUtils
+
+class GrailsWebRequestSpec extends Specification {
+
+    BufferChunkPool pool = new BufferChunkPool(1024 * 1024, 1024 * 1024)
+
+    void setup() {
+        BufferChunkPool.setSharedInstance(pool)
+    }
+
+    void cleanup() {
+        BufferChunkPool.setSharedInstance(null)
+        RequestContextHolder.resetRequestAttributes()
+    }
+
+    void "buffer chunks are released when the request is completed"() {
+        given:
+        GrailsWebRequest webRequest = bindWebRequest(new MockHttpServletRequest())
+
+        when:
+        render('Hello world')
+
+        then:
+        pool.leasedBytes > 0
+
+        when:
+        webRequest.requestCompleted()
+
+        then:
+        pool.leasedBytes == 0
+        pool.pooledBytes > 0
+    }
+
+    void "buffer chunks of an async request are released when async processing completes"() {
+        given:
+        MockHttpServletRequest request = new MockHttpServletRequest()
+        request.asyncSupported = true
+        GrailsWebRequest webRequest = bindWebRequest(request)
+        render('Hello world')
+
+        when: "the action starts async processing"
+        request.startAsync()
+        webRequest.requestCompleted()
+        WebUtils.clearGrailsWebRequest()
+
+        then: "the chunks are kept for the async dispatch"
+        pool.leasedBytes > 0
+
+        when: "the async dispatch renders the view with the lease of the initial request"
+        request.setAttribute(GrailsApplicationAttributes.WEB_REQUEST, webRequest)
+        GrailsWebRequest asyncWebRequest = bindWebRequest(request)
+        render('Hello again')
+        long leasedBytes = pool.leasedBytes
+        asyncWebRequest.requestCompleted()
+
+        then: "the async dispatch doesn't release the lease it has inherited"
+        asyncWebRequest.bufferChunkLease.is(webRequest.bufferChunkLease)
+        pool.leasedBytes == leasedBytes
+
+        when:
+        request.asyncContext.complete()
+
+        then: "the chunks are returned to the pool"
+        pool.leasedBytes == 0
+        pool.pooledBytes == leasedBytes
+    }
+
+    void "a lease acquired after the action has completed is released with the async request"() {
+        given:
+        MockHttpServletRequest request = new MockHttpServletRequest()
+        request.asyncSupported = true
+        GrailsWebRequest webRequest = bindWebRequest(request)
+        request.startAsync()
+        webRequest.requestCompleted()
+
+        when:
+        GrailsWebRequest asyncWebRequest = bindWebRequest(request)
+        render('Hello world')
+        asyncWebRequest.requestCompleted()
+
+        then:
+        pool.leasedBytes > 0
+
+        when:
+        request.asyncContext.complete()
+
+        then:
+        pool.leasedBytes == 0
+    }
+
+    void "a deferred request is completed when async processing completes"() {
+        given:
+        MockHttpServletRequest request = new MockHttpServletRequest()
+        request.asyncSupported = true
+        GrailsWebRequest webRequest = bindWebRequest(request)
+        List<String> completed = []
+        webRequest.registerDestructionCallback('callback', { completed << 'callback' } as Runnable, RequestAttributes.SCOPE_REQUEST)
+        render('Hello world')
+
+        when: "the action is executed asynchronously"
+        request.startAsync()
+        webRequest.deferRequestCompletion()
+        webRequest.requestCompleted()
+
+        then: "the request remains active"
+        webRequest.active
+        completed.empty
+        pool.leasedBytes > 0
+
+        when: "the async dispatch has rendered the view"
+        GrailsWebRequest asyncWebRequest = bindWebRequest(request)
+        asyncWebRequest.requestCompleted()
+
+        then:
+        webRequest.active
+        completed.empty
+
+        when:
+        request.asyncContext.complete()
+
+        then:
+        !webRequest.active
+        completed == ['callback']
+        pool.leasedBytes == 0
+    }
+
+    void "a deferred request which isn't processed asynchronously is completed immediately"() {
+        given:
+        GrailsWebRequest webRequest = bindWebRequest(new MockHttpServletRequest())
+        webRequest.deferRequestCompletion()
+
+        when:
+        webRequest.requestCompleted()
+
+        then:
+        !webRequest.active
+    }
+
+    private GrailsWebRequest bindWebRequest(MockHttpServletRequest request) {
+        GrailsWebRequest webRequest = new GrailsWebRequest(request, new MockHttpServletResponse(), Mock(GrailsApplicationAttributes))
+        WebUtils.storeGrailsWebRequest(webRequest)
+        webRequest
+    }
+
+    private static void render(String content) {
+        StreamCharBuffer buffer = new StreamCharBuffer()
+        buffer.writer.write(content)
+        buffer.toString()
+    }
+
+}
@@ -61,7 +61,9 @@ import org.grails.datastore.mapping.model.types.Simple
 import org.grails.web.databinding.DataBindingEventMulticastListener
 import org.grails.web.databinding.GrailsWebDataBindingListener
 import org.grails.web.databinding.SpringConversionServiceAdapter
+import org.grails.web.databinding.converters.AbstractMultipartFileValueConverter
 import org.grails.web.databinding.converters.ByteArrayMultipartFileValueConverter
+import org.grails.web.databinding.converters.MultipartFileSizeLimits
 import org.grails.web.servlet.mvc.GrailsWebRequest
 
 import static grails.web.databinding.DataBindingUtils.getBindingIncludeList
@@ -74,6 +76,7 @@ class GrailsWebDataBinder extends SimpleDataBinder {
     boolean trimStrings = true
     boolean convertEmptyStringsToNull = true
     protected List<DataBindingListener> listeners = []
+    protected MultipartFileSizeLimits multipartFileSizeLimits
 
     GrailsWebDataBinder(GrailsApplication grailsApplication) {
         this.grailsApplication = grailsApplication
@@ -648,6 +651,37 @@ class GrailsWebDataBinder extends SimpleDataBinder {
         }
     }
 
+    @Override
+    void registerConverter(ValueConverter converter) {
+        applyMultipartFileSizeLimits(converter, null)
+        super.registerConverter(converter)
+    }
+
+    /**
+     * Sets the size limits of uploaded files for the registered converters of multipart files,
+     * which don't have limits of their own.
+     *
+     * @param multipartFileSizeLimits The size limits
+     */
+    void setMultipartFileSizeLimits(MultipartFileSizeLimits multipartFileSizeLimits) {
+        MultipartFileSizeLimits previousLimits = this.multipartFileSizeLimits
+        this.multipartFileSizeLimits = multipartFileSizeLimits
+        conversionHelpers.values().each { List<ValueConverter> converters ->
+            converters.each { ValueConverter converter ->
+                applyMultipartFileSizeLimits(converter, previousLimits)
+            }
+        }
+    }
+
+    private void applyMultipartFileSizeLimits(ValueConverter converter, MultipartFileSizeLimits previousLimits) {
+        if (multipartFileSizeLimits != null && converter instanceof AbstractMultipartFileValueConverter) {
+            AbstractMultipartFileValueConverter multipartFileConverter = (AbstractMultipartFileValueConverter) converter
+            if (multipartFileConverter.sizeLimits == null || multipartFileConverter.sizeLimits.is(previousLimits)) {
+                multipartFileConverter.sizeLimits = multipartFileSizeLimits
+            }
+        }
+    }
+
     void setValueConverters(ValueConverter[] converters) {
         converters.each { ValueConverter converter ->
             registerConverter(converter)
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.databinding.converters
+
+import groovy.transform.CompileStatic
+import org.springframework.web.multipart.MultipartFile
+
+import grails.databinding.converters.ValueConverter
+
+/**
+ * Base class for the converters of an uploaded {@link MultipartFile}, or the first file of a collection of files.
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@CompileStatic
+abstract class AbstractMultipartFileValueConverter implements ValueConverter {
+
+    /**
+     * The size limits of the uploaded files, files aren't limited if null
+     */
+    MultipartFileSizeLimits sizeLimits
+
+    @Override
+    Object convert(Object value) {
+        MultipartFile mf = getMultipartFile(value)
+        mf != null ? convertMultipartFile(mf) : null
+    }
+
+    @Override
+    boolean canConvert(Object value) {
+        getMultipartFile(value) != null
+    }
+
+    protected abstract Object convertMultipartFile(MultipartFile multipartFile)
+
+    /**
+     * @param multipartFile The uploaded file
+     * @return The content of the file, limited to the maximum size of its field
+     */
+    protected InputStream openInputStream(MultipartFile multipartFile) {
+        sizeLimits != null ? sizeLimits.openInputStream(multipartFile) : multipartFile.inputStream
+    }
+
+    protected static MultipartFile getMultipartFile(Object value) {
+        if (value instanceof MultipartFile) {
+            return (MultipartFile) value
+        }
+        if (value instanceof Collection) {
+            Collection coll = (Collection) value
+            if (coll.size() > 0) {
+                Object firstElement = coll[0]
+                if (firstElement instanceof MultipartFile) {
+                    return (MultipartFile) firstElement
+                }
+            }
+        }
+        null
+    }
+
+}
@@ -18,31 +18,25 @@ package org.grails.web.databinding.converters
 import groovy.transform.CompileStatic
 import org.springframework.web.multipart.MultipartFile
 
-import grails.databinding.converters.ValueConverter
-
 /**
  * @author Jeff Brown
  * @since 2.3
  */
 @CompileStatic
-class ByteArrayMultipartFileValueConverter implements ValueConverter {
+class ByteArrayMultipartFileValueConverter extends AbstractMultipartFileValueConverter {
 
     @Override
-    Object convert(Object value) {
-        MultipartFile mf
-        if (value instanceof MultipartFile) {
-            mf = (MultipartFile) value
+    protected Object convertMultipartFile(MultipartFile multipartFile) {
+        if (sizeLimits == null) {
+            return multipartFile.bytes
+        }
+        InputStream input = openInputStream(multipartFile)
+        try {
+            return input.readAllBytes()
         }
-        else if (value instanceof Collection) {
-            Collection coll = (Collection) value
-            if (coll.size() > 0) {
-                Object firstElement = coll[0]
-                if (firstElement instanceof MultipartFile) {
-                    mf = (MultipartFile) firstElement
-                }
-            }
+        finally {
+            input.close()
         }
-        mf?.bytes
     }
 
     @Override
@@ -50,18 +44,4 @@ class ByteArrayMultipartFileValueConverter implements ValueConverter {
         byte[]
     }
 
-    @Override
-    boolean canConvert(Object value) {
-        boolean canConvertValue = false
-        if (value instanceof MultipartFile) {
-            canConvertValue = true
-        }
-        else if (value instanceof Collection) {
-            if (value.size() > 0 && ((Collection) value)[0] instanceof MultipartFile) {
-                canConvertValue = true
-            }
-        }
-        canConvertValue
-    }
-
 }
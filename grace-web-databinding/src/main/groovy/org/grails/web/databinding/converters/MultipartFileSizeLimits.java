@@ -0,0 +1,159 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.databinding.converters;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * The maximum sizes of uploaded files bound by the multipart value converters, by the name of their form field.
+ *
+ * <p>A file whose declared size exceeds the limit of its field is rejected before it's read, the streams opened
+ * by {@link #openInputStream(MultipartFile)} count the bytes read and fail as soon as the limit is exceeded, so
+ * that the content of a file is never read beyond the limit of its field.</p>
+ *
+ * <p>The content of {@code byte[]} and {@code Path} properties is read while binding, so both failures are binding
+ * errors of the property. {@code InputStream} and {@code ReadableByteChannel} properties are read by the application
+ * after binding, so only a declared size beyond the limit is a binding error, content which is longer than its
+ * declared size fails when it is read, with an {@link IOException} caused by a
+ * {@link MaxUploadSizeExceededException}.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class MultipartFileSizeLimits {
+
+    /**
+     * The limit of fields without a maximum size
+     */
+    public static final long UNLIMITED = -1L;
+
+    private long maxFileSize = UNLIMITED;
+
+    private Map<String, Long> maxFileSizes = Collections.emptyMap();
+
+    /**
+     * @return The maximum size in bytes of files whose field has no limit of its own
+     */
+    public long getMaxFileSize() {
+        return this.maxFileSize;
+    }
+
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * @return The maximum sizes in bytes by the name of the form field
+     */
+    public Map<String, Long> getMaxFileSizes() {
+        return this.maxFileSizes;
+    }
+
+    public void setMaxFileSizes(Map<String, Long> maxFileSizes) {
+        this.maxFileSizes = maxFileSizes != null ? new LinkedHashMap<>(maxFileSizes) : Collections.emptyMap();
+    }
+
+    /**
+     * @param fieldName The name of the form field
+     * @return The maximum size in bytes of files uploaded with the field or {@link #UNLIMITED}
+     */
+    public long getMaxFileSize(String fieldName) {
+        Long fieldMaxFileSize = fieldName != null ? this.maxFileSizes.get(fieldName) : null;
+        return fieldMaxFileSize != null ? fieldMaxFileSize : this.maxFileSize;
+    }
+
+    /**
+     * Opens the content of an uploaded file, limited to the maximum size of its field.
+     *
+     * @param file The uploaded file
+     * @return A stream which fails with an {@link IOException} once more bytes than allowed have been read
+     * @throws MaxUploadSizeExceededException If the declared size of the file exceeds the limit
+     * @throws IOException If the file cannot be read
+     */
+    public InputStream openInputStream(MultipartFile file) throws IOException {
+        long limit = getMaxFileSize(file.getName());
+        if (limit < 0) {
+            return file.getInputStream();
+        }
+        if (file.getSize() > limit) {
+            throw new MaxUploadSizeExceededException(limit);
+        }
+        return new SizeLimitedInputStream(file.getInputStream(), file.getName(), limit);
+    }
+
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final String fieldName;
+
+        private final long limit;
+
+        private long count;
+
+        SizeLimitedInputStream(InputStream in, String fieldName, long limit) {
+            super(in);
+            this.fieldName = fieldName;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long read) throws IOException {
+            this.count += read;
+            if (this.count > this.limit) {
+                throw new IOException("Maximum upload size of " + this.limit + " bytes exceeded for field [" + this.fieldName + "]",
+                        new MaxUploadSizeExceededException(this.limit));
+            }
+        }
+
+    }
+
+}
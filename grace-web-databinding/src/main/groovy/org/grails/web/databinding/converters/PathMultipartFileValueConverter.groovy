@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.databinding.converters
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+
+import groovy.transform.CompileStatic
+import org.springframework.web.context.request.RequestAttributes
+import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.multipart.MultipartFile
+
+/**
+ * Binds an uploaded file to {@link Path} properties by copying its content to a temporary file, the content is
+ * streamed to the file and the copy fails as soon as the maximum size of the field is exceeded.
+ *
+ * <p>When bound during a request the temporary file is deleted once the request has completed,
+ * the application has to move the file to keep it.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@CompileStatic
+class PathMultipartFileValueConverter extends AbstractMultipartFileValueConverter {
+
+    private static final String TEMP_FILE_PREFIX = 'grails-upload-'
+
+    /**
+     * The directory of the temporary files, defaults to the temporary directory of the JVM
+     */
+    Path directory
+
+    @Override
+    protected Object convertMultipartFile(MultipartFile multipartFile) {
+        Path target = directory != null ? Files.createTempFile(directory, TEMP_FILE_PREFIX, null) : Files.createTempFile(TEMP_FILE_PREFIX, null)
+        try {
+            InputStream input = openInputStream(multipartFile)
+            try {
+                Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING)
+            }
+            finally {
+                input.close()
+            }
+        }
+        catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target)
+            throw e
+        }
+        registerDeletion(target)
+        target
+    }
+
+    @Override
+    Class<?> getTargetType() {
+        Path
+    }
+
+    private static void registerDeletion(Path file) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes()
+        if (requestAttributes != null) {
+            requestAttributes.registerDestructionCallback(PathMultipartFileValueConverter.name + '.' + file.fileName, {
+                try {
+                    Files.deleteIfExists(file)
+                }
+                catch (IOException ignored) {
+                    // the file stays in the temporary directory
+                }
+            } as Runnable, RequestAttributes.SCOPE_REQUEST)
+        }
+    }
+
+}
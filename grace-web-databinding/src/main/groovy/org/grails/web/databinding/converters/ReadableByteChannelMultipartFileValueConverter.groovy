@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.databinding.converters
+
+import java.nio.channels.Channels
+import java.nio.channels.ReadableByteChannel
+
+import groovy.transform.CompileStatic
+import org.springframework.web.multipart.MultipartFile
+
+/**
+ * Binds the content of an uploaded file to {@link ReadableByteChannel} properties, so that the application
+ * can read the upload in chunks, the channel is limited to the maximum size of the field and has to be closed
+ * by the application.
+ *
+ * <p>A file whose declared size exceeds the limit is a binding error, but content which is longer than its declared
+ * size is only detected while the application reads the channel, which then throws an {@link IOException}.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+@CompileStatic
+class ReadableByteChannelMultipartFileValueConverter extends AbstractMultipartFileValueConverter {
+
+    @Override
+    protected Object convertMultipartFile(MultipartFile multipartFile) {
+        Channels.newChannel(openInputStream(multipartFile))
+    }
+
+    @Override
+    Class<?> getTargetType() {
+        ReadableByteChannel
+    }
+
+}
@@ -0,0 +1,157 @@
+package org.grails.web.databinding.converters
+
+import java.nio.channels.Channels
+import java.nio.channels.ReadableByteChannel
+import java.nio.file.Files
+import java.nio.file.Path
+
+import grails.databinding.SimpleMapDataBindingSource
+import grails.databinding.errors.BindingError
+import grails.databinding.events.DataBindingListener
+import grails.databinding.events.DataBindingListenerAdapter
+import grails.web.databinding.GrailsWebDataBinder
+import org.springframework.mock.web.MockMultipartFile
+import org.springframework.web.multipart.MaxUploadSizeExceededException
+import org.springframework.web.multipart.MultipartFile
+import spock.lang.Specification
+import spock.lang.TempDir
+
+class MultipartFileValueConverterSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    MultipartFileSizeLimits limits = new MultipartFileSizeLimits(maxFileSize: 8, maxFileSizes: [video: 16L])
+
+    void "files within the limit of their field are converted"() {
+        given:
+        ByteArrayMultipartFileValueConverter converter = new ByteArrayMultipartFileValueConverter(sizeLimits: limits)
+
+        expect:
+        converter.convert(new MockMultipartFile('image', '12345678'.bytes)) == '12345678'.bytes
+        converter.convert([new MockMultipartFile('video', '0123456789abcdef'.bytes)]) == '0123456789abcdef'.bytes
+    }
+
+    void "files whose declared size exceeds the limit of their field are rejected before they are read"() {
+        given:
+        ByteArrayMultipartFileValueConverter converter = new ByteArrayMultipartFileValueConverter(sizeLimits: limits)
+        MultipartFile file = Mock(MultipartFile) {
+            getName() >> 'image'
+            getSize() >> 9
+        }
+
+        when:
+        converter.convert(file)
+
+        then:
+        MaxUploadSizeExceededException e = thrown()
+        e.maxUploadSize == 8
+        0 * file.getInputStream()
+        0 * file.getBytes()
+    }
+
+    void "streams fail as soon as more bytes than allowed are read"() {
+        given:
+        InputStreamMultipartFileValueConverter converter = new InputStreamMultipartFileValueConverter(sizeLimits: limits)
+        MultipartFile file = Mock(MultipartFile) {
+            getName() >> 'image'
+            getSize() >> 0
+            getInputStream() >> new ByteArrayInputStream('0123456789'.bytes)
+        }
+        InputStream input = (InputStream) converter.convert(file)
+
+        when:
+        byte[] buffer = new byte[4]
+        input.read(buffer)
+        input.read(buffer)
+        input.read(buffer)
+
+        then:
+        IOException e = thrown()
+        e.cause instanceof MaxUploadSizeExceededException
+    }
+
+    void "files are streamed to a temporary file when bound to a path"() {
+        given:
+        PathMultipartFileValueConverter converter = new PathMultipartFileValueConverter(sizeLimits: limits, directory: tempDir)
+
+        when:
+        Path path = (Path) converter.convert(new MockMultipartFile('video', '0123456789'.bytes))
+
+        then:
+        path.parent == tempDir
+        Files.readAllBytes(path) == '0123456789'.bytes
+    }
+
+    void "the temporary file is deleted when the limit is exceeded"() {
+        given:
+        PathMultipartFileValueConverter converter = new PathMultipartFileValueConverter(sizeLimits: limits, directory: tempDir)
+        MultipartFile file = Mock(MultipartFile) {
+            getName() >> 'image'
+            getSize() >> 0
+            getInputStream() >> new ByteArrayInputStream('0123456789'.bytes)
+        }
+
+        when:
+        converter.convert(file)
+
+        then:
+        thrown(IOException)
+        Files.list(tempDir).count() == 0
+    }
+
+    void "the data binder binds files to streaming properties with its size limits"() {
+        given:
+        GrailsWebDataBinder binder = new GrailsWebDataBinder(null)
+        binder.registerConverter(new ReadableByteChannelMultipartFileValueConverter())
+        binder.multipartFileSizeLimits = limits
+        Upload upload = new Upload()
+
+        when:
+        binder.bind(upload, new SimpleMapDataBindingSource([video: new MockMultipartFile('video', '0123456789'.bytes)]))
+
+        then:
+        upload.video != null
+        upload.video.withCloseable { ReadableByteChannel channel -> Channels.newInputStream(channel).bytes } == '0123456789'.bytes
+    }
+
+    void "files over the limit of byte array and path properties are binding errors"() {
+        given:
+        GrailsWebDataBinder binder = new GrailsWebDataBinder(null)
+        binder.registerConverter(new PathMultipartFileValueConverter(directory: tempDir))
+        binder.multipartFileSizeLimits = limits
+        Attachment attachment = new Attachment()
+        MultipartFile file = Mock(MultipartFile) {
+            getName() >> 'file'
+            getSize() >> 0
+            getInputStream() >> new ByteArrayInputStream('0123456789'.bytes)
+        }
+        List<BindingError> bindingErrors = []
+        DataBindingListener listener = new DataBindingListenerAdapter() {
+            @Override
+            void bindingError(BindingError error, Object errors) {
+                bindingErrors << error
+            }
+        }
+
+        when: "the declared size of the image and the content of the file exceed the limit"
+        binder.bind(attachment, new SimpleMapDataBindingSource([image: new MockMultipartFile('image', '0123456789'.bytes), file: file]), listener)
+
+        then:
+        attachment.image == null
+        attachment.file == null
+        bindingErrors*.propertyName.sort() == ['file', 'image']
+        bindingErrors.every { BindingError error -> error.cause instanceof MaxUploadSizeExceededException }
+        Files.list(tempDir).count() == 0
+    }
+
+}
+
+class Upload {
+    ReadableByteChannel video
+}
+
+class Attachment {
+    byte[] image
+    Path file
+}
@@ -379,6 +379,7 @@ class RenderTagLib implements RequestConstants, TagLibrary, GrailsApplicationAwa
      * &lt;g:render template="atemplate" collection="${users}" /&gt;<br/>
      * &lt;g:render template="atemplate" model="[user:user,company:company]" /&gt;<br/>
      * &lt;g:render template="atemplate" bean="${user}" /&gt;<br/>
+     * &lt;g:render template="widget" collection="${widgets}" parallel="true" /&gt;<br/>
      *
      * @attr template REQUIRED The name of the template to apply
      * @attr contextPath the context path to use (relative to the application context path).
@@ -388,6 +389,7 @@ class RenderTagLib implements RequestConstants, TagLibrary, GrailsApplicationAwa
      * @attr collection A collection of model objects to apply the template to
      * @attr var The variable name of the bean to be referenced in the template
      * @attr plugin The plugin to look for the template in
+     * @attr parallel If true, the templates of a collection are rendered in parallel, the items must be independent of each other
      */
     Closure render = { Map attrs, body ->
         groovyPagesTemplateRenderer.render(getWebRequest(), getPageScope(), attrs, body, getOut())
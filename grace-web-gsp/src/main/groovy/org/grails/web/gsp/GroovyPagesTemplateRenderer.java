@@ -18,9 +18,11 @@ package org.grails.web.gsp;
 import java.io.IOException;
 import java.io.Writer;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
@@ -52,6 +54,7 @@ import org.grails.gsp.GroovyPagesTemplateEngine;
 import org.grails.gsp.io.GroovyPageScriptSource;
 import org.grails.io.support.GrailsResourceUtils;
 import org.grails.taglib.GrailsTagException;
+import org.grails.taglib.TagOutput;
 import org.grails.taglib.TemplateVariableBinding;
 import org.grails.taglib.encoder.OutputEncodingSettings;
 import org.grails.taglib.encoder.WithCodecHelper;
@@ -91,6 +94,8 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
 
     private boolean cacheEnabled = !Environment.isDevelopmentMode();
 
+    private ParallelTemplateRenderer parallelTemplateRenderer;
+
     public void afterPropertiesSet() throws Exception {
         if (this.scaffoldingTemplateGenerator != null) {
             // use reflection to locate method (would cause cyclic dependency otherwise)
@@ -157,6 +162,9 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
             }
         }
 
+        // the request is captured for the scaffolded templates, which may be generated by the background refresh of the entry
+        ScaffoldingRequest scaffoldingRequest = this.scaffoldingTemplateGenerator != null
+                ? ScaffoldingRequest.of(GrailsWebRequest.lookup()) : null;
         return CacheEntry.getValue(this.templateCache, cacheKey, this.reloadEnabled ? GroovyPageMetaInfo.LASTMODIFIED_CHECK_INTERVAL : -1, null,
                 new Callable<CacheEntry<Template>>() {
                     public CacheEntry<Template> call() {
@@ -190,7 +198,7 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
                                     t = GroovyPagesTemplateRenderer.this.groovyPagesTemplateEngine.createTemplate(scriptSource);
                                 }
                                 if (t == null && GroovyPagesTemplateRenderer.this.scaffoldingTemplateGenerator != null) {
-                                    t = generateScaffoldedTemplate(GrailsWebRequest.lookup(), uri);
+                                    t = generateScaffoldedTemplate((ScaffoldingRequest) cacheRequestObject, uri);
                                     // always enable caching for generated
                                     // scaffolded template
                                     this.allowCaching = true;
@@ -201,7 +209,7 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
                             }
                         };
                     }
-                }, true, null);
+                }, true, scaffoldingRequest);
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -226,6 +234,13 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
             }
         }
         if (attrs.containsKey("collection")) {
+            if (isRenderInParallel(attrs, body)) {
+                renderCollectionInParallel(webRequest, t, b, var, attrs.get("collection"), out);
+                if (writerWrapped) {
+                    out.flush();
+                }
+                return;
+            }
             String key = null;
             Iterator<?> iterator = InvokerHelper.asIterator(attrs.get("collection"));
             while (iterator.hasNext()) {
@@ -254,6 +269,38 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
         }
     }
 
+    private boolean isRenderInParallel(Map<String, Object> attrs, Object body) {
+        // the body belongs to the calling page, so it can only be called on the thread of the page
+        return this.parallelTemplateRenderer != null && "true".equals(String.valueOf(attrs.get("parallel"))) &&
+                (body == null || body instanceof TagOutput.ConstantClosure);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void renderCollectionInParallel(GrailsWebRequest webRequest, Template t, Map b, String var,
+            Object collection, Writer out) throws IOException {
+        // the models are created up front, the variable name of the items depends on the first item
+        List<Map> models = new ArrayList<>();
+        String key = null;
+        Iterator<?> iterator = InvokerHelper.asIterator(collection);
+        while (iterator.hasNext()) {
+            Object it = iterator.next();
+            if (key == null && GrailsStringUtils.isBlank(var) && it != null) {
+                key = GrailsNameUtils.getPropertyName(it.getClass());
+            }
+            Map itmap = new LinkedHashMap<String, Object>();
+            itmap.putAll(b);
+            if (GrailsStringUtils.isNotBlank(var)) {
+                itmap.put(var, it);
+            }
+            else {
+                itmap.put("it", it);
+                itmap.put(key, it);
+            }
+            models.add(itmap);
+        }
+        this.parallelTemplateRenderer.render(webRequest, models, out, (model, itemOut) -> t.make(model).writeTo(itemOut));
+    }
+
     private Writer wrapWriterWithEncoder(GrailsWebRequest webRequest, Map<String, Object> attrs, Writer out) {
         Object encodeAs = attrs.get(GroovyPage.ENCODE_AS_ATTRIBUTE_NAME);
         if (encodeAs != null) {
@@ -275,11 +322,14 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
         return out;
     }
 
-    private Template generateScaffoldedTemplate(GrailsWebRequest webRequest, String uri) throws IOException {
+    private Template generateScaffoldedTemplate(ScaffoldingRequest request, String uri) throws IOException {
         Template t = null;
-        Collection<String> controllerActions = this.scaffoldedActionMap.get(webRequest.getControllerName());
-        if (controllerActions != null && controllerActions.contains(webRequest.getActionName())) {
-            GrailsDomainClass domainClass = this.controllerToScaffoldedDomainClassMap.get(webRequest.getControllerName());
+        if (request == null) {
+            return t;
+        }
+        Collection<String> controllerActions = this.scaffoldedActionMap.get(request.controllerName);
+        if (controllerActions != null && controllerActions.contains(request.actionName)) {
+            GrailsDomainClass domainClass = this.controllerToScaffoldedDomainClassMap.get(request.controllerName);
             if (domainClass != null) {
                 int i = uri.lastIndexOf('/');
                 String scaffoldedtemplateName = i > -1 ? uri.substring(i) : uri;
@@ -325,6 +375,10 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
         this.controllerToScaffoldedDomainClassMap = map;
     }
 
+    public void setParallelTemplateRenderer(ParallelTemplateRenderer parallelTemplateRenderer) {
+        this.parallelTemplateRenderer = parallelTemplateRenderer;
+    }
+
     public boolean isCacheEnabled() {
         return this.cacheEnabled;
     }
@@ -333,4 +387,24 @@ public class GroovyPagesTemplateRenderer implements InitializingBean {
         this.cacheEnabled = cacheEnabled;
     }
 
+    /**
+     * The controller and action of the request which renders a scaffolded template
+     */
+    private static final class ScaffoldingRequest {
+
+        private final String controllerName;
+
+        private final String actionName;
+
+        private ScaffoldingRequest(String controllerName, String actionName) {
+            this.controllerName = controllerName;
+            this.actionName = actionName;
+        }
+
+        static ScaffoldingRequest of(GrailsWebRequest webRequest) {
+            return webRequest != null ? new ScaffoldingRequest(webRequest.getControllerName(), webRequest.getActionName()) : null;
+        }
+
+    }
+
 }
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.web.gsp;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import org.grails.buffer.StreamCharBuffer;
+import org.grails.web.servlet.mvc.GrailsWebRequest;
+import org.grails.web.taglib.encoder.WebOutputContext;
+
+/**
+ * Renders the templates of a collection in parallel, each item into its own {@link StreamCharBuffer}
+ * which are written to the output in the order of the collection.
+ *
+ * <p>Every item is rendered with a {@link GrailsWebRequest#fork() forked} web request bound to the rendering
+ * thread, so the templates read the attributes, parameters and page scope of the request, but the
+ * variables and attributes they set aren't visible to the other items or the page. The items of a collection
+ * must therefore be independent of each other.</p>
+ *
+ * <p>On JDK 21 and later the templates are rendered on virtual threads, otherwise on a pool of
+ * platform threads, in both cases at most {@link #getMaxThreads()} templates are rendered at a time.
+ * Templates rendered in parallel render their own collections sequentially. If the templates of a collection
+ * are not rendered within {@link #getTimeout()}, the remaining templates are cancelled.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+public class ParallelTemplateRenderer implements DisposableBean {
+
+    public static final int DEFAULT_MAX_THREADS = Runtime.getRuntime().availableProcessors();
+
+    public static final long DEFAULT_TIMEOUT = 60000L;
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelTemplateRenderer.class);
+
+    private static final ThreadLocal<Boolean> renderingInParallel = new ThreadLocal<>();
+
+    private boolean enabled = true;
+
+    private int maxThreads = DEFAULT_MAX_THREADS;
+
+    private long timeout = DEFAULT_TIMEOUT;
+
+    private ExecutorService executor;
+
+    private Semaphore permits;
+
+    /**
+     * Renders the template of a single item.
+     *
+     * @param <T> The type of the items
+     */
+    @FunctionalInterface
+    public interface ItemRenderer<T> {
+
+        void render(T item, Writer out) throws IOException;
+
+    }
+
+    /**
+     * Renders the items in parallel, or sequentially on the calling thread if parallel rendering is disabled,
+     * there is only one item or the calling thread is rendering an item in parallel already.
+     *
+     * <p>If an item fails to render, the exception it has thrown is rethrown unchanged, so that its stack trace
+     * still refers to the lines of the template.</p>
+     *
+     * @param webRequest The current web request
+     * @param items The items to render
+     * @param out The writer to write the rendered items to
+     * @param itemRenderer Renders the template of an item
+     * @param <T> The type of the items
+     * @throws IOException If an item cannot be written, or the items are not rendered within the timeout
+     */
+    public <T> void render(GrailsWebRequest webRequest, Iterable<T> items, Writer out, ItemRenderer<T> itemRenderer) throws IOException {
+        List<T> itemList = new ArrayList<>();
+        for (T item : items) {
+            itemList.add(item);
+        }
+        if (!this.enabled || webRequest == null || itemList.size() < 2 || renderingInParallel.get() != null) {
+            for (T item : itemList) {
+                itemRenderer.render(item, out);
+            }
+            return;
+        }
+
+        ExecutorService executor = getExecutor();
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        List<Future<StreamCharBuffer>> results = new ArrayList<>(itemList.size());
+        for (T item : itemList) {
+            // the request is forked on the calling thread, while the parent request is not modified
+            GrailsWebRequest forkedRequest = webRequest.fork();
+            results.add(executor.submit(() -> renderItem(forkedRequest, localeContext, item, itemRenderer)));
+        }
+
+        long deadline = this.timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeout) : 0L;
+        Throwable failure = null;
+        for (Future<StreamCharBuffer> result : results) {
+            if (failure != null) {
+                result.cancel(true);
+                continue;
+            }
+            try {
+                StreamCharBuffer buffer = deadline != 0L ?
+                        result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS) : result.get();
+                buffer.writeTo(out);
+            }
+            catch (ExecutionException e) {
+                failure = e.getCause();
+            }
+            catch (TimeoutException e) {
+                result.cancel(true);
+                failure = new InterruptedIOException("Templates were not rendered in parallel within " + this.timeout + " ms");
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.cancel(true);
+                failure = new InterruptedIOException("Interrupted while rendering templates in parallel");
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure.getMessage(), failure);
+        }
+    }
+
+    private <T> StreamCharBuffer renderItem(GrailsWebRequest forkedRequest, LocaleContext localeContext,
+            T item, ItemRenderer<T> itemRenderer) throws IOException, InterruptedException {
+        Semaphore permits = this.permits;
+        if (permits != null) {
+            permits.acquire();
+        }
+        RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+        LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+        renderingInParallel.set(Boolean.TRUE);
+        try {
+            RequestContextHolder.setRequestAttributes(forkedRequest);
+            LocaleContextHolder.setLocaleContext(localeContext);
+            // the template creates its own output stack on top of the buffer
+            forkedRequest.removeAttribute(WebOutputContext.ATTRIBUTE_NAME_OUTPUT_STACK, RequestAttributes.SCOPE_REQUEST);
+            StreamCharBuffer buffer = new StreamCharBuffer();
+            Writer out = buffer.getWriter();
+            forkedRequest.setOut(out);
+            itemRenderer.render(item, out);
+            out.flush();
+            return buffer;
+        }
+        finally {
+            // runs the destruction callbacks registered by the template, such as releasing pooled tag handlers
+            forkedRequest.requestCompleted();
+            renderingInParallel.remove();
+            RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+            LocaleContextHolder.setLocaleContext(previousLocaleContext);
+            if (permits != null) {
+                permits.release();
+            }
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (this.executor == null) {
+            this.executor = createVirtualThreadExecutor();
+            if (this.executor != null) {
+                this.permits = new Semaphore(this.maxThreads);
+            }
+            else {
+                AtomicInteger threadCount = new AtomicInteger();
+                ThreadPoolExecutor threadPool = new ThreadPoolExecutor(this.maxThreads, this.maxThreads, 60L, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), runnable -> {
+                            Thread thread = new Thread(runnable, "grails-template-render-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                threadPool.allowCoreThreadTimeOut(true);
+                this.executor = threadPool;
+            }
+        }
+        return this.executor;
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        }
+        catch (NoSuchMethodException e) {
+            return null;
+        }
+        catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Virtual threads are not available, rendering templates on platform threads", e);
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+            this.executor = null;
+            this.permits = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @param enabled False to render the templates of collections sequentially even if requested otherwise
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxThreads() {
+        return this.maxThreads;
+    }
+
+    /**
+     * @param maxThreads The maximum number of templates which are rendered at a time
+     */
+    public synchronized void setMaxThreads(int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("Argument [maxThreads] must be greater than 0");
+        }
+        this.maxThreads = maxThreads;
+    }
+
+    public long getTimeout() {
+        return this.timeout;
+    }
+
+    /**
+     * @param timeout The time in milliseconds to wait for the templates of a collection, 0 or less to wait indefinitely
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+}
@@ -175,6 +175,44 @@ public class GrailsConventionGroovyPageLocator extends DefaultGroovyPageLocator
         return scriptSource;
     }
 
+    /**
+     * <p>Finds a view for the given controller class and view name without an instance of the controller.
+     * Like {@link #findView(Object, String)}, the view is searched in the namespace of the controller first,
+     * then in the views of the application and finally in the views of the plugin providing the controller.</p>
+     *
+     * @param controllerClass The controller class
+     * @param viewName The view name
+     * @param format The response format, null to only search the view without a format
+     * @return The GroovyPageScriptSource or null if it doesn't exist
+     */
+    public GroovyPageScriptSource findViewForController(GrailsControllerClass controllerClass, String viewName, String format) {
+        if (controllerClass == null || viewName == null) {
+            return null;
+        }
+
+        String controllerName = controllerClass.getLogicalPropertyName();
+        String viewNameWithFormat = getViewNameWithFormat(viewName, format);
+
+        GroovyPageScriptSource scriptSource = null;
+        String namespace = controllerClass.getNamespace();
+        if (namespace != null) {
+            scriptSource = findPage("/" + namespace + this.uriService.getViewURI(controllerName, viewNameWithFormat));
+            if (scriptSource == null) {
+                scriptSource = findPage("/" + namespace + this.uriService.getViewURI(controllerName, viewName));
+            }
+        }
+        if (scriptSource == null) {
+            scriptSource = findView(controllerName, viewName, format);
+        }
+        if (scriptSource == null && this.pluginManager != null) {
+            String pathToView = this.pluginManager.getPluginViewsPathForClass(controllerClass.getClazz());
+            if (pathToView != null) {
+                scriptSource = findViewByPath(GrailsResourceUtils.appendPiecesForUri(pathToView, viewName));
+            }
+        }
+        return scriptSource;
+    }
+
     /**
      * Finds a template for the given controller name and template name
      *
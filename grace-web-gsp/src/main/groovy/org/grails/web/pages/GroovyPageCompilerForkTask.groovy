@@ -43,6 +43,7 @@ public class GroovyPageCompilerForkTask {
     String encoding
     String targetCompatibility
     String[] configs
+    boolean archive
 
     GroovyPageCompilerForkTask(File sourceDir, File destDir, File tmpdir) {
         this.tmpdir = tmpdir
@@ -85,6 +86,7 @@ public class GroovyPageCompilerForkTask {
         if (encoding) {
             compiler.encoding = encoding
         }
+        compiler.archive = archive
         return compiler
     }
 
@@ -107,11 +109,11 @@ public class GroovyPageCompilerForkTask {
     }
 
     static void run(String[] args) {
-        if (args.length != 8) {
+        if (args.length != 8 && args.length != 9) {
             System.err.println("Invalid arguments: [${args.join(',')}]")
             System.err.println("""
 Usage: java -cp CLASSPATH GroovyPageCompilerForkTask [srcDir] [destDir] [tmpDir] [targetCompatibility] [packageName] [serverPath]
-[configFile] [encoding]
+[configFile] [encoding] [archive]
 """)
             System.exit(1)
         }
@@ -124,6 +126,7 @@ Usage: java -cp CLASSPATH GroovyPageCompilerForkTask [srcDir] [destDir] [tmpDir]
         String[] configFiles = args[6].tokenize(',') as String[]
         File configFile = new File(args[6])
         String encoding = args[7] ?: 'UTF-8'
+        boolean archive = args.length > 8 && Boolean.parseBoolean(args[8])
 
         GroovyPageCompilerForkTask compiler = new GroovyPageCompilerForkTask(srcDir, destinationDir, tmpDir)
         if (configFiles) {
@@ -141,6 +144,7 @@ Usage: java -cp CLASSPATH GroovyPageCompilerForkTask [srcDir] [destDir] [tmpDir]
         if (targetCompatibility) {
             compiler.targetCompatibility = targetCompatibility
         }
+        compiler.archive = archive
 
         List<File> allFiles = []
         srcDir.eachFileRecurse(FileType.FILES) { File f ->
@@ -47,6 +47,7 @@ class GroovyPageCompilerTask extends MatchingTask {
     String packagename = 'default'
     String serverpath
     String encoding
+    boolean archive
 
     boolean verbose
 
@@ -133,6 +134,7 @@ class GroovyPageCompilerTask extends MatchingTask {
         if (encoding) {
             compiler.encoding = encoding
         }
+        compiler.archive = archive
 
         compiler.compile()
         compiler = null
@@ -58,6 +58,15 @@ public class GroovyPageViewResolver extends InternalResourceViewResolver impleme
 
     public static final String JSP_SUFFIX = ".jsp";
 
+    // the views are created for the controller of the current request, so they aren't refreshed in the background
+    @SuppressWarnings("rawtypes")
+    private static final Callable<CacheEntry> VIEW_CACHE_ENTRY_FACTORY = () -> new CacheEntry<View>() {
+        @Override
+        protected boolean isRefreshAheadSupported() {
+            return false;
+        }
+    };
+
     protected GroovyPagesTemplateEngine templateEngine;
 
     protected GrailsConventionGroovyPageLocator groovyPageLocator;
@@ -124,7 +133,7 @@ public class GroovyPageViewResolver extends InternalResourceViewResolver impleme
         View view = null;
         if (entry == null) {
             try {
-                return CacheEntry.getValue(this.viewCache, viewCacheKey, this.cacheTimeout, updater);
+                return CacheEntry.getValue(this.viewCache, viewCacheKey, this.cacheTimeout, updater, VIEW_CACHE_ENTRY_FACTORY, true, null);
             }
             catch (CacheEntry.UpdateException e) {
                 e.rethrowCause();
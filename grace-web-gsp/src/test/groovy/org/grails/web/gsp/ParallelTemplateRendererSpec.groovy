@@ -0,0 +1,115 @@
+package org.grails.web.gsp
+
+import grails.util.GrailsWebMockUtil
+import org.grails.web.servlet.mvc.GrailsWebRequest
+import org.springframework.web.context.request.RequestAttributes
+import org.springframework.web.context.request.RequestContextHolder
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class ParallelTemplateRendererSpec extends Specification {
+
+    ParallelTemplateRenderer renderer = new ParallelTemplateRenderer(maxThreads: 4)
+
+    void cleanup() {
+        renderer.destroy()
+        RequestContextHolder.resetRequestAttributes()
+    }
+
+    void "items are rendered on forked requests and written in order"() {
+        given:
+        GrailsWebRequest webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.setAttribute('shared', 'page', RequestAttributes.SCOPE_REQUEST)
+        StringWriter out = new StringWriter()
+
+        when:
+        renderer.render(webRequest, (1..10).toList(), out, { Integer item, Writer itemOut ->
+            GrailsWebRequest forkedRequest = GrailsWebRequest.lookup()
+            assert !forkedRequest.is(webRequest)
+            assert forkedRequest.getAttribute('shared', RequestAttributes.SCOPE_REQUEST) == 'page'
+            forkedRequest.setAttribute('item', item, RequestAttributes.SCOPE_REQUEST)
+            Thread.sleep(10 - item)
+            itemOut.write("<${forkedRequest.getAttribute('item', RequestAttributes.SCOPE_REQUEST)}>")
+        })
+
+        then:
+        out.toString() == (1..10).collect { "<$it>" }.join('')
+        webRequest.getAttribute('item', RequestAttributes.SCOPE_REQUEST) == null
+        RequestContextHolder.requestAttributes.is(webRequest)
+    }
+
+    void "the exception of a failed item is rethrown unchanged"() {
+        given:
+        GrailsWebRequest webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        IllegalStateException failure = new IllegalStateException('Item 2 failed')
+
+        when:
+        renderer.render(webRequest, [1, 2, 3], new StringWriter(), { Integer item, Writer itemOut ->
+            if (item == 2) {
+                throw failure
+            }
+        })
+
+        then:
+        IllegalStateException e = thrown()
+        e.is(failure)
+    }
+
+    void "items are rendered on the calling thread when disabled"() {
+        given:
+        GrailsWebRequest webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        renderer.enabled = false
+        List<String> threads = []
+
+        when:
+        renderer.render(webRequest, [1, 2], new StringWriter(), { Integer item, Writer itemOut ->
+            threads << Thread.currentThread().name
+        })
+
+        then:
+        threads == [Thread.currentThread().name] * 2
+    }
+
+    void "forked requests are completed once their template is rendered"() {
+        given:
+        GrailsWebRequest webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        List<Integer> completed = [].asSynchronized()
+
+        when:
+        renderer.render(webRequest, [1, 2, 3], new StringWriter(), { Integer item, Writer itemOut ->
+            GrailsWebRequest.lookup().registerDestructionCallback('item', { completed << item } as Runnable, RequestAttributes.SCOPE_REQUEST)
+        })
+
+        then:
+        completed.sort() == [1, 2, 3]
+        webRequest.isRequestActive()
+    }
+
+    void "the remaining items are cancelled when the items are not rendered within the timeout"() {
+        given:
+        GrailsWebRequest webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        renderer.timeout = 100
+        CountDownLatch never = new CountDownLatch(1)
+        CountDownLatch interrupted = new CountDownLatch(2)
+
+        when:
+        renderer.render(webRequest, [1, 2, 3], new StringWriter(), { Integer item, Writer itemOut ->
+            if (item > 1) {
+                try {
+                    never.await()
+                }
+                catch (InterruptedException e) {
+                    interrupted.countDown()
+                    throw new InterruptedIOException()
+                }
+            }
+        })
+
+        then:
+        thrown(InterruptedIOException)
+        interrupted.await(5, TimeUnit.SECONDS)
+    }
+
+}
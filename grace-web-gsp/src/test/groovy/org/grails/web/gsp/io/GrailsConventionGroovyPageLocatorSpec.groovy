@@ -7,6 +7,7 @@ import grails.plugins.DefaultGrailsPluginManager
 import grails.plugins.metadata.GrailsPlugin
 import grails.util.GrailsUtil
 import grails.util.GrailsWebMockUtil
+import org.grails.core.DefaultGrailsControllerClass
 import org.grails.core.io.SimpleMapResourceLoader
 import org.grails.gsp.compiler.GroovyPageParser
 import org.grails.gsp.io.GroovyPageCompiledScriptSource
@@ -117,6 +118,30 @@ class GrailsConventionGroovyPageLocatorSpec extends Specification {
             source == null
     }
 
+    void "Test find view with controller class and view name from namespace and plugin"() {
+        given: "views in the namespace of a controller and in a plugin"
+            resourceLoader.resources["/grails-app/views/admin/namespaced/bar.gsp"] = new ByteArrayResource("contents".bytes)
+            resourceLoader.resources["/grails-app/views/namespaced/bar.gsp"] = new ByteArrayResource("contents".bytes)
+            resourceLoader.resources["/grails-app/views/plugins/core-${GrailsUtil.grailsVersion}/grails-app/views/bar.gsp"] = new ByteArrayResource("contents".bytes)
+
+        when: "The class of a namespaced controller and view name is specified"
+            def source = pageLocator.findViewForController(new DefaultGrailsControllerClass(NamespacedController), "bar", null)
+        then: "the view of the namespace is found"
+            source != null
+            source.URI == '/admin/namespaced/bar.gsp'
+
+        when: "The class of a controller from a plugin and view name is specified"
+            source = pageLocator.findViewForController(new DefaultGrailsControllerClass(PluginController), "bar", null)
+        then: "the view of the plugin is found"
+            source != null
+            source.URI == "/plugins/core-${GrailsUtil.grailsVersion}/grails-app/views/bar.gsp"
+
+        when:"A non-existent view is queried"
+            source = pageLocator.findViewForController(new DefaultGrailsControllerClass(PluginController), "notThere", null)
+        then:"source is null"
+            source == null
+    }
+
     void "Test find view with controller name and view name"() {
         given: "a simple resource loader with a path to the view"
             resourceLoader.resources["/grails-app/views/foo/bar.gsp"] = new ByteArrayResource("contents".bytes)
@@ -244,6 +269,10 @@ class TestBinaryResource {}
 
 class TestController {}
 
+class NamespacedController {
+    static namespace = 'admin'
+}
+
 @GrailsPlugin(name="core", version="0.1")
 class PluginController {}
 
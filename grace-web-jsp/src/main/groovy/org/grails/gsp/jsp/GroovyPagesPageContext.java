@@ -22,9 +22,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 
 import jakarta.el.ELContext;
 import jakarta.servlet.GenericServlet;
@@ -46,11 +49,13 @@ import jakarta.servlet.jsp.el.ELException;
 import jakarta.servlet.jsp.el.ExpressionEvaluator;
 import jakarta.servlet.jsp.el.VariableResolver;
 import jakarta.servlet.jsp.tagext.BodyContent;
+import jakarta.servlet.jsp.tagext.Tag;
 
 import groovy.lang.Binding;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 
 import org.grails.gsp.GroovyPage;
@@ -64,6 +69,8 @@ import org.grails.web.servlet.mvc.GrailsWebRequest;
  */
 public class GroovyPagesPageContext extends PageContext {
 
+    private static final String TAG_HANDLER_POOL = GroovyPagesPageContext.class.getName() + ".TAG_HANDLER_POOL";
+
     private final ServletContext servletContext;
 
     private final Servlet servlet;
@@ -84,6 +91,12 @@ public class GroovyPagesPageContext extends PageContext {
 
     private final List<Object> tags = new ArrayList<>();
 
+    /**
+     * Classic tag handlers which can be reused by tags of the same class with the same attributes,
+     * they are released when the root request completes, after the forks rendering templates in parallel.
+     */
+    private Map<List<Object>, Deque<Tag>> tagHandlerPool;
+
     private final HttpSession session;
 
     public GroovyPagesPageContext(Servlet pagesServlet, Binding pageScope) {
@@ -111,6 +124,10 @@ public class GroovyPagesPageContext extends PageContext {
         setAttribute(APPLICATION, this.servletContext);
     }
 
+    GrailsWebRequest getWebRequest() {
+        return this.webRequest;
+    }
+
     void popWriter() {
         this.outStack.pop();
         this.jspOut = this.outStack.peek();
@@ -147,6 +164,51 @@ public class GroovyPagesPageContext extends PageContext {
         this.tags.add(tag);
     }
 
+    /**
+     * Takes a pooled handler of the given tag class which has been used with the same attributes before.
+     *
+     * @param tagClass The class of the tag handler
+     * @param attributeNames The names of the attributes that will be set
+     * @return The handler or null if there is none in the pool
+     */
+    Tag borrowTagHandler(Class<?> tagClass, Set<String> attributeNames) {
+        if (this.tagHandlerPool == null) {
+            return null;
+        }
+        Deque<Tag> handlers = this.tagHandlerPool.get(List.of(tagClass, attributeNames));
+        return handlers != null ? handlers.poll() : null;
+    }
+
+    /**
+     * Returns a handler to the pool after it has completed successfully, so that the next tag of its class
+     * with the same attributes reuses it as permitted by the JSP specification.
+     *
+     * @param tagClass The class of the tag handler
+     * @param attributeNames The names of the attributes the handler has been used with
+     * @param tag The handler
+     */
+    void returnTagHandler(Class<?> tagClass, Set<String> attributeNames, Tag tag) {
+        if (this.tagHandlerPool == null) {
+            this.tagHandlerPool = new HashMap<>();
+            // each page context of a request and its forks has its own pool
+            this.webRequest.getRootRequest().registerDestructionCallback(TAG_HANDLER_POOL + '.' + System.identityHashCode(this),
+                    this::releaseTagHandlers, RequestAttributes.SCOPE_REQUEST);
+        }
+        this.tagHandlerPool.computeIfAbsent(List.of(tagClass, attributeNames), key -> new ArrayDeque<>()).push(tag);
+    }
+
+    private void releaseTagHandlers() {
+        Map<List<Object>, Deque<Tag>> pool = this.tagHandlerPool;
+        this.tagHandlerPool = null;
+        if (pool != null) {
+            for (Deque<Tag> handlers : pool.values()) {
+                for (Tag handler : handlers) {
+                    handler.release();
+                }
+            }
+        }
+    }
+
     @Override
     public BodyContent pushBody() {
         BodyContent bc = new BodyContentImpl(getOut(), true);
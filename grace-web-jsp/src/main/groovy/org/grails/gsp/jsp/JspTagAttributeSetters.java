@@ -0,0 +1,171 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.grails.gsp.jsp;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import jakarta.servlet.jsp.tagext.DynamicAttributes;
+import jakarta.servlet.jsp.tagext.JspTag;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import org.grails.taglib.GrailsTagException;
+
+/**
+ * The attribute setters of a JSP tag class, resolved once per attribute name and invoked through method handles.
+ *
+ * <p>Values which aren't instances of the property type are converted by a {@link BeanWrapperImpl} as before,
+ * attributes without a setter are passed to {@link DynamicAttributes} tags.</p>
+ *
+ * @author Michael Yan
+ * @since 2023.1.0
+ */
+final class JspTagAttributeSetters {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * Marks attributes which are nested property paths, these are always set by a {@link BeanWrapperImpl}.
+     */
+    private static final Object NESTED_PROPERTY = new Object();
+
+    private static final Object NOT_WRITABLE = new Object();
+
+    private final Class<?> tagClass;
+
+    private final ConcurrentMap<String, Object> setters = new ConcurrentHashMap<>();
+
+    /**
+     * @param tagClass The tag class
+     * @param attributeNames The attributes declared by the TLD of the tag, resolved up front
+     */
+    JspTagAttributeSetters(Class<?> tagClass, Collection<String> attributeNames) {
+        this.tagClass = tagClass;
+        if (attributeNames != null) {
+            for (String attributeName : attributeNames) {
+                if (attributeName != null && !attributeName.isEmpty()) {
+                    this.setters.put(attributeName, resolve(attributeName));
+                }
+            }
+        }
+    }
+
+    void apply(JspTag tag, Map<String, Object> attributes) {
+        if (attributes == null || attributes.isEmpty()) {
+            return;
+        }
+        BeanWrapperImpl tagBean = null;
+        for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+            String name = attribute.getKey();
+            if (name == null || name.isEmpty()) {
+                continue;
+            }
+            Object value = attribute.getValue();
+            Object setter = this.setters.computeIfAbsent(name, this::resolve);
+            if (setter instanceof AttributeSetter && ((AttributeSetter) setter).accepts(value)) {
+                ((AttributeSetter) setter).set(tag, name, value);
+            }
+            else if (setter != NOT_WRITABLE) {
+                if (tagBean == null) {
+                    tagBean = new BeanWrapperImpl(tag);
+                }
+                if (setter != NESTED_PROPERTY || tagBean.isWritableProperty(name)) {
+                    tagBean.setPropertyValue(name, value);
+                }
+                else if (tag instanceof DynamicAttributes) {
+                    setDynamicAttribute((DynamicAttributes) tag, name, value);
+                }
+            }
+            else if (tag instanceof DynamicAttributes) {
+                setDynamicAttribute((DynamicAttributes) tag, name, value);
+            }
+        }
+    }
+
+    private void setDynamicAttribute(DynamicAttributes tag, String name, Object value) {
+        try {
+            tag.setDynamicAttribute(null, name, value);
+        }
+        catch (Exception e) {
+            throw new GrailsTagException("Error setting attribute [" + name + "] of JSP tag [" + this.tagClass.getName() + "]", e);
+        }
+    }
+
+    private Object resolve(String name) {
+        if (name.indexOf('.') > -1 || name.indexOf('[') > -1) {
+            return NESTED_PROPERTY;
+        }
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(this.tagClass, name);
+        Method writeMethod = descriptor != null ? descriptor.getWriteMethod() : null;
+        if (writeMethod == null) {
+            return NOT_WRITABLE;
+        }
+        try {
+            ReflectionUtils.makeAccessible(writeMethod);
+            MethodHandle handle = MethodHandles.lookup().unreflect(writeMethod).asType(SETTER_TYPE);
+            return new AttributeSetter(handle, writeMethod.getParameterTypes()[0]);
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            // the bean wrapper reports the problem when the attribute is set
+            return NESTED_PROPERTY;
+        }
+    }
+
+    private final class AttributeSetter {
+
+        private final MethodHandle handle;
+
+        private final Class<?> type;
+
+        private final boolean primitive;
+
+        AttributeSetter(MethodHandle handle, Class<?> type) {
+            this.handle = handle;
+            this.type = ClassUtils.resolvePrimitiveIfNecessary(type);
+            this.primitive = type.isPrimitive();
+        }
+
+        boolean accepts(Object value) {
+            return value != null ? this.type.isInstance(value) : !this.primitive;
+        }
+
+        void set(JspTag tag, String name, Object value) {
+            try {
+                this.handle.invokeExact((Object) tag, value);
+            }
+            catch (RuntimeException | Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                throw new GrailsTagException("Error setting attribute [" + name + "] of JSP tag [" +
+                        JspTagAttributeSetters.this.tagClass.getName() + "]", e);
+            }
+        }
+
+    }
+
+}
@@ -19,7 +19,6 @@ import jakarta.servlet.jsp.JspContext
 import jakarta.servlet.jsp.JspWriter
 import jakarta.servlet.jsp.tagext.BodyContent
 import jakarta.servlet.jsp.tagext.BodyTag
-import jakarta.servlet.jsp.tagext.DynamicAttributes
 import jakarta.servlet.jsp.tagext.IterationTag
 import jakarta.servlet.jsp.tagext.JspFragment
 import jakarta.servlet.jsp.tagext.SimpleTag
@@ -30,7 +29,6 @@ import jakarta.servlet.jsp.tagext.TryCatchFinally
 import groovy.transform.CompileStatic
 import org.apache.commons.logging.Log
 import org.apache.commons.logging.LogFactory
-import org.springframework.beans.BeanWrapperImpl
 import org.springframework.util.ClassUtils
 
 import org.grails.buffer.FastStringWriter
@@ -49,17 +47,31 @@ class JspTagImpl implements JspTag {
     boolean tryCatchFinally
     boolean body
     boolean iteration
+    boolean classic
+    Collection<String> attributeNames
+    private JspTagAttributeSetters attributeSetters
 
     JspTagImpl(String tagClassName, ClassLoader classLoader) {
+        this(tagClassName, classLoader, null)
+    }
+
+    /**
+     * @param tagClassName The name of the tag class
+     * @param classLoader The class loader of the tag class
+     * @param attributeNames The attributes declared in the TLD, their setters are resolved when the class is loaded
+     * @since 2023.1.0
+     */
+    JspTagImpl(String tagClassName, ClassLoader classLoader, Collection<String> attributeNames) {
         this.tagClassName = tagClassName
         this.classLoader = classLoader
+        this.attributeNames = attributeNames
     }
 
     JspTagImpl(Class tagClass) {
         this.tagClass = tagClass
         this.tagClassName = tagClass.name
         this.classLoader = tagClass.classLoader
-        initializeTagClassTypes()
+        initializeTagClassTypes(tagClass)
     }
 
     void doTag(Writer targetWriter, Map<String, Object> attributes) {
@@ -69,16 +81,22 @@ class JspTagImpl implements JspTag {
     protected void checkInitialized() {
         if (tagClass == null) {
             synchronized (this) {
-                tagClass = ClassUtils.forName(tagClassName, classLoader)
-                initializeTagClassTypes()
+                if (tagClass == null) {
+                    Class loadedClass = ClassUtils.forName(tagClassName, classLoader)
+                    initializeTagClassTypes(loadedClass)
+                    tagClass = loadedClass
+                }
             }
         }
     }
 
-    private initializeTagClassTypes() {
-        tryCatchFinally = TryCatchFinally.isAssignableFrom(tagClass)
-        body = BodyTag.isAssignableFrom(tagClass)
-        iteration = IterationTag.isAssignableFrom(tagClass)
+    private initializeTagClassTypes(Class theClass) {
+        tryCatchFinally = TryCatchFinally.isAssignableFrom(theClass)
+        body = BodyTag.isAssignableFrom(theClass)
+        iteration = IterationTag.isAssignableFrom(theClass)
+        // simple tags must not be reused
+        classic = Tag.isAssignableFrom(theClass) && !SimpleTag.isAssignableFrom(theClass)
+        attributeSetters = new JspTagAttributeSetters(theClass, attributeNames)
     }
 
     protected jakarta.servlet.jsp.tagext.JspTag createTagInstance() {
@@ -87,8 +105,18 @@ class JspTagImpl implements JspTag {
     }
 
     void doTag(Writer targetWriter, Map<String, Object> attributes, Closure<?> body) {
-        jakarta.servlet.jsp.tagext.JspTag tag = createTagInstance()
+        checkInitialized()
         GroovyPagesPageContext pageContext = PageContextFactory.getCurrent()
+        Set<String> usedAttributes = null
+        jakarta.servlet.jsp.tagext.JspTag tag = null
+        if (classic) {
+            // classic tag handlers are pooled per page context and reused for the same attributes
+            usedAttributes = attributes ? new HashSet<String>(attributes.keySet()) : Collections.<String>emptySet()
+            tag = pageContext.borrowTagHandler(tagClass, usedAttributes)
+        }
+        if (tag == null) {
+            tag = createTagInstance()
+        }
 
         assignParentTag(pageContext, tag)
 
@@ -102,6 +130,7 @@ class JspTagImpl implements JspTag {
         }
         else if (tag instanceof Tag) {
             Tag theTag = (Tag) tag
+            boolean reusable = false
             withJspWriterDelegate pageContext, targetWriter, {
                 try {
                     pageContext.pushTopTag theTag
@@ -132,10 +161,12 @@ class JspTagImpl implements JspTag {
                     if (state == Tag.SKIP_PAGE) {
                         LOG.warn "Tag ${theTag.getClass().getName()} returned SKIP_PAGE which is not supported in GSP"
                     }
+                    reusable = true
                 }
                 catch (Throwable t) {
                     if (isTryCatchFinally() && theTag) {
                         ((TryCatchFinally) theTag).doCatch(t)
+                        reusable = true
                     }
                     else {
                         throw t
@@ -146,7 +177,12 @@ class JspTagImpl implements JspTag {
                         ((TryCatchFinally) theTag).doFinally()
                     }
                     pageContext.popTopTag()
-                    theTag?.release()
+                    if (reusable && classic) {
+                        pageContext.returnTagHandler(tagClass, usedAttributes, theTag)
+                    }
+                    else {
+                        theTag?.release()
+                    }
                 }
             }
         }
@@ -162,16 +198,7 @@ class JspTagImpl implements JspTag {
     }
 
     private applyAttributes(jakarta.servlet.jsp.tagext.JspTag tag, Map<String, Object> attributes) {
-        BeanWrapperImpl tagBean = new BeanWrapperImpl(tag)
-
-        attributes?.each { String key, Object value ->
-            if (key && tagBean.isWritableProperty(key)) {
-                tagBean.setPropertyValue key, value
-            }
-            else if (key && tag instanceof DynamicAttributes) {
-                ((DynamicAttributes) tag).setDynamicAttribute(null, key, value)
-            }
-        }
+        attributeSetters.apply(tag, attributes)
     }
 
     private assignParentTag(GroovyPagesPageContext pageContext, jakarta.servlet.jsp.tagext.JspTag tag) {
@@ -187,6 +214,10 @@ class JspTagImpl implements JspTag {
                 tag.parent = (Tag) parentTag
             }
         }
+        else if (tag instanceof Tag) {
+            // a pooled handler may have been used inside another tag before
+            tag.parent = null
+        }
     }
 
     void withJspWriterDelegate(GroovyPagesPageContext pageContext, Writer delegate, Closure callable) {
@@ -31,10 +31,18 @@ class JspTagLibImpl implements JspTagLib {
     private final Map<String, JspTagImpl> tags = [:]
 
     JspTagLibImpl(String uri, Map<String, String> tagClasses, ClassLoader classLoader) {
+        this(uri, tagClasses, [:], classLoader)
+    }
+
+    /**
+     * @param tagAttributes The attributes declared for each tag in the TLD
+     * @since 2023.1.0
+     */
+    JspTagLibImpl(String uri, Map<String, String> tagClasses, Map<String, List<String>> tagAttributes, ClassLoader classLoader) {
         Assert.notNull uri, "The URI of the tag library must be specified!"
         this.uri = uri
         tagClasses.each { String tagName, String className ->
-            tags[tagName] = new JspTagImpl(className, classLoader)
+            tags[tagName] = new JspTagImpl(className, classLoader, tagAttributes[tagName])
         }
     }
 
@@ -39,7 +39,9 @@ class PageContextFactory {
         def request = webRequest.getCurrentRequest()
 
         def pageContext = request.getAttribute(PC.PAGECONTEXT)
-        if (pageContext instanceof GroovyPagesPageContext) {
+        // a forked request reads the page context of its parent, but renders on another thread with its own
+        if (pageContext instanceof GroovyPagesPageContext &&
+                (webRequest.rootRequest.is(webRequest) || ((GroovyPagesPageContext) pageContext).webRequest.is(webRequest))) {
             return pageContext
         }
 
@@ -166,7 +166,7 @@ class TagLibraryResolverImpl implements TagLibraryResolver, ServletContextAware,
         TldReader tldReader = new TldReader(inputStream)
         String uri = specifiedUri ?: tldReader.uri
         if (tldReader.tags) {
-            return new JspTagLibImpl(uri, tldReader.tags, classLoader)
+            return new JspTagLibImpl(uri, tldReader.tags, tldReader.tagAttributes, classLoader)
         }
         return null
     }
@@ -23,8 +23,8 @@ import org.apache.commons.logging.LogFactory
 import org.grails.io.support.SpringIOUtils
 
 /**
- * A SAX parser implementation that reads the contents of a tag library definition (TLD) into two properties
- * called tags and listeners (for the tag listeners)
+ * A SAX parser implementation that reads the contents of a tag library definition (TLD) into the properties
+ * tags, tagAttributes (the attributes declared by each tag) and listeners (for the tag listeners)
  */
 @CompileStatic
 class TldReader {
@@ -32,6 +32,7 @@ class TldReader {
     private static final Log log = LogFactory.getLog(TldReader)
     final Map<String, String> tags = [:]
     final List<String> listeners = []
+    final Map<String, List<String>> tagAttributes = [:]
     String uri
 
     public TldReader(InputStream inputStream) {
@@ -48,6 +49,7 @@ class TldReader {
             String tagName = tag.name.text()
             String className = tag.'tag-class'.text() ?: tag.'tagclass'.text()
             tags[tagName] = className
+            tagAttributes[tagName] = tag.attribute.collect { it.name.text().trim() }
         }
         rootNode.'listener-class'.each { listenerClassNode ->
             listeners << listenerClassNode.text()
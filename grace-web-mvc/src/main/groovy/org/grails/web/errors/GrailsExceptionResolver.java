@@ -37,6 +37,7 @@ import org.springframework.web.servlet.ViewResolver;
 import org.springframework.web.servlet.handler.SimpleMappingExceptionResolver;
 
 import grails.config.Config;
+import grails.config.ConfigKey;
 import grails.config.Settings;
 import grails.core.GrailsApplication;
 import grails.core.support.GrailsApplicationAware;
@@ -48,6 +49,7 @@ import grails.web.mapping.exceptions.UrlMappingException;
 import org.grails.core.exceptions.GrailsRuntimeException;
 import org.grails.exceptions.ExceptionUtils;
 import org.grails.exceptions.reporting.DefaultStackTraceFilterer;
+import org.grails.exceptions.reporting.ExceptionOccurrenceTracker;
 import org.grails.exceptions.reporting.StackTraceFilterer;
 import org.grails.web.mapping.DefaultUrlMappingInfo;
 import org.grails.web.mapping.UrlMappingUtils;
@@ -68,12 +70,22 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
 
     protected static final String LINE_SEPARATOR = System.getProperty("line.separator");
 
+    private static final ConfigKey<Boolean> LOG_REQUEST_PARAMETERS = ConfigKey.of(Settings.SETTING_LOG_REQUEST_PARAMETERS, Boolean.class);
+
+    private static final ConfigKey<List> PARAMETER_EXCLUDES = ConfigKey.of(Settings.SETTING_EXCEPTION_RESOLVER_PARAM_EXCLUDES, List.class,
+            Collections.emptyList());
+
+    private static final ConfigKey<Long> STACK_TRACE_LOG_INTERVAL = ConfigKey.of(Settings.SETTING_EXCEPTION_RESOLVER_LOG_INTERVAL, Long.class,
+            ExceptionOccurrenceTracker.DEFAULT_LOG_INTERVAL);
+
     protected ServletContext servletContext;
 
     protected GrailsApplication grailsApplication;
 
     protected StackTraceFilterer stackFilterer;
 
+    protected final ExceptionOccurrenceTracker occurrenceTracker = new ExceptionOccurrenceTracker();
+
     @Override
     public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
         // don't reuse cached controller attribute
@@ -113,9 +125,17 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
 
     public void setGrailsApplication(GrailsApplication grailsApplication) {
         this.grailsApplication = grailsApplication;
+        this.occurrenceTracker.setLogInterval(getStackTraceLogInterval());
         createStackFilterer();
     }
 
+    /**
+     * @return The tracker holding the number of resolved exceptions per fingerprint
+     */
+    public ExceptionOccurrenceTracker getOccurrenceTracker() {
+        return this.occurrenceTracker;
+    }
+
     /**
      * Obtains the root cause of the given exception
      * @param ex The exception
@@ -251,7 +271,22 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
     }
 
     protected void logStackTrace(Exception e, HttpServletRequest request) {
-        logger.error(getRequestLogMessage(e, request), e);
+        if (!logger.isErrorEnabled()) {
+            return;
+        }
+        long suppressed = this.occurrenceTracker.record(e);
+        if (suppressed == ExceptionOccurrenceTracker.SUPPRESSED) {
+            // the stack trace of an identical exception was logged recently
+            Throwable cause = getRootCause(e);
+            logger.error(buildRequestLogMessage(cause.getClass().getSimpleName(), request, cause.getMessage(),
+                    "Stacktrace suppressed, an identical exception was logged recently."));
+        }
+        else if (suppressed > 0) {
+            logger.error(getRequestLogMessage(e, request) + " (" + suppressed + " identical stack traces were suppressed)", e);
+        }
+        else {
+            logger.error(getRequestLogMessage(e, request), e);
+        }
     }
 
     protected Exception findWrappedException(Exception e) {
@@ -265,6 +300,10 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
     }
 
     protected String getRequestLogMessage(String exceptionName, HttpServletRequest request, String message) {
+        return buildRequestLogMessage(exceptionName, request, message, "Stacktrace follows:");
+    }
+
+    private String buildRequestLogMessage(String exceptionName, HttpServletRequest request, String message, String suffix) {
         StringBuilder sb = new StringBuilder();
 
         sb.append(exceptionName)
@@ -279,8 +318,9 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
         }
 
         Config config = this.grailsApplication != null ? this.grailsApplication.getConfig() : null;
-        boolean shouldLogRequestParameters = config != null ? config.getProperty(Settings.SETTING_LOG_REQUEST_PARAMETERS,
-                Boolean.class, Environment.getCurrent() == Environment.DEVELOPMENT) : false;
+        Boolean logRequestParameters = config != null ? LOG_REQUEST_PARAMETERS.get(config) : Boolean.FALSE;
+        boolean shouldLogRequestParameters = logRequestParameters != null ? logRequestParameters :
+                Environment.getCurrent() == Environment.DEVELOPMENT;
 
         if (shouldLogRequestParameters) {
             Enumeration<String> params = request.getParameterNames();
@@ -292,8 +332,7 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
 
                 sb.append(" - parameters:");
 
-                List<String> blackList = (config.getProperty(Settings.SETTING_EXCEPTION_RESOLVER_PARAM_EXCLUDES,
-                        List.class, Collections.emptyList()));
+                List<String> blackList = PARAMETER_EXCLUDES.get(config);
 
                 if (blackList == null) {
                     blackList = Collections.emptyList();
@@ -322,11 +361,16 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
         if (message != null) {
             sb.append(message).append(". ");
         }
-        sb.append("Stacktrace follows:");
+        sb.append(suffix);
 
         return sb.toString();
     }
 
+    protected long getStackTraceLogInterval() {
+        Config config = this.grailsApplication != null ? this.grailsApplication.getConfig() : null;
+        return config != null ? STACK_TRACE_LOG_INTERVAL.get(config) : ExceptionOccurrenceTracker.DEFAULT_LOG_INTERVAL;
+    }
+
     protected void createStackFilterer() {
         try {
             Class filtererClass = this.grailsApplication.getConfig().getProperty(Settings.SETTING_LOGGING_STACKTRACE_FILTER_CLASS,
@@ -337,6 +381,9 @@ public class GrailsExceptionResolver extends SimpleMappingExceptionResolver impl
             logger.error("Problem instantiating StackTracePrinter class, using default: " + t.getMessage());
             this.stackFilterer = new DefaultStackTraceFilterer();
         }
+        if (this.stackFilterer instanceof DefaultStackTraceFilterer) {
+            ((DefaultStackTraceFilterer) this.stackFilterer).setOccurrenceTracker(this.occurrenceTracker);
+        }
     }
 
 }
@@ -18,12 +18,14 @@ package org.grails.web.servlet.mvc;
 import java.io.IOException;
 import java.util.Collection;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import grails.web.mvc.FlashScope;
@@ -59,7 +61,7 @@ public class GrailsWebRequestFilter extends OncePerRequestFilter {
         try {
             WebUtils.storeGrailsWebRequest(webRequest);
 
-            if (!isIncludeOrForward) {
+            if (!isIncludeOrForward && request.getDispatcherType() != DispatcherType.ASYNC) {
                 // Set the flash scope instance to its next state. We do
                 // this here so that the flash is available from Grails
                 // filters in a valid state.
@@ -74,18 +76,30 @@ public class GrailsWebRequestFilter extends OncePerRequestFilter {
         finally {
             webRequest.requestCompleted();
 
-            if (isIncludeOrForward) {
-                if (previous != null) {
-                    WebUtils.storeGrailsWebRequest(previous);
+            if (webRequest.isRequestCompletionDeferred() && request.isAsyncStarted()) {
+                // The web request is completed when async processing has completed, after the
+                // async dispatch has rendered the view. It remains registered with the request,
+                // so that the async dispatch inherits its state.
+                RequestContextHolder.resetRequestAttributes();
+                LocaleContextHolder.resetLocaleContext();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Released Grails thread-bound request context for async processing: " + request);
                 }
             }
             else {
+                if (isIncludeOrForward) {
+                    if (previous != null) {
+                        WebUtils.storeGrailsWebRequest(previous);
+                    }
+                }
+                else {
 
-                WebUtils.clearGrailsWebRequest();
-                LocaleContextHolder.setLocale(null);
-            }
-            if (logger.isDebugEnabled()) {
-                logger.debug("Cleared Grails thread-bound request context: " + request);
+                    WebUtils.clearGrailsWebRequest();
+                    LocaleContextHolder.setLocale(null);
+                }
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Cleared Grails thread-bound request context: " + request);
+                }
             }
         }
     }
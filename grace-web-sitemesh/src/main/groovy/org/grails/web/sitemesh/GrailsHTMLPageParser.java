@@ -32,6 +32,7 @@ import com.opensymphony.module.sitemesh.html.rules.PageBuilder;
 import com.opensymphony.module.sitemesh.html.rules.ParameterExtractingRule;
 import com.opensymphony.module.sitemesh.html.rules.TitleExtractingRule;
 import com.opensymphony.module.sitemesh.html.util.CharArray;
+import com.opensymphony.module.sitemesh.html.util.SourceCharArray;
 import com.opensymphony.module.sitemesh.parser.HTMLPageParser;
 import com.opensymphony.module.sitemesh.parser.TokenizedHTMLPage;
 import com.opensymphony.sitemesh.Content;
@@ -40,8 +41,9 @@ public class GrailsHTMLPageParser extends HTMLPageParser {
 
     @Override
     public Page parse(char[] data) throws IOException {
-        CharArray head = new CharArray(64);
-        CharArray body = new CharArray(4096);
+        // head and body are kept as ranges of the page instead of being copied
+        CharArray head = new SourceCharArray(data);
+        CharArray body = new SourceCharArray(data);
         TokenizedHTMLPage page = new TokenizedHTMLPage(data, body, head);
         HTMLProcessor processor = new HTMLProcessor(data, body);
         State html = processor.defaultState();
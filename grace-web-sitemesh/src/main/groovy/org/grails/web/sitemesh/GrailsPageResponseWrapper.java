@@ -18,6 +18,7 @@ package org.grails.web.sitemesh;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.charset.Charset;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.WriteListener;
@@ -30,7 +31,6 @@ import com.opensymphony.module.sitemesh.PageParser;
 import com.opensymphony.module.sitemesh.PageParserSelector;
 import com.opensymphony.module.sitemesh.filter.HttpContentType;
 import com.opensymphony.module.sitemesh.filter.RoutableServletOutputStream;
-import com.opensymphony.module.sitemesh.filter.TextEncoder;
 
 import org.grails.buffer.GrailsPrintWriterAdapter;
 import org.grails.buffer.StreamByteBuffer;
@@ -302,8 +302,6 @@ public class GrailsPageResponseWrapper extends HttpServletResponseWrapper {
 
         private final String encoding;
 
-        private static final TextEncoder TEXT_ENCODER = new TextEncoder();
-
         private StreamCharBuffer charBuffer;
 
         private GrailsPrintWriterAdapter exposedWriter;
@@ -343,7 +341,12 @@ public class GrailsPageResponseWrapper extends HttpServletResponseWrapper {
                 }
             }
             if (this.byteBuffer != null) {
-                return TEXT_ENCODER.encode(this.byteBuffer.readAsByteArray(), this.encoding);
+                // decode the chunks directly, the view wrote to the stream
+                String encoding = this.encoding != null ? this.encoding : Charset.defaultCharset().name();
+                if (!Charset.isSupported(encoding)) {
+                    throw new IOException("Unsupported encoding " + encoding);
+                }
+                return this.byteBuffer.readAsCharArray(Charset.forName(encoding));
             }
 
             return new char[0];
@@ -56,7 +56,7 @@ final class TokenizedHTMLPage2Content implements Content {
 
     @Override
     public String[] getPropertyKeys() {
-        return getPropertyKeys();
+        return this.page.getPropertyKeys();
     }
 
     @Override
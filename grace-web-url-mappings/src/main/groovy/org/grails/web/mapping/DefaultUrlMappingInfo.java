@@ -29,6 +29,7 @@ import org.springframework.web.multipart.MultipartHttpServletRequest;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.servlet.DispatcherServlet;
 
+import grails.config.ConfigKey;
 import grails.core.GrailsApplication;
 import grails.util.GrailsNameUtils;
 import grails.web.CamelCaseUrlConverter;
@@ -51,6 +52,8 @@ public class DefaultUrlMappingInfo extends AbstractUrlMappingInfo {
 
     private static final String SETTING_GRAILS_WEB_DISABLE_MULTIPART = "grails.web.disable.multipart";
 
+    private static final ConfigKey<Boolean> DISABLE_MULTIPART = ConfigKey.of(SETTING_GRAILS_WEB_DISABLE_MULTIPART, Boolean.class, false);
+
     private static final String CONTROLLER_PREFIX = "controller:";
 
     private static final String ACTION_PREFIX = "action:";
@@ -287,7 +290,7 @@ public class DefaultUrlMappingInfo extends AbstractUrlMappingInfo {
 
     private boolean isMultipartDisabled() {
         if (this.grailsApplication != null) {
-            return this.grailsApplication.getConfig().getProperty(SETTING_GRAILS_WEB_DISABLE_MULTIPART, Boolean.class, false);
+            return DISABLE_MULTIPART.get(this.grailsApplication.getConfig());
         }
         return false;
     }
@@ -15,25 +15,55 @@
  */
 package org.grails.web.mapping.mvc
 
+import java.lang.reflect.Method
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CompletionStage
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
 
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
 
 import groovy.transform.CompileStatic
+import org.apache.commons.logging.Log
+import org.apache.commons.logging.LogFactory
+import org.codehaus.groovy.runtime.DefaultGroovyMethods
+import org.codehaus.groovy.runtime.InvokerHelper
+import org.springframework.beans.factory.DisposableBean
 import org.springframework.context.ApplicationContext
 import org.springframework.context.ApplicationContextAware
+import org.springframework.context.i18n.LocaleContext
+import org.springframework.context.i18n.LocaleContextHolder
+import org.springframework.core.annotation.AnnotationUtils
+import org.springframework.core.task.AsyncTaskExecutor
+import org.springframework.core.task.support.TaskExecutorAdapter
+import org.springframework.util.ReflectionUtils
+import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException
+import org.springframework.web.context.request.async.AsyncWebRequest
+import org.springframework.web.context.request.async.DeferredResult
+import org.springframework.web.context.request.async.WebAsyncManager
+import org.springframework.web.context.request.async.WebAsyncTask
+import org.springframework.web.context.request.async.WebAsyncUtils
 import org.springframework.web.servlet.HandlerAdapter
 import org.springframework.web.servlet.ModelAndView
 import org.springframework.web.servlet.view.InternalResourceView
 
 import grails.core.GrailsControllerClass
 import grails.util.Environment
+import grails.web.controllers.VirtualThreads
 import grails.web.mapping.LinkGenerator
 import grails.web.mapping.ResponseRedirector
 import grails.web.mapping.UrlMappingInfo
 import grails.web.mvc.FlashScope
 
+import org.grails.core.util.VirtualThreadUtils
 import org.grails.web.servlet.mvc.ActionResultTransformer
 import org.grails.web.servlet.mvc.GrailsWebRequest
 import org.grails.web.util.GrailsApplicationAttributes
@@ -42,19 +72,52 @@ import org.grails.web.util.WebUtils
 /**
  * A {@link HandlerAdapter} that takes a matched {@link UrlMappingInfo} and executes the underlying controller producing an appropriate model
  *
+ * <p>Actions marked with {@link VirtualThreads}, or all actions when virtual threads are enabled, are executed on a virtual thread
+ * using Servlet async processing when running on JDK 21 or above. The resulting {@link ModelAndView} is rendered on the async
+ * dispatch.</p>
+ *
+ * <p>Actions may also return a {@link CompletionStage}, in which case the request thread is released and the completed value
+ * is rendered on the async dispatch in the same way as a synchronous action result. Values that are neither a {@link Map}
+ * nor a {@link ModelAndView} are passed to the controller's {@code respond} method when available. A failed stage is
+ * handled by the exception resolvers and an expired one results in a 503 status code, both of which can be mapped
+ * in {@code UrlMappings}.</p>
+ *
  * @author Graeme Rocher
  * @author Michael Yan
  * @since 3.0
  */
 @CompileStatic
-class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContextAware {
+class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContextAware, DisposableBean {
+
+    private static final Log logger = LogFactory.getLog(UrlMappingsInfoHandlerAdapter)
+
+    /**
+     * The time in milliseconds an action result is awaited when no async timeout is set, the default async timeout of
+     * most containers
+     */
+    static final long DEFAULT_ASYNC_TIMEOUT = 30000L
 
     ApplicationContext applicationContext
 
     protected Collection<ActionResultTransformer> actionResultTransformers = []
     protected Map<String, Object> controllerCache = new ConcurrentHashMap<>()
+    protected Map<String, Boolean> virtualThreadActionCache = new ConcurrentHashMap<>()
     protected ResponseRedirector redirector
 
+    /**
+     * Whether actions without a {@link VirtualThreads} annotation are executed on virtual threads
+     */
+    boolean virtualThreadsEnabled = false
+
+    /**
+     * The timeout in milliseconds for asynchronously executed actions, null to use the container's default
+     */
+    Long asyncTimeout
+
+    private ExecutorService virtualThreadExecutorService
+    private AsyncTaskExecutor virtualThreadTaskExecutor
+    private boolean virtualThreadsResolved
+
     void setApplicationContext(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext
     }
@@ -71,12 +134,33 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
     @Override
     boolean supports(Object handler) { handler instanceof UrlMappingInfo }
 
+    @Override
+    void destroy() {
+        virtualThreadExecutorService?.shutdown()
+    }
+
     @Override
     ModelAndView handle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         UrlMappingInfo info = (UrlMappingInfo) handler
 
         GrailsWebRequest webRequest = GrailsWebRequest.lookup(request)
 
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request)
+        if (asyncManager.hasConcurrentResult()) {
+            Object concurrentResult = asyncManager.concurrentResult
+            asyncManager.clearConcurrentResult()
+            if (concurrentResult instanceof Exception) {
+                throw (Exception) concurrentResult
+            }
+            else if (concurrentResult instanceof Throwable) {
+                throw new IllegalStateException('Async execution of controller action failed', (Throwable) concurrentResult)
+            }
+            else if (concurrentResult instanceof AsyncActionResult) {
+                return completeAsyncAction(request, response, webRequest, (AsyncActionResult) concurrentResult)
+            }
+            return (ModelAndView) concurrentResult
+        }
+
         boolean isAsyncRequest = WebUtils.isAsync(request) && !WebUtils.isError(request)
         if (isAsyncRequest) {
             Object modelAndView = request.getAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW)
@@ -109,39 +193,26 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
                 webRequest.actionName = webRequest.actionName ?: action
                 webRequest.controllerNamespace = controllerClass.namespace
                 request.setAttribute(GrailsApplicationAttributes.CONTROLLER, controller)
-                Object result = controllerClass.invoke(controller, action)
 
-                if (actionResultTransformers) {
-                    for (transformer in actionResultTransformers) {
-                        result = transformer.transformActionResult(webRequest, action, result)
+                if (request.isAsyncSupported() && isVirtualThreadAction(controllerClass, action)) {
+                    AsyncTaskExecutor taskExecutor = getVirtualThreadTaskExecutor()
+                    if (taskExecutor != null) {
+                        startVirtualThreadAction(request, response, asyncManager, taskExecutor, webRequest,
+                                controllerClass, controller, action)
+                        return null
                     }
                 }
 
-                Object modelAndView = request.getAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW)
-                if (modelAndView instanceof ModelAndView) {
-                    return (ModelAndView) modelAndView
-                }
-                else if (result instanceof Map) {
-                    String viewName = getControllerViewName(controllerClass, action)
-                    Map<String, Object> finalModel = new HashMap<String, Object>()
-                    FlashScope flashScope = webRequest.getFlashScope()
-                    if (!flashScope.isEmpty()) {
-                        Object chainModel = flashScope.get(FlashScope.CHAIN_MODEL)
-                        if (chainModel instanceof Map) {
-                            finalModel.putAll((Map) chainModel)
-                        }
+                Object result = invokeAction(webRequest, controllerClass, controller, action)
+                if (result instanceof CompletionStage) {
+                    if (request.isAsyncSupported()) {
+                        startDeferredAction(request, response, asyncManager, controllerClass, controller, action, (CompletionStage) result)
+                        return null
                     }
-                    finalModel.putAll((Map) result)
-
-                    return new ModelAndView(viewName, finalModel)
-                }
-                else if (result instanceof ModelAndView) {
-                    return (ModelAndView) result
-                }
-                else if (result == null && webRequest.renderView) {
-                    String viewName = getControllerViewName(controllerClass, action)
-                    return new ModelAndView(viewName)
+                    return completeActionResult(request, webRequest, controllerClass, controller, action,
+                            awaitCompletion((CompletionStage) result))
                 }
+                return createModelAndView(request, webRequest, controllerClass, action, result)
             }
             else if (info.viewName) {
                 return new ModelAndView(info.viewName)
@@ -162,6 +233,241 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
         null
     }
 
+    /**
+     * Invokes the controller action and applies the {@link ActionResultTransformer} instances to the result. A
+     * {@link CompletionStage} is returned as is, its value is transformed once it has completed.
+     *
+     * @return The transformed action result
+     */
+    protected Object invokeAction(GrailsWebRequest webRequest, GrailsControllerClass controllerClass, Object controller, String action) {
+        Object result = controllerClass.invoke(controller, action)
+        result instanceof CompletionStage ? result : transformActionResult(webRequest, action, result)
+    }
+
+    protected Object transformActionResult(GrailsWebRequest webRequest, String action, Object result) {
+        if (actionResultTransformers) {
+            for (transformer in actionResultTransformers) {
+                result = transformer.transformActionResult(webRequest, action, result)
+            }
+        }
+        result
+    }
+
+    /**
+     * Creates the {@link ModelAndView} for the action result
+     *
+     * @return The {@link ModelAndView} to render or null if the action handled the response itself
+     */
+    protected ModelAndView createModelAndView(HttpServletRequest request, GrailsWebRequest webRequest,
+            GrailsControllerClass controllerClass, String action, Object result) {
+        Object modelAndView = request.getAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW)
+        if (modelAndView instanceof ModelAndView) {
+            return (ModelAndView) modelAndView
+        }
+        else if (result instanceof Map) {
+            String viewName = getControllerViewName(controllerClass, action)
+            Map<String, Object> finalModel = new HashMap<String, Object>()
+            FlashScope flashScope = webRequest.getFlashScope()
+            if (!flashScope.isEmpty()) {
+                Object chainModel = flashScope.get(FlashScope.CHAIN_MODEL)
+                if (chainModel instanceof Map) {
+                    finalModel.putAll((Map) chainModel)
+                }
+            }
+            finalModel.putAll((Map) result)
+
+            return new ModelAndView(viewName, finalModel)
+        }
+        else if (result instanceof ModelAndView) {
+            return (ModelAndView) result
+        }
+        else if (result == null && webRequest.renderView) {
+            String viewName = getControllerViewName(controllerClass, action)
+            return new ModelAndView(viewName)
+        }
+        null
+    }
+
+    /**
+     * Starts Servlet async processing and executes the action on a virtual thread. The {@link GrailsWebRequest} and
+     * the locale are bound to the virtual thread, so the output context and the encoding state registry, which are
+     * looked up through the web request, resolve to those of the current request.
+     */
+    protected void startVirtualThreadAction(HttpServletRequest request, HttpServletResponse response,
+            WebAsyncManager asyncManager, AsyncTaskExecutor taskExecutor, GrailsWebRequest webRequest,
+            GrailsControllerClass controllerClass, Object controller, String action) {
+        LocaleContext localeContext = LocaleContextHolder.localeContext
+        Callable<ModelAndView> callable = new Callable<ModelAndView>() {
+            @Override
+            ModelAndView call() throws Exception {
+                WebUtils.storeGrailsWebRequest(webRequest)
+                LocaleContextHolder.setLocaleContext(localeContext)
+                try {
+                    Object result = invokeAction(webRequest, controllerClass, controller, action)
+                    if (result instanceof CompletionStage) {
+                        // blocking is cheap on a virtual thread
+                        return completeActionResult(request, webRequest, controllerClass, controller, action,
+                                awaitCompletion((CompletionStage) result))
+                    }
+                    return createModelAndView(request, webRequest, controllerClass, action, result)
+                }
+                finally {
+                    // the request is completed once the async dispatch has rendered the view
+                    RequestContextHolder.resetRequestAttributes()
+                    LocaleContextHolder.resetLocaleContext()
+                }
+            }
+        }
+
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.createAsyncWebRequest(request, response)
+        if (asyncTimeout != null) {
+            asyncWebRequest.setTimeout(asyncTimeout)
+        }
+        asyncManager.setAsyncWebRequest(asyncWebRequest)
+        request.setAttribute(GrailsApplicationAttributes.ASYNC_ACTION_STARTED, Boolean.TRUE)
+        webRequest.deferRequestCompletion()
+        asyncManager.startCallableProcessing(new WebAsyncTask<ModelAndView>(asyncTimeout, taskExecutor, callable))
+    }
+
+    /**
+     * Starts Servlet async processing and releases the request thread until the {@link CompletionStage} returned by the
+     * action completes, the completed value is rendered on the async dispatch by
+     * {@link #completeAsyncAction(HttpServletRequest, HttpServletResponse, GrailsWebRequest, AsyncActionResult)}.
+     */
+    protected void startDeferredAction(HttpServletRequest request, HttpServletResponse response, WebAsyncManager asyncManager,
+            GrailsControllerClass controllerClass, Object controller, String action, CompletionStage stage) {
+        DeferredResult<Object> deferredResult = new DeferredResult<Object>(asyncTimeout)
+        deferredResult.onTimeout {
+            if (stage instanceof Future) {
+                ((Future) stage).cancel(true)
+            }
+            deferredResult.setResult(new AsyncActionResult(controllerClass, controller, action, null, true))
+        }
+        stage.whenComplete { Object value, Throwable error ->
+            if (error != null) {
+                deferredResult.setErrorResult(unwrapCompletionException(error))
+            }
+            else {
+                deferredResult.setResult(new AsyncActionResult(controllerClass, controller, action, value, false))
+            }
+        }
+
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.createAsyncWebRequest(request, response)
+        asyncManager.setAsyncWebRequest(asyncWebRequest)
+        request.setAttribute(GrailsApplicationAttributes.ASYNC_ACTION_STARTED, Boolean.TRUE)
+        GrailsWebRequest.lookup(request)?.deferRequestCompletion()
+        asyncManager.startDeferredResultProcessing(deferredResult)
+    }
+
+    /**
+     * Renders the value of a completed {@link CompletionStage} on the async dispatch, with the {@link GrailsWebRequest}
+     * of the async dispatch bound to the current thread.
+     */
+    protected ModelAndView completeAsyncAction(HttpServletRequest request, HttpServletResponse response,
+            GrailsWebRequest webRequest, AsyncActionResult asyncResult) {
+        if (asyncResult.timedOut) {
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE)
+            }
+            return null
+        }
+
+        GrailsControllerClass controllerClass = asyncResult.controllerClass
+        String action = asyncResult.action
+        webRequest.actionName = webRequest.actionName ?: action
+        webRequest.controllerNamespace = controllerClass.namespace
+        request.setAttribute(GrailsApplicationAttributes.CONTROLLER, asyncResult.controller)
+
+        completeActionResult(request, webRequest, controllerClass, asyncResult.controller, action, asyncResult.value)
+    }
+
+    /**
+     * Creates the {@link ModelAndView} for the value of a completed {@link CompletionStage} returned by an action, after
+     * applying the {@link ActionResultTransformer} instances. Values that are neither a {@link Map} nor a
+     * {@link ModelAndView} are passed to the controller's {@code respond} method when available.
+     *
+     * @return The {@link ModelAndView} to render or null if the action handled the response itself
+     */
+    protected ModelAndView completeActionResult(HttpServletRequest request, GrailsWebRequest webRequest,
+            GrailsControllerClass controllerClass, Object controller, String action, Object value) {
+        Object result = transformActionResult(webRequest, action, value)
+        if (result != null && !(result instanceof Map) && !(result instanceof ModelAndView)) {
+            Object[] args = [result] as Object[]
+            if (DefaultGroovyMethods.respondsTo(controller, 'respond', args)) {
+                InvokerHelper.invokeMethod(controller, 'respond', args)
+                result = null
+            }
+        }
+        createModelAndView(request, webRequest, controllerClass, action, result)
+    }
+
+    /**
+     * Waits for the {@link CompletionStage} returned by an action when the request thread can't be released, for at
+     * most the async timeout or {@link #DEFAULT_ASYNC_TIMEOUT} if it isn't set. An expired stage is cancelled and
+     * results in an {@link AsyncRequestTimeoutException}, which is resolved to a 503 status code.
+     */
+    protected Object awaitCompletion(CompletionStage stage) {
+        Long timeout = asyncTimeout != null ? asyncTimeout : DEFAULT_ASYNC_TIMEOUT
+        CompletableFuture future = stage.toCompletableFuture()
+        try {
+            return timeout > 0 ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get()
+        }
+        catch (ExecutionException e) {
+            Throwable cause = unwrapCompletionException(e)
+            throw cause instanceof Exception ? (Exception) cause : e
+        }
+        catch (TimeoutException ignored) {
+            future.cancel(true)
+            throw new AsyncRequestTimeoutException()
+        }
+    }
+
+    protected static Throwable unwrapCompletionException(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.cause != null) {
+            error = error.cause
+        }
+        error
+    }
+
+    /**
+     * Whether the given action should be executed on a virtual thread. An {@link VirtualThreads} annotation on the
+     * action method takes precedence over one on the controller class, which takes precedence over the configuration.
+     */
+    protected boolean isVirtualThreadAction(GrailsControllerClass controllerClass, String action) {
+        String cacheKey = controllerClass.fullName + '#' + action
+        Boolean virtualThreadAction = virtualThreadActionCache.get(cacheKey)
+        if (virtualThreadAction == null) {
+            VirtualThreads annotation = null
+            Method method = ReflectionUtils.findMethod(controllerClass.clazz, controllerClass.actionUriToViewName(action))
+            if (method != null) {
+                annotation = AnnotationUtils.findAnnotation(method, VirtualThreads)
+            }
+            if (annotation == null) {
+                annotation = AnnotationUtils.findAnnotation(controllerClass.clazz, VirtualThreads)
+            }
+            virtualThreadAction = annotation != null ? annotation.value() : virtualThreadsEnabled
+            if (!Environment.isReloadingAgentEnabled()) {
+                virtualThreadActionCache.put(cacheKey, virtualThreadAction)
+            }
+        }
+        virtualThreadAction
+    }
+
+    protected synchronized AsyncTaskExecutor getVirtualThreadTaskExecutor() {
+        if (!virtualThreadsResolved) {
+            virtualThreadsResolved = true
+            virtualThreadExecutorService = VirtualThreadUtils.newVirtualThreadPerTaskExecutor()
+            if (virtualThreadExecutorService != null) {
+                virtualThreadTaskExecutor = new TaskExecutorAdapter(virtualThreadExecutorService)
+            }
+            else {
+                logger.info('Virtual threads are not supported by the running JVM, ' +
+                        'controller actions will be executed on the container thread')
+            }
+        }
+        virtualThreadTaskExecutor
+    }
+
     private String getControllerViewName(GrailsControllerClass controllerClass, String action) {
         String viewName = controllerClass.actionUriToViewName(action)
         if (controllerClass.namespace) {
@@ -178,4 +484,25 @@ class UrlMappingsInfoHandlerAdapter implements HandlerAdapter, ApplicationContex
         -1
     }
 
+    /**
+     * The completed value of a {@link CompletionStage} returned by an action
+     */
+    protected static class AsyncActionResult {
+
+        final GrailsControllerClass controllerClass
+        final Object controller
+        final String action
+        final Object value
+        final boolean timedOut
+
+        AsyncActionResult(GrailsControllerClass controllerClass, Object controller, String action, Object value, boolean timedOut) {
+            this.controllerClass = controllerClass
+            this.controller = controller
+            this.action = action
+            this.value = value
+            this.timedOut = timedOut
+        }
+
+    }
+
 }
@@ -5,13 +5,26 @@ import grails.core.DefaultGrailsApplication
 import grails.util.GrailsWebMockUtil
 import grails.web.Action
 import grails.web.HyphenatedUrlConverter
+import grails.web.controllers.VirtualThreads
 import grails.web.mapping.AbstractUrlMappingsSpec
+import org.grails.core.util.VirtualThreadUtils
 import org.grails.web.mapping.DefaultUrlMappingData
 import org.grails.web.mapping.DefaultUrlMappingInfo
+import org.grails.web.servlet.mvc.ActionResultTransformer
+import org.grails.web.servlet.mvc.GrailsWebRequest
+import org.grails.web.util.GrailsApplicationAttributes
 import org.grails.web.util.WebUtils
 import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException
+import org.springframework.web.context.request.async.WebAsyncUtils
+import org.springframework.web.servlet.ModelAndView
 import org.springframework.web.servlet.view.InternalResourceView
+import spock.lang.IgnoreIf
 import spock.lang.Issue
+import spock.lang.Requires
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
 
 /**
  * Created by graemerocher on 26/05/14.
@@ -211,11 +224,299 @@ class UrlMappingsHandlerMappingSpec extends AbstractUrlMappingsSpec {
         result.view.getUrl() == "/index.html"
     }
 
+    void "Test that a virtual thread action is executed on the container thread when async is not supported"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = false
+        request.setRequestURI("/virtual/bar")
+        def handlerChain = getVirtualThreadsHandler().getHandler(request)
+
+        when:"A HandlerAdapter is used"
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The action is executed synchronously"
+        !request.asyncStarted
+        result.viewName == 'virtualFoo/bar'
+        result.model == [thread: Thread.currentThread().name]
+    }
+
+    @IgnoreIf({ VirtualThreadUtils.supported })
+    void "Test that a virtual thread action falls back to the container thread when virtual threads are not supported"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/virtual/bar")
+        def handlerChain = getVirtualThreadsHandler().getHandler(request)
+
+        when:"A HandlerAdapter is used"
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The action is executed synchronously"
+        !request.asyncStarted
+        result.viewName == 'virtualFoo/bar'
+    }
+
+    @Requires({ VirtualThreadUtils.supported })
+    void "Test that a virtual thread action is executed asynchronously"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/virtual/bar")
+        def handlerChain = getVirtualThreadsHandler().getHandler(request)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+
+        when:"A HandlerAdapter is used"
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"Async processing is started"
+        result == null
+        request.asyncStarted
+        request.getAttribute(GrailsApplicationAttributes.ASYNC_ACTION_STARTED)
+        webRequest.requestCompletionDeferred
+        new PollingConditions(timeout: 5).eventually {
+            assert WebAsyncUtils.getAsyncManager(request).hasConcurrentResult()
+        }
+
+        when:"The initial dispatch completes and the request is dispatched again"
+        webRequest.requestCompleted()
+        result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The model and view of the action is returned and the request is still active"
+        result.viewName == 'virtualFoo/bar'
+        result.model.virtual
+        webRequest.active
+
+        when:"Async processing completes after the view has been rendered"
+        request.asyncContext.complete()
+
+        then:"The request is completed"
+        !webRequest.active
+    }
+
+    @Requires({ VirtualThreadUtils.supported })
+    void "Test that the value of a CompletionStage returned by a virtual thread action is passed to respond"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/virtual/value")
+        def handlerChain = getVirtualThreadsHandler().getHandler(request)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+
+        when:"A HandlerAdapter is used"
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"Async processing is started"
+        result == null
+        new PollingConditions(timeout: 5).eventually {
+            assert WebAsyncUtils.getAsyncManager(request).hasConcurrentResult()
+        }
+
+        when:"The request is dispatched again"
+        result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The model and view created by respond is returned"
+        result.viewName == 'virtualFoo/show'
+        result.model == [value: 'completed']
+    }
+
+    void "Test that an action can opt out of virtual threads"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/virtual/platform")
+        def handlerChain = getVirtualThreadsHandler().getHandler(request)
+
+        when:"A HandlerAdapter is used"
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The action is executed synchronously"
+        !request.asyncStarted
+        result.viewName == 'virtualFoo/platform'
+    }
+
+    void "Test that the value of a CompletionStage returned by an action is rendered on the async dispatch"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/async/$action")
+        def handlerChain = getAsyncHandler().getHandler(request)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+
+        when:"A HandlerAdapter is used"
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"Async processing is started"
+        result == null
+        request.asyncStarted
+        WebAsyncUtils.getAsyncManager(request).hasConcurrentResult()
+
+        when:"The request is dispatched again"
+        result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The completed value is rendered"
+        result.viewName == viewName
+        result.model == model
+
+        where:
+        action  | viewName         | model
+        'model' | 'asyncFoo/model' | [foo: 'bar']
+        'empty' | 'asyncFoo/empty' | [:]
+    }
+
+    void "Test that a failed CompletionStage returned by an action is rethrown on the async dispatch"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/async/failure")
+        def handlerChain = getAsyncHandler().getHandler(request)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+
+        when:"The action is executed"
+        handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"Async processing is started"
+        request.asyncStarted
+        new PollingConditions(timeout: 5).eventually {
+            assert WebAsyncUtils.getAsyncManager(request).hasConcurrentResult()
+        }
+
+        when:"The request is dispatched again"
+        handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The cause of the failure is thrown"
+        def e = thrown(IllegalStateException)
+        e.message == 'failed'
+    }
+
+    void "Test that a CompletionStage returned by an action is awaited when async is not supported"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = false
+        request.setRequestURI("/async/model")
+        def handlerChain = getAsyncHandler().getHandler(request)
+
+        when:"A HandlerAdapter is used"
+        def result = new UrlMappingsInfoHandlerAdapter().handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The completed value is rendered"
+        !request.asyncStarted
+        result.viewName == 'asyncFoo/model'
+        result.model == [foo: 'bar']
+    }
+
+    void "Test that action result transformers are applied once to the value of a CompletionStage"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        webRequest.renderView = true
+        def request = webRequest.request
+        request.asyncSupported = true
+        request.setRequestURI("/async/model")
+        def handlerChain = getAsyncHandler().getHandler(request)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter()
+        List<Object> transformed = []
+        handlerAdapter.actionResultTransformers = [{ GrailsWebRequest r, String viewName, Object result ->
+            transformed << result
+            result instanceof Map ? result + [transformed: transformed.size()] : result
+        } as ActionResultTransformer]
+
+        when:"The action is executed and the request is dispatched again"
+        handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+        def result = handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"Only the completed value is transformed"
+        transformed == [[foo: 'bar']]
+        result.model == [foo: 'bar', transformed: 1]
+    }
+
+    void "Test that waiting for a CompletionStage is bounded by the async timeout"() {
+        given:
+        def webRequest = GrailsWebMockUtil.bindMockWebRequest()
+        def request = webRequest.request
+        request.asyncSupported = false
+        request.setRequestURI("/async/pending")
+        def handlerChain = getAsyncHandler().getHandler(request)
+        def handlerAdapter = new UrlMappingsInfoHandlerAdapter(asyncTimeout: 50)
+
+        when:"The action returns a stage which never completes"
+        handlerAdapter.handle(request, webRequest.response, handlerChain.handler)
+
+        then:"The request times out and the stage is cancelled"
+        thrown(AsyncRequestTimeoutException)
+        AsyncFooController.PENDING.cancelled
+    }
+
+    private UrlMappingsHandlerMapping getAsyncHandler() {
+        def grailsApplication = new DefaultGrailsApplication(AsyncFooController)
+        grailsApplication.initialise()
+        def holder = getUrlMappingsHolder {
+            "/async/model"(controller:"asyncFoo", action:"model")
+            "/async/empty"(controller:"asyncFoo", action:"empty")
+            "/async/failure"(controller:"asyncFoo", action:"failure")
+            "/async/pending"(controller:"asyncFoo", action:"pending")
+        }
+        new UrlMappingsHandlerMapping(new GrailsControllerUrlMappings(grailsApplication, holder))
+    }
+
+    private UrlMappingsHandlerMapping getVirtualThreadsHandler() {
+        def grailsApplication = new DefaultGrailsApplication(VirtualFooController)
+        grailsApplication.initialise()
+        def holder = getUrlMappingsHolder {
+            "/virtual/bar"(controller:"virtualFoo", action:"bar")
+            "/virtual/platform"(controller:"virtualFoo", action:"platform")
+            "/virtual/value"(controller:"virtualFoo", action:"value")
+        }
+        new UrlMappingsHandlerMapping(new GrailsControllerUrlMappings(grailsApplication, holder))
+    }
+
     void cleanup() {
         RequestContextHolder.resetRequestAttributes()
     }
 }
 
+@Artefact('Controller')
+@VirtualThreads
+class VirtualFooController {
+
+    @Action
+    def bar() {
+        [thread: Thread.currentThread().name, virtual: VirtualThreadUtils.supported && Thread.currentThread().isVirtual()]
+    }
+
+    @Action
+    @VirtualThreads(false)
+    def platform() {
+        [thread: Thread.currentThread().name]
+    }
+
+    @Action
+    def value() {
+        CompletableFuture.completedFuture('completed')
+    }
+
+    def respond(Object value) {
+        RequestContextHolder.currentRequestAttributes().request.setAttribute(GrailsApplicationAttributes.MODEL_AND_VIEW,
+                new ModelAndView('virtualFoo/show', [value: value]))
+    }
+}
+
 @Artefact('Controller')
 class FooController  {
 
@@ -241,3 +542,29 @@ class FooController  {
         RequestContextHolder.currentRequestAttributes().response.writer << "Not Found"
     }
 }
+
+@Artefact('Controller')
+class AsyncFooController {
+
+    @Action
+    def model() {
+        CompletableFuture.completedFuture([foo: 'bar'])
+    }
+
+    @Action
+    def empty() {
+        CompletableFuture.completedFuture(null)
+    }
+
+    static final CompletableFuture<Map> PENDING = new CompletableFuture<>()
+
+    @Action
+    def failure() {
+        CompletableFuture.supplyAsync { throw new IllegalStateException('failed') }
+    }
+
+    @Action
+    def pending() {
+        PENDING
+    }
+}
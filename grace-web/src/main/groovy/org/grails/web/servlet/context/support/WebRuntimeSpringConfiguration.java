@@ -84,7 +84,7 @@ public class WebRuntimeSpringConfiguration extends DefaultRuntimeSpringConfigura
         return new GrailsWebApplicationContext();
     }
 
-    public void setServletContext(ServletContext servletContext) {
+    public synchronized void setServletContext(ServletContext servletContext) {
         initialiseApplicationContext();
 
         if (context instanceof ConfigurableWebApplicationContext) {